@@ -0,0 +1,15 @@
+package com.rogeriogregorio.ecommercemanager.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module hibernateModule() {
+        return new Hibernate6Module();
+    }
+}
@@ -1,5 +1,6 @@
 package com.rogeriogregorio.ecommercemanager.controllers;
 
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.AddressRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.AddressResponse;
 import com.rogeriogregorio.ecommercemanager.services.AddressService;
@@ -32,6 +33,18 @@ public class AddressController {
                 .body(addressService.findAllAddresses(pageable).getContent());
     }
 
+    @GetMapping(value = "/slice")
+    public ResponseEntity<List<AddressResponse>> getAllAddressesSlice(Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean approximateTotal) {
+
+        SliceDto<AddressResponse> slice = addressService.findAllAddressesSlice(pageable, approximateTotal);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(slice.toHeaders())
+                .body(slice.getContent());
+    }
+
     @PostMapping
     public ResponseEntity<AddressResponse> postAddress(
             @Valid @RequestBody AddressRequest addressRequest) {
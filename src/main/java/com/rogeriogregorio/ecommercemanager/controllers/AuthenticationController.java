@@ -3,6 +3,7 @@ package com.rogeriogregorio.ecommercemanager.controllers;
 import com.rogeriogregorio.ecommercemanager.dto.requests.LoginRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.LoginResponse;
 import com.rogeriogregorio.ecommercemanager.security.AuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -25,10 +26,10 @@ public class AuthenticationController {
 
     @PostMapping
     public ResponseEntity<LoginResponse> authenticate(
-            @Valid @RequestBody LoginRequest loginRequest) {
+            @Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
 
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(authenticationService.authenticateUser(loginRequest));
+                .body(authenticationService.authenticateUser(loginRequest, request.getRemoteAddr()));
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.controllers;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.CategoryRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.CategoryResponse;
 import com.rogeriogregorio.ecommercemanager.services.CategoryService;
@@ -31,6 +33,28 @@ public class CategoryController {
                 .body(categoryService.findAllCategories(pageable).getContent());
     }
 
+    @GetMapping(value = "/slice")
+    public ResponseEntity<List<CategoryResponse>> getAllCategoriesSlice(Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean approximateTotal) {
+
+        SliceDto<CategoryResponse> slice = categoryService.findAllCategoriesSlice(pageable, approximateTotal);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(slice.toHeaders())
+                .body(slice.getContent());
+    }
+
+    @GetMapping(value = "/cursor")
+    public ResponseEntity<CursorPageDto<CategoryResponse>> getAllCategoriesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(categoryService.findAllCategoriesByCursor(cursor, size));
+    }
+
     @PostMapping
     public ResponseEntity<CategoryResponse> postCategory(
             @Valid @RequestBody CategoryRequest categoryRequest) {
@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.controllers;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.DiscountCouponRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.DiscountCouponResponse;
 import com.rogeriogregorio.ecommercemanager.services.DiscountCouponService;
@@ -31,6 +33,28 @@ public class DiscountCouponController {
                 .body(discountCouponService.findAllDiscountCoupons(pageable).getContent());
     }
 
+    @GetMapping(value = "/slice")
+    public ResponseEntity<List<DiscountCouponResponse>> getAllDiscountCouponsSlice(Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean approximateTotal) {
+
+        SliceDto<DiscountCouponResponse> slice = discountCouponService.findAllDiscountCouponsSlice(pageable, approximateTotal);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(slice.toHeaders())
+                .body(slice.getContent());
+    }
+
+    @GetMapping(value = "/cursor")
+    public ResponseEntity<CursorPageDto<DiscountCouponResponse>> getAllDiscountCouponsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(discountCouponService.findAllDiscountCouponsByCursor(cursor, size));
+    }
+
     @PostMapping
     public ResponseEntity<DiscountCouponResponse> postDiscountCoupon(
             @Valid @RequestBody DiscountCouponRequest discountCouponRequest) {
@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.controllers;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.InventoryItemRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.InventoryItemResponse;
 import com.rogeriogregorio.ecommercemanager.services.InventoryItemService;
@@ -31,6 +33,28 @@ public class InventoryItemController {
                 .body(inventoryItemService.findAllInventoryItems(pageable).getContent());
     }
 
+    @GetMapping(value = "/slice")
+    public ResponseEntity<List<InventoryItemResponse>> getAllInventoryItemsSlice(Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean approximateTotal) {
+
+        SliceDto<InventoryItemResponse> slice = inventoryItemService.findAllInventoryItemsSlice(pageable, approximateTotal);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(slice.toHeaders())
+                .body(slice.getContent());
+    }
+
+    @GetMapping(value = "/cursor")
+    public ResponseEntity<CursorPageDto<InventoryItemResponse>> getAllInventoryItemsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(inventoryItemService.findAllInventoryItemsByCursor(cursor, size));
+    }
+
     @PostMapping
     public ResponseEntity<InventoryItemResponse> postInventoryItem(
             @Valid @RequestBody InventoryItemRequest inventoryItemRequest) {
@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.controllers;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.NotificationRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.NotificationResponse;
 import com.rogeriogregorio.ecommercemanager.services.NotificationService;
@@ -31,6 +33,28 @@ public class NotificationController {
                 .body(notificationService.findAllNotifications(pageable).getContent());
     }
 
+    @GetMapping(value = "/slice")
+    public ResponseEntity<List<NotificationResponse>> getAllNotificationsSlice(Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean approximateTotal) {
+
+        SliceDto<NotificationResponse> slice = notificationService.findAllNotificationsSlice(pageable, approximateTotal);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(slice.toHeaders())
+                .body(slice.getContent());
+    }
+
+    @GetMapping(value = "/cursor")
+    public ResponseEntity<CursorPageDto<NotificationResponse>> getAllNotificationsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(notificationService.findAllNotificationsByCursor(cursor, size));
+    }
+
     @PostMapping
     public ResponseEntity<NotificationResponse> postNotification(
             @Valid @RequestBody NotificationRequest notificationRequest) {
@@ -1,14 +1,20 @@
 package com.rogeriogregorio.ecommercemanager.controllers;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.OrderRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.OrderResponse;
 import com.rogeriogregorio.ecommercemanager.services.OrderService;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -32,6 +38,40 @@ public class OrderController {
                 .body(orderService.findAllOrders(pageable).getContent());
     }
 
+    @GetMapping(value = "/slice")
+    public ResponseEntity<List<OrderResponse>> getAllOrdersSlice(Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean approximateTotal) {
+
+        SliceDto<OrderResponse> slice = orderService.findAllOrdersSlice(pageable, approximateTotal);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(slice.toHeaders())
+                .body(slice.getContent());
+    }
+
+    @GetMapping(value = "/cursor")
+    public ResponseEntity<CursorPageDto<OrderResponse>> getAllOrdersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(orderService.findAllOrdersByCursor(cursor, size));
+    }
+
+    @GetMapping(value = "/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"orders." + format.getExtension() + "\"")
+                .body(outputStream -> orderService.exportOrders(format, outputStream));
+    }
+
     @PostMapping
     public ResponseEntity<OrderResponse> postOrder(
             @Valid @RequestBody OrderRequest orderRequest) {
@@ -85,4 +125,15 @@ public class OrderController {
                 .status(HttpStatus.OK)
                 .body(orderService.findOrderByClientId(id, pageable).getContent());
     }
+
+    @GetMapping(value = "/client/{id}/cursor")
+    public ResponseEntity<CursorPageDto<OrderResponse>> getOrdersByClientIdByCursor(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(orderService.findOrderByClientIdByCursor(id, cursor, size));
+    }
 }
@@ -1,5 +1,6 @@
 package com.rogeriogregorio.ecommercemanager.controllers;
 
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.OrderItemRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.OrderItemResponse;
 import com.rogeriogregorio.ecommercemanager.services.OrderItemService;
@@ -31,6 +32,18 @@ public class OrderItemController {
                 .body(orderItemService.findAllOrderItems(pageable).getContent());
     }
 
+    @GetMapping(value = "/slice")
+    public ResponseEntity<List<OrderItemResponse>> getAllOrderItemsSlice(Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean approximateTotal) {
+
+        SliceDto<OrderItemResponse> slice = orderItemService.findAllOrderItemsSlice(pageable, approximateTotal);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(slice.toHeaders())
+                .body(slice.getContent());
+    }
+
     @PostMapping
     public ResponseEntity<OrderItemResponse> postOrderItem(
             @Valid @RequestBody OrderItemRequest orderItemRequest) {
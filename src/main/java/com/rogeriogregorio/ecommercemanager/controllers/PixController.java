@@ -3,39 +3,47 @@ package com.rogeriogregorio.ecommercemanager.controllers;
 import com.rogeriogregorio.ecommercemanager.dto.PixListChargeDto;
 import com.rogeriogregorio.ecommercemanager.dto.PixWebhookDto;
 import com.rogeriogregorio.ecommercemanager.payment.PixService;
-import com.rogeriogregorio.ecommercemanager.services.PaymentService;
+import com.rogeriogregorio.ecommercemanager.services.PixWebhookService;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping
 public class PixController {
 
     private final PixService pixService;
-    private final PaymentService paymentService;
+    private final PixWebhookService pixWebhookService;
 
     @Autowired
-    public PixController(PixService pixService, PaymentService paymentService) {
+    public PixController(PixService pixService, PixWebhookService pixWebhookService) {
         this.pixService = pixService;
-        this.paymentService = paymentService;
+        this.pixWebhookService = pixWebhookService;
     }
 
     @GetMapping("/pix/charges/search")
-    public ResponseEntity<PixListChargeDto> getAllPixCharges(
+    public ResponseEntity<StreamingResponseBody> getAllPixCharges(
             @RequestParam("startDate") String startDate,
             @RequestParam("endDate") String endDate) {
 
+        Stream<PixListChargeDto.Cob> charges = pixService.streamPixCharges(startDate, endDate);
+
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(pixService.listPixCharges(startDate, endDate));
+                .contentType(MediaType.parseMediaType(ExportFormat.NDJSON.getMediaType()))
+                .body(outputStream -> pixService.exportPixCharges(charges, outputStream));
     }
 
     @PostMapping("/webhook/pix")
     public ResponseEntity<Void> webhookPix(@RequestBody PixWebhookDto pixWebhook) {
 
-        paymentService.savePaidPixCharges(pixWebhook);
+        pixWebhookService.enqueue(pixWebhook);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
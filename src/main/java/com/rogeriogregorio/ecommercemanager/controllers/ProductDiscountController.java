@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.controllers;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.ProductDiscountRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.ProductDiscountResponse;
 import com.rogeriogregorio.ecommercemanager.services.ProductDiscountService;
@@ -31,6 +33,28 @@ public class ProductDiscountController {
                 .body(productDiscountService.findAllProductDiscounts(pageable).getContent());
     }
 
+    @GetMapping(value = "/slice")
+    public ResponseEntity<List<ProductDiscountResponse>> getAllProductDiscountsSlice(Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean approximateTotal) {
+
+        SliceDto<ProductDiscountResponse> slice = productDiscountService.findAllProductDiscountsSlice(pageable, approximateTotal);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(slice.toHeaders())
+                .body(slice.getContent());
+    }
+
+    @GetMapping(value = "/cursor")
+    public ResponseEntity<CursorPageDto<ProductDiscountResponse>> getAllProductDiscountsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(productDiscountService.findAllProductDiscountsByCursor(cursor, size));
+    }
+
     @PostMapping
     public ResponseEntity<ProductDiscountResponse> postProductDiscount(
             @Valid @RequestBody ProductDiscountRequest productDiscountRequest) {
@@ -1,5 +1,6 @@
 package com.rogeriogregorio.ecommercemanager.controllers;
 
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.ProductReviewRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.ProductReviewResponse;
 import com.rogeriogregorio.ecommercemanager.services.ProductReviewService;
@@ -32,6 +33,18 @@ public class ProductReviewController {
                 .body(productReviewService.findAllProductReviews(pageable).getContent());
     }
 
+    @GetMapping(value = "/slice")
+    public ResponseEntity<List<ProductReviewResponse>> getAllProductReviewsSlice(Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean approximateTotal) {
+
+        SliceDto<ProductReviewResponse> slice = productReviewService.findAllProductReviewsSlice(pageable, approximateTotal);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(slice.toHeaders())
+                .body(slice.getContent());
+    }
+
     @PostMapping
     public ResponseEntity<ProductReviewResponse> postProductReview(
             @Valid @RequestBody ProductReviewRequest productReviewRequest) {
@@ -1,14 +1,22 @@
 package com.rogeriogregorio.ecommercemanager.controllers;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.StockMovementRequest;
+import com.rogeriogregorio.ecommercemanager.dto.responses.StockLedgerMismatchResponse;
 import com.rogeriogregorio.ecommercemanager.dto.responses.StockMovementResponse;
+import com.rogeriogregorio.ecommercemanager.services.StockLedgerService;
 import com.rogeriogregorio.ecommercemanager.services.StockMovementService;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,10 +25,14 @@ import java.util.List;
 public class StockMovementController {
 
     private final StockMovementService stockMovementService;
+    private final StockLedgerService stockLedgerService;
 
     @Autowired
-    public StockMovementController(StockMovementService stockMovementService) {
+    public StockMovementController(StockMovementService stockMovementService,
+                                   StockLedgerService stockLedgerService) {
+
         this.stockMovementService = stockMovementService;
+        this.stockLedgerService = stockLedgerService;
     }
 
     @GetMapping
@@ -31,6 +43,56 @@ public class StockMovementController {
                 .body(stockMovementService.findAllStockMovements(pageable).getContent());
     }
 
+    @GetMapping(value = "/slice")
+    public ResponseEntity<List<StockMovementResponse>> getAllStockMovementsSlice(Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean approximateTotal) {
+
+        SliceDto<StockMovementResponse> slice = stockMovementService.findAllStockMovementsSlice(pageable, approximateTotal);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(slice.toHeaders())
+                .body(slice.getContent());
+    }
+
+    @GetMapping(value = "/cursor")
+    public ResponseEntity<CursorPageDto<StockMovementResponse>> getAllStockMovementsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(stockMovementService.findAllStockMovementsByCursor(cursor, size));
+    }
+
+    @GetMapping(value = "/export")
+    public ResponseEntity<StreamingResponseBody> exportStockMovements(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"stock-movements." + format.getExtension() + "\"")
+                .body(outputStream -> stockMovementService.exportStockMovements(format, outputStream));
+    }
+
+    @GetMapping(value = "/mismatches")
+    public ResponseEntity<List<StockLedgerMismatchResponse>> getStockLedgerMismatches() {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(stockLedgerService.findBalanceMismatches());
+    }
+
+    @PostMapping(value = "/rebuild")
+    public ResponseEntity<Integer> postStockMovementRebuild() {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(stockLedgerService.rebuildMissingStockMovements());
+    }
+
     @PostMapping
     public ResponseEntity<StockMovementResponse> postStockMovement(
             @Valid @RequestBody StockMovementRequest stockMovementRequest) {
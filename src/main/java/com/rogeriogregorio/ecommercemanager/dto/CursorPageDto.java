@@ -0,0 +1,58 @@
+package com.rogeriogregorio.ecommercemanager.dto;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+public class CursorPageDto<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private List<T> content;
+    private String nextCursor;
+
+    public CursorPageDto() {
+        // default constructor
+    }
+
+    public CursorPageDto(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <E, T> CursorPageDto<T> of(List<E> rows, int pageSize,
+                                             Function<E, T> mapper, Function<E, String> cursorOf) {
+
+        boolean hasNext = rows.size() > pageSize;
+        List<E> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageSize - 1)) : null;
+
+        return new CursorPageDto<>(pageRows.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "CursorPageDto {" +
+                "\n  content: " + content +
+                "\n  nextCursor: " + nextCursor +
+                "\n}";
+    }
+}
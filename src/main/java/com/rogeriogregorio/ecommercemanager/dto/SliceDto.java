@@ -0,0 +1,75 @@
+package com.rogeriogregorio.ecommercemanager.dto;
+
+import org.springframework.http.HttpHeaders;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+public class SliceDto<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final String HAS_NEXT_HEADER = "X-Has-Next";
+    public static final String APPROXIMATE_TOTAL_HEADER = "X-Total-Count-Approximate";
+
+    private List<T> content;
+    private boolean hasNext;
+    private Long approximateTotal;
+
+    public SliceDto() {
+        // default constructor
+    }
+
+    public SliceDto(List<T> content, boolean hasNext, Long approximateTotal) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.approximateTotal = approximateTotal;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public Long getApproximateTotal() {
+        return approximateTotal;
+    }
+
+    public void setApproximateTotal(Long approximateTotal) {
+        this.approximateTotal = approximateTotal;
+    }
+
+    public HttpHeaders toHeaders() {
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HAS_NEXT_HEADER, String.valueOf(hasNext));
+
+        if (approximateTotal != null) {
+            headers.set(APPROXIMATE_TOTAL_HEADER, String.valueOf(approximateTotal));
+        }
+
+        return headers;
+    }
+
+    @Override
+    public String toString() {
+        return "SliceDto {" +
+                "\n  content: " + content +
+                "\n  hasNext: " + hasNext +
+                "\n  approximateTotal: " + approximateTotal +
+                "\n}";
+    }
+}
@@ -21,6 +21,7 @@ public class PaymentResponse implements Serializable {
     private String txId;
     private Integer paymentType;
     private String chargeLink;
+    private String brCode;
     private Integer paymentStatus;
 
 
@@ -94,6 +95,14 @@ public class PaymentResponse implements Serializable {
         this.chargeLink = chargeLink;
     }
 
+    public String getBrCode() {
+        return brCode;
+    }
+
+    public void setBrCode(String brCode) {
+        this.brCode = brCode;
+    }
+
     public PaymentStatus getPaymentStatus() {
         return PaymentStatus.valueOf(paymentStatus);
     }
@@ -0,0 +1,52 @@
+package com.rogeriogregorio.ecommercemanager.dto.responses;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+public class StockLedgerMismatchResponse implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private Long inventoryItemId;
+    private Integer quantityInStock;
+    private Long ledgerBalance;
+
+    public StockLedgerMismatchResponse() {
+    }
+
+    public StockLedgerMismatchResponse(Long inventoryItemId, Integer quantityInStock, Long ledgerBalance) {
+
+        this.inventoryItemId = inventoryItemId;
+        this.quantityInStock = quantityInStock;
+        this.ledgerBalance = ledgerBalance;
+    }
+
+    public Long getInventoryItemId() {
+        return inventoryItemId;
+    }
+
+    public void setInventoryItemId(Long inventoryItemId) {
+        this.inventoryItemId = inventoryItemId;
+    }
+
+    public Integer getQuantityInStock() {
+        return quantityInStock;
+    }
+
+    public void setQuantityInStock(Integer quantityInStock) {
+        this.quantityInStock = quantityInStock;
+    }
+
+    public Long getLedgerBalance() {
+        return ledgerBalance;
+    }
+
+    public void setLedgerBalance(Long ledgerBalance) {
+        this.ledgerBalance = ledgerBalance;
+    }
+
+    public Long getDifference() {
+        return quantityInStock - ledgerBalance;
+    }
+}
@@ -1,6 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.rogeriogregorio.ecommercemanager.entities.listeners.RowCountListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -12,6 +13,7 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(RowCountListener.class)
 @Table(name = "tb_addresses")
 public class Address implements Serializable {
 
@@ -1,6 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.rogeriogregorio.ecommercemanager.entities.listeners.RowCountListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -13,6 +14,7 @@ import java.util.Objects;
 import java.util.Set;
 
 @Entity
+@EntityListeners(RowCountListener.class)
 @Table(name = "tb_categories")
 public class Category implements Serializable {
 
@@ -20,7 +22,8 @@ public class Category implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_categories")
+    @SequenceGenerator(name = "seq_categories", sequenceName = "seq_categories", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", unique = true)
@@ -2,6 +2,7 @@ package com.rogeriogregorio.ecommercemanager.entities;
 
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.rogeriogregorio.ecommercemanager.entities.listeners.RowCountListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 
@@ -13,6 +14,7 @@ import java.time.Instant;
 import java.util.Objects;
 
 @Entity
+@EntityListeners(RowCountListener.class)
 @Table(name = "tb_discount_coupons")
 public class DiscountCoupon implements Serializable {
 
@@ -20,7 +22,8 @@ public class DiscountCoupon implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_discount_coupons")
+    @SequenceGenerator(name = "seq_discount_coupons", sequenceName = "seq_discount_coupons", allocationSize = 50)
     private Long id;
 
     @Column(name = "code", unique = true)
@@ -1,6 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.entities;
 
 import com.rogeriogregorio.ecommercemanager.entities.enums.StockStatus;
+import com.rogeriogregorio.ecommercemanager.entities.listeners.RowCountListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -10,6 +11,7 @@ import java.io.Serializable;
 import java.util.Objects;
 
 @Entity
+@EntityListeners(RowCountListener.class)
 @Table(name = "tb_inventory_items")
 public class InventoryItem implements Serializable {
 
@@ -17,7 +19,8 @@ public class InventoryItem implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_inventory_items")
+    @SequenceGenerator(name = "seq_inventory_items", sequenceName = "seq_inventory_items", allocationSize = 50)
     private Long id;
 
     @ManyToOne
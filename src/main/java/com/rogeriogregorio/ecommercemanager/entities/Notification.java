@@ -1,6 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.entities;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.rogeriogregorio.ecommercemanager.entities.listeners.RowCountListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.FutureOrPresent;
@@ -14,6 +15,7 @@ import java.time.Instant;
 import java.util.Objects;
 
 @Entity
+@EntityListeners(RowCountListener.class)
 @Table(name = "tb_notifications")
 public class Notification implements Serializable {
 
@@ -21,7 +23,8 @@ public class Notification implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_notifications")
+    @SequenceGenerator(name = "seq_notifications", sequenceName = "seq_notifications", allocationSize = 50)
     private Long id;
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "GMT")
@@ -3,6 +3,7 @@ package com.rogeriogregorio.ecommercemanager.entities;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.rogeriogregorio.ecommercemanager.entities.enums.OrderStatus;
+import com.rogeriogregorio.ecommercemanager.entities.listeners.RowCountListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 
@@ -15,14 +16,19 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "tb_orders")
+@EntityListeners(RowCountListener.class)
+@Table(name = "tb_orders", indexes = {
+        @Index(name = "idx_orders_moment_id", columnList = "moment, id"),
+        @Index(name = "idx_orders_client_moment_id", columnList = "client_id, moment, id")
+})
 public class Order implements Serializable {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_orders")
+    @SequenceGenerator(name = "seq_orders", sequenceName = "seq_orders", allocationSize = 50)
     private Long id;
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "GMT")
@@ -1,10 +1,12 @@
 package com.rogeriogregorio.ecommercemanager.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.rogeriogregorio.ecommercemanager.entities.listeners.RowCountListener;
 import com.rogeriogregorio.ecommercemanager.entities.primarykeys.OrderItemPK;
 import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
@@ -16,6 +18,7 @@ import java.math.BigDecimal;
 import java.util.Objects;
 
 @Entity
+@EntityListeners(RowCountListener.class)
 @Table(name = "tb_order_items")
 public class OrderItem implements Serializable {
 
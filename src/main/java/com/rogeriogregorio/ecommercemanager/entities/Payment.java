@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentStatus;
 import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentType;
+import com.rogeriogregorio.ecommercemanager.entities.listeners.RowCountListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 
@@ -14,7 +15,11 @@ import java.time.Instant;
 import java.util.Objects;
 
 @Entity
-@Table(name = "tb_payments")
+@EntityListeners(RowCountListener.class)
+@Table(name = "tb_payments", indexes = {
+        @Index(name = "idx_payments_moment_id", columnList = "moment, order_id"),
+        @Index(name = "uk_payments_tx_id", columnList = "tx_id", unique = true)
+})
 public class Payment implements Serializable {
 
     @Serial
@@ -34,8 +39,7 @@ public class Payment implements Serializable {
     @MapsId
     private Order order;
 
-    @Column(name = "tx_id")
-    @NotNull(message = "The txId cannot be null.")
+    @Column(name = "tx_id", length = 64)
     private String txId;
 
     @Column(name = "payment_method")
@@ -43,9 +47,11 @@ public class Payment implements Serializable {
     private Integer paymentType;
 
     @Column(name = "charge_link")
-    @NotNull(message = "The charge Link cannot be null.")
     private String chargeLink;
 
+    @Column(name = "br_code", length = 512)
+    private String brCode;
+
     @Column(name = "payment_status")
     @NotNull(message = "The payment status cannot be null.")
     private Integer paymentStatus;
@@ -60,6 +66,7 @@ public class Payment implements Serializable {
         setTxId(builder.txId);
         paymentType = builder.paymentType;
         setChargeLink(builder.chargeLink);
+        setBrCode(builder.brCode);
         paymentStatus = builder.paymentStatus;
     }
 
@@ -127,6 +134,14 @@ public class Payment implements Serializable {
         this.chargeLink = chargeLink;
     }
 
+    public String getBrCode() {
+        return brCode;
+    }
+
+    public void setBrCode(String brCode) {
+        this.brCode = brCode;
+    }
+
     public PaymentStatus getPaymentStatus() {
         return PaymentStatus.valueOf(paymentStatus);
     }
@@ -171,6 +186,7 @@ public class Payment implements Serializable {
                 .withTxId(this.txId)
                 .withPaymentType(PaymentType.valueOf(this.paymentType))
                 .withChargeLink(this.chargeLink)
+                .withBrCode(this.brCode)
                 .withPaymentStatus(PaymentStatus.valueOf(this.paymentStatus));
     }
 
@@ -182,6 +198,7 @@ public class Payment implements Serializable {
         private String txId;
         private Integer paymentType;
         private String chargeLink;
+        private String brCode;
         private Integer paymentStatus;
 
         private Builder() {
@@ -217,6 +234,11 @@ public class Payment implements Serializable {
             return this;
         }
 
+        public Builder withBrCode(String brCode) {
+            this.brCode = brCode;
+            return this;
+        }
+
         public Builder withPaymentStatus(PaymentStatus paymentStatus) {
             this.paymentStatus = paymentStatus.getCode();
             return this;
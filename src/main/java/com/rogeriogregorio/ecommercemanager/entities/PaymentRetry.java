@@ -0,0 +1,189 @@
+package com.rogeriogregorio.ecommercemanager.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+@Entity
+@Table(name = "tb_payment_retries", indexes = {
+        @Index(name = "idx_payment_retries_next_attempt_at", columnList = "next_attempt_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payment_retries_payment_id", columnNames = "payment_id")
+})
+public class PaymentRetry implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_payment_retries")
+    @SequenceGenerator(name = "seq_payment_retries", sequenceName = "seq_payment_retries", allocationSize = 50)
+    private Long id;
+
+    @NotNull(message = "The payment ID cannot be null.")
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @NotNull(message = "The charge txid cannot be null.")
+    @Column(name = "tx_id", length = 35)
+    private String txId;
+
+    @NotNull(message = "The number of attempts cannot be null.")
+    @Column(name = "attempts")
+    private Integer attempts;
+
+    @NotNull(message = "The next attempt timestamp cannot be null.")
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public PaymentRetry() {
+    }
+
+    private PaymentRetry(Builder builder) {
+        setId(builder.id);
+        setPaymentId(builder.paymentId);
+        setTxId(builder.txId);
+        setAttempts(builder.attempts);
+        setNextAttemptAt(builder.nextAttemptAt);
+        setLastError(builder.lastError);
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPaymentId() {
+        return paymentId;
+    }
+
+    public void setPaymentId(Long paymentId) {
+        this.paymentId = paymentId;
+    }
+
+    public String getTxId() {
+        return txId;
+    }
+
+    public void setTxId(String txId) {
+        this.txId = txId;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PaymentRetry that = (PaymentRetry) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "[Payment Retry: id= " + id
+                + ", paymentId= " + paymentId
+                + ", txId= " + txId
+                + ", attempts= " + attempts
+                + ", nextAttemptAt= " + nextAttemptAt
+                + ", lastError= " + lastError + "]";
+    }
+
+    public Builder toBuilder() {
+        return new Builder()
+                .withId(this.id)
+                .withPaymentId(this.paymentId)
+                .withTxId(this.txId)
+                .withAttempts(this.attempts)
+                .withNextAttemptAt(this.nextAttemptAt)
+                .withLastError(this.lastError);
+    }
+
+    public static final class Builder {
+
+        private Long id;
+        private Long paymentId;
+        private String txId;
+        private Integer attempts;
+        private Instant nextAttemptAt;
+        private String lastError;
+
+        private Builder() {
+        }
+
+        public Builder withId(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder withPaymentId(Long paymentId) {
+            this.paymentId = paymentId;
+            return this;
+        }
+
+        public Builder withTxId(String txId) {
+            this.txId = txId;
+            return this;
+        }
+
+        public Builder withAttempts(Integer attempts) {
+            this.attempts = attempts;
+            return this;
+        }
+
+        public Builder withNextAttemptAt(Instant nextAttemptAt) {
+            this.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public Builder withLastError(String lastError) {
+            this.lastError = lastError;
+            return this;
+        }
+
+        public PaymentRetry build() {
+            return new PaymentRetry(this);
+        }
+    }
+}
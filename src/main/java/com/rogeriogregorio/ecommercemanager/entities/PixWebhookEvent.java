@@ -0,0 +1,308 @@
+package com.rogeriogregorio.ecommercemanager.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+@Entity
+@Table(name = "tb_pix_webhook_events", indexes = {
+        @Index(name = "idx_pix_webhook_events_pending", columnList = "worker_partition, processed_at, id"),
+        @Index(name = "idx_pix_webhook_events_claim_token", columnList = "claim_token")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_pix_webhook_events_dedupe_key", columnNames = "dedupe_key")
+})
+public class PixWebhookEvent implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_pix_webhook_events")
+    @SequenceGenerator(name = "seq_pix_webhook_events", sequenceName = "seq_pix_webhook_events", allocationSize = 50)
+    private Long id;
+
+    @NotNull(message = "The deduplication key cannot be null.")
+    @Column(name = "dedupe_key", length = 100)
+    private String dedupeKey;
+
+    @Column(name = "end_to_end_id", length = 64)
+    private String endToEndId;
+
+    @NotNull(message = "The txId cannot be null.")
+    @Column(name = "tx_id", length = 64)
+    private String txId;
+
+    @NotNull(message = "The worker partition cannot be null.")
+    @Column(name = "worker_partition")
+    private Integer workerPartition;
+
+    @Column(name = "payload", length = 4000)
+    private String payload;
+
+    @NotNull(message = "The receipt timestamp cannot be null.")
+    @Column(name = "received_at")
+    private Instant receivedAt;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    @NotNull(message = "The number of attempts cannot be null.")
+    @Column(name = "attempts")
+    private Integer attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @NotNull(message = "The next attempt timestamp cannot be null.")
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    public PixWebhookEvent() {
+    }
+
+    private PixWebhookEvent(Builder builder) {
+        setId(builder.id);
+        setDedupeKey(builder.dedupeKey);
+        setEndToEndId(builder.endToEndId);
+        setTxId(builder.txId);
+        setWorkerPartition(builder.workerPartition);
+        setPayload(builder.payload);
+        setReceivedAt(builder.receivedAt);
+        setProcessedAt(builder.processedAt);
+        setAttempts(builder.attempts);
+        setLastError(builder.lastError);
+        setNextAttemptAt(builder.nextAttemptAt);
+        setClaimToken(builder.claimToken);
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getDedupeKey() {
+        return dedupeKey;
+    }
+
+    public void setDedupeKey(String dedupeKey) {
+        this.dedupeKey = dedupeKey;
+    }
+
+    public String getEndToEndId() {
+        return endToEndId;
+    }
+
+    public void setEndToEndId(String endToEndId) {
+        this.endToEndId = endToEndId;
+    }
+
+    public String getTxId() {
+        return txId;
+    }
+
+    public void setTxId(String txId) {
+        this.txId = txId;
+    }
+
+    public Integer getWorkerPartition() {
+        return workerPartition;
+    }
+
+    public void setWorkerPartition(Integer workerPartition) {
+        this.workerPartition = workerPartition;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getReceivedAt() {
+        return receivedAt;
+    }
+
+    public void setReceivedAt(Instant receivedAt) {
+        this.receivedAt = receivedAt;
+    }
+
+    public Instant getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(Instant processedAt) {
+        this.processedAt = processedAt;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public void setClaimToken(String claimToken) {
+        this.claimToken = claimToken;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PixWebhookEvent that = (PixWebhookEvent) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "[Pix Webhook Event: id= " + id
+                + ", endToEndId= " + endToEndId
+                + ", txId= " + txId
+                + ", receivedAt= " + receivedAt
+                + ", processedAt= " + processedAt
+                + ", attempts= " + attempts
+                + ", nextAttemptAt= " + nextAttemptAt
+                + ", lastError= " + lastError + "]";
+    }
+
+    public Builder toBuilder() {
+        return new Builder()
+                .withId(this.id)
+                .withDedupeKey(this.dedupeKey)
+                .withEndToEndId(this.endToEndId)
+                .withTxId(this.txId)
+                .withWorkerPartition(this.workerPartition)
+                .withPayload(this.payload)
+                .withReceivedAt(this.receivedAt)
+                .withProcessedAt(this.processedAt)
+                .withAttempts(this.attempts)
+                .withLastError(this.lastError)
+                .withNextAttemptAt(this.nextAttemptAt)
+                .withClaimToken(this.claimToken);
+    }
+
+    public static final class Builder {
+
+        private Long id;
+        private String dedupeKey;
+        private String endToEndId;
+        private String txId;
+        private Integer workerPartition;
+        private String payload;
+        private Instant receivedAt;
+        private Instant processedAt;
+        private Integer attempts;
+        private String lastError;
+        private Instant nextAttemptAt;
+        private String claimToken;
+
+        private Builder() {
+        }
+
+        public Builder withId(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder withDedupeKey(String dedupeKey) {
+            this.dedupeKey = dedupeKey;
+            return this;
+        }
+
+        public Builder withEndToEndId(String endToEndId) {
+            this.endToEndId = endToEndId;
+            return this;
+        }
+
+        public Builder withTxId(String txId) {
+            this.txId = txId;
+            return this;
+        }
+
+        public Builder withWorkerPartition(Integer workerPartition) {
+            this.workerPartition = workerPartition;
+            return this;
+        }
+
+        public Builder withPayload(String payload) {
+            this.payload = payload;
+            return this;
+        }
+
+        public Builder withReceivedAt(Instant receivedAt) {
+            this.receivedAt = receivedAt;
+            return this;
+        }
+
+        public Builder withProcessedAt(Instant processedAt) {
+            this.processedAt = processedAt;
+            return this;
+        }
+
+        public Builder withAttempts(Integer attempts) {
+            this.attempts = attempts;
+            return this;
+        }
+
+        public Builder withLastError(String lastError) {
+            this.lastError = lastError;
+            return this;
+        }
+
+        public Builder withNextAttemptAt(Instant nextAttemptAt) {
+            this.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public Builder withClaimToken(String claimToken) {
+            this.claimToken = claimToken;
+            return this;
+        }
+
+        public PixWebhookEvent build() {
+            return new PixWebhookEvent(this);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.rogeriogregorio.ecommercemanager.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.rogeriogregorio.ecommercemanager.entities.enums.OrderStatus;
+import com.rogeriogregorio.ecommercemanager.entities.listeners.RowCountListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -18,14 +19,19 @@ import java.util.Objects;
 import java.util.Set;
 
 @Entity
+@EntityListeners(RowCountListener.class)
 @Table(name = "tb_products")
+@NamedEntityGraph(name = Product.WITH_CATEGORIES, attributeNodes = @NamedAttributeNode("categories"))
 public class Product implements Serializable {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
+    public static final String WITH_CATEGORIES = "Product.withCategories";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_products")
+    @SequenceGenerator(name = "seq_products", sequenceName = "seq_products", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", unique = true)
@@ -50,7 +56,7 @@ public class Product implements Serializable {
     @JoinColumn(name = "product_discount_id")
     private ProductDiscount productDiscount;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany
     @JoinTable(name = "tb_product_category",
             joinColumns = @JoinColumn(name = "product_id"),
             inverseJoinColumns = @JoinColumn(name = "category_id"))
@@ -59,7 +65,7 @@ public class Product implements Serializable {
     @OneToMany(mappedBy = "id.product")
     private Set<OrderItem> items = new HashSet<>();
 
-    @OneToMany(mappedBy = "id.product", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "id.product")
     private Set<ProductReview> reviews = new HashSet<>();
 
     public Product() {
@@ -1,6 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.entities;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.rogeriogregorio.ecommercemanager.entities.listeners.RowCountListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 
@@ -12,6 +13,7 @@ import java.time.Instant;
 import java.util.Objects;
 
 @Entity
+@EntityListeners(RowCountListener.class)
 @Table(name = "tb_product_discounts")
 public class ProductDiscount implements Serializable {
 
@@ -19,7 +21,8 @@ public class ProductDiscount implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_product_discounts")
+    @SequenceGenerator(name = "seq_product_discounts", sequenceName = "seq_product_discounts", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", unique = true)
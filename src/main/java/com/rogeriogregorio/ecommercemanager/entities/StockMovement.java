@@ -2,6 +2,7 @@ package com.rogeriogregorio.ecommercemanager.entities;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.rogeriogregorio.ecommercemanager.entities.enums.MovementType;
+import com.rogeriogregorio.ecommercemanager.entities.listeners.RowCountListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 
@@ -11,14 +12,19 @@ import java.time.Instant;
 import java.util.Objects;
 
 @Entity
-@Table(name = "tb_stock_movements")
+@EntityListeners(RowCountListener.class)
+@Table(name = "tb_stock_movements", indexes = {
+        @Index(name = "idx_stock_movements_moment_id", columnList = "moment, id"),
+        @Index(name = "idx_stock_movements_order_id", columnList = "order_id")
+})
 public class StockMovement implements Serializable {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_stock_movements")
+    @SequenceGenerator(name = "seq_stock_movements", sequenceName = "seq_stock_movements", allocationSize = 50)
     private Long id;
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "GMT")
@@ -38,6 +44,9 @@ public class StockMovement implements Serializable {
     @Column(name = "quantity_moved")
     private Integer quantityMoved;
 
+    @Column(name = "order_id")
+    private Long orderId;
+
     public StockMovement() {
     }
 
@@ -47,6 +56,7 @@ public class StockMovement implements Serializable {
         setInventoryItem(builder.inventoryItem);
         movementType = builder.movementType;
         setQuantityMoved(builder.quantityMoved);
+        setOrderId(builder.orderId);
     }
 
     public static Builder newBuilder() {
@@ -98,6 +108,14 @@ public class StockMovement implements Serializable {
         this.quantityMoved = quantityMoved;
     }
 
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -117,7 +135,8 @@ public class StockMovement implements Serializable {
                 + ", moment= " + moment
                 + ", inventoryItem= " + inventoryItem
                 + ", movementType= " + movementType
-                + ", quantityMoved= " + quantityMoved +"]";
+                + ", quantityMoved= " + quantityMoved
+                + ", orderId= " + orderId + "]";
     }
 
     public Builder toBuilder() {
@@ -126,7 +145,8 @@ public class StockMovement implements Serializable {
                 .withMoment(this.moment)
                 .withInventoryItem(this.inventoryItem)
                 .withMovementType(MovementType.valueOf(this.movementType))
-                .withQuantityMoved(this.quantityMoved);
+                .withQuantityMoved(this.quantityMoved)
+                .withOrderId(this.orderId);
     }
 
     public static final class Builder {
@@ -136,6 +156,7 @@ public class StockMovement implements Serializable {
         private InventoryItem inventoryItem;
         private Integer movementType;
         private Integer quantityMoved;
+        private Long orderId;
 
         private Builder() {
         }
@@ -165,6 +186,11 @@ public class StockMovement implements Serializable {
             return this;
         }
 
+        public Builder withOrderId(Long orderId) {
+            this.orderId = orderId;
+            return this;
+        }
+
         public StockMovement build() {
             return new StockMovement(this);
         }
@@ -0,0 +1,161 @@
+package com.rogeriogregorio.ecommercemanager.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+@Entity
+@Table(name = "tb_stock_reservations", indexes = {
+        @Index(name = "idx_stock_reservations_order_id", columnList = "order_id"),
+        @Index(name = "idx_stock_reservations_expires_at", columnList = "expires_at")
+})
+public class StockReservation implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_stock_reservations")
+    @SequenceGenerator(name = "seq_stock_reservations", sequenceName = "seq_stock_reservations", allocationSize = 50)
+    private Long id;
+
+    @NotNull(message = "The order ID cannot be null.")
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @NotNull(message = "The product ID cannot be null.")
+    @Column(name = "product_id")
+    private Long productId;
+
+    @NotNull(message = "The reserved quantity cannot be null.")
+    @Positive(message = "The reserved quantity must be greater than zero.")
+    @Column(name = "quantity")
+    private Integer quantity;
+
+    @NotNull(message = "The reservation expiration cannot be null.")
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    public StockReservation() {
+    }
+
+    private StockReservation(Builder builder) {
+        setId(builder.id);
+        setOrderId(builder.orderId);
+        setProductId(builder.productId);
+        setQuantity(builder.quantity);
+        setExpiresAt(builder.expiresAt);
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StockReservation that = (StockReservation) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "[Stock Reservation: id= " + id
+                + ", orderId= " + orderId
+                + ", productId= " + productId
+                + ", quantity= " + quantity
+                + ", expiresAt= " + expiresAt + "]";
+    }
+
+    public static final class Builder {
+
+        private Long id;
+        private Long orderId;
+        private Long productId;
+        private Integer quantity;
+        private Instant expiresAt;
+
+        private Builder() {
+        }
+
+        public Builder withId(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder withOrderId(Long orderId) {
+            this.orderId = orderId;
+            return this;
+        }
+
+        public Builder withProductId(Long productId) {
+            this.productId = productId;
+            return this;
+        }
+
+        public Builder withQuantity(Integer quantity) {
+            this.quantity = quantity;
+            return this;
+        }
+
+        public Builder withExpiresAt(Instant expiresAt) {
+            this.expiresAt = expiresAt;
+            return this;
+        }
+
+        public StockReservation build() {
+            return new StockReservation(this);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.rogeriogregorio.ecommercemanager.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tb_user_security_versions", indexes = {
+        @Index(name = "idx_user_security_versions_updated_at", columnList = "updated_at")
+})
+public class UserSecurityVersion implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @NotNull(message = "The security version cannot be null.")
+    @Column(name = "version")
+    private Long version;
+
+    @NotNull(message = "The update timestamp cannot be null.")
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    public UserSecurityVersion() {
+    }
+
+    private UserSecurityVersion(Builder builder) {
+        setUserId(builder.userId);
+        setVersion(builder.version);
+        setUpdatedAt(builder.updatedAt);
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        UserSecurityVersion that = (UserSecurityVersion) o;
+        return Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId);
+    }
+
+    @Override
+    public String toString() {
+        return "[User Security Version: userId= " + userId
+                + ", version= " + version
+                + ", updatedAt= " + updatedAt + "]";
+    }
+
+    public Builder toBuilder() {
+        return new Builder()
+                .withUserId(this.userId)
+                .withVersion(this.version)
+                .withUpdatedAt(this.updatedAt);
+    }
+
+    public static final class Builder {
+
+        private UUID userId;
+        private Long version;
+        private Instant updatedAt;
+
+        private Builder() {
+        }
+
+        public Builder withUserId(UUID userId) {
+            this.userId = userId;
+            return this;
+        }
+
+        public Builder withVersion(Long version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder withUpdatedAt(Instant updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
+        public UserSecurityVersion build() {
+            return new UserSecurityVersion(this);
+        }
+    }
+}
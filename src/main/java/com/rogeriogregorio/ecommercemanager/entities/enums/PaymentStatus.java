@@ -4,7 +4,8 @@ public enum PaymentStatus {
 
     PROCESSING(1),
     CONCLUDED(2),
-    CANCELED(3);
+    CANCELED(3),
+    PENDING(4);
 
     private int code;
 
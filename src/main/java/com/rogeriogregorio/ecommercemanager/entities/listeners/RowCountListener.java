@@ -0,0 +1,30 @@
+package com.rogeriogregorio.ecommercemanager.entities.listeners;
+
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RowCountListener {
+
+    private final RowCounter rowCounter;
+
+    @Autowired
+    public RowCountListener(@Lazy RowCounter rowCounter) {
+        this.rowCounter = rowCounter;
+    }
+
+    @PostPersist
+    public void afterInsert(Object entity) {
+        rowCounter.increment(Hibernate.getClass(entity));
+    }
+
+    @PostRemove
+    public void afterDelete(Object entity) {
+        rowCounter.decrement(Hibernate.getClass(entity));
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -183,6 +185,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
 
+    @ExceptionHandler(OverloadException.class)
+    public ResponseEntity<ErrorDetails> handleOverloadException(OverloadException ex) {
+
+        ErrorDetails error = new ErrorDetails(HttpStatus.SERVICE_UNAVAILABLE,
+                "OverloadException: the server is temporarily at capacity", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(ex.getRetryAfter())))
+                .body(error);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorDetails> handleTooManyRequestsException(TooManyRequestsException ex) {
+
+        ErrorDetails error = new ErrorDetails(HttpStatus.TOO_MANY_REQUESTS,
+                "TooManyRequestsException: too many requests, slow down", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(ex.getRetryAfter())))
+                .body(error);
+    }
+
     @ExceptionHandler(UnexpectedException.class)
     public ResponseEntity<ErrorDetails> handleUnexpectedException(UnexpectedException ex) {
 
@@ -220,4 +242,8 @@ public class GlobalExceptionHandler {
                 "ConstraintViolationException: constraint violation error", errors.toString());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
+
+    private static long retryAfterSeconds(Duration retryAfter) {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
 }
@@ -0,0 +1,18 @@
+package com.rogeriogregorio.ecommercemanager.exceptions;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+public class ProviderUnavailableException extends PaymentException implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public ProviderUnavailableException(String message) {
+        super(message);
+    }
+
+    public ProviderUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
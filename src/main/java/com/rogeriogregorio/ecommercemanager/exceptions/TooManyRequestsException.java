@@ -0,0 +1,31 @@
+package com.rogeriogregorio.ecommercemanager.exceptions;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+
+public class TooManyRequestsException extends RuntimeException implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message) {
+        this(message, Duration.ofSeconds(1));
+    }
+
+    public TooManyRequestsException(String message, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = Duration.ofSeconds(1);
+    }
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
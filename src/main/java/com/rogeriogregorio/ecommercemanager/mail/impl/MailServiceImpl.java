@@ -9,6 +9,8 @@ import com.rogeriogregorio.ecommercemanager.entities.User;
 import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
 import com.rogeriogregorio.ecommercemanager.mail.MailService;
 import com.rogeriogregorio.ecommercemanager.repositories.UserRepository;
+import com.rogeriogregorio.ecommercemanager.security.PrincipalCache;
+import com.rogeriogregorio.ecommercemanager.security.SecurityVersionRegistry;
 import com.rogeriogregorio.ecommercemanager.security.TokenService;
 import com.rogeriogregorio.ecommercemanager.utils.PasswordHelper;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
@@ -44,12 +46,16 @@ public class MailServiceImpl implements MailService {
     private final TokenService tokenService;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final PrincipalCache principalCache;
+    private final SecurityVersionRegistry securityVersionRegistry;
     private static final Logger LOGGER = LogManager.getLogger(MailServiceImpl.class);
 
     @Autowired
     public MailServiceImpl(JavaMailSender mailSender, UserRepository userRepository,
                            PasswordHelper passwordHelper, TokenService tokenService,
-                           CatchError catchError, DataMapper dataMapper) {
+                           CatchError catchError, DataMapper dataMapper,
+                           PrincipalCache principalCache,
+                           SecurityVersionRegistry securityVersionRegistry) {
 
         this.mailSender = mailSender;
         this.userRepository = userRepository;
@@ -57,6 +63,8 @@ public class MailServiceImpl implements MailService {
         this.tokenService = tokenService;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.principalCache = principalCache;
+        this.securityVersionRegistry = securityVersionRegistry;
     }
 
     private void sendEmail(EmailDetailsDto emailDetails) {
@@ -148,6 +156,7 @@ public class MailServiceImpl implements MailService {
         return dataMapper.map(user, UserResponse.class);
     }
 
+    @Transactional
     public void validatePasswordResetToken(PasswordResetDto passwordReset) {
 
         User user = tokenService.validateEmailToken(passwordReset.getToken());
@@ -167,6 +176,7 @@ public class MailServiceImpl implements MailService {
 
         user.setEmailEnabled(true);
         User savedUser = catchError.run(() -> userRepository.save(user));
+        principalCache.invalidate(user.getEmail());
         LOGGER.info("User email verified and saved: {}", savedUser.getEmail());
     }
 
@@ -177,6 +187,8 @@ public class MailServiceImpl implements MailService {
         String passwordEncode = passwordHelper.enconde(user.getPassword());
         user.setPassword(passwordEncode);
         User savedUser = catchError.run(() -> userRepository.save(user));
+        principalCache.invalidate(user.getEmail());
+        securityVersionRegistry.bump(user.getId());
         LOGGER.info("User password updated: {}", savedUser);
     }
 }
\ No newline at end of file
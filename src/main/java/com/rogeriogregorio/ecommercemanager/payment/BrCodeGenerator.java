@@ -0,0 +1,13 @@
+package com.rogeriogregorio.ecommercemanager.payment;
+
+import com.rogeriogregorio.ecommercemanager.dto.PixChargeDto;
+import com.rogeriogregorio.ecommercemanager.dto.PixQRCodeDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface BrCodeGenerator {
+
+    PixQRCodeDto generatePixQRCode(PixChargeDto pixCharge);
+
+    String buildDynamicPayload(String location);
+}
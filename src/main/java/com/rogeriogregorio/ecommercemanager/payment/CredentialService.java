@@ -9,4 +9,12 @@ public interface CredentialService {
     JSONObject getOptions();
 
     String getKeyEVP();
+
+    int getChargeExpiration();
+
+    int getClientMaxAge();
+
+    String getMerchantName();
+
+    String getMerchantCity();
 }
@@ -0,0 +1,14 @@
+package com.rogeriogregorio.ecommercemanager.payment;
+
+import org.json.JSONObject;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public interface EfiPayClient {
+
+    JSONObject call(String endpoint, Map<String, String> params, JSONObject body) throws Exception;
+
+    Map<String, Object> call(String endpoint, Map<String, String> params, Map<String, Object> body) throws Exception;
+}
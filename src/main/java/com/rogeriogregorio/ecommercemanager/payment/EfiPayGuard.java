@@ -0,0 +1,12 @@
+package com.rogeriogregorio.ecommercemanager.payment;
+
+import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface EfiPayGuard {
+
+    <T> T execute(String operation, SafeFunction<T> call) throws Exception;
+
+    void ensureAvailable(String operation);
+}
@@ -0,0 +1,15 @@
+package com.rogeriogregorio.ecommercemanager.payment;
+
+import com.rogeriogregorio.ecommercemanager.dto.PixListChargeDto;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Component
+public interface PixChargeCache {
+
+    Optional<Stream<PixListChargeDto.Cob>> read(String start, String end);
+
+    Stream<PixListChargeDto.Cob> writeThrough(String start, String end, Stream<PixListChargeDto.Cob> charges);
+}
@@ -7,14 +7,24 @@ import com.rogeriogregorio.ecommercemanager.dto.PixQRCodeDto;
 import com.rogeriogregorio.ecommercemanager.entities.Order;
 import org.springframework.stereotype.Component;
 
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.stream.Stream;
+
 @Component
 public interface PixService {
 
     EvpKeyDto createEvpKey();
 
-    PixChargeDto createImmediatePixCharge(Order order);
+    PixChargeDto createPixCharge(Order order, String txId);
+
+    void ensureChargeAvailable();
 
     PixQRCodeDto generatePixQRCode(PixChargeDto pixCharge);
 
-    PixListChargeDto listPixCharges(String startDate, String endDate);
+    Stream<PixListChargeDto.Cob> streamPixCharges(String startDate, String endDate);
+
+    Stream<PixListChargeDto.Cob> streamPixCharges(Instant start, Instant end);
+
+    void exportPixCharges(Stream<PixListChargeDto.Cob> charges, OutputStream outputStream);
 }
@@ -13,6 +13,10 @@ public class CredentialConfig {
     private boolean sandbox;
     private boolean debug;
     private String keyEVP;
+    private int chargeExpiration = 3600;
+    private int clientMaxAge = 3000;
+    private String merchantName;
+    private String merchantCity;
 
     public String getClientId() {
         return clientId;
@@ -61,4 +65,36 @@ public class CredentialConfig {
     public void setKeyEVP(String keyEVP) {
         this.keyEVP = keyEVP;
     }
+
+    public int getChargeExpiration() {
+        return chargeExpiration;
+    }
+
+    public void setChargeExpiration(int chargeExpiration) {
+        this.chargeExpiration = chargeExpiration;
+    }
+
+    public int getClientMaxAge() {
+        return clientMaxAge;
+    }
+
+    public void setClientMaxAge(int clientMaxAge) {
+        this.clientMaxAge = clientMaxAge;
+    }
+
+    public String getMerchantName() {
+        return merchantName;
+    }
+
+    public void setMerchantName(String merchantName) {
+        this.merchantName = merchantName;
+    }
+
+    public String getMerchantCity() {
+        return merchantCity;
+    }
+
+    public void setMerchantCity(String merchantCity) {
+        this.merchantCity = merchantCity;
+    }
 }
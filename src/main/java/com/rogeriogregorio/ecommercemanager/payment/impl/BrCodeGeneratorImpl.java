@@ -0,0 +1,124 @@
+package com.rogeriogregorio.ecommercemanager.payment.impl;
+
+import com.rogeriogregorio.ecommercemanager.dto.PixChargeDto;
+import com.rogeriogregorio.ecommercemanager.dto.PixQRCodeDto;
+import com.rogeriogregorio.ecommercemanager.exceptions.PaymentException;
+import com.rogeriogregorio.ecommercemanager.payment.BrCodeGenerator;
+import com.rogeriogregorio.ecommercemanager.payment.CredentialService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Locale;
+
+@Component
+public class BrCodeGeneratorImpl implements BrCodeGenerator {
+
+    private static final String PAYLOAD_FORMAT_INDICATOR = "00";
+    private static final String POINT_OF_INITIATION_METHOD = "01";
+    private static final String MERCHANT_ACCOUNT_INFORMATION = "26";
+    private static final String MERCHANT_ACCOUNT_GUI = "00";
+    private static final String MERCHANT_ACCOUNT_URL = "25";
+    private static final String MERCHANT_CATEGORY_CODE = "52";
+    private static final String TRANSACTION_CURRENCY = "53";
+    private static final String COUNTRY_CODE = "58";
+    private static final String MERCHANT_NAME = "59";
+    private static final String MERCHANT_CITY = "60";
+    private static final String ADDITIONAL_DATA_FIELD = "62";
+    private static final String REFERENCE_LABEL = "05";
+    private static final String CRC16 = "63";
+
+    private static final String PIX_GUI = "br.gov.bcb.pix";
+    private static final String SINGLE_USE = "12";
+    private static final String BRAZILIAN_REAL = "986";
+    private static final int MAX_MERCHANT_NAME_LENGTH = 25;
+    private static final int MAX_MERCHANT_CITY_LENGTH = 15;
+
+    private final CredentialService credentials;
+    private static final Logger LOGGER = LogManager.getLogger(BrCodeGeneratorImpl.class);
+
+    @Autowired
+    public BrCodeGeneratorImpl(CredentialService credentials) {
+        this.credentials = credentials;
+    }
+
+    public PixQRCodeDto generatePixQRCode(PixChargeDto pixCharge) {
+
+        String payload = pixCharge.getPixCopiaECola();
+
+        if (payload == null || payload.isBlank()) {
+            PixChargeDto.Loc loc = pixCharge.getLoc();
+            String location = loc != null ? loc.getLocation() : pixCharge.getLocation();
+
+            if (location == null || location.isBlank()) {
+                throw new PaymentException("Pix charge without location: " + pixCharge.getTxid());
+            }
+
+            payload = buildDynamicPayload(location);
+        }
+
+        PixQRCodeDto pixQRCode = new PixQRCodeDto();
+        pixQRCode.setQrcode(payload);
+        LOGGER.info("Generated local QRCode Pix for txid {}", pixCharge.getTxid());
+        return pixQRCode;
+    }
+
+    public String buildDynamicPayload(String location) {
+
+        String merchantAccount = field(MERCHANT_ACCOUNT_GUI, PIX_GUI)
+                + field(MERCHANT_ACCOUNT_URL, location.replaceFirst("^https?://", ""));
+
+        String payload = field(PAYLOAD_FORMAT_INDICATOR, "01")
+                + field(POINT_OF_INITIATION_METHOD, SINGLE_USE)
+                + field(MERCHANT_ACCOUNT_INFORMATION, merchantAccount)
+                + field(MERCHANT_CATEGORY_CODE, "0000")
+                + field(TRANSACTION_CURRENCY, BRAZILIAN_REAL)
+                + field(COUNTRY_CODE, "BR")
+                + field(MERCHANT_NAME, normalize(credentials.getMerchantName(), MAX_MERCHANT_NAME_LENGTH))
+                + field(MERCHANT_CITY, normalize(credentials.getMerchantCity(), MAX_MERCHANT_CITY_LENGTH))
+                + field(ADDITIONAL_DATA_FIELD, field(REFERENCE_LABEL, "***"))
+                + CRC16 + "04";
+
+        return payload + crc16(payload);
+    }
+
+    public static String crc16(String payload) {
+
+        int crc = 0xFFFF;
+
+        for (byte value : payload.getBytes(StandardCharsets.UTF_8)) {
+            crc ^= (value & 0xFF) << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+            crc &= 0xFFFF;
+        }
+
+        return String.format("%04X", crc);
+    }
+
+    private static String field(String id, String value) {
+
+        int length = value.getBytes(StandardCharsets.UTF_8).length;
+
+        if (length > 99) {
+            throw new PaymentException("BR Code field " + id + " exceeds 99 characters");
+        }
+
+        return id + String.format("%02d", length) + value;
+    }
+
+    private static String normalize(String value, int maxLength) {
+
+        String normalized = Normalizer.normalize(value == null ? "" : value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .replaceAll("[^A-Za-z0-9 ]", "")
+                .trim()
+                .toUpperCase(Locale.ROOT);
+
+        return normalized.length() > maxLength ? normalized.substring(0, maxLength).trim() : normalized;
+    }
+}
@@ -30,4 +30,20 @@ public class CredentialServiceImpl implements CredentialService {
     public String getKeyEVP() {
         return pixCredential.getKeyEVP();
     }
+
+    public int getChargeExpiration() {
+        return pixCredential.getChargeExpiration();
+    }
+
+    public int getClientMaxAge() {
+        return pixCredential.getClientMaxAge();
+    }
+
+    public String getMerchantName() {
+        return pixCredential.getMerchantName();
+    }
+
+    public String getMerchantCity() {
+        return pixCredential.getMerchantCity();
+    }
 }
@@ -0,0 +1,238 @@
+package com.rogeriogregorio.ecommercemanager.payment.impl;
+
+import br.com.efi.efisdk.EfiPay;
+import com.rogeriogregorio.ecommercemanager.payment.CredentialService;
+import com.rogeriogregorio.ecommercemanager.payment.EfiPayClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class EfiPayClientImpl implements EfiPayClient {
+
+    private static final String WARM_UP_ENDPOINT = "pixListEvp";
+    private static final Duration REFRESH_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+    private final CredentialService credentials;
+    private final MeterRegistry meterRegistry;
+    private final ClientFactory clientFactory;
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private final AtomicInteger inFlightCalls = new AtomicInteger();
+    private final ScheduledExecutorService refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "efipay-client-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile ClientHolder holder;
+    private static final Logger LOGGER = LogManager.getLogger(EfiPayClientImpl.class);
+
+    @Autowired
+    public EfiPayClientImpl(CredentialService credentials, MeterRegistry meterRegistry) {
+        this(credentials, meterRegistry, EfiPay::new);
+    }
+
+    public EfiPayClientImpl(CredentialService credentials, MeterRegistry meterRegistry, ClientFactory clientFactory) {
+
+        this.credentials = credentials;
+        this.meterRegistry = meterRegistry;
+        this.clientFactory = clientFactory;
+
+        Gauge.builder("efipay.client.in_flight", inFlightCalls, AtomicInteger::get)
+                .description("EfiPay calls currently using the shared client")
+                .register(meterRegistry);
+
+        Gauge.builder("efipay.client.age", this, EfiPayClientImpl::clientAgeSeconds)
+                .description("Age of the shared EfiPay client and its TLS session")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public JSONObject call(String endpoint, Map<String, String> params, JSONObject body) throws Exception {
+        return timed(endpoint, client -> client.call(endpoint, params, body));
+    }
+
+    public Map<String, Object> call(String endpoint, Map<String, String> params, Map<String, Object> body) throws Exception {
+        return timed(endpoint, client -> client.call(endpoint, params, body));
+    }
+
+    @PostConstruct
+    private void start() {
+
+        refreshScheduler.execute(this::warmUp);
+        refreshScheduler.scheduleWithFixedDelay(this::refreshIfStale,
+                REFRESH_CHECK_INTERVAL.toMillis(), REFRESH_CHECK_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+        refreshScheduler.shutdownNow();
+    }
+
+    private <T> T timed(String endpoint, EfiPayCall<T> call) throws Exception {
+
+        EfiPay client = currentClient();
+        long start = System.nanoTime();
+        String outcome = "success";
+
+        inFlightCalls.incrementAndGet();
+        try {
+            return call.execute(client);
+        } catch (Exception ex) {
+            outcome = "error";
+            throw ex;
+        } finally {
+            inFlightCalls.decrementAndGet();
+            Timer.builder("efipay.client.calls")
+                    .description("EfiPay calls made through the shared client")
+                    .tag("endpoint", endpoint)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private EfiPay currentClient() throws Exception {
+
+        ClientHolder current = holder;
+        if (current != null) {
+            return current.client();
+        }
+
+        buildLock.lock();
+        try {
+            if (holder == null) {
+                holder = build("initial", false);
+            }
+            return holder.client();
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private void warmUp() {
+
+        buildLock.lock();
+        try {
+            if (holder == null) {
+                holder = build("initial", true);
+                LOGGER.info("EfiPay client created and warmed up");
+            }
+        } catch (Exception ex) {
+            LOGGER.warn("EfiPay client warm-up failed, the first call will connect instead: {}", ex.getMessage());
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private void refreshIfStale() {
+
+        ClientHolder current = holder;
+        if (current == null) {
+            return;
+        }
+
+        String reason = staleReason(current);
+        if (reason == null) {
+            return;
+        }
+
+        try {
+            holder = build(reason, true);
+            LOGGER.info("EfiPay client refreshed: {}", reason);
+        } catch (Exception ex) {
+            LOGGER.warn("EfiPay client refresh failed ({}), keeping the current client: {}", reason, ex.getMessage());
+        }
+    }
+
+    private String staleReason(ClientHolder current) {
+
+        if (Duration.between(current.createdAt(), Instant.now()).toSeconds() >= credentials.getClientMaxAge()) {
+            return "max_age";
+        }
+
+        if (!Objects.equals(current.certificateModified(), certificateModified(credentials.getOptions()))) {
+            return "certificate";
+        }
+
+        return null;
+    }
+
+    private ClientHolder build(String reason, boolean warmUp) throws Exception {
+
+        long start = System.nanoTime();
+        String outcome = "success";
+
+        try {
+            JSONObject options = credentials.getOptions();
+            EfiPay client = clientFactory.create(options);
+
+            if (warmUp) {
+                client.call(WARM_UP_ENDPOINT, new HashMap<>(), new JSONObject());
+            }
+
+            return new ClientHolder(client, Instant.now(), certificateModified(options));
+        } catch (Exception ex) {
+            outcome = "error";
+            throw ex;
+        } finally {
+            Timer.builder("efipay.client.builds")
+                    .description("EfiPay client builds: certificate load, TLS handshake and OAuth token on warm-up")
+                    .tag("reason", reason)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private FileTime certificateModified(JSONObject options) {
+
+        Path certificate = Path.of(options.optString("certificate", ""));
+
+        try {
+            return Files.isRegularFile(certificate) ? Files.getLastModifiedTime(certificate) : null;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private double clientAgeSeconds() {
+
+        ClientHolder current = holder;
+        return current == null ? 0 : Duration.between(current.createdAt(), Instant.now()).toSeconds();
+    }
+
+    @FunctionalInterface
+    public interface ClientFactory {
+        EfiPay create(JSONObject options) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface EfiPayCall<T> {
+        T execute(EfiPay client) throws Exception;
+    }
+
+    private record ClientHolder(EfiPay client, Instant createdAt, FileTime certificateModified) {
+    }
+}
@@ -0,0 +1,321 @@
+package com.rogeriogregorio.ecommercemanager.payment.impl;
+
+import br.com.efi.efisdk.exceptions.EfiPayException;
+import com.rogeriogregorio.ecommercemanager.exceptions.PaymentException;
+import com.rogeriogregorio.ecommercemanager.exceptions.ProviderUnavailableException;
+import com.rogeriogregorio.ecommercemanager.payment.EfiPayGuard;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+
+@Component
+public class EfiPayGuardImpl implements EfiPayGuard {
+
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration SLOW_CALL_THRESHOLD = Duration.ofSeconds(3);
+    private static final Duration OPEN_STATE_DURATION = Duration.ofSeconds(30);
+    private static final int FAILURE_WINDOW_SIZE = 20;
+    private static final int MINIMUM_CALLS = 10;
+    private static final double FAILURE_RATE_THRESHOLD = 0.5;
+    private static final int INITIAL_LIMIT = 8;
+    private static final int MIN_LIMIT = 1;
+    private static final int MAX_LIMIT = 32;
+    private static final double BACKOFF_RATIO = 0.5;
+    private static final int SERVER_ERROR = 500;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, OperationGuard> guards = new ConcurrentHashMap<>();
+    private static final Logger LOGGER = LogManager.getLogger(EfiPayGuardImpl.class);
+
+    @Autowired
+    public EfiPayGuardImpl(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, SafeFunction<T> call) throws Exception {
+
+        OperationGuard guard = guards.computeIfAbsent(operation, this::createGuard);
+        long now = System.nanoTime();
+
+        if (!guard.breaker.tryAcquire(now)) {
+            guard.rejected("circuit_open").increment();
+            throw new ProviderUnavailableException("Pix provider unavailable, circuit open for " + operation);
+        }
+
+        if (!guard.limiter.tryAcquire()) {
+            guard.breaker.cancelTrial();
+            guard.rejected("concurrency_limit").increment();
+            throw new ProviderUnavailableException("Pix provider saturated, concurrency limit reached for " + operation);
+        }
+
+        Future<T> future;
+        try {
+            future = guard.executor.submit(call::execute);
+        } catch (RejectedExecutionException ex) {
+            guard.limiter.release(true);
+            guard.breaker.cancelTrial();
+            guard.rejected("executor_full").increment();
+            throw new ProviderUnavailableException("Pix provider saturated, no worker available for " + operation, ex);
+        }
+
+        boolean failed = true;
+        boolean slow = false;
+        try {
+            T result = future.get(CALL_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+            failed = false;
+            slow = System.nanoTime() - now > SLOW_CALL_THRESHOLD.toNanos();
+            return result;
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new PaymentException("Pix provider timed out after " + CALL_TIMEOUT.toSeconds() + "s on " + operation, ex);
+        } catch (InterruptedException ex) {
+            failed = false;
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PaymentException("Interrupted while waiting for the Pix provider on " + operation, ex);
+        } catch (ExecutionException ex) {
+            failed = isProviderFailure(ex.getCause());
+            if (ex.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw new PaymentException("Pix provider call failed on " + operation, ex.getCause());
+        } finally {
+            guard.limiter.release(failed || slow);
+            guard.breaker.record(failed, System.nanoTime());
+        }
+    }
+
+    public void ensureAvailable(String operation) {
+
+        OperationGuard guard = guards.computeIfAbsent(operation, this::createGuard);
+
+        if (guard.breaker.isOpen(System.nanoTime())) {
+            guard.rejected("circuit_open").increment();
+            throw new ProviderUnavailableException("Pix provider unavailable, circuit open for " + operation);
+        }
+    }
+
+    @PreDestroy
+    private void stop() {
+        guards.values().forEach(guard -> guard.executor.shutdownNow());
+    }
+
+    private OperationGuard createGuard(String operation) {
+
+        OperationGuard guard = new OperationGuard(operation, meterRegistry);
+
+        Gauge.builder("efipay.circuit.state", guard.breaker, CircuitBreaker::stateCode)
+                .description("EfiPay circuit breaker state: 0 closed, 1 half-open, 2 open")
+                .tag("operation", operation)
+                .register(meterRegistry);
+
+        Gauge.builder("efipay.bulkhead.limit", guard.limiter, AimdLimiter::limit)
+                .description("Adaptive concurrency limit for the EfiPay operation")
+                .tag("operation", operation)
+                .register(meterRegistry);
+
+        Gauge.builder("efipay.bulkhead.in_flight", guard.limiter, AimdLimiter::inFlight)
+                .description("EfiPay calls currently admitted by the adaptive limiter")
+                .tag("operation", operation)
+                .register(meterRegistry);
+
+        return guard;
+    }
+
+    private static boolean isProviderFailure(Throwable exception) {
+
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof EfiPayException efiPayException) {
+                return efiPayException.getCode() <= 0 || efiPayException.getCode() >= SERVER_ERROR;
+            }
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class OperationGuard {
+
+        private final String operation;
+        private final MeterRegistry meterRegistry;
+        private final CircuitBreaker breaker;
+        private final AimdLimiter limiter = new AimdLimiter();
+        private final ThreadPoolExecutor executor;
+
+        private OperationGuard(String operation, MeterRegistry meterRegistry) {
+
+            this.operation = operation;
+            this.meterRegistry = meterRegistry;
+            this.breaker = new CircuitBreaker(operation);
+            this.executor = new ThreadPoolExecutor(MAX_LIMIT, MAX_LIMIT, 60L, TimeUnit.SECONDS,
+                    new SynchronousQueue<>(), daemonThreads("efipay-" + operation));
+            this.executor.allowCoreThreadTimeOut(true);
+        }
+
+        private Counter rejected(String reason) {
+
+            return Counter.builder("efipay.guard.rejections")
+                    .description("EfiPay calls rejected without reaching the provider")
+                    .tag("operation", operation)
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+
+    private enum CircuitState {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private static final class CircuitBreaker {
+
+        private final String operation;
+        private final boolean[] failures = new boolean[FAILURE_WINDOW_SIZE];
+        private int recordedCalls;
+        private int failedCalls;
+        private int nextSlot;
+        private CircuitState state = CircuitState.CLOSED;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        private CircuitBreaker(String operation) {
+            this.operation = operation;
+        }
+
+        synchronized boolean tryAcquire(long now) {
+
+            if (state == CircuitState.OPEN) {
+                if (now - openedAt < OPEN_STATE_DURATION.toNanos()) {
+                    return false;
+                }
+                state = CircuitState.HALF_OPEN;
+                trialInFlight = false;
+            }
+
+            if (state == CircuitState.HALF_OPEN) {
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+            }
+
+            return true;
+        }
+
+        synchronized void cancelTrial() {
+            trialInFlight = false;
+        }
+
+        synchronized boolean isOpen(long now) {
+            return state == CircuitState.OPEN && now - openedAt < OPEN_STATE_DURATION.toNanos();
+        }
+
+        synchronized void record(boolean failed, long now) {
+
+            if (state == CircuitState.HALF_OPEN) {
+                trialInFlight = false;
+                if (failed) {
+                    open(now);
+                } else {
+                    resetWindow();
+                    state = CircuitState.CLOSED;
+                    LOGGER.info("EfiPay circuit closed for {}", operation);
+                }
+                return;
+            }
+
+            if (state == CircuitState.OPEN) {
+                return;
+            }
+
+            if (recordedCalls == FAILURE_WINDOW_SIZE) {
+                failedCalls -= failures[nextSlot] ? 1 : 0;
+            } else {
+                recordedCalls++;
+            }
+
+            failures[nextSlot] = failed;
+            failedCalls += failed ? 1 : 0;
+            nextSlot = (nextSlot + 1) % FAILURE_WINDOW_SIZE;
+
+            if (recordedCalls >= MINIMUM_CALLS && failedCalls >= recordedCalls * FAILURE_RATE_THRESHOLD) {
+                open(now);
+            }
+        }
+
+        synchronized double stateCode() {
+            return state.ordinal();
+        }
+
+        private void open(long now) {
+
+            LOGGER.warn("EfiPay circuit opened for {} ({} of the last {} calls failed)", operation, failedCalls, recordedCalls);
+            state = CircuitState.OPEN;
+            openedAt = now;
+            resetWindow();
+        }
+
+        private void resetWindow() {
+
+            recordedCalls = 0;
+            failedCalls = 0;
+            nextSlot = 0;
+        }
+    }
+
+    private static final class AimdLimiter {
+
+        private double limit = INITIAL_LIMIT;
+        private int inFlight;
+
+        synchronized boolean tryAcquire() {
+
+            if (inFlight >= (int) limit) {
+                return false;
+            }
+
+            inFlight++;
+            return true;
+        }
+
+        synchronized void release(boolean dropped) {
+
+            if (dropped) {
+                limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+            } else if (inFlight * 2 >= limit) {
+                limit = Math.min(MAX_LIMIT, limit + 1.0 / limit);
+            }
+
+            inFlight--;
+        }
+
+        synchronized double limit() {
+            return limit;
+        }
+
+        synchronized double inFlight() {
+            return inFlight;
+        }
+    }
+}
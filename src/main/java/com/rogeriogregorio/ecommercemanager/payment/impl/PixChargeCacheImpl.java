@@ -0,0 +1,183 @@
+package com.rogeriogregorio.ecommercemanager.payment.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.rogeriogregorio.ecommercemanager.dto.PixListChargeDto;
+import com.rogeriogregorio.ecommercemanager.payment.PixChargeCache;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Component
+public class PixChargeCacheImpl implements PixChargeCache {
+
+    private static final String CACHE_EXTENSION = ".ndjson";
+    private static final String CACHE_FILES = "*.{ndjson,tmp}";
+
+    @Value("${api.pix.charge-cache.directory}")
+    private Path directory;
+    @Value("${api.pix.charge-cache.ttl}")
+    private Duration timeToLive;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final CatchError catchError;
+    private static final Logger LOGGER = LogManager.getLogger(PixChargeCacheImpl.class);
+
+    @Autowired
+    public PixChargeCacheImpl(ObjectMapper objectMapper, CatchError catchError) {
+
+        this.reader = objectMapper.readerFor(PixListChargeDto.Cob.class);
+        this.writer = objectMapper.writerFor(PixListChargeDto.Cob.class);
+        this.catchError = catchError;
+    }
+
+    public Optional<Stream<PixListChargeDto.Cob>> read(String start, String end) {
+
+        Path file = cacheFile(start, end);
+
+        if (!isFresh(file)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(catchError.run(() -> Files.lines(file, StandardCharsets.UTF_8)
+                .filter(line -> !line.isBlank())
+                .map(line -> catchError.<PixListChargeDto.Cob>run(() -> reader.readValue(line)))));
+    }
+
+    public Stream<PixListChargeDto.Cob> writeThrough(String start, String end, Stream<PixListChargeDto.Cob> charges) {
+
+        evictExpired();
+
+        Path file = cacheFile(start, end);
+        CacheWriter cacheWriter = catchError.run(() -> new CacheWriter(file));
+        Iterator<PixListChargeDto.Cob> source = charges.iterator();
+
+        Iterator<PixListChargeDto.Cob> teeIterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+
+                boolean hasNext = source.hasNext();
+                if (!hasNext) {
+                    cacheWriter.exhausted = true;
+                }
+                return hasNext;
+            }
+
+            @Override
+            public PixListChargeDto.Cob next() {
+
+                PixListChargeDto.Cob charge = source.next();
+                cacheWriter.write(charge);
+                return charge;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(teeIterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(charges::close)
+                .onClose(cacheWriter::close);
+    }
+
+    private void evictExpired() {
+
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        int evicted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, CACHE_FILES)) {
+            for (Path file : files) {
+                if (!isFresh(file) && Files.deleteIfExists(file)) {
+                    evicted++;
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to evict expired Pix charge caches from {}: {}", directory, ex.getMessage());
+        }
+
+        if (evicted > 0) {
+            LOGGER.info("Expired Pix charge caches evicted: {}", evicted);
+        }
+    }
+
+    private boolean isFresh(Path file) {
+
+        try {
+            FileTime modifiedAt = Files.getLastModifiedTime(file);
+            return Duration.between(modifiedAt.toInstant(), Instant.now()).compareTo(timeToLive) < 0;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private Path cacheFile(String start, String end) {
+
+        String key = (start + "_" + end).replaceAll("[^0-9A-Za-z_-]", "");
+        return directory.resolve(key + CACHE_EXTENSION);
+    }
+
+    private final class CacheWriter {
+
+        private final Path file;
+        private final Path temporaryFile;
+        private final BufferedWriter output;
+        private boolean exhausted;
+        private boolean failed;
+
+        private CacheWriter(Path file) throws IOException {
+
+            Files.createDirectories(directory);
+            this.file = file;
+            this.temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            this.output = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8);
+        }
+
+        private void write(PixListChargeDto.Cob charge) {
+
+            if (failed) {
+                return;
+            }
+
+            try {
+                output.write(writer.writeValueAsString(charge));
+                output.newLine();
+            } catch (IOException ex) {
+                failed = true;
+                LOGGER.warn("Failed to write Pix charge cache {}: {}", file, ex.getMessage());
+            }
+        }
+
+        private void close() {
+
+            try {
+                output.close();
+
+                if (exhausted && !failed) {
+                    Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    LOGGER.info("Pix charge listing cached: {}", file);
+                } else {
+                    Files.deleteIfExists(temporaryFile);
+                }
+            } catch (IOException ex) {
+                LOGGER.warn("Failed to store Pix charge cache {}: {}", file, ex.getMessage());
+            }
+        }
+    }
+}
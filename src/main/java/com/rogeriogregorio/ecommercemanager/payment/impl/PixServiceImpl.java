@@ -1,14 +1,20 @@
 package com.rogeriogregorio.ecommercemanager.payment.impl;
 
-import br.com.efi.efisdk.EfiPay;
+import br.com.efi.efisdk.exceptions.EfiPayException;
 import com.rogeriogregorio.ecommercemanager.dto.*;
 import com.rogeriogregorio.ecommercemanager.entities.Order;
 import com.rogeriogregorio.ecommercemanager.exceptions.PaymentException;
 import com.rogeriogregorio.ecommercemanager.payment.CredentialService;
+import com.rogeriogregorio.ecommercemanager.payment.EfiPayClient;
+import com.rogeriogregorio.ecommercemanager.payment.EfiPayGuard;
+import com.rogeriogregorio.ecommercemanager.payment.PixChargeCache;
 import com.rogeriogregorio.ecommercemanager.payment.PixService;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.DateFormatter;
-import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
+import com.rogeriogregorio.ecommercemanager.utils.JsonBinder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.json.JSONArray;
@@ -17,33 +23,62 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 public class PixServiceImpl implements PixService {
 
     private static final String CREATE_EVP = "pixCreateEvp";
-    private static final String CREATE_IMMEDIATE_CHARGE = "pixCreateImmediateCharge";
+    private static final String CREATE_CHARGE = "pixCreateCharge";
+    private static final String DETAIL_CHARGE = "pixDetailCharge";
     private static final String GENERATE_QRCODE = "pixGenerateQRCode";
     private static final String LIST_CHARGES = "pixListCharges";
+    private static final int LIST_CHARGES_PAGE_SIZE = 1000;
+    private static final int CLIENT_ERROR = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int SERVER_ERROR = 500;
 
     private final CredentialService credentials;
+    private final EfiPayClient efiPayClient;
     private final DateFormatter dateFormatter;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final DataExporter dataExporter;
+    private final PixChargeCache pixChargeCache;
+    private final JsonBinder jsonBinder;
+    private final EfiPayGuard efiPayGuard;
+    private final RetryTemplate listChargesRetry = RetryTemplate.builder()
+            .maxAttempts(4)
+            .exponentialBackoff(1000, 2, 8000)
+            .build();
     private static final Logger LOGGER = LogManager.getLogger(PixServiceImpl.class);
 
     @Autowired
-    public PixServiceImpl(CredentialService credentials, DateFormatter dateFormatter,
-                          CatchError catchError, DataMapper dataMapper) {
+    public PixServiceImpl(CredentialService credentials, EfiPayClient efiPayClient,
+                          DateFormatter dateFormatter, CatchError catchError, DataMapper dataMapper,
+                          DataExporter dataExporter, PixChargeCache pixChargeCache, JsonBinder jsonBinder,
+                          EfiPayGuard efiPayGuard) {
 
         this.credentials = credentials;
+        this.efiPayClient = efiPayClient;
         this.dateFormatter = dateFormatter;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.dataExporter = dataExporter;
+        this.pixChargeCache = pixChargeCache;
+        this.jsonBinder = jsonBinder;
+        this.efiPayGuard = efiPayGuard;
     }
 
     @Retryable(retryFor = { Exception.class }, maxAttempts = 10,
@@ -52,34 +87,46 @@ public class PixServiceImpl implements PixService {
 
         return catchError.run(() -> {
 
-            EfiPay efiPay = new EfiPay(credentials.getOptions());
-            JSONObject efiPayResponse = efiPay.call(CREATE_EVP, new HashMap<>(), new JSONObject());
+            JSONObject efiPayResponse = efiPayGuard.execute(CREATE_EVP,
+                    () -> efiPayClient.call(CREATE_EVP, new HashMap<>(), new JSONObject()));
 
-            EvpKeyDto evpKey = dataMapper.fromJson(efiPayResponse, EvpKeyDto.class);
+            EvpKeyDto evpKey = jsonBinder.bind(efiPayResponse, EvpKeyDto.class);
             LOGGER.info("EVP key created: {}", evpKey);
             return evpKey;
         });
     }
 
-    @Retryable(retryFor = { Exception.class }, maxAttempts = 10,
-            backoff = @Backoff(delay = 5000, multiplier = 2))
-    public PixChargeDto createImmediatePixCharge(Order order) {
+    public PixChargeDto createPixCharge(Order order, String txId) {
 
         return catchError.run(() -> {
 
             JSONObject body = buildChargeBody(order);
 
-            EfiPay efiPay = new EfiPay(credentials.getOptions());
-            JSONObject efiPayResponse = efiPay.call(CREATE_IMMEDIATE_CHARGE, new HashMap<>(), body);
-
-            PixChargeDto pixCharge = dataMapper.fromJson(efiPayResponse, PixChargeDto.class);
-            LOGGER.info("Immediate charge Pix created: {}", pixCharge);
+            Map<String, String> params = new HashMap<>();
+            params.put("txid", txId);
+
+            JSONObject efiPayResponse;
+            try {
+                efiPayResponse = efiPayGuard.execute(CREATE_CHARGE,
+                        () -> efiPayClient.call(CREATE_CHARGE, params, body));
+            } catch (EfiPayException ex) {
+                if (ex.getCode() < CLIENT_ERROR || ex.getCode() >= SERVER_ERROR) {
+                    throw ex;
+                }
+                efiPayResponse = findExistingCharge(params).orElseThrow(() -> ex);
+                LOGGER.info("Charge Pix with txid {} already exists, reusing it", txId);
+            }
+
+            PixChargeDto pixCharge = jsonBinder.bind(efiPayResponse, PixChargeDto.class);
+            LOGGER.info("Charge Pix created: {}", pixCharge);
             return pixCharge;
         });
     }
 
-    @Retryable(retryFor = { Exception.class }, maxAttempts = 10,
-            backoff = @Backoff(delay = 5000, multiplier = 2))
+    public void ensureChargeAvailable() {
+        efiPayGuard.ensureAvailable(CREATE_CHARGE);
+    }
+
     public PixQRCodeDto generatePixQRCode(PixChargeDto pixCharge) {
 
         return catchError.run(() -> {
@@ -89,8 +136,8 @@ public class PixServiceImpl implements PixService {
             Map<String, String> params = new HashMap<>();
             params.put("id", locId);
 
-            EfiPay efiPay = new EfiPay(credentials.getOptions());
-            Map<String, Object> efiPayResponse = efiPay.call(GENERATE_QRCODE, params, new HashMap<>());
+            Map<String, Object> efiPayResponse = efiPayGuard.execute(GENERATE_QRCODE,
+                    () -> efiPayClient.call(GENERATE_QRCODE, params, new HashMap<>()));
 
             PixQRCodeDto pixQRCode = dataMapper.fromMap(efiPayResponse, PixQRCodeDto.class);
             LOGGER.info("Generated QRCode Pix: {}", pixQRCode);
@@ -98,48 +145,47 @@ public class PixServiceImpl implements PixService {
         });
     }
 
-    @Retryable(retryFor = { Exception.class }, maxAttempts = 10,
-            backoff = @Backoff(delay = 5000, multiplier = 2))
-    public PixListChargeDto listPixCharges(String startDate, String endDate) {
+    public Stream<PixListChargeDto.Cob> streamPixCharges(String startDate, String endDate) {
 
-        return catchError.run(() -> {
+        String start = parseDate(startDate);
+        String end = parseDate(endDate);
 
-            Map<String, String> params = new HashMap<>();
-            params.put("inicio", dateFormatter.toISO8601(startDate));
-            params.put("fim", dateFormatter.toISO8601(endDate));
+        if (Instant.parse(start).isAfter(Instant.parse(end))) {
+            throw new IllegalArgumentException("The start date must not be after the end date.");
+        }
 
-            EfiPay efiPay = new EfiPay(credentials.getOptions());
-            JSONObject efiPayResponse = efiPay.call(LIST_CHARGES, params, new JSONObject());
-            return dataMapper.fromJson(efiPayResponse, PixListChargeDto.class);
-        });
-    }
+        Instant lastExpiry = Instant.parse(end).plusSeconds(credentials.getChargeExpiration());
+        if (!lastExpiry.isBefore(Instant.now())) {
+            return fetchPixCharges(start, end);
+        }
 
-    @Recover
-    public EvpKeyDto recoverCreateEvpKey(Exception ex) {
+        Optional<Stream<PixListChargeDto.Cob>> cachedCharges = pixChargeCache.read(start, end);
+        if (cachedCharges.isPresent()) {
+            LOGGER.info("Pix charges from {} to {} served from cache", start, end);
+            return cachedCharges.get();
+        }
 
-        LOGGER.error("Failed to create EVP after retries: {}", ex.getMessage());
-        throw new PaymentException("Unable to create EVP after multiple attempts", ex);
+        return pixChargeCache.writeThrough(start, end, fetchPixCharges(start, end));
     }
 
-    @Recover
-    public PixChargeDto recoverCreateImmediatePixCharge(Exception ex, Order order) {
+    public Stream<PixListChargeDto.Cob> streamPixCharges(Instant start, Instant end) {
 
-        LOGGER.error("Failed to create immediate Pix charge after retries: {}", ex.getMessage());
-        throw new PaymentException("Unable to create Pix charge after multiple attempts", ex);
+        return fetchPixCharges(start.truncatedTo(ChronoUnit.SECONDS).toString(),
+                end.truncatedTo(ChronoUnit.SECONDS).toString());
     }
 
-    @Recover
-    public PixQRCodeDto recoverGeneratePixQRCode(Exception ex, PixChargeDto pixCharge) {
+    public void exportPixCharges(Stream<PixListChargeDto.Cob> charges, OutputStream outputStream) {
 
-        LOGGER.error("Failed to generate Pix QRCode link after retries: {}", ex.getMessage());
-        throw new PaymentException("Unable to generate Pix QRCode link after multiple attempts", ex);
+        try (charges) {
+            dataExporter.export(charges, Function.identity(), ExportFormat.NDJSON, outputStream);
+        }
     }
 
     @Recover
-    public PixListChargeDto recoverListPixCharges(Exception ex, String startDate, String endDate) {
+    public EvpKeyDto recoverCreateEvpKey(Exception ex) {
 
-        LOGGER.error("Failed to list Pix charges after retries: {}", ex.getMessage());
-        throw new PaymentException("Unable to list Pix charges after multiple attempts", ex);
+        LOGGER.error("Failed to create EVP after retries: {}", ex.getMessage());
+        throw new PaymentException("Unable to create EVP after multiple attempts", ex);
     }
 
     private JSONObject buildChargeBody(Order order) {
@@ -147,7 +193,7 @@ public class PixServiceImpl implements PixService {
         OrderDetailsDto orderDetails = new OrderDetailsDto(order);
 
         JSONObject body = new JSONObject();
-        body.put("calendario", new JSONObject().put("expiracao", 3600));
+        body.put("calendario", new JSONObject().put("expiracao", credentials.getChargeExpiration()));
         body.put("devedor", new JSONObject().put("cpf", orderDetails.getCpf()).put("nome", orderDetails.getName()));
         body.put("valor", new JSONObject().put("original", orderDetails.getAmount()));
         body.put("chave", credentials.getKeyEVP());
@@ -159,4 +205,87 @@ public class PixServiceImpl implements PixService {
 
         return body;
     }
-}
\ No newline at end of file
+
+    private Optional<JSONObject> findExistingCharge(Map<String, String> params) throws Exception {
+
+        try {
+            return Optional.of(efiPayGuard.execute(DETAIL_CHARGE,
+                    () -> efiPayClient.call(DETAIL_CHARGE, params, new JSONObject())));
+        } catch (EfiPayException ex) {
+            if (ex.getCode() == NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw ex;
+        }
+    }
+
+    private Stream<PixListChargeDto.Cob> fetchPixCharges(String start, String end) {
+
+        PixListChargeDto firstPage = fetchPixChargePage(start, end, 0);
+
+        Spliterator<PixListChargeDto.Cob> charges = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            private Iterator<PixListChargeDto.Cob> page = charges(firstPage);
+            private int nextPage = 1;
+            private int totalPages = totalPages(firstPage);
+
+            @Override
+            public boolean tryAdvance(Consumer<? super PixListChargeDto.Cob> action) {
+
+                while (!page.hasNext()) {
+                    if (nextPage >= totalPages) {
+                        return false;
+                    }
+
+                    PixListChargeDto response = fetchPixChargePage(start, end, nextPage++);
+                    totalPages = totalPages(response);
+                    page = charges(response);
+                }
+
+                action.accept(page.next());
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(charges, false);
+    }
+
+    private Iterator<PixListChargeDto.Cob> charges(PixListChargeDto response) {
+
+        return response.getCobs() != null ? response.getCobs().iterator() : Collections.emptyIterator();
+    }
+
+    private int totalPages(PixListChargeDto response) {
+
+        PixListChargeDto.Parametros parameters = response.getParametros();
+        return parameters != null && parameters.getPaginacao() != null
+                ? parameters.getPaginacao().getQuantidadeDePaginas()
+                : 0;
+    }
+
+    private String parseDate(String date) {
+
+        try {
+            return dateFormatter.toISO8601(date);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid date: " + date + ". Expected format: dd-MM-yyyy.", ex);
+        }
+    }
+
+    private PixListChargeDto fetchPixChargePage(String start, String end, int pageNumber) {
+
+        Map<String, String> params = new HashMap<>();
+        params.put("inicio", start);
+        params.put("fim", end);
+        params.put("paginacao.paginaAtual", String.valueOf(pageNumber));
+        params.put("paginacao.itensPorPagina", String.valueOf(LIST_CHARGES_PAGE_SIZE));
+
+        return listChargesRetry.execute(context -> catchError.run(() -> {
+
+            JSONObject efiPayResponse = efiPayGuard.execute(LIST_CHARGES,
+                    () -> efiPayClient.call(LIST_CHARGES, params, new JSONObject()));
+            return jsonBinder.bind(efiPayResponse, PixListChargeDto.class);
+        }));
+    }
+}
@@ -1,6 +1,8 @@
 package com.rogeriogregorio.ecommercemanager.repositories;
 
 import com.rogeriogregorio.ecommercemanager.entities.Address;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,4 +10,6 @@ import java.util.UUID;
 
 @Repository
 public interface AddressRepository extends JpaRepository<Address, UUID> {
+
+    Slice<Address> findAllBy(Pageable pageable);
 }
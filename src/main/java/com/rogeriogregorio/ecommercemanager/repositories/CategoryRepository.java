@@ -1,8 +1,10 @@
 package com.rogeriogregorio.ecommercemanager.repositories;
 
 import com.rogeriogregorio.ecommercemanager.entities.Category;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,4 +19,8 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     @Query("SELECT c FROM Category c WHERE lower(c.name) LIKE lower(concat('%', :name, '%'))")
     Page<Category> findByName(@Param("name") String name, Pageable pageable);
+
+    List<Category> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    Slice<Category> findAllBy(Pageable pageable);
 }
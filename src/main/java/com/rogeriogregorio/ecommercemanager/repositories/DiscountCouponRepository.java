@@ -1,9 +1,13 @@
 package com.rogeriogregorio.ecommercemanager.repositories;
 
 import com.rogeriogregorio.ecommercemanager.entities.DiscountCoupon;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,7 @@ public interface DiscountCouponRepository extends JpaRepository<DiscountCoupon,
 
     Optional<DiscountCoupon> findByCode(String code);
 
+    List<DiscountCoupon> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    Slice<DiscountCoupon> findAllBy(Pageable pageable);
 }
@@ -2,15 +2,31 @@ package com.rogeriogregorio.ecommercemanager.repositories;
 
 import com.rogeriogregorio.ecommercemanager.entities.InventoryItem;
 import com.rogeriogregorio.ecommercemanager.entities.Product;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface InventoryItemRepository extends JpaRepository<InventoryItem, Long> {
+public interface InventoryItemRepository extends JpaRepository<InventoryItem, Long>, InventoryItemStockRepository {
 
     boolean existsByProduct(Product product);
 
     Optional<InventoryItem> findByProduct(Product product);
+
+    List<InventoryItem> findByProductIdIn(Collection<Long> productIds);
+
+    List<InventoryItem> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    Slice<InventoryItem> findAllBy(Pageable pageable);
+
+    @Query("SELECT i FROM InventoryItem i " +
+            "WHERE NOT EXISTS (SELECT s.id FROM StockMovement s WHERE s.inventoryItem = i)")
+    List<InventoryItem> findWithoutStockMovements();
 }
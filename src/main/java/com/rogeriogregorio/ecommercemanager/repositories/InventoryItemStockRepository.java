@@ -0,0 +1,9 @@
+package com.rogeriogregorio.ecommercemanager.repositories;
+
+import java.util.List;
+import java.util.Map;
+
+public interface InventoryItemStockRepository {
+
+    List<Long> deductStock(Map<Long, Integer> quantityByProductId);
+}
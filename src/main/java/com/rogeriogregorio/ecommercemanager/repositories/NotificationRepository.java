@@ -1,9 +1,18 @@
 package com.rogeriogregorio.ecommercemanager.repositories;
 
 import com.rogeriogregorio.ecommercemanager.entities.Notification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    List<Notification> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    Slice<Notification> findAllBy(Pageable pageable);
 }
@@ -1,15 +1,52 @@
 package com.rogeriogregorio.ecommercemanager.repositories;
 
 import com.rogeriogregorio.ecommercemanager.entities.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     Page<Order> findByClient_Id(UUID id, Pageable pageable);
+
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o FROM Order o ORDER BY o.id")
+    Stream<Order> streamAll();
+
+    @Query("SELECT o FROM Order o WHERE o.moment < :moment OR (o.moment = :moment AND o.id < :id) " +
+            "ORDER BY o.moment DESC, o.id DESC")
+    List<Order> findNextPage(@Param("moment") Instant moment, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT o FROM Order o WHERE o.client.id = :clientId " +
+            "AND (o.moment < :moment OR (o.moment = :moment AND o.id < :id)) " +
+            "ORDER BY o.moment DESC, o.id DESC")
+    List<Order> findNextPageByClientId(@Param("clientId") UUID clientId, @Param("moment") Instant moment,
+                                       @Param("id") Long id, Limit limit);
+
+    Slice<Order> findAllBy(Pageable pageable);
+
+    @Query("SELECT o FROM Order o JOIN o.payment p WHERE o.orderStatus IN :orderStatuses " +
+            "AND p.moment > :since AND p.moment <= :until " +
+            "AND NOT EXISTS (SELECT s.id FROM StockMovement s WHERE s.orderId = o.id)")
+    List<Order> findPaidOrdersWithoutStockMovements(@Param("orderStatuses") Collection<Integer> orderStatuses,
+                                                    @Param("since") Instant since,
+                                                    @Param("until") Instant until);
 }
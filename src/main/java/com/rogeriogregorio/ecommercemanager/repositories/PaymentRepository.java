@@ -1,13 +1,50 @@
 package com.rogeriogregorio.ecommercemanager.repositories;
 
 import com.rogeriogregorio.ecommercemanager.entities.Payment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Optional<Payment> findByTxId(String txId);
+
+    @Query("SELECT p FROM Payment p JOIN FETCH p.order WHERE p.txId IN :txIds")
+    List<Payment> findByTxIdIn(@Param("txIds") Collection<String> txIds);
+
+    @Query("SELECT p.txId FROM Payment p WHERE p.txId IN :txIds AND p.paymentStatus <> :paymentStatus")
+    List<String> findTxIdsByPaymentStatusNot(@Param("txIds") Collection<String> txIds,
+                                             @Param("paymentStatus") Integer paymentStatus);
+
+    @Modifying
+    @Query("UPDATE Payment p SET p.paymentStatus = :paymentStatus WHERE p.txId = :txId AND p.paymentStatus <> :paymentStatus")
+    int updatePaymentStatusByTxId(@Param("txId") String txId, @Param("paymentStatus") Integer paymentStatus);
+
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Payment p ORDER BY p.id")
+    Stream<Payment> streamAll();
+
+    @Query("SELECT p FROM Payment p WHERE p.moment < :moment OR (p.moment = :moment AND p.id < :id) " +
+            "ORDER BY p.moment DESC, p.id DESC")
+    List<Payment> findNextPage(@Param("moment") Instant moment, @Param("id") Long id, Limit limit);
+
+    Slice<Payment> findAllBy(Pageable pageable);
 }
@@ -0,0 +1,39 @@
+package com.rogeriogregorio.ecommercemanager.repositories;
+
+import com.rogeriogregorio.ecommercemanager.entities.PaymentRetry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface PaymentRetryRepository extends JpaRepository<PaymentRetry, Long> {
+
+    @Query("SELECT r FROM PaymentRetry r WHERE r.nextAttemptAt <= :moment ORDER BY r.nextAttemptAt")
+    List<PaymentRetry> findDue(@Param("moment") Instant moment, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PaymentRetry r SET r.nextAttemptAt = :leaseUntil " +
+            "WHERE r.id = :id AND r.nextAttemptAt = :expectedNextAttemptAt")
+    int claim(@Param("id") Long id, @Param("expectedNextAttemptAt") Instant expectedNextAttemptAt,
+              @Param("leaseUntil") Instant leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PaymentRetry r SET r.attempts = :attempts, r.nextAttemptAt = :nextAttemptAt, r.lastError = :lastError " +
+            "WHERE r.id = :id AND r.nextAttemptAt = :claimedUntil")
+    int reschedule(@Param("id") Long id, @Param("claimedUntil") Instant claimedUntil, @Param("attempts") Integer attempts,
+                   @Param("nextAttemptAt") Instant nextAttemptAt, @Param("lastError") String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PaymentRetry r WHERE r.id = :id AND r.nextAttemptAt = :claimedUntil")
+    int release(@Param("id") Long id, @Param("claimedUntil") Instant claimedUntil);
+}
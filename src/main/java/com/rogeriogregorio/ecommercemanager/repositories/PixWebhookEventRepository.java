@@ -0,0 +1,39 @@
+package com.rogeriogregorio.ecommercemanager.repositories;
+
+import com.rogeriogregorio.ecommercemanager.entities.PixWebhookEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PixWebhookEventRepository extends JpaRepository<PixWebhookEvent, Long> {
+
+    @Query("SELECT e.dedupeKey FROM PixWebhookEvent e WHERE e.dedupeKey IN :dedupeKeys")
+    List<String> findExistingDedupeKeys(@Param("dedupeKeys") Collection<String> dedupeKeys);
+
+    @Query("SELECT e.id FROM PixWebhookEvent e WHERE e.workerPartition = :partition " +
+            "AND e.processedAt IS NULL AND e.attempts < :maxAttempts AND e.nextAttemptAt <= :moment ORDER BY e.id")
+    List<Long> findDueIds(@Param("partition") int partition, @Param("maxAttempts") int maxAttempts,
+                          @Param("moment") Instant moment, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PixWebhookEvent e SET e.claimToken = :claimToken, e.nextAttemptAt = :leaseUntil " +
+            "WHERE e.id IN :ids AND e.processedAt IS NULL AND e.nextAttemptAt <= :moment")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken,
+              @Param("leaseUntil") Instant leaseUntil, @Param("moment") Instant moment);
+
+    @Query("SELECT e FROM PixWebhookEvent e WHERE e.claimToken = :claimToken ORDER BY e.id")
+    List<PixWebhookEvent> findClaimed(@Param("claimToken") String claimToken);
+
+    @Query("SELECT COUNT(e) FROM PixWebhookEvent e WHERE e.processedAt IS NULL AND e.attempts >= :maxAttempts")
+    long countAbandoned(@Param("maxAttempts") int maxAttempts);
+}
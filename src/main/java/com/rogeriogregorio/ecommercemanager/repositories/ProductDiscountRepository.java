@@ -1,9 +1,18 @@
 package com.rogeriogregorio.ecommercemanager.repositories;
 
 import com.rogeriogregorio.ecommercemanager.entities.ProductDiscount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ProductDiscountRepository extends JpaRepository<ProductDiscount, Long> {
+
+    List<ProductDiscount> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    Slice<ProductDiscount> findAllBy(Pageable pageable);
 }
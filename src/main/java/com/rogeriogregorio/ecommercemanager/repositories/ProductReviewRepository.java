@@ -2,9 +2,13 @@ package com.rogeriogregorio.ecommercemanager.repositories;
 
 import com.rogeriogregorio.ecommercemanager.entities.ProductReview;
 import com.rogeriogregorio.ecommercemanager.entities.primarykeys.ProductReviewPK;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProductReviewRepository extends JpaRepository<ProductReview, ProductReviewPK> {
+
+    Slice<ProductReview> findAllBy(Pageable pageable);
 }
@@ -1,9 +1,43 @@
 package com.rogeriogregorio.ecommercemanager.repositories;
 
 import com.rogeriogregorio.ecommercemanager.entities.StockMovement;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
+
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM StockMovement s ORDER BY s.id")
+    Stream<StockMovement> streamAll();
+
+    @Query("SELECT s FROM StockMovement s WHERE s.moment < :moment OR (s.moment = :moment AND s.id < :id) " +
+            "ORDER BY s.moment DESC, s.id DESC")
+    List<StockMovement> findNextPage(@Param("moment") Instant moment, @Param("id") Long id, Limit limit);
+
+    Slice<StockMovement> findAllBy(Pageable pageable);
+
+    @Query("SELECT i, SUM(CASE WHEN s.movementType = :entrance THEN s.quantityMoved ELSE -s.quantityMoved END) " +
+            "FROM StockMovement s JOIN s.inventoryItem i GROUP BY i " +
+            "HAVING SUM(CASE WHEN s.movementType = :entrance THEN s.quantityMoved ELSE -s.quantityMoved END) " +
+            "<> i.quantityInStock")
+    List<Object[]> findBalanceMismatches(@Param("entrance") Integer entrance);
+
+    @Query("SELECT MAX(s.moment) FROM StockMovement s WHERE s.movementType = :exit AND s.orderId IS NULL")
+    Instant findLatestUnlinkedExitMoment(@Param("exit") Integer exit);
 }
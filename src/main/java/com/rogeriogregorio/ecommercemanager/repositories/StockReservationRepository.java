@@ -0,0 +1,25 @@
+package com.rogeriogregorio.ecommercemanager.repositories;
+
+import com.rogeriogregorio.ecommercemanager.entities.StockReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.orderId = :orderId")
+    int deleteByOrderId(@Param("orderId") Long orderId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.expiresAt <= :moment")
+    int deleteExpired(@Param("moment") Instant moment);
+}
@@ -3,6 +3,7 @@ package com.rogeriogregorio.ecommercemanager.repositories;
 import com.rogeriogregorio.ecommercemanager.entities.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,4 +22,6 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String emailLogin);
 
     Optional<User> findUserByEmail(String email);
+
+    Slice<User> findAllBy(Pageable pageable);
 }
@@ -0,0 +1,35 @@
+package com.rogeriogregorio.ecommercemanager.repositories;
+
+import com.rogeriogregorio.ecommercemanager.entities.UserSecurityVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UserSecurityVersionRepository extends JpaRepository<UserSecurityVersion, UUID> {
+
+    @Query("SELECT v FROM UserSecurityVersion v WHERE v.updatedAt > :since")
+    List<UserSecurityVersion> findUpdatedSince(@Param("since") Instant since);
+
+    @Query("SELECT v.version FROM UserSecurityVersion v WHERE v.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserSecurityVersion v SET v.version = v.version + 1, v.updatedAt = :moment " +
+            "WHERE v.userId = :userId")
+    int incrementVersion(@Param("userId") UUID userId, @Param("moment") Instant moment);
+
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO UserSecurityVersion (userId, version, updatedAt) VALUES (:userId, 0, :moment)")
+    int insertInitialVersion(@Param("userId") UUID userId, @Param("moment") Instant moment);
+}
@@ -0,0 +1,92 @@
+package com.rogeriogregorio.ecommercemanager.repositories.impl;
+
+import com.rogeriogregorio.ecommercemanager.entities.InventoryItem;
+import com.rogeriogregorio.ecommercemanager.entities.enums.StockStatus;
+import com.rogeriogregorio.ecommercemanager.repositories.InventoryItemStockRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class InventoryItemStockRepositoryImpl implements InventoryItemStockRepository {
+
+    private static final String DEDUCT_STOCK_SQL = """
+            UPDATE tb_inventory_items
+               SET stock_status = CASE WHEN quantity_in_stock = ? THEN ? ELSE stock_status END,
+                   quantity_in_stock = quantity_in_stock - ?,
+                   quantity_sold = quantity_sold + ?
+             WHERE product_id = ?
+               AND quantity_in_stock >= ?
+            """;
+
+    private static final String FIND_ITEM_IDS_JPQL =
+            "SELECT i.id FROM InventoryItem i WHERE i.product.id IN :productIds";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Autowired
+    public InventoryItemStockRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Long> deductStock(Map<Long, Integer> quantityByProductId) {
+
+        if (quantityByProductId.isEmpty()) {
+            return List.of();
+        }
+
+        int outOfStock = StockStatus.OUT_OF_STOCK.getCode();
+        List<Long> productIds = new ArrayList<>(quantityByProductId.size());
+        List<Object[]> batchArgs = new ArrayList<>(quantityByProductId.size());
+
+        for (Map.Entry<Long, Integer> line : quantityByProductId.entrySet()) {
+            Long productId = line.getKey();
+            Integer quantity = line.getValue();
+
+            productIds.add(productId);
+            batchArgs.add(new Object[]{quantity, outOfStock, quantity, quantity, productId, quantity});
+        }
+
+        entityManager.flush();
+        int[] updatedRows = jdbcTemplate.batchUpdate(DEDUCT_STOCK_SQL, batchArgs);
+
+        List<Long> rejectedProductIds = new ArrayList<>();
+        List<Long> deductedProductIds = new ArrayList<>();
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == 0) {
+                rejectedProductIds.add(productIds.get(i));
+            } else {
+                deductedProductIds.add(productIds.get(i));
+            }
+        }
+
+        refreshManagedItems(deductedProductIds);
+        return rejectedProductIds;
+    }
+
+    private void refreshManagedItems(List<Long> productIds) {
+
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> itemIds = entityManager.createQuery(FIND_ITEM_IDS_JPQL, Long.class)
+                .setParameter("productIds", productIds)
+                .getResultList();
+
+        for (Long itemId : itemIds) {
+            InventoryItem item = entityManager.getReference(InventoryItem.class, itemId);
+            if (Hibernate.isInitialized(item)) {
+                entityManager.refresh(item);
+            }
+        }
+    }
+}
@@ -7,5 +7,5 @@ import org.springframework.stereotype.Component;
 @Component
 public interface AuthenticationService {
 
-    LoginResponse authenticateUser(LoginRequest loginRequest);
+    LoginResponse authenticateUser(LoginRequest loginRequest, String clientAddress);
 }
@@ -1,8 +1,9 @@
 package com.rogeriogregorio.ecommercemanager.security;
 
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 @Component
-public interface AuthorizationService extends UserDetailsService {
+public interface AuthorizationService extends UserDetailsService, UserDetailsPasswordService {
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.rogeriogregorio.ecommercemanager.security;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public interface LoginThrottle {
+
+    void acquire(String email, String clientAddress);
+
+    void recordSuccess(String email);
+}
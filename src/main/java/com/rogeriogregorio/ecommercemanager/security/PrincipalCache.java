@@ -0,0 +1,12 @@
+package com.rogeriogregorio.ecommercemanager.security;
+
+import com.rogeriogregorio.ecommercemanager.dto.UserAuthDetailsDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface PrincipalCache {
+
+    UserAuthDetailsDto getPrincipal(String email);
+
+    void invalidate(String email);
+}
@@ -0,0 +1,17 @@
+package com.rogeriogregorio.ecommercemanager.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public interface SecurityVersionRegistry {
+
+    long currentVersion(UUID userId);
+
+    boolean isRevoked(UUID userId, long securityVersion);
+
+    void bump(UUID userId);
+
+    int refresh();
+}
@@ -4,6 +4,8 @@ import com.rogeriogregorio.ecommercemanager.dto.UserAuthDetailsDto;
 import com.rogeriogregorio.ecommercemanager.entities.User;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 public interface TokenService {
 
@@ -11,6 +13,8 @@ public interface TokenService {
 
     String validateAuthenticationToken(String token);
 
+    Optional<UserAuthDetailsDto> validateAuthenticationClaims(String token);
+
     String generateEmailToken(User user);
 
     User validateEmailToken(String token);
@@ -1,34 +1,38 @@
 package com.rogeriogregorio.ecommercemanager.security.config;
 
 import com.rogeriogregorio.ecommercemanager.dto.UserAuthDetailsDto;
-import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
-import com.rogeriogregorio.ecommercemanager.repositories.UserRepository;
+import com.rogeriogregorio.ecommercemanager.security.PrincipalCache;
 import com.rogeriogregorio.ecommercemanager.security.TokenService;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import java.util.Optional;
+
 @Component
 public class SecurityFilterConfig extends OncePerRequestFilter {
 
+    @Value("${api.security.token.claims-mode}")
+    private boolean claimsMode;
     private final TokenService tokenService;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
     private final CatchError catchError;
 
     @Autowired
     public SecurityFilterConfig(TokenService tokenService,
-                                UserRepository userRepository,
+                                PrincipalCache principalCache,
                                 CatchError catchError) {
 
         this.tokenService = tokenService;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
         this.catchError = catchError;
     }
 
@@ -40,8 +44,7 @@ public class SecurityFilterConfig extends OncePerRequestFilter {
         String token = recoverToken(request);
 
         if (token != null) {
-            String emailLogin = tokenService.validateAuthenticationToken(token);
-            UserAuthDetailsDto userAuthDetails = findUserByEmail(emailLogin);
+            UserAuthDetailsDto userAuthDetails = authenticate(token);
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userAuthDetails, null, userAuthDetails.getAuthorities());
@@ -52,6 +55,16 @@ public class SecurityFilterConfig extends OncePerRequestFilter {
         catchError.run(() -> filterChain.doFilter(request, response));
     }
 
+    private UserAuthDetailsDto authenticate(String token) {
+
+        if (claimsMode) {
+            Optional<UserAuthDetailsDto> principal = tokenService.validateAuthenticationClaims(token);
+            if (principal.isPresent()) return principal.get();
+        }
+
+        return findUserByEmail(tokenService.validateAuthenticationToken(token));
+    }
+
     private String recoverToken(HttpServletRequest httpServletRequest) {
 
         String authHeader = httpServletRequest.getHeader("Authorization");
@@ -62,8 +75,6 @@ public class SecurityFilterConfig extends OncePerRequestFilter {
 
     public UserAuthDetailsDto findUserByEmail(String email) {
 
-        return catchError.run(() -> userRepository.findByEmail(email))
-                .map(UserAuthDetailsDto::new)
-                .orElseThrow(() -> new NotFoundException("User not found: " + email));
+        return principalCache.getPrincipal(email);
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.rogeriogregorio.ecommercemanager.dto.UserAuthDetailsDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.LoginRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.LoginResponse;
 import com.rogeriogregorio.ecommercemanager.security.AuthenticationService;
+import com.rogeriogregorio.ecommercemanager.security.LoginThrottle;
 import com.rogeriogregorio.ecommercemanager.security.TokenService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,22 +17,29 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     private final AuthenticationManager authenticationManager;
     private final TokenService tokenService;
+    private final LoginThrottle loginThrottle;
 
     @Autowired
     public AuthenticationServiceImpl(AuthenticationManager authenticationManager,
-                                     TokenService tokenService) {
+                                     TokenService tokenService,
+                                     LoginThrottle loginThrottle) {
 
         this.authenticationManager = authenticationManager;
         this.tokenService = tokenService;
+        this.loginThrottle = loginThrottle;
     }
 
-    public LoginResponse authenticateUser(LoginRequest loginRequest) {
+    public LoginResponse authenticateUser(LoginRequest loginRequest, String clientAddress) {
 
         String email = loginRequest.getEmail();
         String password = loginRequest.getPassword();
+        loginThrottle.acquire(email, clientAddress);
+
         UsernamePasswordAuthenticationToken usernamePassword = new UsernamePasswordAuthenticationToken(email, password);
 
         Authentication authenticate = authenticationManager.authenticate(usernamePassword);
+        loginThrottle.recordSuccess(email);
+
         String token = tokenService.generateAuthenticationToken((UserAuthDetailsDto) authenticate.getPrincipal());
         return new LoginResponse(token);
     }
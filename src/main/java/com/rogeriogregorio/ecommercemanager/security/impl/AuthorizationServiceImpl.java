@@ -10,7 +10,10 @@ import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -22,13 +25,17 @@ public class AuthorizationServiceImpl implements AuthorizationService {
     private String secretPassword;
     private final UserRepository userRepository;
     private final CatchError catchError;
+    private final PasswordEncoder passwordEncoder;
+    private static final Logger LOGGER = LogManager.getLogger(AuthorizationServiceImpl.class);
 
     @Autowired
     public AuthorizationServiceImpl(UserRepository userRepository,
-                                    CatchError handler) {
+                                    CatchError handler,
+                                    PasswordEncoder passwordEncoder) {
 
         this.userRepository = userRepository;
         this.catchError = handler;
+        this.passwordEncoder = passwordEncoder;
     }
 
     @Override
@@ -39,10 +46,21 @@ public class AuthorizationServiceImpl implements AuthorizationService {
                 .orElseThrow(() -> new RuntimeException("User cannot be loaded by email"));
     }
 
+    @Override
+    public UserAuthDetailsDto updatePassword(UserDetails userDetails, String newPassword) {
+
+        User user = ((UserAuthDetailsDto) userDetails).getUser();
+        user.setPassword(newPassword);
+
+        User savedUser = catchError.run(() -> userRepository.save(user));
+        LOGGER.info("Password hash of user {} upgraded to the current work factor", savedUser.getId());
+        return new UserAuthDetailsDto(savedUser);
+    }
+
     @PostConstruct
     private void createDefaultAdmin() {
 
-        String encodedPassword = new BCryptPasswordEncoder().encode(secretPassword);
+        String encodedPassword = passwordEncoder.encode(secretPassword);
 
         User admin = User.newBuilder()
                 .withName("Admin")
@@ -0,0 +1,179 @@
+package com.rogeriogregorio.ecommercemanager.security.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rogeriogregorio.ecommercemanager.exceptions.TooManyRequestsException;
+import com.rogeriogregorio.ecommercemanager.security.LoginThrottle;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class LoginThrottleImpl implements LoginThrottle {
+
+    private static final long MAX_TRACKED_KEYS = 100_000;
+
+    @Value("${api.security.login-throttle.account.capacity}")
+    private int accountCapacity;
+    @Value("${api.security.login-throttle.account.refill-period}")
+    private Duration accountRefillPeriod;
+    @Value("${api.security.login-throttle.address.capacity}")
+    private int addressCapacity;
+    @Value("${api.security.login-throttle.address.refill-period}")
+    private Duration addressRefillPeriod;
+    private Cache<String, TokenBucket> accountBuckets;
+    private Cache<String, TokenBucket> addressBuckets;
+    private final MeterRegistry meterRegistry;
+    private final Counter accountRejections;
+    private final Counter addressRejections;
+    private final Counter avoidedHashes;
+    private static final Logger LOGGER = LogManager.getLogger(LoginThrottleImpl.class);
+
+    @Autowired
+    public LoginThrottleImpl(MeterRegistry meterRegistry) {
+
+        this.meterRegistry = meterRegistry;
+        this.accountRejections = Counter.builder("security.login.throttle.rejections")
+                .description("Login attempts rejected by the throttle before authentication")
+                .tag("key", "account")
+                .register(meterRegistry);
+        this.addressRejections = Counter.builder("security.login.throttle.rejections")
+                .description("Login attempts rejected by the throttle before authentication")
+                .tag("key", "address")
+                .register(meterRegistry);
+        this.avoidedHashes = Counter.builder("security.login.throttle.hashes.avoided")
+                .description("BCrypt verifications skipped because the login attempt was throttled")
+                .register(meterRegistry);
+    }
+
+    public void acquire(String email, String clientAddress) {
+
+        long now = System.nanoTime();
+        String account = normalize(email);
+
+        TokenBucket addressBucket = clientAddress == null ? null
+                : addressBuckets.get(clientAddress, key -> new TokenBucket(addressCapacity, addressRefillPeriod, now));
+        TokenBucket accountBucket = account == null ? null
+                : accountBuckets.get(account, key -> new TokenBucket(accountCapacity, accountRefillPeriod, now));
+
+        if (addressBucket != null) {
+            reject(addressBucket.retryAfter(now), addressRejections, "address " + clientAddress);
+        }
+        if (accountBucket != null) {
+            reject(accountBucket.retryAfter(now), accountRejections, "account " + account);
+        }
+
+        if (addressBucket != null) {
+            reject(addressBucket.tryAcquire(now), addressRejections, "address " + clientAddress);
+        }
+        if (accountBucket != null) {
+            long retryAfterNanos = accountBucket.tryAcquire(now);
+            if (retryAfterNanos != 0 && addressBucket != null) {
+                addressBucket.refund(now);
+            }
+            reject(retryAfterNanos, accountRejections, "account " + account);
+        }
+    }
+
+    public void recordSuccess(String email) {
+
+        String account = normalize(email);
+        TokenBucket accountBucket = account == null ? null : accountBuckets.getIfPresent(account);
+
+        if (accountBucket != null) {
+            accountBucket.refund(System.nanoTime());
+        }
+    }
+
+    @PostConstruct
+    private void start() {
+
+        accountBuckets = buildBuckets(accountCapacity, accountRefillPeriod);
+        addressBuckets = buildBuckets(addressCapacity, addressRefillPeriod);
+
+        Gauge.builder("security.login.throttle.buckets", accountBuckets, Cache::estimatedSize)
+                .description("Token buckets currently tracked by the login throttle")
+                .tag("key", "account")
+                .register(meterRegistry);
+        Gauge.builder("security.login.throttle.buckets", addressBuckets, Cache::estimatedSize)
+                .description("Token buckets currently tracked by the login throttle")
+                .tag("key", "address")
+                .register(meterRegistry);
+    }
+
+    private void reject(long retryAfterNanos, Counter rejections, String throttledKey) {
+
+        if (retryAfterNanos == 0) {
+            return;
+        }
+
+        rejections.increment();
+        avoidedHashes.increment();
+        LOGGER.warn("Login attempt throttled for {}", throttledKey);
+        throw new TooManyRequestsException("Too many login attempts, please try again later",
+                Duration.ofNanos(retryAfterNanos));
+    }
+
+    private static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Cache<String, TokenBucket> buildBuckets(int capacity, Duration refillPeriod) {
+
+        return Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_KEYS)
+                .expireAfterAccess(refillPeriod.multipliedBy(capacity))
+                .build();
+    }
+
+    private static final class TokenBucket {
+
+        private final long emissionInterval;
+        private final long burstTolerance;
+        private final AtomicLong theoreticalArrival;
+
+        private TokenBucket(int capacity, Duration refillPeriod, long now) {
+
+            this.emissionInterval = refillPeriod.toNanos();
+            this.burstTolerance = emissionInterval * (capacity - 1);
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        private long retryAfter(long now) {
+
+            long earliest = theoreticalArrival.get() - burstTolerance;
+            return now - earliest < 0 ? earliest - now : 0;
+        }
+
+        private void refund(long now) {
+            theoreticalArrival.accumulateAndGet(now, (arrival, floor) -> Math.max(arrival - emissionInterval, floor));
+        }
+
+        private long tryAcquire(long now) {
+
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long earliest = arrival - burstTolerance;
+
+                if (now - earliest < 0) {
+                    return earliest - now;
+                }
+
+                long nextArrival = Math.max(arrival - now, 0) + now + emissionInterval;
+                if (theoreticalArrival.compareAndSet(arrival, nextArrival)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
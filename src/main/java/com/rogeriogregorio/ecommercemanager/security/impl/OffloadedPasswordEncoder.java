@@ -0,0 +1,185 @@
+package com.rogeriogregorio.ecommercemanager.security.impl;
+
+import com.rogeriogregorio.ecommercemanager.exceptions.OverloadException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class OffloadedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PREFIX = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final String CALIBRATION_PASSWORD = "Calibration-Password-123$";
+    private static final int CALIBRATION_ROUNDS = 3;
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    @Value("${api.security.password.bcrypt.min-strength}")
+    private int minStrength;
+    @Value("${api.security.password.bcrypt.max-strength}")
+    private int maxStrength;
+    @Value("${api.security.password.bcrypt.target-latency}")
+    private Duration targetLatency;
+    @Value("${api.security.password.hashing.threads}")
+    private int threads;
+    @Value("${api.security.password.hashing.queue-capacity}")
+    private int queueCapacity;
+    @Value("${api.security.password.hashing.max-wait}")
+    private Duration maxWait;
+    private volatile int strength;
+    private volatile BCryptPasswordEncoder bcrypt;
+    private ThreadPoolExecutor hashers;
+    private final MeterRegistry meterRegistry;
+    private final Timer encodings;
+    private final Timer verifications;
+    private final Counter rejections;
+    private static final Logger LOGGER = LogManager.getLogger(OffloadedPasswordEncoder.class);
+
+    @Autowired
+    public OffloadedPasswordEncoder(MeterRegistry meterRegistry) {
+
+        this.meterRegistry = meterRegistry;
+        this.encodings = Timer.builder("security.password.hashing")
+                .description("Duration of a BCrypt operation on the password hashing executor")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.verifications = Timer.builder("security.password.hashing")
+                .description("Duration of a BCrypt operation on the password hashing executor")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("security.password.hashing.rejections")
+                .description("Password hashing requests shed because the executor was at capacity")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return offload(encodings, () -> bcrypt.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return offload(verifications, () -> bcrypt.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @PostConstruct
+    private void start() {
+
+        strength = calibrate();
+        bcrypt = new BCryptPasswordEncoder(strength);
+        hashers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads("password-hasher"));
+
+        Gauge.builder("security.password.hashing.queue", hashers, executor -> executor.getQueue().size())
+                .description("Password hashing requests waiting for a hasher thread")
+                .register(meterRegistry);
+        Gauge.builder("security.password.bcrypt.strength", this, OffloadedPasswordEncoder::getStrength)
+                .description("BCrypt work factor used for new password hashes")
+                .register(meterRegistry);
+
+        LOGGER.info("BCrypt work factor set to {} for a target latency of {} ms on {} hasher threads",
+                strength, targetLatency.toMillis(), threads);
+    }
+
+    @PreDestroy
+    private void stop() {
+        hashers.shutdownNow();
+    }
+
+    private int calibrate() {
+
+        if (minStrength >= maxStrength) {
+            return minStrength;
+        }
+
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(CALIBRATION_PASSWORD);
+
+        long fastest = Long.MAX_VALUE;
+        for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            probe.encode(CALIBRATION_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - startedAt);
+        }
+
+        int calibrated = minStrength;
+        long estimate = fastest;
+        while (calibrated < maxStrength && estimate * 2 <= targetLatency.toNanos()) {
+            calibrated++;
+            estimate *= 2;
+        }
+
+        return calibrated;
+    }
+
+    private <T> T offload(Timer timer, Supplier<T> operation) {
+
+        Future<T> result;
+        try {
+            result = hashers.submit(() -> timer.record(operation));
+        } catch (RejectedExecutionException ex) {
+            throw shed("Password hashing is at capacity, please try again shortly");
+        }
+
+        try {
+            return result.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            result.cancel(true);
+            throw shed("Password hashing did not complete in time, please try again shortly");
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new OverloadException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private OverloadException shed(String message) {
+
+        rejections.increment();
+        return new OverloadException(message, RETRY_AFTER);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.rogeriogregorio.ecommercemanager.security.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rogeriogregorio.ecommercemanager.dto.UserAuthDetailsDto;
+import com.rogeriogregorio.ecommercemanager.entities.User;
+import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
+import com.rogeriogregorio.ecommercemanager.repositories.UserRepository;
+import com.rogeriogregorio.ecommercemanager.security.PrincipalCache;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+@Component
+public class PrincipalCacheImpl implements PrincipalCache {
+
+    private static final long MAX_PRINCIPALS = 10_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final UserRepository userRepository;
+    private final CatchError catchError;
+    private final Cache<String, UserAuthDetailsDto> principals;
+
+    @Autowired
+    public PrincipalCacheImpl(UserRepository userRepository, CatchError catchError, MeterRegistry meterRegistry) {
+
+        this.userRepository = userRepository;
+        this.catchError = catchError;
+        this.principals = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(MAX_PRINCIPALS)
+                .expireAfterWrite(TIME_TO_LIVE)
+                .recordStats()
+                .<String, UserAuthDetailsDto>build(), "security.principals");
+    }
+
+    public UserAuthDetailsDto getPrincipal(String email) {
+        return principals.get(email, this::loadPrincipal);
+    }
+
+    public void invalidate(String email) {
+
+        if (email == null) {
+            return;
+        }
+
+        principals.invalidate(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    principals.invalidate(email);
+                }
+            });
+        }
+    }
+
+    private UserAuthDetailsDto loadPrincipal(String email) {
+
+        User user = catchError.run(() -> userRepository.findByEmail(email))
+                .orElseThrow(() -> new NotFoundException("User not found: " + email));
+
+        return new UserAuthDetailsDto(User.newBuilder()
+                .withId(user.getId())
+                .withName(user.getName())
+                .withEmail(user.getEmail())
+                .withRole(user.getRole())
+                .withEmailEnabled(user.isEmailEnabled())
+                .build());
+    }
+}
@@ -0,0 +1,170 @@
+package com.rogeriogregorio.ecommercemanager.security.impl;
+
+import com.rogeriogregorio.ecommercemanager.entities.UserSecurityVersion;
+import com.rogeriogregorio.ecommercemanager.repositories.UserSecurityVersionRepository;
+import com.rogeriogregorio.ecommercemanager.security.SecurityVersionRegistry;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class SecurityVersionRegistryImpl implements SecurityVersionRegistry {
+
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    @Value("${api.security.token.claims-mode}")
+    private boolean claimsMode;
+    @Value("${api.security.token.version-refresh}")
+    private Duration refreshInterval;
+    private volatile Instant refreshedUntil = Instant.EPOCH;
+    private final UserSecurityVersionRepository userSecurityVersionRepository;
+    private final TransactionTemplate newTransaction;
+    private final CatchError catchError;
+    private final Map<UUID, Long> minimumVersions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("security-version-refresh"));
+    private static final Logger LOGGER = LogManager.getLogger(SecurityVersionRegistryImpl.class);
+
+    @Autowired
+    public SecurityVersionRegistryImpl(UserSecurityVersionRepository userSecurityVersionRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       CatchError catchError,
+                                       MeterRegistry meterRegistry) {
+
+        this.userSecurityVersionRepository = userSecurityVersionRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.catchError = catchError;
+
+        Gauge.builder("security.versions.tracked", minimumVersions, Map::size)
+                .description("Users whose tokens below a bumped security version are rejected")
+                .register(meterRegistry);
+    }
+
+    public long currentVersion(UUID userId) {
+
+        return catchError.run(() -> userSecurityVersionRepository.findById(userId))
+                .map(UserSecurityVersion::getVersion)
+                .orElse(0L);
+    }
+
+    public boolean isRevoked(UUID userId, long securityVersion) {
+        return securityVersion < minimumVersions.getOrDefault(userId, 0L);
+    }
+
+    public void bump(UUID userId) {
+
+        Instant now = Instant.now();
+        int incremented = catchError.run(() -> userSecurityVersionRepository.incrementVersion(userId, now));
+
+        if (incremented == 0) {
+            insertInitialVersion(userId, now);
+            catchError.run(() -> userSecurityVersionRepository.incrementVersion(userId, now));
+        }
+
+        long version = catchError.run(() -> userSecurityVersionRepository.findVersionByUserId(userId))
+                .orElseThrow(() -> new IllegalStateException("Security version not found for user " + userId));
+
+        UserSecurityVersion securityVersion = UserSecurityVersion.newBuilder()
+                .withUserId(userId)
+                .withVersion(version)
+                .withUpdatedAt(now)
+                .build();
+
+        LOGGER.info("Security version of user {} bumped to {}", userId, securityVersion.getVersion());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(securityVersion);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(securityVersion);
+            }
+        });
+    }
+
+    public int refresh() {
+
+        Instant startedAt = Instant.now();
+        Instant since = refreshedUntil.equals(Instant.EPOCH) ? Instant.EPOCH : refreshedUntil.minus(REFRESH_OVERLAP);
+        List<UserSecurityVersion> updatedVersions = catchError.run(() -> userSecurityVersionRepository.findUpdatedSince(since));
+
+        updatedVersions.forEach(this::apply);
+        refreshedUntil = startedAt;
+        return updatedVersions.size();
+    }
+
+    @PostConstruct
+    private void start() {
+
+        if (!claimsMode) {
+            return;
+        }
+
+        refreshSafely();
+        scheduler.scheduleWithFixedDelay(this::refreshSafely,
+                refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void refreshSafely() {
+
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to refresh user security versions: {}", ex.getMessage());
+        }
+    }
+
+    private void insertInitialVersion(UUID userId, Instant now) {
+
+        try {
+            newTransaction.executeWithoutResult(status -> userSecurityVersionRepository.insertInitialVersion(userId, now));
+        } catch (DataIntegrityViolationException ex) {
+            LOGGER.debug("Security version of user {} was created concurrently", userId);
+        }
+    }
+
+    private void apply(UserSecurityVersion securityVersion) {
+        minimumVersions.merge(securityVersion.getUserId(), securityVersion.getVersion(), Math::max);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
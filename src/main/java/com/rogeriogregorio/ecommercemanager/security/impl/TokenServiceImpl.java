@@ -1,68 +1,124 @@
 package com.rogeriogregorio.ecommercemanager.security.impl;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.rogeriogregorio.ecommercemanager.dto.UserAuthDetailsDto;
 import com.rogeriogregorio.ecommercemanager.dto.UserTokenDetailsDto;
 import com.rogeriogregorio.ecommercemanager.entities.User;
+import com.rogeriogregorio.ecommercemanager.entities.enums.UserRole;
 import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
+import com.rogeriogregorio.ecommercemanager.exceptions.TokenJwtException;
 import com.rogeriogregorio.ecommercemanager.repositories.UserRepository;
+import com.rogeriogregorio.ecommercemanager.security.SecurityVersionRegistry;
 import com.rogeriogregorio.ecommercemanager.security.TokenService;
 import com.rogeriogregorio.ecommercemanager.services.strategy.validations.TokenClaimStrategy;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 public class TokenServiceImpl implements TokenService {
 
     private static final String ISSUER_NAME = "ecommerce-manager";
-    private static final Instant EXPIRY_TIME = Instant.now().plus(2, ChronoUnit.HOURS);
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(2);
+    private static final long MAX_VERIFIED_TOKENS = 10_000;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String SECURITY_VERSION_CLAIM = "sv";
 
     @Value("${api.security.token.secret}")
     private String secretKey;
+    @Value("${api.security.token.claims-mode}")
+    private boolean claimsMode;
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
     private final UserRepository userRepository;
     private final List<TokenClaimStrategy> tokenValidators;
     private final CatchError catchError;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final Cache<TokenKey, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(new UntilTokenExpiry())
+            .build();
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(TokenServiceImpl::sha256);
 
     @Autowired
     public TokenServiceImpl(UserRepository userRepository,
                             List<TokenClaimStrategy> tokenValidators,
-                            CatchError catchError) {
+                            CatchError catchError,
+                            SecurityVersionRegistry securityVersionRegistry) {
 
         this.userRepository = userRepository;
         this.tokenValidators = tokenValidators;
         this.catchError = catchError;
+        this.securityVersionRegistry = securityVersionRegistry;
     }
 
-    private Algorithm getAlgorithm() {
-        return Algorithm.HMAC256(secretKey);
+    @PostConstruct
+    private void buildVerifier() {
+
+        algorithm = Algorithm.HMAC256(secretKey);
+        verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER_NAME)
+                .build();
     }
 
     public String generateAuthenticationToken(UserAuthDetailsDto userAuthDetailsDto) {
 
-        return catchError.run(() -> JWT.create()
+        JWTCreator.Builder tokenBuilder = JWT.create()
                 .withIssuer(ISSUER_NAME)
                 .withSubject(userAuthDetailsDto.getUsername())
-                .withExpiresAt(EXPIRY_TIME)
-                .sign(getAlgorithm()));
+                .withExpiresAt(Instant.now().plus(TOKEN_LIFETIME));
+
+        if (claimsMode) {
+            User user = userAuthDetailsDto.getUser();
+            tokenBuilder.withClaim(USER_ID_CLAIM, String.valueOf(user.getId()))
+                    .withClaim(ROLE_CLAIM, user.getRole().name())
+                    .withClaim(SECURITY_VERSION_CLAIM, securityVersionRegistry.currentVersion(user.getId()));
+        }
+
+        return catchError.run(() -> tokenBuilder.sign(algorithm));
     }
 
     public String validateAuthenticationToken(String token) {
+        return verify(token).subject();
+    }
 
-        return catchError.run(() -> JWT.require(getAlgorithm())
-                .withIssuer(ISSUER_NAME)
-                .build()
-                .verify(token)
-                .getSubject());
+    public Optional<UserAuthDetailsDto> validateAuthenticationClaims(String token) {
+
+        VerifiedToken verifiedToken = verify(token);
+        UserAuthDetailsDto principal = verifiedToken.principal();
+
+        if (principal == null) {
+            return Optional.empty();
+        }
+
+        if (securityVersionRegistry.isRevoked(principal.getUser().getId(), verifiedToken.securityVersion())) {
+            throw new TokenJwtException("The authentication token has been revoked");
+        }
+
+        return Optional.of(principal);
     }
 
     public String generateEmailToken(User user) {
@@ -73,16 +129,13 @@ public class TokenServiceImpl implements TokenService {
                 .withClaim("userId", String.valueOf(user.getId()))
                 .withClaim("userEmail", user.getEmail())
                 .withClaim("userPassword", user.getPassword())
-                .withExpiresAt(EXPIRY_TIME)
-                .sign(getAlgorithm()));
+                .withExpiresAt(Instant.now().plus(TOKEN_LIFETIME))
+                .sign(algorithm));
     }
 
     public User validateEmailToken(String token) {
 
-        DecodedJWT decodedJWT = catchError.run(() -> JWT.require(getAlgorithm())
-                .withIssuer(ISSUER_NAME)
-                .build()
-                .verify(token));
+        DecodedJWT decodedJWT = catchError.run(() -> verifier.verify(token));
 
         String userIdFromToken = decodedJWT.getClaim("userId").asString();
         User user = findUserByIdFromToken(userIdFromToken);
@@ -99,4 +152,88 @@ public class TokenServiceImpl implements TokenService {
         return catchError.run(() -> userRepository.findById(UUID.fromString(userIdFromToken)))
                 .orElseThrow(() -> new NotFoundException("The user with the token ID was not found"));
     }
+
+    private VerifiedToken verify(String token) {
+
+        TokenKey tokenKey = TokenKey.of(token);
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(tokenKey);
+
+        if (verifiedToken != null && verifiedToken.expiresAtMillis() > System.currentTimeMillis()) {
+            return verifiedToken;
+        }
+
+        DecodedJWT decodedJWT = catchError.run(() -> verifier.verify(token));
+        Date expiresAt = decodedJWT.getExpiresAt();
+        verifiedToken = new VerifiedToken(decodedJWT.getSubject(), principalFromClaims(decodedJWT),
+                securityVersionFromClaims(decodedJWT), expiresAt == null ? 0 : expiresAt.getTime());
+
+        if (expiresAt != null) {
+            verifiedTokens.put(tokenKey, verifiedToken);
+        }
+
+        return verifiedToken;
+    }
+
+    private UserAuthDetailsDto principalFromClaims(DecodedJWT decodedJWT) {
+
+        Claim userId = decodedJWT.getClaim(USER_ID_CLAIM);
+        Claim role = decodedJWT.getClaim(ROLE_CLAIM);
+
+        if (userId.isMissing() || role.isMissing() || decodedJWT.getClaim(SECURITY_VERSION_CLAIM).isMissing()) {
+            return null;
+        }
+
+        return new UserAuthDetailsDto(User.newBuilder()
+                .withId(UUID.fromString(userId.asString()))
+                .withEmail(decodedJWT.getSubject())
+                .withRole(UserRole.valueOf(role.asString()))
+                .build());
+    }
+
+    private long securityVersionFromClaims(DecodedJWT decodedJWT) {
+
+        Long securityVersion = decodedJWT.getClaim(SECURITY_VERSION_CLAIM).asLong();
+        return securityVersion == null ? 0 : securityVersion;
+    }
+
+    private static MessageDigest sha256() {
+
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private record TokenKey(long first, long second, long third, long fourth) {
+
+        static TokenKey of(String token) {
+
+            MessageDigest digest = SHA_256.get();
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenKey(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+
+    private record VerifiedToken(String subject, UserAuthDetailsDto principal, long securityVersion,
+                                 long expiresAtMillis) {
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<TokenKey, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(TokenKey key, VerifiedToken value, long currentTime) {
+            return Duration.ofMillis(Math.max(0, value.expiresAtMillis() - System.currentTimeMillis())).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenKey key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenKey key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.AddressRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.AddressResponse;
 import org.springframework.data.domain.Page;
@@ -13,6 +14,8 @@ public interface AddressService {
 
     Page<AddressResponse> findAllAddresses(Pageable pageable);
 
+    SliceDto<AddressResponse> findAllAddressesSlice(Pageable pageable, boolean approximateTotal);
+
     AddressResponse createAddress(AddressRequest addressRequest);
 
     AddressResponse updateAddress(UUID id, AddressRequest addressRequest);
@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.CategoryRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.CategoryResponse;
 import com.rogeriogregorio.ecommercemanager.entities.Category;
@@ -15,6 +17,10 @@ public interface CategoryService {
 
     Page<CategoryResponse> findAllCategories(Pageable pageable);
 
+    SliceDto<CategoryResponse> findAllCategoriesSlice(Pageable pageable, boolean approximateTotal);
+
+    CursorPageDto<CategoryResponse> findAllCategoriesByCursor(String cursor, int size);
+
     CategoryResponse createCategory(CategoryRequest categoryRequest);
 
     CategoryResponse findCategoryById(Long id);
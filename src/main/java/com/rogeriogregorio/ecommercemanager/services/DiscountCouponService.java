@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.DiscountCouponRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.DiscountCouponResponse;
 import com.rogeriogregorio.ecommercemanager.entities.DiscountCoupon;
@@ -12,6 +14,10 @@ public interface DiscountCouponService {
 
     Page<DiscountCouponResponse> findAllDiscountCoupons(Pageable pageable);
 
+    SliceDto<DiscountCouponResponse> findAllDiscountCouponsSlice(Pageable pageable, boolean approximateTotal);
+
+    CursorPageDto<DiscountCouponResponse> findAllDiscountCouponsByCursor(String cursor, int size);
+
     DiscountCouponResponse createDiscountCoupon(DiscountCouponRequest discountCouponRequest);
 
     DiscountCouponResponse findDiscountCouponById(Long id);
@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.InventoryItemRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.InventoryItemResponse;
 import com.rogeriogregorio.ecommercemanager.entities.InventoryItem;
@@ -15,6 +17,10 @@ public interface InventoryItemService {
 
     Page<InventoryItemResponse> findAllInventoryItems(Pageable pageable);
 
+    SliceDto<InventoryItemResponse> findAllInventoryItemsSlice(Pageable pageable, boolean approximateTotal);
+
+    CursorPageDto<InventoryItemResponse> findAllInventoryItemsByCursor(String cursor, int size);
+
     InventoryItemResponse createInventoryItem(InventoryItemRequest inventoryItemRequest);
 
     InventoryItemResponse findInventoryItemById(Long id);
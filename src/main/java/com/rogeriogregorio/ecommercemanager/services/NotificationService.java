@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.NotificationRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.NotificationResponse;
 import org.springframework.data.domain.Page;
@@ -11,6 +13,10 @@ public interface NotificationService {
 
     Page<NotificationResponse> findAllNotifications(Pageable pageable);
 
+    SliceDto<NotificationResponse> findAllNotificationsSlice(Pageable pageable, boolean approximateTotal);
+
+    CursorPageDto<NotificationResponse> findAllNotificationsByCursor(String cursor, int size);
+
     NotificationResponse createNotification(NotificationRequest notificationRequest);
 
     NotificationResponse findNotificationById(Long id);
@@ -1,5 +1,6 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.OrderItemRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.OrderItemResponse;
 import org.springframework.data.domain.Page;
@@ -11,6 +12,8 @@ public interface OrderItemService {
 
     Page<OrderItemResponse> findAllOrderItems(Pageable pageable);
 
+    SliceDto<OrderItemResponse> findAllOrderItemsSlice(Pageable pageable, boolean approximateTotal);
+
     OrderItemResponse createOrderItem(OrderItemRequest orderItemRequest);
 
     OrderItemResponse findOrderItemById(Long orderId, Long productId);
@@ -1,12 +1,16 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.OrderRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.OrderResponse;
 import com.rogeriogregorio.ecommercemanager.entities.Order;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.io.OutputStream;
 import java.util.UUID;
 
 @Component
@@ -14,6 +18,14 @@ public interface OrderService {
 
     Page<OrderResponse> findAllOrders(Pageable pageable);
 
+    SliceDto<OrderResponse> findAllOrdersSlice(Pageable pageable, boolean approximateTotal);
+
+    CursorPageDto<OrderResponse> findAllOrdersByCursor(String cursor, int size);
+
+    CursorPageDto<OrderResponse> findOrderByClientIdByCursor(UUID id, String cursor, int size);
+
+    void exportOrders(ExportFormat format, OutputStream outputStream);
+
     OrderResponse createOrder(OrderRequest orderRequest);
 
     void savePaidOrder(Order order);
@@ -0,0 +1,14 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import com.rogeriogregorio.ecommercemanager.entities.Payment;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface PaymentRetryService {
+
+    void scheduleCharge(Payment payment);
+
+    int dispatchDueCharges();
+
+    void attemptCharge(Long paymentRetryId);
+}
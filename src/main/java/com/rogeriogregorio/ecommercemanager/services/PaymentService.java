@@ -1,21 +1,33 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
-import com.rogeriogregorio.ecommercemanager.dto.PixWebhookDto;
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.PaymentRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.PaymentResponse;
 import com.rogeriogregorio.ecommercemanager.services.strategy.payments.PaymentStrategy;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Set;
+
 @Component
 public interface PaymentService {
 
     Page<PaymentResponse> findAllPayments(Pageable pageable);
 
+    SliceDto<PaymentResponse> findAllPaymentsSlice(Pageable pageable, boolean approximateTotal);
+
+    CursorPageDto<PaymentResponse> findAllPaymentsByCursor(String cursor, int size);
+
+    void exportPayments(ExportFormat format, OutputStream outputStream);
+
     PaymentResponse createPaymentProcess(PaymentRequest paymentRequest);
 
-    void savePaidPixCharges(PixWebhookDto pixWebhook);
+    Set<String> applyPaidPixCharges(Collection<String> txIds);
 
     PaymentResponse findPaymentById(Long id);
 
@@ -0,0 +1,11 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+public interface PixReconciliationService {
+
+    int reconcile(Instant start, Instant end);
+}
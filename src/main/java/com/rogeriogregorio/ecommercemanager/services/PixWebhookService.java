@@ -0,0 +1,12 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import com.rogeriogregorio.ecommercemanager.dto.PixWebhookDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface PixWebhookService {
+
+    int enqueue(PixWebhookDto pixWebhook);
+
+    int processPendingEvents(int partition);
+}
@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.ProductDiscountRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.ProductDiscountResponse;
 import com.rogeriogregorio.ecommercemanager.entities.ProductDiscount;
@@ -10,6 +12,10 @@ public interface ProductDiscountService {
 
     Page<ProductDiscountResponse> findAllProductDiscounts(Pageable pageable);
 
+    SliceDto<ProductDiscountResponse> findAllProductDiscountsSlice(Pageable pageable, boolean approximateTotal);
+
+    CursorPageDto<ProductDiscountResponse> findAllProductDiscountsByCursor(String cursor, int size);
+
     ProductDiscountResponse createProductDiscount(ProductDiscountRequest productDiscountRequest);
 
     ProductDiscountResponse findProductDiscountById(Long id);
@@ -1,5 +1,6 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.ProductReviewRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.ProductReviewResponse;
 import org.springframework.data.domain.Page;
@@ -13,6 +14,8 @@ public interface ProductReviewService {
 
     Page<ProductReviewResponse> findAllProductReviews(Pageable pageable);
 
+    SliceDto<ProductReviewResponse> findAllProductReviewsSlice(Pageable pageable, boolean approximateTotal);
+
     ProductReviewResponse createProductReview(ProductReviewRequest productReviewRequest);
 
     ProductReviewResponse findProductReviewById(Long productId, UUID userId);
@@ -1,17 +1,28 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.ProductRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.ProductResponse;
 import com.rogeriogregorio.ecommercemanager.entities.Product;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.io.OutputStream;
+
 @Component
 public interface ProductService {
 
     Page<ProductResponse> findAllProducts(Pageable pageable);
 
+    SliceDto<ProductResponse> findAllProductsSlice(Pageable pageable, boolean approximateTotal);
+
+    CursorPageDto<ProductResponse> findAllProductsByCursor(String cursor, int size);
+
+    void exportProducts(ExportFormat format, OutputStream outputStream);
+
     ProductResponse createProduct(ProductRequest productRequest);
 
     ProductResponse findProductById(Long id);
@@ -0,0 +1,19 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import com.rogeriogregorio.ecommercemanager.dto.responses.StockLedgerMismatchResponse;
+import com.rogeriogregorio.ecommercemanager.entities.StockMovement;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public interface StockLedgerService {
+
+    void record(List<StockMovement> stockMovements);
+
+    void recordNow(List<StockMovement> stockMovements);
+
+    int rebuildMissingStockMovements();
+
+    List<StockLedgerMismatchResponse> findBalanceMismatches();
+}
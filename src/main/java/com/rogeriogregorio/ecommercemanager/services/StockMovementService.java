@@ -1,17 +1,28 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.StockMovementRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.StockMovementResponse;
 import com.rogeriogregorio.ecommercemanager.entities.Order;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.io.OutputStream;
+
 @Component
 public interface StockMovementService {
 
     Page<StockMovementResponse> findAllStockMovements(Pageable pageable);
 
+    SliceDto<StockMovementResponse> findAllStockMovementsSlice(Pageable pageable, boolean approximateTotal);
+
+    CursorPageDto<StockMovementResponse> findAllStockMovementsByCursor(String cursor, int size);
+
+    void exportStockMovements(ExportFormat format, OutputStream outputStream);
+
     StockMovementResponse createStockMovement(StockMovementRequest stockMovementRequest);
 
     StockMovementResponse findStockMovementById(Long id);
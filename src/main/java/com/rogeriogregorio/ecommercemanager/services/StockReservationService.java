@@ -0,0 +1,17 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import com.rogeriogregorio.ecommercemanager.entities.Order;
+import com.rogeriogregorio.ecommercemanager.entities.Product;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface StockReservationService {
+
+    void reserveStock(Order order);
+
+    void confirmReservation(Order order);
+
+    void releaseReservation(Order order);
+
+    int getQuantityReservedByOthers(Product product, Order order);
+}
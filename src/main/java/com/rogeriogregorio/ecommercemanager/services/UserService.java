@@ -1,5 +1,6 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.UserRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.UserResponse;
 import com.rogeriogregorio.ecommercemanager.entities.User;
@@ -14,6 +15,8 @@ public interface UserService {
 
     Page<UserResponse> findAllUsers(Pageable pageable);
 
+    SliceDto<UserResponse> findAllUsersSlice(Pageable pageable, boolean approximateTotal);
+
     UserResponse registerUser(UserRequest userRequest);
 
     UserResponse createAdminOrManagerUser(UUID id, UserRequest userRequest);
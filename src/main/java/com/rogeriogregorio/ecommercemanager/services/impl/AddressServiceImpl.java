@@ -1,5 +1,6 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.AddressRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.AddressResponse;
 import com.rogeriogregorio.ecommercemanager.entities.Address;
@@ -10,11 +11,13 @@ import com.rogeriogregorio.ecommercemanager.services.AddressService;
 import com.rogeriogregorio.ecommercemanager.services.UserService;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,18 +30,21 @@ public class AddressServiceImpl implements AddressService {
     private final UserService userService;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final RowCounter rowCounter;
     private static final Logger LOGGER = LogManager.getLogger(AddressServiceImpl.class);
 
     @Autowired
     public AddressServiceImpl(AddressRepository addressRepository,
                               UserService userService,
                               CatchError catchError,
-                              DataMapper dataMapper) {
+                              DataMapper dataMapper,
+                              RowCounter rowCounter) {
 
         this.addressRepository = addressRepository;
         this.userService = userService;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.rowCounter = rowCounter;
     }
 
     @Transactional(readOnly = true)
@@ -48,6 +54,16 @@ public class AddressServiceImpl implements AddressService {
                 .map(address -> dataMapper.map(address, AddressResponse.class));
     }
 
+    @Transactional(readOnly = true)
+    public SliceDto<AddressResponse> findAllAddressesSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<AddressResponse> slice = catchError.run(() -> addressRepository.findAllBy(pageable))
+                .map(address -> dataMapper.map(address, AddressResponse.class));
+
+        Long total = approximateTotal ? rowCounter.approximateCount(Address.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
+    }
+
     @Transactional
     public AddressResponse createAddress(AddressRequest addressRequest) {
 
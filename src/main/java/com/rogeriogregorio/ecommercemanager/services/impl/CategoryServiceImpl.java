@@ -1,18 +1,25 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.CategoryRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.CategoryResponse;
 import com.rogeriogregorio.ecommercemanager.entities.Category;
 import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
 import com.rogeriogregorio.ecommercemanager.repositories.CategoryRepository;
 import com.rogeriogregorio.ecommercemanager.services.CategoryService;
+import com.rogeriogregorio.ecommercemanager.utils.FetchPlans;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.KeysetCursor;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,23 +31,50 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final RowCounter rowCounter;
     private static final Logger LOGGER = LogManager.getLogger(CategoryServiceImpl.class);
 
     @Autowired
     public CategoryServiceImpl(CategoryRepository categoryRepository,
                                CatchError catchError,
-                               DataMapper dataMapper) {
+                               DataMapper dataMapper,
+                               RowCounter rowCounter) {
 
         this.categoryRepository = categoryRepository;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.rowCounter = rowCounter;
     }
 
     @Transactional(readOnly = true)
     public Page<CategoryResponse> findAllCategories(Pageable pageable) {
 
         return catchError.run(() -> categoryRepository.findAll(pageable))
-                .map(category -> dataMapper.map(category, CategoryResponse.class));
+                .map(this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public SliceDto<CategoryResponse> findAllCategoriesSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<CategoryResponse> slice = catchError.run(() -> categoryRepository.findAllBy(pageable))
+                .map(this::toResponse);
+
+        Long total = approximateTotal ? rowCounter.approximateCount(Category.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<CategoryResponse> findAllCategoriesByCursor(String cursor, int size) {
+
+        KeysetCursor keyset = KeysetCursor.byId(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<Category> categoryList = catchError.run(() -> categoryRepository
+                .findByIdGreaterThanOrderByIdAsc(keyset.getId(), Limit.of(pageSize + 1)));
+
+        return CursorPageDto.of(categoryList, pageSize,
+                this::toResponse,
+                category -> KeysetCursor.encode(category.getId()));
     }
 
     @Transactional
@@ -50,14 +84,14 @@ public class CategoryServiceImpl implements CategoryService {
 
         Category savedCategory = catchError.run(() -> categoryRepository.save(category));
         LOGGER.info("Category created: {}", savedCategory);
-        return dataMapper.map(savedCategory, CategoryResponse.class);
+        return toResponse(savedCategory);
     }
 
     @Transactional(readOnly = true)
     public CategoryResponse findCategoryById(Long id) {
 
         return catchError.run(() -> categoryRepository.findById(id))
-                .map(category -> dataMapper.map(category, CategoryResponse.class))
+                .map(this::toResponse)
                 .orElseThrow(() -> new NotFoundException("Category not found with ID: " + id + "."));
     }
 
@@ -75,7 +109,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         Category updatedCategory = catchError.run(() -> categoryRepository.save(currentCategory));
         LOGGER.info("Category updated: {}", updatedCategory);
-        return dataMapper.map(updatedCategory, CategoryResponse.class);
+        return toResponse(updatedCategory);
     }
 
     @Transactional
@@ -91,7 +125,12 @@ public class CategoryServiceImpl implements CategoryService {
     public Page<CategoryResponse> findCategoryByName(String name, Pageable pageable) {
 
         return catchError.run(() -> categoryRepository.findByName(name, pageable))
-                .map(category -> dataMapper.map(category, CategoryResponse.class));
+                .map(this::toResponse);
+    }
+
+    private CategoryResponse toResponse(Category category) {
+
+        return dataMapper.map(FetchPlans.initialize(category), CategoryResponse.class);
     }
 
     private Category getCategoryIfExists(Long id) {
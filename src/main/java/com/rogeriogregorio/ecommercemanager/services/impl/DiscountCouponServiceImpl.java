@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.DiscountCouponRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.DiscountCouponResponse;
 import com.rogeriogregorio.ecommercemanager.entities.DiscountCoupon;
@@ -8,15 +10,20 @@ import com.rogeriogregorio.ecommercemanager.repositories.DiscountCouponRepositor
 import com.rogeriogregorio.ecommercemanager.services.DiscountCouponService;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.KeysetCursor;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 
 @Service
 public class DiscountCouponServiceImpl implements DiscountCouponService {
@@ -24,15 +31,18 @@ public class DiscountCouponServiceImpl implements DiscountCouponService {
     private final DiscountCouponRepository discountCouponRepository;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final RowCounter rowCounter;
     private static final Logger LOGGER = LogManager.getLogger(DiscountCouponServiceImpl.class);
 
     @Autowired
     public DiscountCouponServiceImpl(DiscountCouponRepository discountCouponRepository,
-                                     CatchError catchError, DataMapper dataMapper) {
+                                     CatchError catchError, DataMapper dataMapper,
+                                     RowCounter rowCounter) {
 
         this.discountCouponRepository = discountCouponRepository;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.rowCounter = rowCounter;
     }
 
     @Transactional(readOnly = true)
@@ -42,6 +52,30 @@ public class DiscountCouponServiceImpl implements DiscountCouponService {
                 .map(discountCoupon -> dataMapper.map(discountCoupon, DiscountCouponResponse.class));
     }
 
+    @Transactional(readOnly = true)
+    public SliceDto<DiscountCouponResponse> findAllDiscountCouponsSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<DiscountCouponResponse> slice = catchError.run(() -> discountCouponRepository.findAllBy(pageable))
+                .map(discountCoupon -> dataMapper.map(discountCoupon, DiscountCouponResponse.class));
+
+        Long total = approximateTotal ? rowCounter.approximateCount(DiscountCoupon.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<DiscountCouponResponse> findAllDiscountCouponsByCursor(String cursor, int size) {
+
+        KeysetCursor keyset = KeysetCursor.byId(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<DiscountCoupon> discountCouponList = catchError.run(() -> discountCouponRepository
+                .findByIdGreaterThanOrderByIdAsc(keyset.getId(), Limit.of(pageSize + 1)));
+
+        return CursorPageDto.of(discountCouponList, pageSize,
+                discountCoupon -> dataMapper.map(discountCoupon, DiscountCouponResponse.class),
+                discountCoupon -> KeysetCursor.encode(discountCoupon.getId()));
+    }
+
     @Transactional
     public DiscountCouponResponse createDiscountCoupon(DiscountCouponRequest discountCouponRequest) {
 
@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.InventoryItemRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.InventoryItemResponse;
 import com.rogeriogregorio.ecommercemanager.entities.*;
@@ -8,50 +10,90 @@ import com.rogeriogregorio.ecommercemanager.entities.enums.StockStatus;
 import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
 import com.rogeriogregorio.ecommercemanager.exceptions.StockException;
 import com.rogeriogregorio.ecommercemanager.repositories.InventoryItemRepository;
-import com.rogeriogregorio.ecommercemanager.repositories.StockMovementRepository;
 import com.rogeriogregorio.ecommercemanager.services.InventoryItemService;
 import com.rogeriogregorio.ecommercemanager.services.ProductService;
+import com.rogeriogregorio.ecommercemanager.services.StockLedgerService;
+import com.rogeriogregorio.ecommercemanager.services.StockReservationService;
+import com.rogeriogregorio.ecommercemanager.utils.FetchPlans;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.KeysetCursor;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Service
 public class InventoryItemServiceImpl implements InventoryItemService {
 
     private final InventoryItemRepository inventoryItemRepository;
-    private final StockMovementRepository stockMovementRepository;
+    private final StockLedgerService stockLedgerService;
     private final ProductService productService;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final RowCounter rowCounter;
+    private final StockReservationService stockReservationService;
     private static final Logger LOGGER = LogManager.getLogger(InventoryItemServiceImpl.class);
 
     @Autowired
     public InventoryItemServiceImpl(InventoryItemRepository inventoryItemRepository,
-                                    StockMovementRepository stockMovementRepository,
+                                    StockLedgerService stockLedgerService,
                                     ProductService productService,
                                     CatchError catchError,
-                                    DataMapper dataMapper) {
+                                    DataMapper dataMapper,
+                                    RowCounter rowCounter,
+                                    StockReservationService stockReservationService) {
 
         this.inventoryItemRepository = inventoryItemRepository;
-        this.stockMovementRepository = stockMovementRepository;
+        this.stockLedgerService = stockLedgerService;
         this.productService = productService;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.rowCounter = rowCounter;
+        this.stockReservationService = stockReservationService;
     }
 
     @Transactional(readOnly = true)
     public Page<InventoryItemResponse> findAllInventoryItems(Pageable pageable) {
 
         return catchError.run(() -> inventoryItemRepository.findAll(pageable))
-                .map(inventoryItem -> dataMapper.map(inventoryItem, InventoryItemResponse.class));
+                .map(this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public SliceDto<InventoryItemResponse> findAllInventoryItemsSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<InventoryItemResponse> slice = catchError.run(() -> inventoryItemRepository.findAllBy(pageable))
+                .map(this::toResponse);
+
+        Long total = approximateTotal ? rowCounter.approximateCount(InventoryItem.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<InventoryItemResponse> findAllInventoryItemsByCursor(String cursor, int size) {
+
+        KeysetCursor keyset = KeysetCursor.byId(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<InventoryItem> inventoryItemList = catchError.run(() -> inventoryItemRepository
+                .findByIdGreaterThanOrderByIdAsc(keyset.getId(), Limit.of(pageSize + 1)));
+
+        return CursorPageDto.of(inventoryItemList, pageSize,
+                this::toResponse,
+                inventoryItem -> KeysetCursor.encode(inventoryItem.getId()));
     }
 
     @Transactional
@@ -68,14 +110,14 @@ public class InventoryItemServiceImpl implements InventoryItemService {
         InventoryItem savedInventoryItem = catchError.run(() -> inventoryItemRepository.save(inventoryItem));
         LOGGER.info("Inventory item created: {}", savedInventoryItem);
         updateStockMovementEntrance(savedInventoryItem);
-        return dataMapper.map(savedInventoryItem, InventoryItemResponse.class);
+        return toResponse(savedInventoryItem);
     }
 
     @Transactional(readOnly = true)
     public InventoryItemResponse findInventoryItemById(Long id) {
 
         return catchError.run(() -> inventoryItemRepository.findById(id))
-                .map(inventoryItem -> dataMapper.map(inventoryItem, InventoryItemResponse.class))
+                .map(this::toResponse)
                 .orElseThrow(() -> new NotFoundException("Inventory item not found with ID: " + id + "."));
     }
 
@@ -89,7 +131,7 @@ public class InventoryItemServiceImpl implements InventoryItemService {
 
         InventoryItem updatedInventoryItem = catchError.run(() -> inventoryItemRepository.save(inventoryItem));
         LOGGER.info("Inventory item updated: {}", updatedInventoryItem);
-        return dataMapper.map(updatedInventoryItem, InventoryItemResponse.class);
+        return toResponse(updatedInventoryItem);
     }
 
     @Transactional
@@ -118,14 +160,15 @@ public class InventoryItemServiceImpl implements InventoryItemService {
                 throw new StockException("The item " + product.getName() + " is out of stock.");
             }
 
-            int quantityInStock = inventoryItem.getQuantityInStock();
+            int quantityInStock = inventoryItem.getQuantityInStock()
+                    - stockReservationService.getQuantityReservedByOthers(product, order);
             int quantityRequired = orderItem.getQuantity();
 
             if (quantityRequired > quantityInStock) {
                 throw new StockException("Insufficient"
                         + " quantity of " + product.getName() + " in stock."
                         + " Required quantity: " + quantityRequired
-                        + ", available quantity: " + quantityInStock + "."
+                        + ", available quantity: " + Math.max(quantityInStock, 0) + "."
                 );
             }
         }
@@ -142,39 +185,47 @@ public class InventoryItemServiceImpl implements InventoryItemService {
         }
 
         int quantityRequired = orderItem.getQuantity();
-        int quantityInStock = inventoryItem.getQuantityInStock();
+        int quantityInStock = inventoryItem.getQuantityInStock()
+                - stockReservationService.getQuantityReservedByOthers(product, orderItem.getOrder());
 
         if (quantityRequired > quantityInStock) {
             throw new StockException("Insufficient"
                     + " quantity of " + product.getName() + " in stock."
                     + " Required quantity: " + quantityRequired
-                    + ", available quantity: " + quantityInStock + "."
+                    + ", available quantity: " + Math.max(quantityInStock, 0) + "."
             );
         }
 
         return orderItem;
     }
 
+    @Transactional
     public void updateInventoryItemQuantity(Order order) {
 
+        Map<Long, Integer> quantityByProductId = new TreeMap<>();
         for (OrderItem orderItem : order.getItems()) {
-            Product product = orderItem.getProduct();
-            InventoryItem inventoryItem = findInventoryItemByProduct(product);
-
-            int orderItemQuantity = orderItem.getQuantity();
-            int quantityInStockUpdated = inventoryItem.getQuantityInStock() - orderItemQuantity;
-            int quantitySoldUpdated = inventoryItem.getQuantitySold() + orderItemQuantity;
+            quantityByProductId.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
+        }
 
-            if (quantityInStockUpdated == 0) {
-                inventoryItem.setStockStatus(StockStatus.OUT_OF_STOCK);
-            }
+        List<Long> rejectedProductIds = catchError.run(() -> inventoryItemRepository.deductStock(quantityByProductId));
 
-            inventoryItem.setQuantityInStock(quantityInStockUpdated);
-            inventoryItem.setQuantitySold(quantitySoldUpdated);
+        if (!rejectedProductIds.isEmpty()) {
+            String rejectedItems = order.getItems().stream()
+                    .map(OrderItem::getProduct)
+                    .filter(product -> rejectedProductIds.contains(product.getId()))
+                    .map(Product::getName)
+                    .collect(Collectors.joining(", "));
 
-            InventoryItem updatedInventoryItem = catchError.run(() -> inventoryItemRepository.save(inventoryItem));
-            LOGGER.info("Inventory item quantity updated: {}", updatedInventoryItem);
+            throw new StockException("Insufficient quantity in stock to fulfill the order "
+                    + order.getId() + ": " + rejectedItems + ".");
         }
+
+        LOGGER.info("Inventory item quantities deducted for order {}: {}", order.getId(), quantityByProductId);
+    }
+
+    private InventoryItemResponse toResponse(InventoryItem inventoryItem) {
+
+        return dataMapper.map(FetchPlans.initialize(inventoryItem), InventoryItemResponse.class);
     }
 
     private Product validateProductForInventory(InventoryItemRequest inventoryItemRequest) {
@@ -206,7 +257,7 @@ public class InventoryItemServiceImpl implements InventoryItemService {
                 .withQuantityMoved(inventoryItem.getQuantityInStock())
                 .build();
 
-        StockMovement stockMovementEntrance = catchError.run(() -> stockMovementRepository.save(stockMovement));
-        LOGGER.info("Inventory movement entrance: {}", stockMovementEntrance);
+        stockLedgerService.recordNow(List.of(stockMovement));
+        LOGGER.info("Inventory movement entrance: {}", stockMovement);
     }
 }
@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.NotificationRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.NotificationResponse;
 import com.rogeriogregorio.ecommercemanager.entities.Notification;
@@ -8,15 +10,20 @@ import com.rogeriogregorio.ecommercemanager.repositories.NotificationRepository;
 import com.rogeriogregorio.ecommercemanager.services.NotificationService;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.KeysetCursor;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
@@ -24,15 +31,18 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final RowCounter rowCounter;
     private static final Logger LOGGER = LogManager.getLogger(NotificationServiceImpl.class);
 
     @Autowired
     public NotificationServiceImpl(NotificationRepository notificationRepository,
-                                   CatchError catchError, DataMapper dataMapper) {
+                                   CatchError catchError, DataMapper dataMapper,
+                                   RowCounter rowCounter) {
 
         this.notificationRepository = notificationRepository;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.rowCounter = rowCounter;
     }
 
     @Transactional(readOnly = true)
@@ -42,6 +52,30 @@ public class NotificationServiceImpl implements NotificationService {
                 .map(notification -> dataMapper.map(notification, NotificationResponse.class));
     }
 
+    @Transactional(readOnly = true)
+    public SliceDto<NotificationResponse> findAllNotificationsSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<NotificationResponse> slice = catchError.run(() -> notificationRepository.findAllBy(pageable))
+                .map(notification -> dataMapper.map(notification, NotificationResponse.class));
+
+        Long total = approximateTotal ? rowCounter.approximateCount(Notification.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<NotificationResponse> findAllNotificationsByCursor(String cursor, int size) {
+
+        KeysetCursor keyset = KeysetCursor.byId(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<Notification> notificationList = catchError.run(() -> notificationRepository
+                .findByIdGreaterThanOrderByIdAsc(keyset.getId(), Limit.of(pageSize + 1)));
+
+        return CursorPageDto.of(notificationList, pageSize,
+                notification -> dataMapper.map(notification, NotificationResponse.class),
+                notification -> KeysetCursor.encode(notification.getId()));
+    }
+
     @Transactional
     public NotificationResponse createNotification(NotificationRequest notificationRequest) {
 
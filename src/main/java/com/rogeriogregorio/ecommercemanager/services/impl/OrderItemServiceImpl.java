@@ -1,5 +1,6 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.OrderItemRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.OrderItemResponse;
 import com.rogeriogregorio.ecommercemanager.entities.Order;
@@ -12,13 +13,16 @@ import com.rogeriogregorio.ecommercemanager.services.InventoryItemService;
 import com.rogeriogregorio.ecommercemanager.services.OrderItemService;
 import com.rogeriogregorio.ecommercemanager.services.OrderService;
 import com.rogeriogregorio.ecommercemanager.services.ProductService;
+import com.rogeriogregorio.ecommercemanager.utils.FetchPlans;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +35,7 @@ public class OrderItemServiceImpl implements OrderItemService {
     private final OrderService orderService;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final RowCounter rowCounter;
     private static final Logger LOGGER = LogManager.getLogger(OrderItemServiceImpl.class);
 
     @Autowired
@@ -39,7 +44,8 @@ public class OrderItemServiceImpl implements OrderItemService {
                                 ProductService productService,
                                 OrderService orderService,
                                 CatchError catchError,
-                                DataMapper dataMapper) {
+                                DataMapper dataMapper,
+                                RowCounter rowCounter) {
 
         this.orderItemRepository = orderItemRepository;
         this.inventoryItemService = inventoryItemService;
@@ -47,13 +53,24 @@ public class OrderItemServiceImpl implements OrderItemService {
         this.orderService = orderService;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.rowCounter = rowCounter;
     }
 
     @Transactional(readOnly = true)
     public Page<OrderItemResponse> findAllOrderItems(Pageable pageable) {
 
         return catchError.run(() -> orderItemRepository.findAll(pageable))
-                .map(orderItem -> dataMapper.map(orderItem, OrderItemResponse.class));
+                .map(this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public SliceDto<OrderItemResponse> findAllOrderItemsSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<OrderItemResponse> slice = catchError.run(() -> orderItemRepository.findAllBy(pageable))
+                .map(this::toResponse);
+
+        Long total = approximateTotal ? rowCounter.approximateCount(OrderItem.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
     }
 
     @Transactional
@@ -63,7 +80,7 @@ public class OrderItemServiceImpl implements OrderItemService {
 
         OrderItem savedOrderItem = catchError.run(() -> orderItemRepository.save(orderItem));
         LOGGER.info("Order item created: {}", savedOrderItem);
-        return dataMapper.map(savedOrderItem, OrderItemResponse.class);
+        return toResponse(savedOrderItem);
     }
 
     @Transactional(readOnly = true)
@@ -72,7 +89,7 @@ public class OrderItemServiceImpl implements OrderItemService {
         OrderItemPK id = buildOrderItemPK(orderId, itemId);
 
         return catchError.run(() -> orderItemRepository.findById(id))
-                .map(orderItem -> dataMapper.map(orderItem, OrderItemResponse.class))
+                .map(this::toResponse)
                 .orElseThrow(() -> new NotFoundException("Item not found with ID: " + id + "."));
     }
 
@@ -83,7 +100,7 @@ public class OrderItemServiceImpl implements OrderItemService {
 
         OrderItem updatedOrderItem = catchError.run(() -> orderItemRepository.save(orderItem));
         LOGGER.info("Order item updated: {}", updatedOrderItem);
-        return dataMapper.map(updatedOrderItem, OrderItemResponse.class);
+        return toResponse(updatedOrderItem);
     }
 
     @Transactional
@@ -96,6 +113,11 @@ public class OrderItemServiceImpl implements OrderItemService {
         LOGGER.warn("Order item removed: {}", id.getProduct());
     }
 
+    private OrderItemResponse toResponse(OrderItem orderItem) {
+
+        return dataMapper.map(FetchPlans.initialize(orderItem), OrderItemResponse.class);
+    }
+
     private Order validateOrderChangeEligibility(Long orderId) {
 
         Order order = orderService.getOrderIfExists(orderId);
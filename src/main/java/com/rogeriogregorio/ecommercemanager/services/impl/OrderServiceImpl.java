@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.OrderRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.OrderResponse;
 import com.rogeriogregorio.ecommercemanager.entities.DiscountCoupon;
@@ -10,19 +12,28 @@ import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
 import com.rogeriogregorio.ecommercemanager.repositories.OrderRepository;
 import com.rogeriogregorio.ecommercemanager.services.*;
 import com.rogeriogregorio.ecommercemanager.services.strategy.validations.OrderStatusStrategy;
+import com.rogeriogregorio.ecommercemanager.utils.FetchPlans;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
+import com.rogeriogregorio.ecommercemanager.utils.KeysetCursor;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 public class OrderServiceImpl implements OrderService {
@@ -33,13 +44,17 @@ public class OrderServiceImpl implements OrderService {
     private final List<OrderStatusStrategy> statusValidators;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final DataExporter dataExporter;
+    private final RowCounter rowCounter;
     private static final Logger LOGGER = LogManager.getLogger(OrderServiceImpl.class);
 
     @Autowired
     public OrderServiceImpl(OrderRepository orderRepository, UserService userService,
                             DiscountCouponService discountCouponService,
                             List<OrderStatusStrategy> statusValidators,
-                            CatchError catchError, DataMapper dataMapper) {
+                            CatchError catchError, DataMapper dataMapper,
+                            DataExporter dataExporter,
+                            RowCounter rowCounter) {
 
         this.orderRepository = orderRepository;
         this.userService = userService;
@@ -47,13 +62,61 @@ public class OrderServiceImpl implements OrderService {
         this.statusValidators = statusValidators;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.dataExporter = dataExporter;
+        this.rowCounter = rowCounter;
     }
 
     @Transactional(readOnly = true)
     public Page<OrderResponse> findAllOrders(Pageable pageable) {
 
         return catchError.run(() -> orderRepository.findAll(pageable))
-                .map(order -> dataMapper.map(order, OrderResponse.class));
+                .map(this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public SliceDto<OrderResponse> findAllOrdersSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<OrderResponse> slice = catchError.run(() -> orderRepository.findAllBy(pageable))
+                .map(this::toResponse);
+
+        Long total = approximateTotal ? rowCounter.approximateCount(Order.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<OrderResponse> findAllOrdersByCursor(String cursor, int size) {
+
+        KeysetCursor keyset = KeysetCursor.newestFirst(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<Order> orderList = catchError.run(() -> orderRepository
+                .findNextPage(keyset.getMoment(), keyset.getId(), Limit.of(pageSize + 1)));
+
+        return CursorPageDto.of(orderList, pageSize,
+                this::toResponse,
+                order -> KeysetCursor.encode(order.getMoment(), order.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<OrderResponse> findOrderByClientIdByCursor(UUID id, String cursor, int size) {
+
+        KeysetCursor keyset = KeysetCursor.newestFirst(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<Order> orderList = catchError.run(() -> orderRepository
+                .findNextPageByClientId(id, keyset.getMoment(), keyset.getId(), Limit.of(pageSize + 1)));
+
+        return CursorPageDto.of(orderList, pageSize,
+                this::toResponse,
+                order -> KeysetCursor.encode(order.getMoment(), order.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportOrders(ExportFormat format, OutputStream outputStream) {
+
+        try (Stream<Order> orders = catchError.run(() -> orderRepository.streamAll())) {
+            dataExporter.export(orders, this::toResponse, format, outputStream);
+        }
     }
 
     @Transactional
@@ -69,14 +132,14 @@ public class OrderServiceImpl implements OrderService {
 
         Order savedOrder = catchError.run(() -> orderRepository.save(order));
         LOGGER.info("Order created: {}", savedOrder);
-        return dataMapper.map(savedOrder, OrderResponse.class);
+        return toResponse(savedOrder);
     }
 
     @Transactional(readOnly = true)
     public OrderResponse findOrderById(Long id) {
 
         return catchError.run(() -> orderRepository.findById(id))
-                .map(order -> dataMapper.map(order, OrderResponse.class))
+                .map(this::toResponse)
                 .orElseThrow(() -> new NotFoundException("Order not found with ID: " + id + "."));
     }
 
@@ -99,7 +162,7 @@ public class OrderServiceImpl implements OrderService {
 
         Order uodatedOrder = catchError.run(() -> orderRepository.save(order));
         LOGGER.info("Order updated: {}", uodatedOrder);
-        return dataMapper.map(uodatedOrder, OrderResponse.class);
+        return toResponse(uodatedOrder);
     }
 
     @Transactional
@@ -114,7 +177,7 @@ public class OrderServiceImpl implements OrderService {
 
         Order uodatedOrder = catchError.run(() -> orderRepository.save(order));
         LOGGER.info("Order status updated: {}", uodatedOrder);
-        return dataMapper.map(uodatedOrder, OrderResponse.class);
+        return toResponse(uodatedOrder);
     }
 
     @Transactional
@@ -134,7 +197,7 @@ public class OrderServiceImpl implements OrderService {
     public Page<OrderResponse> findOrderByClientId(UUID id, Pageable pageable) {
 
         return catchError.run(() -> orderRepository.findByClient_Id(id, pageable))
-                .map(order -> dataMapper.map(order, OrderResponse.class));
+                .map(this::toResponse);
     }
 
     public Order getOrderIfExists(Long id) {
@@ -150,6 +213,11 @@ public class OrderServiceImpl implements OrderService {
         LOGGER.info("Paid order saved: {}", order);
     }
 
+    private OrderResponse toResponse(Order order) {
+
+        return dataMapper.map(FetchPlans.initialize(order), OrderResponse.class);
+    }
+
     private DiscountCoupon validateDiscountCoupon(String code) {
 
         if (code == null) return null;
@@ -0,0 +1,291 @@
+package com.rogeriogregorio.ecommercemanager.services.impl;
+
+import com.rogeriogregorio.ecommercemanager.entities.Payment;
+import com.rogeriogregorio.ecommercemanager.entities.PaymentRetry;
+import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentStatus;
+import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentType;
+import com.rogeriogregorio.ecommercemanager.exceptions.ProviderUnavailableException;
+import com.rogeriogregorio.ecommercemanager.repositories.PaymentRepository;
+import com.rogeriogregorio.ecommercemanager.repositories.PaymentRetryRepository;
+import com.rogeriogregorio.ecommercemanager.services.PaymentRetryService;
+import com.rogeriogregorio.ecommercemanager.services.StockReservationService;
+import com.rogeriogregorio.ecommercemanager.services.strategy.payments.PaymentStrategy;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+@Service
+public class PaymentRetryServiceImpl implements PaymentRetryService {
+
+    private static final Duration RETRY_BUDGET = Duration.ofHours(1);
+    private static final Duration BASE_DELAY = Duration.ofSeconds(2);
+    private static final Duration MAX_DELAY = Duration.ofMinutes(5);
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final int WORKER_THREADS = 4;
+    private static final int DISPATCH_BATCH_SIZE = 50;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PaymentRetryRepository paymentRetryRepository;
+    private final PaymentRepository paymentRepository;
+    private final List<PaymentStrategy> paymentMethods;
+    private final StockReservationService stockReservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final CatchError catchError;
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(daemonThreads("payment-retry-dispatcher"));
+    private final ThreadPoolExecutor workers = new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS,
+            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), daemonThreads("payment-retry-worker"));
+    private static final Logger LOGGER = LogManager.getLogger(PaymentRetryServiceImpl.class);
+
+    @Autowired
+    public PaymentRetryServiceImpl(PaymentRetryRepository paymentRetryRepository,
+                                   PaymentRepository paymentRepository,
+                                   List<PaymentStrategy> paymentMethods,
+                                   StockReservationService stockReservationService,
+                                   PlatformTransactionManager transactionManager,
+                                   CatchError catchError) {
+
+        this.paymentRetryRepository = paymentRetryRepository;
+        this.paymentRepository = paymentRepository;
+        this.paymentMethods = paymentMethods;
+        this.stockReservationService = stockReservationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.catchError = catchError;
+    }
+
+    public void scheduleCharge(Payment payment) {
+
+        PaymentRetry paymentRetry = PaymentRetry.newBuilder()
+                .withPaymentId(payment.getId())
+                .withTxId(newTxId())
+                .withAttempts(0)
+                .withNextAttemptAt(Instant.now())
+                .build();
+
+        catchError.run(() -> paymentRetryRepository.save(paymentRetry));
+        LOGGER.info("Charge scheduled for pending payment {}", payment.getId());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.execute(PaymentRetryServiceImpl.this::dispatchSafely);
+                }
+            });
+        }
+    }
+
+    public int dispatchDueCharges() {
+
+        if (workers.getQueue().size() >= DISPATCH_BATCH_SIZE) {
+            return 0;
+        }
+
+        Instant now = Instant.now();
+        List<PaymentRetry> dueRetries = catchError.run(() -> paymentRetryRepository
+                .findDue(now, Limit.of(DISPATCH_BATCH_SIZE)));
+
+        int dispatched = 0;
+        for (PaymentRetry paymentRetry : dueRetries) {
+            int claimed = catchError.run(() -> paymentRetryRepository
+                    .claim(paymentRetry.getId(), paymentRetry.getNextAttemptAt(), now.plus(LEASE)));
+
+            if (claimed == 1) {
+                workers.execute(() -> attemptCharge(paymentRetry.getId()));
+                dispatched++;
+            }
+        }
+
+        return dispatched;
+    }
+
+    public void attemptCharge(Long paymentRetryId) {
+
+        PaymentRetry paymentRetry = catchError.run(() -> paymentRetryRepository.findById(paymentRetryId)).orElse(null);
+        if (paymentRetry == null) {
+            return;
+        }
+
+        Payment pendingPayment = transactionTemplate.execute(status -> loadPendingPayment(paymentRetry));
+        if (pendingPayment == null) {
+            catchError.run(() -> paymentRetryRepository.release(paymentRetry.getId(), paymentRetry.getNextAttemptAt()));
+            return;
+        }
+
+        try {
+            Payment charge = getPaymentStrategy(pendingPayment.getPaymentType())
+                    .createPayment(pendingPayment.getOrder(), paymentRetry.getTxId());
+            transactionTemplate.executeWithoutResult(status -> completeCharge(paymentRetry, charge));
+        } catch (RuntimeException ex) {
+            transactionTemplate.executeWithoutResult(status -> registerFailure(paymentRetry, pendingPayment, ex));
+        }
+    }
+
+    @PostConstruct
+    private void start() {
+
+        dispatcher.scheduleWithFixedDelay(this::dispatchSafely,
+                POLL_INTERVAL.toMillis(), POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+
+        dispatcher.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void dispatchSafely() {
+
+        try {
+            dispatchDueCharges();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to dispatch pending charges: {}", ex.getMessage());
+        }
+    }
+
+    private Payment loadPendingPayment(PaymentRetry paymentRetry) {
+
+        Payment payment = catchError.run(() -> paymentRepository.findById(paymentRetry.getPaymentId())).orElse(null);
+
+        if (payment == null || payment.getPaymentStatus() != PaymentStatus.PENDING) {
+            return null;
+        }
+
+        Hibernate.initialize(payment.getOrder().getItems());
+        return payment;
+    }
+
+    private void completeCharge(PaymentRetry paymentRetry, Payment charge) {
+
+        int released = catchError.run(() -> paymentRetryRepository
+                .release(paymentRetry.getId(), paymentRetry.getNextAttemptAt()));
+
+        if (released == 0) {
+            LOGGER.warn("Claim on payment {} expired before its charge {} was recorded, leaving it to the current holder",
+                    paymentRetry.getPaymentId(), charge.getTxId());
+            return;
+        }
+
+        Payment payment = catchError.run(() -> paymentRepository.findById(paymentRetry.getPaymentId())).orElseThrow();
+        payment.setTxId(charge.getTxId());
+        payment.setChargeLink(charge.getChargeLink());
+        payment.setBrCode(charge.getBrCode());
+        payment.setPaymentStatus(PaymentStatus.PROCESSING);
+
+        catchError.run(() -> paymentRepository.save(payment));
+        LOGGER.info("Charge created for payment {} after {} attempts", payment.getId(), paymentRetry.getAttempts() + 1);
+    }
+
+    private void registerFailure(PaymentRetry paymentRetry, Payment pendingPayment, RuntimeException ex) {
+
+        boolean rejected = isProviderRejection(ex);
+        int attempts = rejected ? paymentRetry.getAttempts() : paymentRetry.getAttempts() + 1;
+        Instant now = Instant.now();
+        Instant deadline = pendingPayment.getMoment().plus(RETRY_BUDGET);
+
+        if (!now.isBefore(deadline)) {
+            int released = catchError.run(() -> paymentRetryRepository
+                    .release(paymentRetry.getId(), paymentRetry.getNextAttemptAt()));
+            if (released == 0) {
+                return;
+            }
+
+            Payment payment = catchError.run(() -> paymentRepository.findById(pendingPayment.getId())).orElse(null);
+            if (payment == null || payment.getPaymentStatus() != PaymentStatus.PENDING) {
+                return;
+            }
+
+            payment.setPaymentStatus(PaymentStatus.CANCELED);
+            catchError.run(() -> paymentRepository.save(payment));
+            stockReservationService.releaseReservation(payment.getOrder());
+            LOGGER.error("Charge for payment {} abandoned after {} attempts in {}: {}",
+                    payment.getId(), attempts, RETRY_BUDGET, ex.getMessage());
+            return;
+        }
+
+        Instant backoffUntil = now.plus(backoff(Math.max(attempts, 1)));
+        Instant nextAttemptAt = backoffUntil.isBefore(deadline) ? backoffUntil : deadline;
+        int rescheduled = catchError.run(() -> paymentRetryRepository.reschedule(paymentRetry.getId(),
+                paymentRetry.getNextAttemptAt(), attempts, nextAttemptAt, truncate(ex.getMessage())));
+
+        if (rescheduled == 0) {
+            LOGGER.warn("Claim on payment {} expired before attempt {} failed, leaving it to the current holder",
+                    pendingPayment.getId(), attempts);
+            return;
+        }
+
+        if (rejected) {
+            LOGGER.info("Charge for payment {} rejected by the provider guard, next attempt at {}: {}",
+                    pendingPayment.getId(), nextAttemptAt, ex.getMessage());
+            return;
+        }
+
+        LOGGER.warn("Charge attempt {} for payment {} failed, next attempt at {}: {}",
+                attempts, pendingPayment.getId(), nextAttemptAt, ex.getMessage());
+    }
+
+    private boolean isProviderRejection(Throwable ex) {
+
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ProviderUnavailableException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private Duration backoff(int attempts) {
+
+        long ceiling = Math.min(MAX_DELAY.toMillis(), BASE_DELAY.toMillis() << Math.min(attempts - 1, 20));
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private static String newTxId() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private PaymentStrategy getPaymentStrategy(PaymentType paymentType) {
+
+        return paymentMethods.stream()
+                .filter(strategy -> strategy.getSupportedPaymentMethod().equals(paymentType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Payment method not supported: " + paymentType));
+    }
+
+    private String truncate(String message) {
+
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
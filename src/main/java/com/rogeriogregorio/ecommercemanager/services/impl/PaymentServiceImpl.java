@@ -1,6 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
-import com.rogeriogregorio.ecommercemanager.dto.PixWebhookDto;
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.PaymentRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.PaymentResponse;
 import com.rogeriogregorio.ecommercemanager.entities.Order;
@@ -13,22 +14,36 @@ import com.rogeriogregorio.ecommercemanager.mail.MailService;
 import com.rogeriogregorio.ecommercemanager.repositories.PaymentRepository;
 import com.rogeriogregorio.ecommercemanager.services.InventoryItemService;
 import com.rogeriogregorio.ecommercemanager.services.OrderService;
+import com.rogeriogregorio.ecommercemanager.services.PaymentRetryService;
 import com.rogeriogregorio.ecommercemanager.services.PaymentService;
 import com.rogeriogregorio.ecommercemanager.services.StockMovementService;
+import com.rogeriogregorio.ecommercemanager.services.StockReservationService;
 import com.rogeriogregorio.ecommercemanager.services.strategy.payments.PaymentStrategy;
 import com.rogeriogregorio.ecommercemanager.services.strategy.validations.OrderStrategy;
+import com.rogeriogregorio.ecommercemanager.utils.FetchPlans;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
+import com.rogeriogregorio.ecommercemanager.utils.KeysetCursor;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class PaymentServiceImpl implements PaymentService {
@@ -42,6 +57,10 @@ public class PaymentServiceImpl implements PaymentService {
     private final List<PaymentStrategy> paymentMethods;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final DataExporter dataExporter;
+    private final RowCounter rowCounter;
+    private final StockReservationService stockReservationService;
+    private final PaymentRetryService paymentRetryService;
 
     private static final Logger LOGGER = LogManager.getLogger(PaymentServiceImpl.class);
 
@@ -54,7 +73,11 @@ public class PaymentServiceImpl implements PaymentService {
                               List<OrderStrategy> orderValidators,
                               List<PaymentStrategy> paymentMethods,
                               CatchError catchError,
-                              DataMapper dataMapper) {
+                              DataMapper dataMapper,
+                              DataExporter dataExporter,
+                              RowCounter rowCounter,
+                              StockReservationService stockReservationService,
+                              PaymentRetryService paymentRetryService) {
 
         this.paymentRepository = paymentRepository;
         this.inventoryItemService = inventoryItemService;
@@ -65,26 +88,77 @@ public class PaymentServiceImpl implements PaymentService {
         this.paymentMethods = paymentMethods;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.dataExporter = dataExporter;
+        this.rowCounter = rowCounter;
+        this.stockReservationService = stockReservationService;
+        this.paymentRetryService = paymentRetryService;
     }
 
     @Transactional(readOnly = true)
     public Page<PaymentResponse> findAllPayments(Pageable pageable) {
 
         return catchError.run(() -> paymentRepository.findAll(pageable))
-                .map(payment -> dataMapper.map(payment, PaymentResponse.class));
+                .map(this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public SliceDto<PaymentResponse> findAllPaymentsSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<PaymentResponse> slice = catchError.run(() -> paymentRepository.findAllBy(pageable))
+                .map(this::toResponse);
+
+        Long total = approximateTotal ? rowCounter.approximateCount(Payment.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<PaymentResponse> findAllPaymentsByCursor(String cursor, int size) {
+
+        KeysetCursor keyset = KeysetCursor.newestFirst(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<Payment> paymentList = catchError.run(() -> paymentRepository
+                .findNextPage(keyset.getMoment(), keyset.getId(), Limit.of(pageSize + 1)));
+
+        return CursorPageDto.of(paymentList, pageSize,
+                this::toResponse,
+                payment -> KeysetCursor.encode(payment.getMoment(), payment.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportPayments(ExportFormat format, OutputStream outputStream) {
+
+        try (Stream<Payment> payments = catchError.run(() -> paymentRepository.streamAll())) {
+            dataExporter.export(payments, this::toResponse, format, outputStream);
+        }
     }
 
     @Transactional
     public PaymentResponse createPaymentProcess(PaymentRequest paymentRequest) {
 
+        PaymentStrategy paymentStrategy = getPaymentStrategy(paymentRequest);
+        paymentStrategy.ensureAvailable();
+
         Order order = orderService.getOrderIfExists(paymentRequest.getOrderId());
         orderValidators.forEach(strategy -> strategy.validateOrder(order));
+        stockReservationService.reserveStock(order);
 
-        Payment payment = getPaymentStrategy(paymentRequest).createPayment(order);
+        Payment payment = Payment.newBuilder()
+                .withMoment(Instant.now())
+                .withOrder(order)
+                .withPaymentType(paymentStrategy.getSupportedPaymentMethod())
+                .withPaymentStatus(PaymentStatus.PENDING)
+                .build();
 
         Payment savedPayment = catchError.run(() -> paymentRepository.save(payment));
-        LOGGER.info("Payment with charge saved: {}", savedPayment);
-        return dataMapper.map(savedPayment, PaymentResponse.class);
+        paymentRetryService.scheduleCharge(savedPayment);
+        LOGGER.info("Pending payment saved, charge scheduled: {}", savedPayment);
+        return toResponse(savedPayment);
+    }
+
+    private PaymentResponse toResponse(Payment payment) {
+
+        return dataMapper.map(FetchPlans.initialize(payment), PaymentResponse.class);
     }
 
     private PaymentStrategy getPaymentStrategy(PaymentRequest paymentRequest) {
@@ -98,24 +172,44 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Transactional
-    public void savePaidPixCharges(PixWebhookDto pixWebhook) {
+    public Set<String> applyPaidPixCharges(Collection<String> txIds) {
 
-        List<Payment> paidPixChargeList = buildPaidPixCharges(pixWebhook);
+        List<Payment> paymentList = catchError.run(() -> paymentRepository.findByTxIdIn(txIds));
+        Set<String> unknownTxIds = new HashSet<>(txIds);
 
-        for (Payment paymentPix : paidPixChargeList) {
-            Payment savedPaymentPix = catchError.run(() -> paymentRepository.save(paymentPix));
-            LOGGER.info("Payment pix with paid charge saved: {}", savedPaymentPix);
+        for (Payment payment : paymentList) {
+            unknownTxIds.remove(payment.getTxId());
 
-            updateInventoryStock(savedPaymentPix);
-            //CompletableFuture.runAsync(() -> mailService.sendPaymentReceiptEmail(savedPaymentPix));// TODO reativar método
+            if (payment.getPaymentStatus() == PaymentStatus.CONCLUDED) {
+                continue;
+            }
+
+            int concluded = catchError.run(() -> paymentRepository
+                    .updatePaymentStatusByTxId(payment.getTxId(), PaymentStatus.CONCLUDED.getCode()));
+
+            if (concluded == 0) {
+                LOGGER.info("Payment pix with txid {} already concluded by another path", payment.getTxId());
+                continue;
+            }
+
+            Order order = payment.getOrder();
+            order.setPayment(payment);
+            order.setOrderStatus(OrderStatus.PAID);
+            payment.setPaymentStatus(PaymentStatus.CONCLUDED);
+            LOGGER.info("Payment pix with paid charge applied: {}", payment);
+
+            updateInventoryStock(payment);
+            //CompletableFuture.runAsync(() -> mailService.sendPaymentReceiptEmail(payment));// TODO reativar método
         }
+
+        return unknownTxIds;
     }
 
     @Transactional(readOnly = true)
     public PaymentResponse findPaymentById(Long id) {
 
         return catchError.run(() -> paymentRepository.findById(id))
-                .map(payment -> dataMapper.map(payment, PaymentResponse.class))
+                .map(this::toResponse)
                 .orElseThrow(() -> new NotFoundException("Payment not found with ID: " + id + "."));
     }
 
@@ -128,13 +222,6 @@ public class PaymentServiceImpl implements PaymentService {
         LOGGER.warn("Payment deleted: {}", payment);
     }
 
-    @Transactional(readOnly = true)
-    private Payment findByTxId(String txId) {
-
-        return catchError.run(() -> paymentRepository.findByTxId(txId))
-                .orElseThrow(() -> new NotFoundException("Payment not found with txId: " + txId + "."));
-    }
-
     public Payment getPaymentIfExists(Long id) {
 
         return catchError.run(() -> paymentRepository.findById(id))
@@ -146,30 +233,6 @@ public class PaymentServiceImpl implements PaymentService {
         Order orderPaid = payment.getOrder();
         inventoryItemService.updateInventoryItemQuantity(orderPaid);
         stockMovementService.updateStockMovementExit(orderPaid);
-    }
-
-    private List<Payment> buildPaidPixCharges(PixWebhookDto pixWebhook) {
-
-        List<PixWebhookDto.Pix> pixList = pixWebhook.getPix();
-        List<Payment> paidPixChargeList = new ArrayList<>();
-
-        for (PixWebhookDto.Pix pix : pixList) {
-            Payment paymentPix = findByTxId(pix.getTxid());
-
-            Long orderId = paymentPix.getOrder().getId();
-            Order order = orderService.getOrderIfExists(orderId);
-            order.setPayment(paymentPix);
-            order.setOrderStatus(OrderStatus.PAID);
-            orderService.savePaidOrder(order);
-
-            paymentPix.toBuilder()
-                    .withOrder(order)
-                    .withPaymentStatus(PaymentStatus.CONCLUDED)
-                    .build();
-
-            paidPixChargeList.add(paymentPix);
-        }
-        return paidPixChargeList;
+        stockReservationService.confirmReservation(orderPaid);
     }
 }
-
@@ -0,0 +1,294 @@
+package com.rogeriogregorio.ecommercemanager.services.impl;
+
+import com.rogeriogregorio.ecommercemanager.dto.PixListChargeDto;
+import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentStatus;
+import com.rogeriogregorio.ecommercemanager.payment.PixService;
+import com.rogeriogregorio.ecommercemanager.repositories.PaymentRepository;
+import com.rogeriogregorio.ecommercemanager.services.PaymentService;
+import com.rogeriogregorio.ecommercemanager.services.PixReconciliationService;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+@Service
+public class PixReconciliationServiceImpl implements PixReconciliationService {
+
+    private static final String CONCLUDED_CHARGE = "CONCLUIDA";
+    private static final int TX_ID_BATCH_SIZE = 500;
+
+    @Value("${api.pix.reconciliation.interval}")
+    private Duration interval;
+    @Value("${api.pix.reconciliation.lookback}")
+    private Duration lookback;
+    @Value("${api.pix.reconciliation.chunk}")
+    private Duration chunkSize;
+    @Value("${api.pix.reconciliation.parallelism}")
+    private int parallelism;
+    @Value("${api.pix.reconciliation.webhook-grace}")
+    private Duration webhookGrace;
+    private final PixService pixService;
+    private final PaymentRepository paymentRepository;
+    private final PaymentService paymentService;
+    private final CatchError catchError;
+    private final Counter scannedCharges;
+    private final Counter appliedCharges;
+    private final Counter failedCharges;
+    private final Counter failedChunks;
+    private final Timer runs;
+    private final Timer chunks;
+    private final Timer lag;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("pix-reconciliation-scheduler"));
+    private static final Logger LOGGER = LogManager.getLogger(PixReconciliationServiceImpl.class);
+
+    @Autowired
+    public PixReconciliationServiceImpl(PixService pixService,
+                                        PaymentRepository paymentRepository,
+                                        PaymentService paymentService,
+                                        CatchError catchError,
+                                        MeterRegistry meterRegistry) {
+
+        this.pixService = pixService;
+        this.paymentRepository = paymentRepository;
+        this.paymentService = paymentService;
+        this.catchError = catchError;
+
+        this.scannedCharges = Counter.builder("pix.reconciliation.charges.scanned")
+                .description("Pix charges read from the PSP by the reconciliation")
+                .register(meterRegistry);
+        this.appliedCharges = Counter.builder("pix.reconciliation.charges.applied")
+                .description("Paid Pix charges applied by the reconciliation because their webhook was missed")
+                .register(meterRegistry);
+        this.failedCharges = Counter.builder("pix.reconciliation.charges.failed")
+                .description("Paid Pix charges the reconciliation could not apply")
+                .register(meterRegistry);
+        this.failedChunks = Counter.builder("pix.reconciliation.chunks.failed")
+                .description("Reconciliation chunks that could not be read from the PSP")
+                .register(meterRegistry);
+        this.runs = Timer.builder("pix.reconciliation.runs")
+                .description("Duration of a full reconciliation of the lookback window")
+                .register(meterRegistry);
+        this.chunks = Timer.builder("pix.reconciliation.chunks")
+                .description("Duration of the reconciliation of a single date chunk")
+                .register(meterRegistry);
+        this.lag = Timer.builder("pix.reconciliation.lag")
+                .description("Time between a Pix payment and its detection by the reconciliation")
+                .register(meterRegistry);
+    }
+
+    public int reconcile(Instant start, Instant end) {
+
+        List<Instant[]> dateChunks = splitIntoChunks(start, end);
+        if (dateChunks.isEmpty()) {
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        ExecutorService fetchers = Executors.newFixedThreadPool(Math.min(parallelism, dateChunks.size()),
+                daemonThreads("pix-reconciliation-fetcher"));
+
+        try {
+            List<Future<Integer>> results = new ArrayList<>(dateChunks.size());
+            for (Instant[] chunk : dateChunks) {
+                results.add(fetchers.submit(() -> reconcileChunkSafely(chunk[0], chunk[1])));
+            }
+
+            int applied = 0;
+            for (Future<Integer> result : results) {
+                applied += awaitChunk(result);
+            }
+
+            LOGGER.info("Pix reconciliation from {} to {} in {} chunks applied {} missed payments",
+                    start, end, dateChunks.size(), applied);
+            return applied;
+        } finally {
+            fetchers.shutdownNow();
+            runs.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PostConstruct
+    private void start() {
+
+        scheduler.scheduleWithFixedDelay(this::reconcileLookbackSafely,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void reconcileLookbackSafely() {
+
+        Instant end = Instant.now();
+
+        try {
+            reconcile(end.minus(lookback), end);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Pix reconciliation failed: {}", ex.getMessage());
+        }
+    }
+
+    private List<Instant[]> splitIntoChunks(Instant start, Instant end) {
+
+        List<Instant[]> dateChunks = new ArrayList<>();
+
+        for (Instant chunkStart = start; chunkStart.isBefore(end); chunkStart = chunkStart.plus(chunkSize)) {
+            Instant chunkEnd = chunkStart.plus(chunkSize);
+            dateChunks.add(new Instant[] { chunkStart, chunkEnd.isAfter(end) ? end : chunkEnd });
+        }
+
+        return dateChunks;
+    }
+
+    private int reconcileChunkSafely(Instant start, Instant end) {
+
+        long startedAt = System.nanoTime();
+
+        try {
+            return reconcileChunk(start, end);
+        } catch (RuntimeException ex) {
+            failedChunks.increment();
+            LOGGER.warn("Pix reconciliation chunk from {} to {} failed: {}", start, end, ex.getMessage());
+            return 0;
+        } finally {
+            chunks.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int reconcileChunk(Instant start, Instant end) {
+
+        Map<String, Instant> paidAtByTxId = new LinkedHashMap<>();
+        Instant settledBefore = Instant.now().minus(webhookGrace);
+        int applied = 0;
+
+        try (Stream<PixListChargeDto.Cob> charges = pixService.streamPixCharges(start, end)) {
+            Iterator<PixListChargeDto.Cob> iterator = charges.iterator();
+
+            while (iterator.hasNext()) {
+                PixListChargeDto.Cob charge = iterator.next();
+                scannedCharges.increment();
+
+                if (CONCLUDED_CHARGE.equals(charge.getStatus()) && charge.getTxid() != null) {
+                    Instant paidAt = paidAt(charge);
+                    if (paidAt == null || paidAt.isBefore(settledBefore)) {
+                        paidAtByTxId.put(charge.getTxid(), paidAt);
+                    }
+                }
+
+                if (paidAtByTxId.size() >= TX_ID_BATCH_SIZE) {
+                    applied += applyMissedPayments(paidAtByTxId);
+                    paidAtByTxId.clear();
+                }
+            }
+        }
+
+        if (!paidAtByTxId.isEmpty()) {
+            applied += applyMissedPayments(paidAtByTxId);
+        }
+
+        return applied;
+    }
+
+    private int applyMissedPayments(Map<String, Instant> paidAtByTxId) {
+
+        List<String> missedTxIds = catchError.run(() -> paymentRepository
+                .findTxIdsByPaymentStatusNot(paidAtByTxId.keySet(), PaymentStatus.CONCLUDED.getCode()));
+
+        if (missedTxIds.isEmpty()) {
+            return 0;
+        }
+
+        List<String> appliedTxIds = applyPaidPixCharges(missedTxIds);
+        Instant detectedAt = Instant.now();
+
+        for (String txId : appliedTxIds) {
+            Instant paidAt = paidAtByTxId.get(txId);
+            if (paidAt != null && paidAt.isBefore(detectedAt)) {
+                lag.record(Duration.between(paidAt, detectedAt));
+            }
+        }
+
+        if (!appliedTxIds.isEmpty()) {
+            appliedCharges.increment(appliedTxIds.size());
+            LOGGER.warn("Pix reconciliation applied {} payments whose webhook was missed: {}", appliedTxIds.size(), appliedTxIds);
+        }
+
+        return appliedTxIds.size();
+    }
+
+    private List<String> applyPaidPixCharges(List<String> missedTxIds) {
+
+        try {
+            paymentService.applyPaidPixCharges(missedTxIds);
+            return missedTxIds;
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Pix reconciliation batch of {} payments failed, applying one by one: {}",
+                    missedTxIds.size(), ex.getMessage());
+        }
+
+        List<String> appliedTxIds = new ArrayList<>(missedTxIds.size());
+        for (String txId : missedTxIds) {
+            try {
+                paymentService.applyPaidPixCharges(List.of(txId));
+                appliedTxIds.add(txId);
+            } catch (RuntimeException ex) {
+                failedCharges.increment();
+                LOGGER.error("Pix reconciliation could not apply the payment with txid {}: {}", txId, ex.getMessage());
+            }
+        }
+
+        return appliedTxIds;
+    }
+
+    private Instant paidAt(PixListChargeDto.Cob charge) {
+
+        if (charge.getPix() == null || charge.getPix().isEmpty() || charge.getPix().get(0).getHorario() == null) {
+            return null;
+        }
+
+        try {
+            return OffsetDateTime.parse(charge.getPix().get(0).getHorario()).toInstant();
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    private int awaitChunk(Future<Integer> result) {
+
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (ExecutionException ex) {
+            LOGGER.warn("Pix reconciliation chunk failed: {}", ex.getCause().getMessage());
+            return 0;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
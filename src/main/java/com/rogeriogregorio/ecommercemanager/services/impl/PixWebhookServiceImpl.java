@@ -0,0 +1,332 @@
+package com.rogeriogregorio.ecommercemanager.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rogeriogregorio.ecommercemanager.dto.PixWebhookDto;
+import com.rogeriogregorio.ecommercemanager.entities.PixWebhookEvent;
+import com.rogeriogregorio.ecommercemanager.repositories.PixWebhookEventRepository;
+import com.rogeriogregorio.ecommercemanager.services.PaymentService;
+import com.rogeriogregorio.ecommercemanager.services.PixWebhookService;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class PixWebhookServiceImpl implements PixWebhookService {
+
+    private static final int WORKER_PARTITIONS = 2;
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(2);
+    private static final Duration BASE_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_DELAY = Duration.ofMinutes(5);
+    private static final String PAYMENT_NOT_FOUND = "Payment not found with txId";
+
+    private final PixWebhookEventRepository pixWebhookEventRepository;
+    private final PaymentService paymentService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final CatchError catchError;
+    private final MeterRegistry meterRegistry;
+    private final Counter abandonedEvents;
+    private final ReentrantLock[] partitionLocks = new ReentrantLock[WORKER_PARTITIONS];
+    private final ScheduledExecutorService workers = Executors.newScheduledThreadPool(WORKER_PARTITIONS, daemonThreads("pix-webhook-worker"));
+    private static final Logger LOGGER = LogManager.getLogger(PixWebhookServiceImpl.class);
+
+    @Autowired
+    public PixWebhookServiceImpl(PixWebhookEventRepository pixWebhookEventRepository,
+                                 PaymentService paymentService,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 CatchError catchError,
+                                 MeterRegistry meterRegistry) {
+
+        this.pixWebhookEventRepository = pixWebhookEventRepository;
+        this.paymentService = paymentService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.catchError = catchError;
+        this.meterRegistry = meterRegistry;
+        this.abandonedEvents = Counter.builder("pix.webhook.events.abandoned")
+                .description("Pix webhook events given up after exhausting their attempts")
+                .register(meterRegistry);
+
+        for (int partition = 0; partition < WORKER_PARTITIONS; partition++) {
+            partitionLocks[partition] = new ReentrantLock();
+        }
+    }
+
+    @Transactional
+    public int enqueue(PixWebhookDto pixWebhook) {
+
+        List<PixWebhookDto.Pix> pixList = pixWebhook.getPix() == null ? List.of() : pixWebhook.getPix();
+        Instant receivedAt = Instant.now();
+
+        Map<String, PixWebhookEvent> receivedEvents = new LinkedHashMap<>();
+        for (PixWebhookDto.Pix pix : pixList) {
+            if (pix.getTxid() == null) {
+                LOGGER.warn("Pix webhook entry without txid ignored: {}", pix.getEndToEndId());
+                continue;
+            }
+
+            PixWebhookEvent event = buildEvent(pix, receivedAt);
+            receivedEvents.putIfAbsent(event.getDedupeKey(), event);
+        }
+
+        if (receivedEvents.isEmpty()) {
+            return 0;
+        }
+
+        catchError.run(() -> pixWebhookEventRepository.findExistingDedupeKeys(receivedEvents.keySet()))
+                .forEach(receivedEvents::remove);
+
+        if (receivedEvents.isEmpty()) {
+            LOGGER.info("Pix webhook redelivery ignored, {} entries already received", pixList.size());
+            return 0;
+        }
+
+        List<PixWebhookEvent> newEvents = new ArrayList<>(receivedEvents.values());
+        catchError.run(() -> pixWebhookEventRepository.saveAll(newEvents));
+        LOGGER.info("Pix webhook enqueued: {} new of {} entries", newEvents.size(), pixList.size());
+
+        Set<Integer> partitions = new HashSet<>();
+        newEvents.forEach(event -> partitions.add(event.getWorkerPartition()));
+        wakeWorkersAfterCommit(partitions);
+
+        return newEvents.size();
+    }
+
+    public int processPendingEvents(int partition) {
+
+        ReentrantLock lock = partitionLocks[partition];
+        if (!lock.tryLock()) {
+            return 0;
+        }
+
+        try {
+            int processed = 0;
+            List<PixWebhookEvent> pendingEvents;
+
+            List<Long> dueIds;
+
+            do {
+                Instant now = Instant.now();
+                dueIds = catchError.run(() -> pixWebhookEventRepository
+                        .findDueIds(partition, MAX_ATTEMPTS, now, Limit.of(BATCH_SIZE)));
+
+                if (dueIds.isEmpty()) {
+                    break;
+                }
+
+                pendingEvents = claim(dueIds, now);
+                if (pendingEvents.isEmpty()) {
+                    continue;
+                }
+
+                int applied = applyBatch(pendingEvents);
+                processed += applied;
+
+                if (applied < pendingEvents.size()) {
+                    break;
+                }
+            } while (dueIds.size() == BATCH_SIZE);
+
+            return processed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PostConstruct
+    private void start() {
+
+        Gauge.builder("pix.webhook.events.stranded", pixWebhookEventRepository,
+                        repository -> repository.countAbandoned(MAX_ATTEMPTS))
+                .description("Pix webhook events left unprocessed after exhausting their attempts")
+                .register(meterRegistry);
+
+        for (int partition = 0; partition < WORKER_PARTITIONS; partition++) {
+            int workerPartition = partition;
+            workers.scheduleWithFixedDelay(() -> processSafely(workerPartition),
+                    POLL_INTERVAL.toMillis(), POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    private void stop() {
+
+        workers.shutdown();
+    }
+
+    private PixWebhookEvent buildEvent(PixWebhookDto.Pix pix, Instant receivedAt) {
+
+        String dedupeKey = pix.getEndToEndId() != null ? pix.getEndToEndId() : "txid:" + pix.getTxid();
+
+        return PixWebhookEvent.newBuilder()
+                .withDedupeKey(dedupeKey)
+                .withEndToEndId(pix.getEndToEndId())
+                .withTxId(pix.getTxid())
+                .withWorkerPartition(Math.floorMod(pix.getTxid().hashCode(), WORKER_PARTITIONS))
+                .withPayload(catchError.run(() -> objectMapper.writeValueAsString(pix)))
+                .withReceivedAt(receivedAt)
+                .withAttempts(0)
+                .withNextAttemptAt(receivedAt)
+                .build();
+    }
+
+    private List<PixWebhookEvent> claim(List<Long> dueIds, Instant now) {
+
+        String claimToken = UUID.randomUUID().toString();
+        Instant leaseUntil = now.plus(CLAIM_LEASE);
+
+        int claimed = catchError.run(() -> pixWebhookEventRepository.claim(dueIds, claimToken, leaseUntil, now));
+        if (claimed == 0) {
+            return List.of();
+        }
+
+        return catchError.run(() -> pixWebhookEventRepository.findClaimed(claimToken));
+    }
+
+    private int applyBatch(List<PixWebhookEvent> pendingEvents) {
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyEvents(pendingEvents));
+            return pendingEvents.size();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Pix webhook batch of {} events failed, applying one by one: {}",
+                    pendingEvents.size(), ex.getMessage());
+        }
+
+        int applied = 0;
+        for (PixWebhookEvent event : pendingEvents) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyEvents(List.of(event)));
+                applied++;
+            } catch (RuntimeException ex) {
+                transactionTemplate.executeWithoutResult(status -> registerFailure(event, ex));
+            }
+        }
+
+        return applied;
+    }
+
+    private void applyEvents(List<PixWebhookEvent> events) {
+
+        Set<String> txIds = new HashSet<>();
+        events.forEach(event -> txIds.add(event.getTxId()));
+
+        Set<String> unknownTxIds = paymentService.applyPaidPixCharges(txIds);
+        Instant processedAt = Instant.now();
+
+        List<PixWebhookEvent> processedEvents = new ArrayList<>(events.size());
+        for (PixWebhookEvent event : events) {
+            boolean unknown = unknownTxIds.contains(event.getTxId());
+
+            processedEvents.add(event.toBuilder()
+                    .withProcessedAt(processedAt)
+                    .withAttempts(event.getAttempts() + 1)
+                    .withLastError(unknown ? PAYMENT_NOT_FOUND : null)
+                    .withClaimToken(null)
+                    .build());
+
+            if (unknown) {
+                LOGGER.warn("{}: {}", PAYMENT_NOT_FOUND, event.getTxId());
+            }
+        }
+
+        catchError.run(() -> pixWebhookEventRepository.saveAll(processedEvents));
+    }
+
+    private void registerFailure(PixWebhookEvent event, RuntimeException ex) {
+
+        int attempts = event.getAttempts() + 1;
+
+        PixWebhookEvent failedEvent = event.toBuilder()
+                .withAttempts(attempts)
+                .withLastError(truncate(ex.getMessage()))
+                .withNextAttemptAt(Instant.now().plus(backoff(attempts)))
+                .withClaimToken(null)
+                .build();
+
+        catchError.run(() -> pixWebhookEventRepository.save(failedEvent));
+
+        if (attempts >= MAX_ATTEMPTS) {
+            abandonedEvents.increment();
+            LOGGER.error("Pix webhook event {} abandoned after {} attempts: {}", event.getDedupeKey(), attempts, ex.getMessage());
+        } else {
+            LOGGER.warn("Pix webhook event {} failed on attempt {}: {}", event.getDedupeKey(), attempts, ex.getMessage());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+
+        long ceiling = Math.min(MAX_DELAY.toMillis(), BASE_DELAY.toMillis() << Math.min(attempts - 1, 20));
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private void wakeWorkersAfterCommit(Set<Integer> partitions) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                partitions.forEach(partition -> workers.execute(() -> processSafely(partition)));
+            }
+        });
+    }
+
+    private void processSafely(int partition) {
+
+        try {
+            processPendingEvents(partition);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to process pix webhook events of partition {}: {}", partition, ex.getMessage());
+        }
+    }
+
+    private String truncate(String message) {
+
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.ProductDiscountRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.ProductDiscountResponse;
 import com.rogeriogregorio.ecommercemanager.entities.ProductDiscount;
@@ -8,15 +10,20 @@ import com.rogeriogregorio.ecommercemanager.repositories.ProductDiscountReposito
 import com.rogeriogregorio.ecommercemanager.services.ProductDiscountService;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.KeysetCursor;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 
 @Service
 public class ProductDiscountServiceImpl implements ProductDiscountService {
@@ -24,15 +31,18 @@ public class ProductDiscountServiceImpl implements ProductDiscountService {
     private final ProductDiscountRepository productDiscountRepository;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final RowCounter rowCounter;
     private static final Logger LOGGER = LogManager.getLogger(ProductDiscountServiceImpl.class);
 
     @Autowired
     public ProductDiscountServiceImpl(ProductDiscountRepository productDiscountRepository,
-                                      CatchError catchError, DataMapper dataMapper) {
+                                      CatchError catchError, DataMapper dataMapper,
+                                      RowCounter rowCounter) {
 
         this.productDiscountRepository = productDiscountRepository;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.rowCounter = rowCounter;
     }
 
     @Transactional(readOnly = true)
@@ -42,6 +52,30 @@ public class ProductDiscountServiceImpl implements ProductDiscountService {
                 .map(productDiscount -> dataMapper.map(productDiscount, ProductDiscountResponse.class));
     }
 
+    @Transactional(readOnly = true)
+    public SliceDto<ProductDiscountResponse> findAllProductDiscountsSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<ProductDiscountResponse> slice = catchError.run(() -> productDiscountRepository.findAllBy(pageable))
+                .map(productDiscount -> dataMapper.map(productDiscount, ProductDiscountResponse.class));
+
+        Long total = approximateTotal ? rowCounter.approximateCount(ProductDiscount.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<ProductDiscountResponse> findAllProductDiscountsByCursor(String cursor, int size) {
+
+        KeysetCursor keyset = KeysetCursor.byId(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<ProductDiscount> productDiscountList = catchError.run(() -> productDiscountRepository
+                .findByIdGreaterThanOrderByIdAsc(keyset.getId(), Limit.of(pageSize + 1)));
+
+        return CursorPageDto.of(productDiscountList, pageSize,
+                productDiscount -> dataMapper.map(productDiscount, ProductDiscountResponse.class),
+                productDiscount -> KeysetCursor.encode(productDiscount.getId()));
+    }
+
     @Transactional
     public ProductDiscountResponse createProductDiscount(ProductDiscountRequest productDiscountRequest) {
 
@@ -1,5 +1,6 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.ProductReviewRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.ProductReviewResponse;
 import com.rogeriogregorio.ecommercemanager.entities.Product;
@@ -11,13 +12,16 @@ import com.rogeriogregorio.ecommercemanager.repositories.ProductReviewRepository
 import com.rogeriogregorio.ecommercemanager.services.ProductReviewService;
 import com.rogeriogregorio.ecommercemanager.services.ProductService;
 import com.rogeriogregorio.ecommercemanager.services.UserService;
+import com.rogeriogregorio.ecommercemanager.utils.FetchPlans;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,25 +37,38 @@ public class ProductReviewServiceImpl implements ProductReviewService {
     private final UserService userService;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final RowCounter rowCounter;
     private static final Logger LOGGER = LogManager.getLogger(ProductReviewServiceImpl.class);
 
     @Autowired
     public ProductReviewServiceImpl(ProductReviewRepository productReviewRepository,
                                     ProductService productService, UserService userService,
-                                    CatchError catchError, DataMapper dataMapper) {
+                                    CatchError catchError, DataMapper dataMapper,
+                                    RowCounter rowCounter) {
 
         this.productReviewRepository = productReviewRepository;
         this.productService = productService;
         this.userService = userService;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.rowCounter = rowCounter;
     }
 
     @Transactional(readOnly = true)
     public Page<ProductReviewResponse> findAllProductReviews(Pageable pageable) {
 
         return catchError.run(() -> productReviewRepository.findAll(pageable))
-                .map(productReview -> dataMapper.map(productReview, ProductReviewResponse.class));
+                .map(this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public SliceDto<ProductReviewResponse> findAllProductReviewsSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<ProductReviewResponse> slice = catchError.run(() -> productReviewRepository.findAllBy(pageable))
+                .map(this::toResponse);
+
+        Long total = approximateTotal ? rowCounter.approximateCount(ProductReview.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
     }
 
     @Transactional
@@ -61,7 +78,7 @@ public class ProductReviewServiceImpl implements ProductReviewService {
 
         ProductReview savedProductReview = catchError.run(() -> productReviewRepository.save(productReview));
         LOGGER.info("Product review created: {}", savedProductReview);
-        return dataMapper.map(savedProductReview, ProductReviewResponse.class);
+        return toResponse(savedProductReview);
     }
 
     @Transactional(readOnly = true)
@@ -70,7 +87,7 @@ public class ProductReviewServiceImpl implements ProductReviewService {
         ProductReviewPK id = buildProductReviewPK(productId, userId);
 
         return catchError.run(() -> productReviewRepository.findById(id))
-                .map(productReview -> dataMapper.map(productReview, ProductReviewResponse.class))
+                .map(this::toResponse)
                 .orElseThrow(() -> new NotFoundException("Product review not found with ID: " + id + "."));
     }
 
@@ -81,7 +98,7 @@ public class ProductReviewServiceImpl implements ProductReviewService {
 
         ProductReview updateProductReview = catchError.run(() -> productReviewRepository.save(productReview));
         LOGGER.info("Product review updated: {}", updateProductReview);
-        return dataMapper.map(updateProductReview, ProductReviewResponse.class);
+        return toResponse(updateProductReview);
     }
 
     @Transactional
@@ -93,6 +110,11 @@ public class ProductReviewServiceImpl implements ProductReviewService {
         LOGGER.warn("Product review removed: {}", id.getProduct());
     }
 
+    private ProductReviewResponse toResponse(ProductReview productReview) {
+
+        return dataMapper.map(FetchPlans.initialize(productReview), ProductReviewResponse.class);
+    }
+
     private ProductReview validateProductReview(ProductReview productReview) {
 
         Set<Product> purchasedProducts = productReview.getUser().getPurchasedProducts();
@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.ProductRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.ProductResponse;
 import com.rogeriogregorio.ecommercemanager.entities.Category;
@@ -10,17 +12,26 @@ import com.rogeriogregorio.ecommercemanager.repositories.ProductRepository;
 import com.rogeriogregorio.ecommercemanager.services.CategoryService;
 import com.rogeriogregorio.ecommercemanager.services.ProductDiscountService;
 import com.rogeriogregorio.ecommercemanager.services.ProductService;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
+import com.rogeriogregorio.ecommercemanager.utils.KeysetCursor;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Service
 public class ProductServiceImpl implements ProductService {
@@ -30,26 +41,64 @@ public class ProductServiceImpl implements ProductService {
     private final ProductDiscountService productDiscountService;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final DataExporter dataExporter;
+    private final RowCounter rowCounter;
     private static final Logger LOGGER = LogManager.getLogger(ProductServiceImpl.class);
 
     @Autowired
     public ProductServiceImpl(ProductRepository productRepository,
                               CategoryService categoryService,
                               ProductDiscountService productDiscountService,
-                              CatchError catchError, DataMapper dataMapper) {
+                              CatchError catchError, DataMapper dataMapper,
+                              DataExporter dataExporter,
+                              RowCounter rowCounter) {
 
         this.productRepository = productRepository;
         this.categoryService = categoryService;
         this.productDiscountService = productDiscountService;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.dataExporter = dataExporter;
+        this.rowCounter = rowCounter;
     }
 
     @Transactional(readOnly = true)
     public Page<ProductResponse> findAllProducts(Pageable pageable) {
 
         return catchError.run(() -> productRepository.findAll(pageable))
-                .map(product -> dataMapper.map(product, ProductResponse.class));
+                .map(this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public SliceDto<ProductResponse> findAllProductsSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<ProductResponse> slice = catchError.run(() -> productRepository.findAllBy(pageable))
+                .map(this::toResponse);
+
+        Long total = approximateTotal ? rowCounter.approximateCount(Product.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<ProductResponse> findAllProductsByCursor(String cursor, int size) {
+
+        KeysetCursor keyset = KeysetCursor.byId(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<Product> productList = catchError.run(() -> productRepository
+                .findByIdGreaterThanOrderByIdAsc(keyset.getId(), Limit.of(pageSize + 1)));
+
+        return CursorPageDto.of(productList, pageSize,
+                this::toResponse,
+                product -> KeysetCursor.encode(product.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportProducts(ExportFormat format, OutputStream outputStream) {
+
+        try (Stream<Product> products = catchError.run(() -> productRepository.streamAll())) {
+            dataExporter.export(products, this::toResponse, format, outputStream);
+        }
     }
 
     @Transactional
@@ -67,8 +116,8 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     public ProductResponse findProductById(Long id) {
 
-        return catchError.run(() -> productRepository.findById(id))
-                .map(product -> dataMapper.map(product, ProductResponse.class))
+        return catchError.run(() -> productRepository.findWithCategoriesById(id))
+                .map(this::toResponse)
                 .orElseThrow(() -> new NotFoundException("Product not found with ID: " + id + "."));
     }
 
@@ -98,7 +147,7 @@ public class ProductServiceImpl implements ProductService {
     public Page<ProductResponse> findProductByName(String name, Pageable pageable) {
 
         return catchError.run(() -> productRepository.findByName(name, pageable))
-                .map(product -> dataMapper.map(product, ProductResponse.class));
+                .map(this::toResponse);
     }
 
     public Product getProductIfExists(Long id) {
@@ -107,6 +156,12 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new NotFoundException("Product not found with ID: " + id + "."));
     }
 
+    private ProductResponse toResponse(Product product) {
+
+        Hibernate.initialize(product.getCategories());
+        return dataMapper.map(product, ProductResponse.class);
+    }
+
     private Set<Category> validateCategory(ProductRequest productRequest) {
 
         List<Long> categoryIdList = productRequest.getCategoryIdList();
@@ -0,0 +1,315 @@
+package com.rogeriogregorio.ecommercemanager.services.impl;
+
+import com.rogeriogregorio.ecommercemanager.dto.responses.StockLedgerMismatchResponse;
+import com.rogeriogregorio.ecommercemanager.entities.InventoryItem;
+import com.rogeriogregorio.ecommercemanager.entities.Order;
+import com.rogeriogregorio.ecommercemanager.entities.OrderItem;
+import com.rogeriogregorio.ecommercemanager.entities.StockMovement;
+import com.rogeriogregorio.ecommercemanager.entities.enums.MovementType;
+import com.rogeriogregorio.ecommercemanager.entities.enums.OrderStatus;
+import com.rogeriogregorio.ecommercemanager.repositories.InventoryItemRepository;
+import com.rogeriogregorio.ecommercemanager.repositories.OrderRepository;
+import com.rogeriogregorio.ecommercemanager.repositories.StockMovementRepository;
+import com.rogeriogregorio.ecommercemanager.services.StockLedgerService;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class StockLedgerServiceImpl implements StockLedgerService {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final Duration MAX_BATCH_DELAY = Duration.ofMillis(5);
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration RECOVERY_WINDOW = Duration.ofDays(1);
+    private static final Duration SETTLE_DELAY = Duration.ofMinutes(5);
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final Duration RETRY_DELAY = Duration.ofMillis(200);
+    private static final Set<Integer> STOCK_DEDUCTED_STATUSES = Set.of(
+            OrderStatus.PAID.getCode(), OrderStatus.SHIPPED.getCode(), OrderStatus.DELIVERED.getCode());
+
+    private final StockMovementRepository stockMovementRepository;
+    private final OrderRepository orderRepository;
+    private final InventoryItemRepository inventoryItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CatchError catchError;
+    private final BlockingQueue<StockMovement> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread writerThread = new Thread(this::writeLoop, "stock-ledger-writer");
+    private volatile boolean running = true;
+    private static final Logger LOGGER = LogManager.getLogger(StockLedgerServiceImpl.class);
+
+    @Autowired
+    public StockLedgerServiceImpl(StockMovementRepository stockMovementRepository,
+                                  OrderRepository orderRepository,
+                                  InventoryItemRepository inventoryItemRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  CatchError catchError) {
+
+        this.stockMovementRepository = stockMovementRepository;
+        this.orderRepository = orderRepository;
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.catchError = catchError;
+        this.writerThread.setDaemon(true);
+    }
+
+    public void record(List<StockMovement> stockMovements) {
+
+        if (stockMovements.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(stockMovements);
+                }
+            });
+        } else {
+            enqueue(stockMovements);
+        }
+    }
+
+    public void recordNow(List<StockMovement> stockMovements) {
+
+        catchError.run(() -> stockMovementRepository.saveAll(stockMovements));
+    }
+
+    public int rebuildMissingStockMovements() {
+
+        List<StockMovement> stockMovementList = transactionTemplate.execute(status -> {
+            List<StockMovement> missingMovements = new ArrayList<>();
+            missingMovements.addAll(buildMissingEntrances());
+            missingMovements.addAll(buildMissingExits());
+            return catchError.run(() -> stockMovementRepository.saveAll(missingMovements));
+        });
+
+        int rebuilt = stockMovementList == null ? 0 : stockMovementList.size();
+        if (rebuilt > 0) {
+            LOGGER.warn("Stock movements rebuilt from inventory and order state: {}", rebuilt);
+        }
+
+        return rebuilt;
+    }
+
+    public List<StockLedgerMismatchResponse> findBalanceMismatches() {
+
+        List<Object[]> mismatches = catchError.run(() -> stockMovementRepository
+                .findBalanceMismatches(MovementType.ENTRANCE.getCode()));
+
+        return mismatches.stream()
+                .map(mismatch -> {
+                    InventoryItem inventoryItem = (InventoryItem) mismatch[0];
+                    return new StockLedgerMismatchResponse(inventoryItem.getId(),
+                            inventoryItem.getQuantityInStock(), ((Number) mismatch[1]).longValue());
+                })
+                .toList();
+    }
+
+    @PostConstruct
+    private void start() {
+        writerThread.start();
+    }
+
+    @PreDestroy
+    private void stop() throws InterruptedException {
+
+        running = false;
+        writerThread.join(SHUTDOWN_TIMEOUT.toMillis());
+
+        if (!queue.isEmpty()) {
+            LOGGER.warn("Stock ledger stopped with {} pending movements; rebuild them through POST /stock-movements/rebuild",
+                    queue.size());
+        }
+    }
+
+    private void enqueue(List<StockMovement> stockMovements) {
+
+        List<StockMovement> overflow = new ArrayList<>();
+        for (StockMovement stockMovement : stockMovements) {
+            if (!queue.offer(stockMovement)) {
+                overflow.add(stockMovement);
+            }
+        }
+
+        if (!overflow.isEmpty()) {
+            LOGGER.warn("Stock ledger queue full, writing {} movements on the caller thread", overflow.size());
+            writeBatch(overflow);
+        }
+    }
+
+    private void writeLoop() {
+
+        while (running || !queue.isEmpty()) {
+            List<StockMovement> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+            try {
+                StockMovement first = queue.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                fillBatch(batch);
+                writeWithRetry(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void writeWithRetry(List<StockMovement> batch) throws InterruptedException {
+
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                writeBatch(attempt == 1 ? batch : unsavedCopies(batch));
+                return;
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Failed to write {} stock movements on attempt {}: {}", batch.size(), attempt, ex.getMessage());
+            }
+
+            if (attempt < MAX_WRITE_ATTEMPTS) {
+                Thread.sleep(RETRY_DELAY.toMillis() << (attempt - 1));
+            }
+        }
+
+        int failed = 0;
+        for (StockMovement stockMovement : unsavedCopies(batch)) {
+            try {
+                writeBatch(List.of(stockMovement));
+            } catch (RuntimeException ex) {
+                failed++;
+                LOGGER.error("Failed to write stock movement {}; it must be rebuilt: {}",
+                        stockMovement, ex.getMessage(), ex);
+            }
+        }
+
+        if (failed < batch.size()) {
+            LOGGER.info("Stock movements written one by one after batch failures: {} of {}", batch.size() - failed, batch.size());
+        }
+    }
+
+    private List<StockMovement> unsavedCopies(List<StockMovement> batch) {
+
+        return batch.stream()
+                .map(stockMovement -> stockMovement.toBuilder().withId(null).build())
+                .toList();
+    }
+
+    private void fillBatch(List<StockMovement> batch) throws InterruptedException {
+
+        long deadline = System.nanoTime() + MAX_BATCH_DELAY.toNanos();
+
+        while (batch.size() < MAX_BATCH_SIZE) {
+            queue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= MAX_BATCH_SIZE || remaining <= 0) {
+                return;
+            }
+
+            StockMovement next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void writeBatch(List<StockMovement> batch) {
+
+        transactionTemplate.executeWithoutResult(status ->
+                catchError.run(() -> stockMovementRepository.saveAll(batch)));
+        LOGGER.debug("Stock movements written: {}", batch.size());
+    }
+
+    private List<StockMovement> buildMissingEntrances() {
+
+        return catchError.run(() -> inventoryItemRepository.findWithoutStockMovements())
+                .stream()
+                .map(inventoryItem -> StockMovement.newBuilder()
+                        .withMoment(Instant.now())
+                        .withInventoryItem(inventoryItem)
+                        .withMovementType(MovementType.ENTRANCE)
+                        .withQuantityMoved(inventoryItem.getQuantityInStock() + inventoryItem.getQuantitySold())
+                        .build())
+                .toList();
+    }
+
+    private List<StockMovement> buildMissingExits() {
+
+        Instant now = Instant.now();
+        Instant since = recoverySince(now);
+        Instant until = now.minus(SETTLE_DELAY);
+        List<Order> orderList = catchError.run(() -> orderRepository
+                .findPaidOrdersWithoutStockMovements(STOCK_DEDUCTED_STATUSES, since, until));
+
+        if (orderList.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> productIds = orderList.stream()
+                .flatMap(order -> order.getItems().stream())
+                .map(orderItem -> orderItem.getProduct().getId())
+                .collect(Collectors.toSet());
+
+        Map<Long, InventoryItem> inventoryByProductId = catchError.run(() -> inventoryItemRepository
+                        .findByProductIdIn(productIds))
+                .stream()
+                .collect(Collectors.toMap(item -> item.getProduct().getId(), Function.identity()));
+
+        List<StockMovement> exits = new ArrayList<>();
+        for (Order order : orderList) {
+            for (OrderItem orderItem : order.getItems()) {
+                InventoryItem inventoryItem = inventoryByProductId.get(orderItem.getProduct().getId());
+
+                if (inventoryItem != null) {
+                    exits.add(StockMovement.newBuilder()
+                            .withMoment(Instant.now())
+                            .withInventoryItem(inventoryItem)
+                            .withMovementType(MovementType.EXIT)
+                            .withQuantityMoved(orderItem.getQuantity())
+                            .withOrderId(order.getId())
+                            .build());
+                }
+            }
+        }
+
+        return exits;
+    }
+
+    private Instant recoverySince(Instant now) {
+
+        Instant since = now.minus(RECOVERY_WINDOW);
+        Instant latestUnlinkedExit = catchError.run(() -> stockMovementRepository
+                .findLatestUnlinkedExitMoment(MovementType.EXIT.getCode()));
+
+        return latestUnlinkedExit != null && latestUnlinkedExit.isAfter(since) ? latestUnlinkedExit : since;
+    }
+}
@@ -1,24 +1,38 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.StockMovementRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.StockMovementResponse;
 import com.rogeriogregorio.ecommercemanager.entities.*;
 import com.rogeriogregorio.ecommercemanager.entities.enums.MovementType;
 import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
 import com.rogeriogregorio.ecommercemanager.repositories.StockMovementRepository;
+import com.rogeriogregorio.ecommercemanager.utils.FetchPlans;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.services.InventoryItemService;
+import com.rogeriogregorio.ecommercemanager.services.StockLedgerService;
 import com.rogeriogregorio.ecommercemanager.services.StockMovementService;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
+import com.rogeriogregorio.ecommercemanager.utils.KeysetCursor;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class StockMovementServiceImpl implements StockMovementService {
@@ -27,24 +41,65 @@ public class StockMovementServiceImpl implements StockMovementService {
     private final InventoryItemService inventoryItemService;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final DataExporter dataExporter;
+    private final RowCounter rowCounter;
+    private final StockLedgerService stockLedgerService;
     private static final Logger LOGGER = LogManager.getLogger(StockMovementServiceImpl.class);
 
     @Autowired
     public StockMovementServiceImpl(StockMovementRepository stockMovementRepository,
                                     InventoryItemService inventoryItemService,
-                                    CatchError catchError, DataMapper dataMapper) {
+                                    CatchError catchError, DataMapper dataMapper,
+                                    DataExporter dataExporter,
+                                    RowCounter rowCounter,
+                                    StockLedgerService stockLedgerService) {
 
         this.stockMovementRepository = stockMovementRepository;
         this.inventoryItemService = inventoryItemService;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.dataExporter = dataExporter;
+        this.rowCounter = rowCounter;
+        this.stockLedgerService = stockLedgerService;
     }
 
     @Transactional(readOnly = true)
     public Page<StockMovementResponse> findAllStockMovements(Pageable pageable) {
 
         return catchError.run(() -> stockMovementRepository.findAll(pageable))
-                .map(stockMovement -> dataMapper.map(stockMovement, StockMovementResponse.class));
+                .map(this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public SliceDto<StockMovementResponse> findAllStockMovementsSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<StockMovementResponse> slice = catchError.run(() -> stockMovementRepository.findAllBy(pageable))
+                .map(this::toResponse);
+
+        Long total = approximateTotal ? rowCounter.approximateCount(StockMovement.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<StockMovementResponse> findAllStockMovementsByCursor(String cursor, int size) {
+
+        KeysetCursor keyset = KeysetCursor.newestFirst(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+
+        List<StockMovement> stockMovementList = catchError.run(() -> stockMovementRepository
+                .findNextPage(keyset.getMoment(), keyset.getId(), Limit.of(pageSize + 1)));
+
+        return CursorPageDto.of(stockMovementList, pageSize,
+                this::toResponse,
+                stockMovement -> KeysetCursor.encode(stockMovement.getMoment(), stockMovement.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportStockMovements(ExportFormat format, OutputStream outputStream) {
+
+        try (Stream<StockMovement> stockMovements = catchError.run(() -> stockMovementRepository.streamAll())) {
+            dataExporter.export(stockMovements, this::toResponse, format, outputStream);
+        }
     }
 
     @Transactional
@@ -61,14 +116,14 @@ public class StockMovementServiceImpl implements StockMovementService {
 
         StockMovement savedStockMovement = catchError.run(() -> stockMovementRepository.save(stockMovement));
         LOGGER.info("Inventory movement created: {}", savedStockMovement);
-        return dataMapper.map(savedStockMovement, StockMovementResponse.class);
+        return toResponse(savedStockMovement);
     }
 
     @Transactional(readOnly = true)
     public StockMovementResponse findStockMovementById(Long id) {
 
         return catchError.run(() -> stockMovementRepository.findById(id))
-                .map(stockMovement -> dataMapper.map(stockMovement, StockMovementResponse.class))
+                .map(this::toResponse)
                 .orElseThrow(() -> new NotFoundException("Inventory movement not found with ID: " + id + "."));
     }
 
@@ -86,7 +141,7 @@ public class StockMovementServiceImpl implements StockMovementService {
 
         StockMovement updateStockMovement = catchError.run(() -> stockMovementRepository.save(currentStockMovement));
         LOGGER.info("Inventory movement updated: {}", updateStockMovement);
-        return dataMapper.map(updateStockMovement, StockMovementResponse.class);
+        return toResponse(updateStockMovement);
     }
 
     @Transactional
@@ -106,19 +161,26 @@ public class StockMovementServiceImpl implements StockMovementService {
 
     public void updateStockMovementExit(Order order) {
 
+        List<StockMovement> stockMovementList = new ArrayList<>();
         for (OrderItem orderItem : order.getItems()) {
             Product product = orderItem.getProduct();
             InventoryItem inventoryItem = inventoryItemService.findInventoryItemByProduct(product);
 
-            StockMovement stockMovement = StockMovement.newBuilder()
+            stockMovementList.add(StockMovement.newBuilder()
                     .withMoment(Instant.now())
                     .withInventoryItem(inventoryItem)
                     .withMovementType(MovementType.EXIT)
                     .withQuantityMoved(orderItem.getQuantity())
-                    .build();
-
-            StockMovement stockMovementExit = catchError.run(() -> stockMovementRepository.save(stockMovement));
-            LOGGER.info("Inventory movement exit: {}", stockMovementExit);
+                    .withOrderId(order.getId())
+                    .build());
         }
+
+        stockLedgerService.record(stockMovementList);
+        LOGGER.info("Inventory movement exits recorded for order {}: {}", order.getId(), stockMovementList.size());
+    }
+
+    private StockMovementResponse toResponse(StockMovement stockMovement) {
+
+        return dataMapper.map(FetchPlans.initialize(stockMovement), StockMovementResponse.class);
     }
 }
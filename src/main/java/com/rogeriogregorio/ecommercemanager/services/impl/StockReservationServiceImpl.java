@@ -0,0 +1,325 @@
+package com.rogeriogregorio.ecommercemanager.services.impl;
+
+import com.rogeriogregorio.ecommercemanager.entities.InventoryItem;
+import com.rogeriogregorio.ecommercemanager.entities.Order;
+import com.rogeriogregorio.ecommercemanager.entities.OrderItem;
+import com.rogeriogregorio.ecommercemanager.entities.Product;
+import com.rogeriogregorio.ecommercemanager.entities.StockReservation;
+import com.rogeriogregorio.ecommercemanager.entities.enums.StockStatus;
+import com.rogeriogregorio.ecommercemanager.exceptions.StockException;
+import com.rogeriogregorio.ecommercemanager.payment.CredentialService;
+import com.rogeriogregorio.ecommercemanager.repositories.InventoryItemRepository;
+import com.rogeriogregorio.ecommercemanager.repositories.StockReservationRepository;
+import com.rogeriogregorio.ecommercemanager.services.StockReservationService;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.TimerWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final Duration EXPIRY_GRACE = Duration.ofMinutes(1);
+    private static final Duration WHEEL_TICK = Duration.ofSeconds(1);
+    private static final int WHEEL_SIZE = 512;
+
+    private final StockReservationRepository stockReservationRepository;
+    private final InventoryItemRepository inventoryItemRepository;
+    private final CredentialService credentials;
+    private final CatchError catchError;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final Map<Long, Integer> reservedByProduct = new ConcurrentHashMap<>();
+    private final Map<Long, Hold> holdsByOrder = new ConcurrentHashMap<>();
+    private final TimerWheel<Long> expiryWheel = new TimerWheel<>(WHEEL_TICK, WHEEL_SIZE, System.currentTimeMillis());
+    private final ScheduledExecutorService expiryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-reservation-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Logger LOGGER = LogManager.getLogger(StockReservationServiceImpl.class);
+
+    @Autowired
+    public StockReservationServiceImpl(StockReservationRepository stockReservationRepository,
+                                       InventoryItemRepository inventoryItemRepository,
+                                       CredentialService credentials,
+                                       CatchError catchError) {
+
+        this.stockReservationRepository = stockReservationRepository;
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.credentials = credentials;
+        this.catchError = catchError;
+
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public void reserveStock(Order order) {
+
+        Map<Long, Integer> quantityByProductId = quantityByProductId(order);
+        Map<Long, InventoryItem> inventoryByProductId = catchError.run(() -> inventoryItemRepository
+                        .findByProductIdIn(quantityByProductId.keySet()))
+                .stream()
+                .collect(Collectors.toMap(item -> item.getProduct().getId(), Function.identity()));
+
+        Instant expiresAt = Instant.now()
+                .plusSeconds(credentials.getChargeExpiration())
+                .plus(EXPIRY_GRACE);
+
+        Hold hold = new Hold(quantityByProductId, expiresAt);
+        Hold previousHold = holdsByOrder.get(order.getId());
+
+        Set<Long> lockedProductIds = new TreeSet<>(quantityByProductId.keySet());
+        if (previousHold != null) {
+            lockedProductIds.addAll(previousHold.quantityByProductId().keySet());
+        }
+
+        List<ReentrantLock> stripes = lockStripes(lockedProductIds);
+        try {
+            for (Map.Entry<Long, Integer> line : quantityByProductId.entrySet()) {
+                int reservedByOthers = reservedByProduct.getOrDefault(line.getKey(), 0)
+                        - (previousHold != null ? previousHold.quantityOf(line.getKey()) : 0);
+
+                validateAvailability(order, inventoryByProductId.get(line.getKey()), line.getValue(), reservedByOthers);
+            }
+
+            if (previousHold != null) {
+                applyHold(previousHold, -1);
+            }
+            applyHold(hold, 1);
+            holdsByOrder.put(order.getId(), hold);
+        } finally {
+            stripes.forEach(ReentrantLock::unlock);
+        }
+
+        registerRollback(order.getId(), hold, previousHold);
+        saveReservations(order.getId(), hold);
+        expiryWheel.schedule(order.getId(), expiresAt.toEpochMilli());
+        LOGGER.info("Stock reserved for order {} until {}: {}", order.getId(), expiresAt, quantityByProductId);
+    }
+
+    public void confirmReservation(Order order) {
+
+        removeReservation(order.getId());
+        LOGGER.info("Stock reservation confirmed for order {}", order.getId());
+    }
+
+    public void releaseReservation(Order order) {
+
+        removeReservation(order.getId());
+        LOGGER.info("Stock reservation released for order {}", order.getId());
+    }
+
+    public int getQuantityReservedByOthers(Product product, Order order) {
+
+        int reserved = reservedByProduct.getOrDefault(product.getId(), 0);
+        Hold ownHold = order != null ? holdsByOrder.get(order.getId()) : null;
+
+        return ownHold != null ? reserved - ownHold.quantityOf(product.getId()) : reserved;
+    }
+
+    @PostConstruct
+    private void loadActiveReservations() {
+
+        Instant now = Instant.now();
+        catchError.run(() -> stockReservationRepository.deleteExpired(now));
+
+        Map<Long, List<StockReservation>> reservationsByOrder = catchError.run(() -> stockReservationRepository.findAll())
+                .stream()
+                .collect(Collectors.groupingBy(StockReservation::getOrderId));
+
+        reservationsByOrder.forEach((orderId, reservations) -> {
+            Map<Long, Integer> quantityByProductId = new TreeMap<>();
+            reservations.forEach(reservation -> quantityByProductId
+                    .merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum));
+
+            Instant expiresAt = reservations.get(0).getExpiresAt();
+            Hold hold = new Hold(quantityByProductId, expiresAt);
+
+            applyHold(hold, 1);
+            holdsByOrder.put(orderId, hold);
+            expiryWheel.schedule(orderId, expiresAt.toEpochMilli());
+        });
+
+        expiryScheduler.scheduleAtFixedRate(this::expireReservations,
+                WHEEL_TICK.toMillis(), WHEEL_TICK.toMillis(), TimeUnit.MILLISECONDS);
+        LOGGER.info("Stock reservations loaded: {}", holdsByOrder.size());
+    }
+
+    @PreDestroy
+    private void stopExpiryScheduler() {
+        expiryScheduler.shutdownNow();
+    }
+
+    private void expireReservations() {
+
+        Instant now = Instant.now();
+
+        for (Long orderId : expiryWheel.advance(now.toEpochMilli())) {
+            Hold hold = holdsByOrder.get(orderId);
+
+            if (hold == null || hold.expiresAt().isAfter(now)) {
+                continue;
+            }
+
+            try {
+                catchError.run(() -> stockReservationRepository.deleteByOrderId(orderId));
+                releaseHold(orderId, hold);
+                LOGGER.info("Stock reservation expired for order {}", orderId);
+            } catch (RuntimeException ex) {
+                expiryWheel.schedule(orderId, now.plus(WHEEL_TICK).toEpochMilli());
+            }
+        }
+    }
+
+    private void removeReservation(Long orderId) {
+
+        Hold hold = holdsByOrder.get(orderId);
+
+        catchError.run(() -> stockReservationRepository.deleteByOrderId(orderId));
+
+        if (hold == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    releaseHold(orderId, hold);
+                }
+            });
+        } else {
+            releaseHold(orderId, hold);
+        }
+    }
+
+    private void validateAvailability(Order order, InventoryItem inventoryItem, int quantityRequired, int reservedByOthers) {
+
+        if (inventoryItem == null || inventoryItem.getStockStatus() == StockStatus.OUT_OF_STOCK) {
+            throw new StockException("Cannot reserve stock for order " + order.getId() + ": item out of stock.");
+        }
+
+        int quantityAvailable = inventoryItem.getQuantityInStock() - reservedByOthers;
+
+        if (quantityRequired > quantityAvailable) {
+            throw new StockException("Insufficient"
+                    + " quantity of " + inventoryItem.getProduct().getName() + " in stock."
+                    + " Required quantity: " + quantityRequired
+                    + ", available quantity: " + Math.max(quantityAvailable, 0) + "."
+            );
+        }
+    }
+
+    private void saveReservations(Long orderId, Hold hold) {
+
+        List<StockReservation> reservations = hold.quantityByProductId().entrySet().stream()
+                .map(line -> StockReservation.newBuilder()
+                        .withOrderId(orderId)
+                        .withProductId(line.getKey())
+                        .withQuantity(line.getValue())
+                        .withExpiresAt(hold.expiresAt())
+                        .build())
+                .toList();
+
+        catchError.run(() -> stockReservationRepository.deleteByOrderId(orderId));
+        catchError.run(() -> stockReservationRepository.saveAll(reservations));
+    }
+
+    private void registerRollback(Long orderId, Hold hold, Hold previousHold) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+
+                releaseHold(orderId, hold);
+                if (previousHold != null && holdsByOrder.putIfAbsent(orderId, previousHold) == null) {
+                    withLocks(previousHold, () -> applyHold(previousHold, 1));
+                }
+            }
+        });
+    }
+
+    private void releaseHold(Long orderId, Hold hold) {
+
+        if (holdsByOrder.remove(orderId, hold)) {
+            withLocks(hold, () -> applyHold(hold, -1));
+        }
+    }
+
+    private void withLocks(Hold hold, Runnable action) {
+
+        List<ReentrantLock> stripes = lockStripes(hold.quantityByProductId().keySet());
+        try {
+            action.run();
+        } finally {
+            stripes.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    private void applyHold(Hold hold, int sign) {
+
+        hold.quantityByProductId().forEach((productId, quantity) -> reservedByProduct
+                .compute(productId, (id, reserved) -> {
+                    int updated = (reserved == null ? 0 : reserved) + sign * quantity;
+                    return updated > 0 ? updated : null;
+                }));
+    }
+
+    private List<ReentrantLock> lockStripes(Collection<Long> productIds) {
+
+        SortedSet<Integer> stripeIndexes = new TreeSet<>();
+        productIds.forEach(productId -> stripeIndexes.add(Math.floorMod(productId.hashCode(), LOCK_STRIPES)));
+
+        List<ReentrantLock> stripes = new ArrayList<>(stripeIndexes.size());
+        for (int index : stripeIndexes) {
+            locks[index].lock();
+            stripes.add(locks[index]);
+        }
+
+        return stripes;
+    }
+
+    private Map<Long, Integer> quantityByProductId(Order order) {
+
+        Map<Long, Integer> quantityByProductId = new TreeMap<>();
+        for (OrderItem orderItem : order.getItems()) {
+            quantityByProductId.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
+        }
+
+        return quantityByProductId;
+    }
+
+    private record Hold(Map<Long, Integer> quantityByProductId, Instant expiresAt) {
+
+        int quantityOf(Long productId) {
+            return quantityByProductId.getOrDefault(productId, 0);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.rogeriogregorio.ecommercemanager.services.impl;
 
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.UserRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.UserResponse;
 import com.rogeriogregorio.ecommercemanager.entities.User;
@@ -7,15 +8,19 @@ import com.rogeriogregorio.ecommercemanager.entities.enums.UserRole;
 import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
 import com.rogeriogregorio.ecommercemanager.mail.MailService;
 import com.rogeriogregorio.ecommercemanager.repositories.UserRepository;
+import com.rogeriogregorio.ecommercemanager.security.PrincipalCache;
+import com.rogeriogregorio.ecommercemanager.security.SecurityVersionRegistry;
 import com.rogeriogregorio.ecommercemanager.services.UserService;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.PasswordHelper;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +35,9 @@ public class UserServiceImpl implements UserService {
     private final PasswordHelper passwordHelper;
     private final CatchError catchError;
     private final DataMapper dataMapper;
+    private final RowCounter rowCounter;
+    private final PrincipalCache principalCache;
+    private final SecurityVersionRegistry securityVersionRegistry;
     private static final Logger LOGGER = LogManager.getLogger(UserServiceImpl.class);
 
     @Autowired
@@ -37,13 +45,19 @@ public class UserServiceImpl implements UserService {
                            MailService mailService,
                            PasswordHelper passwordHelper,
                            CatchError catchError,
-                           DataMapper dataMapper) {
+                           DataMapper dataMapper,
+                           RowCounter rowCounter,
+                           PrincipalCache principalCache,
+                           SecurityVersionRegistry securityVersionRegistry) {
 
         this.userRepository = userRepository;
         this.mailService = mailService;
         this.passwordHelper = passwordHelper;
         this.catchError = catchError;
         this.dataMapper = dataMapper;
+        this.rowCounter = rowCounter;
+        this.principalCache = principalCache;
+        this.securityVersionRegistry = securityVersionRegistry;
     }
 
     @Transactional(readOnly = true)
@@ -53,6 +67,16 @@ public class UserServiceImpl implements UserService {
                 .map(user -> dataMapper.map(user, UserResponse.class));
     }
 
+    @Transactional(readOnly = true)
+    public SliceDto<UserResponse> findAllUsersSlice(Pageable pageable, boolean approximateTotal) {
+
+        Slice<UserResponse> slice = catchError.run(() -> userRepository.findAllBy(pageable))
+                .map(user -> dataMapper.map(user, UserResponse.class));
+
+        Long total = approximateTotal ? rowCounter.approximateCount(User.class) : null;
+        return new SliceDto<>(slice.getContent(), slice.hasNext(), total);
+    }
+
     @Transactional
     public UserResponse registerUser(UserRequest userRequest) {
 
@@ -83,12 +107,15 @@ public class UserServiceImpl implements UserService {
     public UserResponse updateUser(UUID id, UserRequest userRequest) {
 
         User currentUser = getUserIfExists(id);
+        principalCache.invalidate(currentUser.getEmail());
         dataMapper.map(userRequest, currentUser);
         passwordHelper.validate(userRequest.getPassword());
         String encodedPassword = passwordHelper.enconde(userRequest.getPassword());
         currentUser.setPassword(encodedPassword);
 
         User updatedUser = catchError.run(() -> userRepository.save(currentUser));
+        principalCache.invalidate(currentUser.getEmail());
+        securityVersionRegistry.bump(currentUser.getId());
         LOGGER.info("User updated: {}", updatedUser);
         return dataMapper.map(updatedUser, UserResponse.class);
     }
@@ -100,6 +127,8 @@ public class UserServiceImpl implements UserService {
         user.setRole(userRequest.getUserRole());
 
         User updatedUser = catchError.run(() -> userRepository.save(user));
+        principalCache.invalidate(user.getEmail());
+        securityVersionRegistry.bump(user.getId());
         LOGGER.info("User role updated: {}", updatedUser);
         return dataMapper.map(updatedUser, UserResponse.class);
     }
@@ -110,6 +139,8 @@ public class UserServiceImpl implements UserService {
         User user = getUserIfExists(id);
 
         catchError.run(() -> userRepository.delete(user));
+        principalCache.invalidate(user.getEmail());
+        securityVersionRegistry.bump(user.getId());
         LOGGER.warn("User removed: {}", user);
     }
 
@@ -10,5 +10,7 @@ public interface PaymentStrategy {
 
     PaymentType getSupportedPaymentMethod();
 
-    Payment createPayment(Order order);
+    void ensureAvailable();
+
+    Payment createPayment(Order order, String txId);
 }
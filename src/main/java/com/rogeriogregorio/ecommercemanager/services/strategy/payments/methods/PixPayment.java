@@ -5,8 +5,11 @@ import com.rogeriogregorio.ecommercemanager.dto.PixQRCodeDto;
 import com.rogeriogregorio.ecommercemanager.entities.Order;
 import com.rogeriogregorio.ecommercemanager.entities.Payment;
 import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentType;
+import com.rogeriogregorio.ecommercemanager.payment.BrCodeGenerator;
 import com.rogeriogregorio.ecommercemanager.payment.PixService;
 import com.rogeriogregorio.ecommercemanager.services.strategy.payments.PaymentStrategy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -18,10 +21,13 @@ public class PixPayment implements PaymentStrategy {
     private static final PaymentType PIX_PAYMENT = PaymentType.PIX;
 
     private final PixService pixService;
+    private final BrCodeGenerator brCodeGenerator;
+    private static final Logger LOGGER = LogManager.getLogger(PixPayment.class);
 
     @Autowired
-    public PixPayment(PixService pixService) {
+    public PixPayment(PixService pixService, BrCodeGenerator brCodeGenerator) {
         this.pixService = pixService;
+        this.brCodeGenerator = brCodeGenerator;
     }
 
     @Override
@@ -30,10 +36,15 @@ public class PixPayment implements PaymentStrategy {
     }
 
     @Override
-    public Payment createPayment(Order order) {
+    public void ensureAvailable() {
+        pixService.ensureChargeAvailable();
+    }
+
+    @Override
+    public Payment createPayment(Order order, String txId) {
 
-        PixChargeDto pixCharge = pixService.createImmediatePixCharge(order);
-        PixQRCodeDto pixQRCode = pixService.generatePixQRCode(pixCharge);
+        PixChargeDto pixCharge = pixService.createPixCharge(order, txId);
+        PixQRCodeDto pixQRCode = generatePixQRCode(pixCharge);
 
         return Payment.newBuilder()
                 .withMoment(Instant.now())
@@ -41,6 +52,18 @@ public class PixPayment implements PaymentStrategy {
                 .withTxId(pixCharge.getTxid())
                 .withPaymentType(PIX_PAYMENT)
                 .withChargeLink(pixQRCode.getLinkVisualizacao())
+                .withBrCode(pixQRCode.getQrcode())
                 .build();
     }
-}
\ No newline at end of file
+
+    private PixQRCodeDto generatePixQRCode(PixChargeDto pixCharge) {
+
+        try {
+            return brCodeGenerator.generatePixQRCode(pixCharge);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Local QRCode generation failed for txid {}, requesting it from the PSP: {}",
+                    pixCharge.getTxid(), ex.getMessage());
+            return pixService.generatePixQRCode(pixCharge);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Component
+public interface DataExporter {
+
+    <T, R> void export(Stream<T> rows, Function<T, R> mapper, ExportFormat format, OutputStream outputStream);
+}
@@ -0,0 +1,83 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import com.rogeriogregorio.ecommercemanager.entities.*;
+import org.hibernate.Hibernate;
+
+public final class FetchPlans {
+
+    private FetchPlans() {
+    }
+
+    public static Product initialize(Product product) {
+
+        if (product != null) {
+            Hibernate.initialize(product.getCategories());
+            Hibernate.initialize(product.getReviews());
+        }
+
+        return product;
+    }
+
+    public static Order initialize(Order order) {
+
+        if (order != null && order.getItems() != null) {
+            order.getItems().forEach(FetchPlans::initialize);
+        }
+
+        return order;
+    }
+
+    public static OrderItem initialize(OrderItem orderItem) {
+
+        if (orderItem != null) {
+            initialize(orderItem.getProduct());
+        }
+
+        return orderItem;
+    }
+
+    public static InventoryItem initialize(InventoryItem inventoryItem) {
+
+        if (inventoryItem != null) {
+            initialize(inventoryItem.getProduct());
+        }
+
+        return inventoryItem;
+    }
+
+    public static Payment initialize(Payment payment) {
+
+        if (payment != null) {
+            initialize(payment.getOrder());
+        }
+
+        return payment;
+    }
+
+    public static StockMovement initialize(StockMovement stockMovement) {
+
+        if (stockMovement != null) {
+            initialize(stockMovement.getInventoryItem());
+        }
+
+        return stockMovement;
+    }
+
+    public static Category initialize(Category category) {
+
+        if (category != null && category.getProducts() != null) {
+            category.getProducts().forEach(FetchPlans::initialize);
+        }
+
+        return category;
+    }
+
+    public static ProductReview initialize(ProductReview productReview) {
+
+        if (productReview != null) {
+            initialize(productReview.getProduct());
+        }
+
+        return productReview;
+    }
+}
@@ -0,0 +1,10 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import org.json.JSONObject;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface JsonBinder {
+
+    <T> T bind(JSONObject source, Class<T> targetClass);
+}
@@ -0,0 +1,106 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+public final class KeysetCursor {
+
+    private static final String VERSION = "k1";
+    private static final String SEPARATOR = ":";
+    private static final Instant LATEST_MOMENT = Instant.parse("9999-12-31T23:59:59Z");
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final Instant moment;
+    private final Long id;
+
+    private KeysetCursor(Instant moment, Long id) {
+        this.moment = moment;
+        this.id = id;
+    }
+
+    public static KeysetCursor newestFirst(String cursor) {
+
+        return isBlank(cursor)
+                ? new KeysetCursor(LATEST_MOMENT, Long.MAX_VALUE)
+                : decode(cursor, true);
+    }
+
+    public static KeysetCursor byId(String cursor) {
+
+        return isBlank(cursor)
+                ? new KeysetCursor(null, 0L)
+                : decode(cursor, false);
+    }
+
+    public static String encode(Instant moment, Long id) {
+
+        String momentKey = moment.getEpochSecond() + "." + moment.getNano();
+        return toToken(VERSION + SEPARATOR + momentKey + SEPARATOR + id);
+    }
+
+    public static String encode(Long id) {
+
+        return toToken(VERSION + SEPARATOR + SEPARATOR + id);
+    }
+
+    public static int pageSize(int size) {
+
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    public Instant getMoment() {
+        return moment;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    private static String toToken(String value) {
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static KeysetCursor decode(String cursor, boolean requiresMoment) {
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = value.split(SEPARATOR, -1);
+
+            if (parts.length != 3 || !VERSION.equals(parts[0]) || parts[1].isEmpty() == requiresMoment) {
+                throw new IllegalArgumentException("Invalid pagination cursor.");
+            }
+
+            Instant momentKey = requiresMoment ? parseMoment(parts[1]) : null;
+            return new KeysetCursor(momentKey, Long.parseLong(parts[2]));
+
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid pagination cursor.", ex);
+        }
+    }
+
+    private static Instant parseMoment(String momentKey) {
+
+        int dot = momentKey.indexOf('.');
+
+        if (dot < 0) {
+            throw new IllegalArgumentException("Invalid pagination cursor.");
+        }
+
+        return Instant.ofEpochSecond(Long.parseLong(momentKey.substring(0, dot)),
+                Long.parseLong(momentKey.substring(dot + 1)));
+    }
+
+    private static boolean isBlank(String cursor) {
+        return cursor == null || cursor.isBlank();
+    }
+}
@@ -0,0 +1,13 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public interface RowCounter {
+
+    long approximateCount(Class<?> entityType);
+
+    void increment(Class<?> entityType);
+
+    void decrement(Class<?> entityType);
+}
@@ -0,0 +1,66 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public final class TimerWheel<K> {
+
+    private final long tickMillis;
+    private final List<Queue<Timeout<K>>> buckets;
+    private volatile long currentTick;
+
+    public TimerWheel(Duration tick, int wheelSize, long startMillis) {
+
+        if (tick.toMillis() <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("The timer wheel tick and size must be positive.");
+        }
+
+        this.tickMillis = tick.toMillis();
+        this.buckets = new ArrayList<>(wheelSize);
+        this.currentTick = startMillis / tickMillis;
+
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    public void schedule(K key, long deadlineMillis) {
+
+        long tick = Math.max(deadlineMillis / tickMillis, currentTick);
+        bucketOf(tick).add(new Timeout<>(key, deadlineMillis));
+    }
+
+    public List<K> advance(long nowMillis) {
+
+        long targetTick = nowMillis / tickMillis;
+        long firstTick = Math.max(currentTick, targetTick - buckets.size() + 1);
+        List<K> expiredKeys = new ArrayList<>();
+
+        for (long tick = firstTick; tick <= targetTick; tick++) {
+            Iterator<Timeout<K>> iterator = bucketOf(tick).iterator();
+
+            while (iterator.hasNext()) {
+                Timeout<K> timeout = iterator.next();
+
+                if (timeout.deadlineMillis() <= nowMillis) {
+                    expiredKeys.add(timeout.key());
+                    iterator.remove();
+                }
+            }
+        }
+
+        currentTick = Math.max(currentTick, targetTick);
+        return expiredKeys;
+    }
+
+    private Queue<Timeout<K>> bucketOf(long tick) {
+        return buckets.get((int) (tick % buckets.size()));
+    }
+
+    private record Timeout<K>(K key, long deadlineMillis) {
+    }
+}
@@ -5,28 +5,37 @@ import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.rogeriogregorio.ecommercemanager.exceptions.*;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.mail.MessagingException;
 import jakarta.persistence.PersistenceException;
 import jakarta.servlet.ServletException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.modelmapper.MappingException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.TransactionException;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class CatchErrorImpl implements CatchError {
 
     private static final Logger LOGGER = LogManager.getLogger(CatchErrorImpl.class);
     private static final Map<Class<? extends Exception>, ExceptionCreator> EXCEPTION_MAP = new HashMap<>();
+    private static final Set<Class<? extends RuntimeException>> PASSTHROUGH_EXCEPTIONS = Set.of(
+            OverloadException.class,
+            TooManyRequestsException.class
+    );
 
     static {
         EXCEPTION_MAP.put(UsernameNotFoundException.class, NotFoundException::new);
@@ -39,9 +48,30 @@ public class CatchErrorImpl implements CatchError {
         EXCEPTION_MAP.put(MappingException.class, DataMapperException::new);
         EXCEPTION_MAP.put(MessagingException.class, MailException::new);
         EXCEPTION_MAP.put(EfiPayException.class, PaymentException::new);
+        EXCEPTION_MAP.put(PaymentException.class, PaymentException::new);
         EXCEPTION_MAP.put(IOException.class, IOProcessException::new);
     }
 
+    private static final String CATCH_ERROR_CLASS = CatchErrorImpl.class.getName();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final long LOG_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int MAX_TRACKED_ERRORS = 1024;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LogWindow> logWindows = new ConcurrentHashMap<>();
+
+    private final ClassValue<Translation> translations = new ClassValue<>() {
+        @Override
+        protected Translation computeValue(Class<?> exceptionType) {
+            return resolveTranslation(exceptionType);
+        }
+    };
+
+    @Autowired
+    public CatchErrorImpl(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Override
     public <T> T run(SafeFunction<T> method) {
 
@@ -65,19 +95,98 @@ public class CatchErrorImpl implements CatchError {
 
     private void throwException(Exception ex) {
 
-        String errorMessage = "Error while executing method " + getCallerMethodName() + ": " + ex.getMessage();
-        LOGGER.error(errorMessage, ex);
-        throw EXCEPTION_MAP.getOrDefault(ex.getClass(), UnexpectedException::new).create(errorMessage, ex);
+        Translation translation = translations.get(ex.getClass());
+        translation.counter().increment();
+
+        if (translation.passthrough()) {
+            throw (RuntimeException) ex;
+        }
+
+        String callerMethodName = getCallerMethodName();
+        String errorMessage = "Error while executing method " + callerMethodName + ": " + ex.getMessage();
+        logError(ex.getClass().getName() + "@" + callerMethodName, errorMessage, ex);
+        throw translation.creator().create(errorMessage, ex);
+    }
+
+    private void logError(String errorKey, String errorMessage, Exception ex) {
+
+        if (logWindows.size() > MAX_TRACKED_ERRORS) {
+            logWindows.clear();
+        }
+
+        long now = System.nanoTime();
+        LogWindow logWindow = logWindows.computeIfAbsent(errorKey, key -> new LogWindow(now - LOG_WINDOW_NANOS));
+        long suppressed = logWindow.tryOpen(now);
+
+        if (suppressed < 0) {
+            return;
+        }
+
+        if (suppressed > 0) {
+            LOGGER.error("{} ({} similar errors suppressed in the last {}s)",
+                    errorMessage, suppressed, TimeUnit.NANOSECONDS.toSeconds(LOG_WINDOW_NANOS), ex);
+        } else {
+            LOGGER.error(errorMessage, ex);
+        }
     }
 
     private String getCallerMethodName() {
 
-        Set<String> excludedMethods = Set.of("getStackTrace", "getCallerMethodName", "run");
-        return Arrays.stream(Thread.currentThread().getStackTrace())
-                .filter(element -> !excludedMethods.contains(element.getMethodName()))
-                .skip(1)
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> !frame.getClassName().equals(CATCH_ERROR_CLASS))
                 .findFirst()
-                .map(StackTraceElement::getMethodName)
-                .orElse("unidentified");
+                .map(StackWalker.StackFrame::getMethodName)
+                .orElse("unidentified"));
+    }
+
+    private Translation resolveTranslation(Class<?> exceptionType) {
+
+        ExceptionCreator creator = UnexpectedException::new;
+        boolean passthrough = false;
+
+        for (Class<?> type = exceptionType; type != null && type != Object.class; type = type.getSuperclass()) {
+            if (PASSTHROUGH_EXCEPTIONS.contains(type)) {
+                passthrough = true;
+                break;
+            }
+
+            ExceptionCreator registered = EXCEPTION_MAP.get(type);
+            if (registered != null) {
+                creator = registered;
+                break;
+            }
+        }
+
+        Counter counter = Counter.builder("catch_error.exceptions")
+                .description("Exceptions translated by CatchError, by original exception type")
+                .tag("exception", exceptionType.getName())
+                .register(meterRegistry);
+
+        return new Translation(creator, passthrough, counter);
+    }
+
+    private record Translation(ExceptionCreator creator, boolean passthrough, Counter counter) {
+    }
+
+    private static final class LogWindow {
+
+        private final AtomicLong openedAt;
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private LogWindow(long openedAt) {
+            this.openedAt = new AtomicLong(openedAt);
+        }
+
+        long tryOpen(long now) {
+
+            long current = openedAt.get();
+
+            if (now - current >= LOG_WINDOW_NANOS && openedAt.compareAndSet(current, now)) {
+                return suppressed.getAndSet(0);
+            }
+
+            suppressed.incrementAndGet();
+            return -1;
+        }
     }
-}
\ No newline at end of file
+}
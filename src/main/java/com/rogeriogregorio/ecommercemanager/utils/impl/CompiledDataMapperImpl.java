@@ -0,0 +1,377 @@
+package com.rogeriogregorio.ecommercemanager.utils.impl;
+
+import com.rogeriogregorio.ecommercemanager.exceptions.DataMapperException;
+import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import org.hibernate.Hibernate;
+import org.json.JSONObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+@Component
+@ConditionalOnProperty(name = "api.data-mapper.engine", havingValue = "compiled")
+public class CompiledDataMapperImpl implements DataMapper {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private static final ClassValue<BeanModel> BEAN_MODELS = new ClassValue<>() {
+        @Override
+        protected BeanModel computeValue(Class<?> type) {
+            return BeanModel.of(type);
+        }
+    };
+
+    private static final ClassValue<ClassValue<MappingPlan>> MAPPING_PLANS = new ClassValue<>() {
+        @Override
+        protected ClassValue<MappingPlan> computeValue(Class<?> sourceType) {
+            return new ClassValue<>() {
+                @Override
+                protected MappingPlan computeValue(Class<?> targetType) {
+                    return MappingPlan.compile(BEAN_MODELS.get(sourceType), BEAN_MODELS.get(targetType));
+                }
+            };
+        }
+    };
+
+    @Override
+    public <S, T> T map(S source, Class<T> targetClass) {
+
+        requireSource(source, targetClass);
+        T target = targetClass.cast(BEAN_MODELS.get(targetClass).newInstance());
+        return map(source, target);
+    }
+
+    @Override
+    public <S, T> T map(S source, T target) {
+
+        requireSource(source, target.getClass());
+        MAPPING_PLANS.get(source.getClass()).get(target.getClass()).apply(source, target);
+        return target;
+    }
+
+    @Override
+    public <T> T fromJson(JSONObject jsonObject, Class<T> targetClass) {
+
+        return fromMap(jsonObject.toMap(), targetClass);
+    }
+
+    @Override
+    public <T> T fromMap(Map<String, Object> source, Class<T> targetClass) {
+
+        requireSource(source, targetClass);
+        return targetClass.cast(BEAN_MODELS.get(targetClass).fromMap(source));
+    }
+
+    private static void requireSource(Object source, Class<?> targetClass) {
+
+        if (source == null) {
+            throw new DataMapperException("Cannot map a null source to " + targetClass.getSimpleName() + ".");
+        }
+    }
+
+    private static Object convert(Object value, Class<?> targetType, Type genericType) {
+
+        if (value == null) {
+            return null;
+        }
+
+        Class<?> boxedType = box(targetType);
+
+        if (value instanceof Collection<?> collection && Collection.class.isAssignableFrom(boxedType)) {
+            return convertCollection(collection, boxedType, genericType);
+        }
+
+        if (boxedType.isInstance(value)) {
+            return value;
+        }
+
+        if (value instanceof Map<?, ?> map && !Map.class.isAssignableFrom(boxedType)) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> properties = (Map<String, Object>) map;
+            return BEAN_MODELS.get(boxedType).fromMap(properties);
+        }
+
+        if (boxedType == String.class) {
+            return value.toString();
+        }
+
+        if (value instanceof Number number && Number.class.isAssignableFrom(boxedType)) {
+            return convertNumber(number, boxedType);
+        }
+
+        if (value instanceof String text && boxedType.isEnum()) {
+            return convertEnum(text, boxedType);
+        }
+
+        if (!boxedType.isPrimitive() && !boxedType.getName().startsWith("java.")) {
+            Object target = BEAN_MODELS.get(boxedType).newInstance();
+            MAPPING_PLANS.get(value.getClass()).get(boxedType).apply(value, target);
+            return target;
+        }
+
+        throw new DataMapperException("Cannot convert " + value.getClass().getSimpleName()
+                + " to " + targetType.getSimpleName() + ".");
+    }
+
+    private static Collection<Object> convertCollection(Collection<?> values, Class<?> collectionType, Type genericType) {
+
+        Class<?> elementType = elementTypeOf(genericType);
+        Collection<Object> converted = Set.class.isAssignableFrom(collectionType)
+                ? new HashSet<>(Math.max(16, (int) (values.size() / .75f) + 1))
+                : new ArrayList<>(values.size());
+
+        for (Object element : values) {
+            converted.add(convert(element, elementType, elementType));
+        }
+
+        return converted;
+    }
+
+    private static Object convertNumber(Number number, Class<?> numberType) {
+
+        if (numberType == Integer.class) return number.intValue();
+        if (numberType == Long.class) return number.longValue();
+        if (numberType == Double.class) return number.doubleValue();
+        if (numberType == Float.class) return number.floatValue();
+        if (numberType == Short.class) return number.shortValue();
+        if (numberType == Byte.class) return number.byteValue();
+        if (numberType == BigDecimal.class) return new BigDecimal(number.toString());
+        if (numberType == BigInteger.class) return new BigInteger(number.toString());
+
+        throw new DataMapperException("Unsupported numeric type: " + numberType.getSimpleName() + ".");
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convertEnum(String text, Class<?> enumType) {
+        return Enum.valueOf((Class<? extends Enum>) enumType, text);
+    }
+
+    private static Class<?> elementTypeOf(Type genericType) {
+
+        if (genericType instanceof ParameterizedType parameterizedType) {
+            Type argument = parameterizedType.getActualTypeArguments()[0];
+            if (argument instanceof Class<?> elementClass) {
+                return elementClass;
+            }
+            if (argument instanceof ParameterizedType nested && nested.getRawType() instanceof Class<?> rawClass) {
+                return rawClass;
+            }
+        }
+
+        return Object.class;
+    }
+
+    private static Class<?> box(Class<?> type) {
+
+        if (!type.isPrimitive()) return type;
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == double.class) return Double.class;
+        if (type == float.class) return Float.class;
+        if (type == short.class) return Short.class;
+        if (type == byte.class) return Byte.class;
+        if (type == char.class) return Character.class;
+        return type;
+    }
+
+    private record Getter(String name, Class<?> type, MethodHandle handle) {
+
+        Object read(Object source) throws Throwable {
+            return (Object) handle.invokeExact(source);
+        }
+    }
+
+    private record Setter(String name, Class<?> type, Type genericType, MethodHandle handle) {
+
+        void write(Object target, Object value) throws Throwable {
+
+            if (value == null && type.isPrimitive()) {
+                return;
+            }
+
+            handle.invokeExact(target, value);
+        }
+    }
+
+    private record PropertyCopy(Getter getter, Setter setter, boolean direct) {
+
+        void copy(Object source, Object target) throws Throwable {
+
+            Object value = getter.read(source);
+            if (!Hibernate.isInitialized(value)) {
+                return;
+            }
+
+            setter.write(target, direct ? value : convert(value, setter.type(), setter.genericType()));
+        }
+    }
+
+    private static final class BeanModel {
+
+        private final Class<?> type;
+        private final MethodHandle constructor;
+        private final Map<String, Getter> getters;
+        private final Map<String, Setter> setters;
+
+        private BeanModel(Class<?> type, MethodHandle constructor,
+                          Map<String, Getter> getters, Map<String, Setter> setters) {
+
+            this.type = type;
+            this.constructor = constructor;
+            this.getters = getters;
+            this.setters = setters;
+        }
+
+        static BeanModel of(Class<?> type) {
+
+            Map<String, Getter> getters = new LinkedHashMap<>();
+            Map<String, Setter> setters = new LinkedHashMap<>();
+
+            for (Method method : type.getMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass() == Object.class) {
+                    continue;
+                }
+
+                String name = method.getName();
+                int parameters = method.getParameterCount();
+
+                try {
+                    if (parameters == 0 && method.getReturnType() != void.class) {
+                        String property = propertyName(name, method.getReturnType());
+                        if (property != null) {
+                            getters.putIfAbsent(property, new Getter(property, method.getReturnType(),
+                                    LOOKUP.unreflect(method).asType(GETTER_TYPE)));
+                        }
+                    } else if (parameters == 1 && name.length() > 3 && name.startsWith("set")) {
+                        String property = decapitalize(name.substring(3));
+                        setters.putIfAbsent(property, new Setter(property, method.getParameterTypes()[0],
+                                method.getGenericParameterTypes()[0],
+                                LOOKUP.unreflect(method).asType(SETTER_TYPE)));
+                    }
+                } catch (IllegalAccessException ex) {
+                    // non-public declaring type: the property is not mappable through the public lookup
+                }
+            }
+
+            return new BeanModel(type, findConstructor(type), Map.copyOf(getters), Map.copyOf(setters));
+        }
+
+        private static MethodHandle findConstructor(Class<?> type) {
+
+            try {
+                return LOOKUP.findConstructor(type, MethodType.methodType(void.class)).asType(CONSTRUCTOR_TYPE);
+            } catch (NoSuchMethodException | IllegalAccessException ex) {
+                return null;
+            }
+        }
+
+        private static String propertyName(String methodName, Class<?> returnType) {
+
+            if (methodName.length() > 3 && methodName.startsWith("get")) {
+                return decapitalize(methodName.substring(3));
+            }
+            if (methodName.length() > 2 && methodName.startsWith("is")
+                    && (returnType == boolean.class || returnType == Boolean.class)) {
+                return decapitalize(methodName.substring(2));
+            }
+            return null;
+        }
+
+        private static String decapitalize(String name) {
+            return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+        }
+
+        Object newInstance() {
+
+            if (constructor == null) {
+                throw new DataMapperException("No public no-argument constructor found for " + type.getSimpleName() + ".");
+            }
+
+            try {
+                return (Object) constructor.invokeExact();
+            } catch (Throwable ex) {
+                throw new DataMapperException("Error while instantiating " + type.getSimpleName() + ": " + ex.getMessage(), ex);
+            }
+        }
+
+        Object fromMap(Map<String, Object> source) {
+
+            Object target = newInstance();
+
+            for (Setter setter : setters.values()) {
+                if (!source.containsKey(setter.name())) {
+                    continue;
+                }
+
+                try {
+                    setter.write(target, convert(source.get(setter.name()), setter.type(), setter.genericType()));
+                } catch (DataMapperException ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new DataMapperException("Error while mapping property " + setter.name()
+                            + " of " + type.getSimpleName() + ": " + ex.getMessage(), ex);
+                }
+            }
+
+            return target;
+        }
+    }
+
+    private static final class MappingPlan {
+
+        private final String description;
+        private final PropertyCopy[] copies;
+
+        private MappingPlan(String description, PropertyCopy[] copies) {
+            this.description = description;
+            this.copies = copies;
+        }
+
+        static MappingPlan compile(BeanModel source, BeanModel target) {
+
+            List<PropertyCopy> copies = new ArrayList<>();
+
+            for (Setter setter : target.setters.values()) {
+                Getter getter = source.getters.get(setter.name());
+                if (getter == null) {
+                    continue;
+                }
+
+                boolean direct = box(setter.type()).isAssignableFrom(box(getter.type()))
+                        && !Collection.class.isAssignableFrom(getter.type());
+                copies.add(new PropertyCopy(getter, setter, direct));
+            }
+
+            String description = source.type.getSimpleName() + " to " + target.type.getSimpleName();
+            return new MappingPlan(description, copies.toArray(new PropertyCopy[0]));
+        }
+
+        void apply(Object source, Object target) {
+
+            for (PropertyCopy copy : copies) {
+                try {
+                    copy.copy(source, target);
+                } catch (DataMapperException ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new DataMapperException("Error while mapping " + description
+                            + " (" + copy.setter().name() + "): " + ex.getMessage(), ex);
+                }
+            }
+        }
+    }
+}
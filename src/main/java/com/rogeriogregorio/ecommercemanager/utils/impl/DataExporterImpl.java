@@ -0,0 +1,199 @@
+package com.rogeriogregorio.ecommercemanager.utils.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Component
+public class DataExporterImpl implements DataExporter {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final CatchError catchError;
+
+    @Autowired
+    public DataExporterImpl(ObjectMapper objectMapper, EntityManager entityManager, CatchError catchError) {
+
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.catchError = catchError;
+    }
+
+    @Override
+    public <T, R> void export(Stream<T> rows, Function<T, R> mapper, ExportFormat format, OutputStream outputStream) {
+
+        catchError.run(() -> {
+            RowWriter rowWriter = format == ExportFormat.CSV
+                    ? new CsvRowWriter(outputStream)
+                    : new NdjsonRowWriter(outputStream);
+
+            Iterator<T> iterator = rows.iterator();
+            long count = 0;
+
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                rowWriter.write(mapper.apply(row));
+                detach(row);
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    rowWriter.flush();
+                    entityManager.clear();
+                }
+            }
+
+            rowWriter.flush();
+        });
+    }
+
+    private void detach(Object row) {
+
+        if (row.getClass().isAnnotationPresent(Entity.class) && entityManager.contains(row)) {
+            entityManager.detach(row);
+        }
+    }
+
+    private interface RowWriter {
+
+        void write(Object value) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        private NdjsonRowWriter(OutputStream outputStream) throws IOException {
+
+            this.generator = objectMapper.getFactory()
+                    .createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+            this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(Object value) throws IOException {
+
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private List<CsvColumn> columns;
+
+        private CsvRowWriter(OutputStream outputStream) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void write(Object value) throws IOException {
+
+            JsonNode node = objectMapper.valueToTree(value);
+
+            if (columns == null) {
+                columns = columnsOf(node);
+                writeLine(columns.stream().map(CsvColumn::header).toList());
+            }
+
+            List<String> cells = new ArrayList<>(columns.size());
+            for (CsvColumn column : columns) {
+                cells.add(column.read(node));
+            }
+            writeLine(cells);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private List<CsvColumn> columnsOf(JsonNode node) {
+
+            List<CsvColumn> csvColumns = new ArrayList<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode fieldValue = field.getValue();
+
+                if (fieldValue.isValueNode()) {
+                    csvColumns.add(new CsvColumn(field.getKey(), field.getKey(), null));
+                } else if (fieldValue.isObject() && fieldValue.path("id").isValueNode()) {
+                    csvColumns.add(new CsvColumn(field.getKey() + "Id", field.getKey(), "id"));
+                }
+            }
+
+            return csvColumns;
+        }
+
+        private void writeLine(List<String> cells) throws IOException {
+
+            for (int i = 0; i < cells.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(cells.get(i)));
+            }
+
+            writer.write("\r\n");
+        }
+
+        private String escape(String cell) {
+
+            if (cell.indexOf(',') < 0 && cell.indexOf('"') < 0
+                    && cell.indexOf('\n') < 0 && cell.indexOf('\r') < 0) {
+                return cell;
+            }
+
+            return '"' + cell.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private record CsvColumn(String header, String field, String nestedField) {
+
+        String read(JsonNode row) {
+
+            JsonNode value = row.path(field);
+
+            if (nestedField != null) {
+                value = value.path(nestedField);
+            }
+
+            return value.isValueNode() && !value.isNull() ? value.asText() : "";
+        }
+    }
+}
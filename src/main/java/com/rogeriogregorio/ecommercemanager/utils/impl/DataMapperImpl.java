@@ -5,11 +5,13 @@ import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import org.json.JSONObject;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 
 @Component
+@ConditionalOnProperty(name = "api.data-mapper.engine", havingValue = "modelmapper", matchIfMissing = true)
 public class DataMapperImpl implements DataMapper {
 
     private final ModelMapper modelMapper;
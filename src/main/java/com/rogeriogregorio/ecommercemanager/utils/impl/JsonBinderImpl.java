@@ -0,0 +1,113 @@
+package com.rogeriogregorio.ecommercemanager.utils.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.JsonBinder;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.Writer;
+import java.util.Arrays;
+
+@Component
+public class JsonBinderImpl implements JsonBinder {
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 512 * 1024;
+
+    private final JsonFactory jsonFactory;
+    private final CatchError catchError;
+    private final ClassValue<ObjectReader> readers;
+    private final ThreadLocal<CharBuffer> buffers = ThreadLocal.withInitial(CharBuffer::new);
+
+    @Autowired
+    public JsonBinderImpl(ObjectMapper objectMapper, CatchError catchError) {
+
+        ObjectMapper bindingMapper = objectMapper.copy()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        this.jsonFactory = bindingMapper.getFactory();
+        this.catchError = catchError;
+        this.readers = new ClassValue<>() {
+            @Override
+            protected ObjectReader computeValue(Class<?> targetClass) {
+                return bindingMapper.readerFor(targetClass);
+            }
+        };
+    }
+
+    @Override
+    public <T> T bind(JSONObject source, Class<T> targetClass) {
+
+        CharBuffer buffer = buffers.get();
+
+        try {
+            return catchError.run(() -> {
+                source.write(buffer);
+
+                try (JsonParser parser = jsonFactory.createParser(buffer.chars, 0, buffer.size)) {
+                    return readers.get(targetClass).readValue(parser, targetClass);
+                }
+            });
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    private static final class CharBuffer extends Writer {
+
+        private char[] chars = new char[INITIAL_BUFFER_SIZE];
+        private int size;
+
+        @Override
+        public void write(char[] source, int offset, int length) {
+
+            ensureCapacity(size + length);
+            System.arraycopy(source, offset, chars, size, length);
+            size += length;
+        }
+
+        @Override
+        public void write(String source, int offset, int length) {
+
+            ensureCapacity(size + length);
+            source.getChars(offset, offset + length, chars, size);
+            size += length;
+        }
+
+        @Override
+        public void write(int character) {
+
+            ensureCapacity(size + 1);
+            chars[size++] = (char) character;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void ensureCapacity(int capacity) {
+
+            if (capacity > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(capacity, chars.length << 1));
+            }
+        }
+
+        private void reset() {
+
+            size = 0;
+            if (chars.length > MAX_RETAINED_BUFFER_SIZE) {
+                chars = new char[INITIAL_BUFFER_SIZE];
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.rogeriogregorio.ecommercemanager.utils.impl;
+
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class RowCounterImpl implements RowCounter {
+
+    private static final long RESEED_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final EntityManager entityManager;
+    private final CatchError catchError;
+    private final Map<Class<?>, TableCounter> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RowCounterImpl(EntityManager entityManager, CatchError catchError) {
+
+        this.entityManager = entityManager;
+        this.catchError = catchError;
+    }
+
+    @Override
+    public long approximateCount(Class<?> entityType) {
+
+        TableCounter counter = counterOf(entityType);
+        long now = System.nanoTime();
+
+        if (!counter.isSeeded()) {
+            synchronized (counter) {
+                if (!counter.isSeeded()) {
+                    counter.seed(countRows(entityType), now);
+                }
+            }
+        } else if (counter.tryStartReseed(now)) {
+            try {
+                counter.seed(countRows(entityType), now);
+            } finally {
+                counter.finishReseed();
+            }
+        }
+
+        return Math.max(0L, counter.rows.get());
+    }
+
+    @Override
+    public void increment(Class<?> entityType) {
+        counterOf(entityType).rows.incrementAndGet();
+    }
+
+    @Override
+    public void decrement(Class<?> entityType) {
+        counterOf(entityType).rows.decrementAndGet();
+    }
+
+    private TableCounter counterOf(Class<?> entityType) {
+        return counters.computeIfAbsent(entityType, type -> new TableCounter());
+    }
+
+    private long countRows(Class<?> entityType) {
+
+        String entityName = entityManager.getMetamodel().entity(entityType).getName();
+
+        return catchError.run(() -> entityManager
+                .createQuery("SELECT COUNT(e) FROM " + entityName + " e", Long.class)
+                .getSingleResult());
+    }
+
+    private static final class TableCounter {
+
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong seededAt = new AtomicLong();
+        private final AtomicBoolean seeded = new AtomicBoolean();
+        private final AtomicBoolean reseeding = new AtomicBoolean();
+
+        boolean isSeeded() {
+            return seeded.get();
+        }
+
+        boolean tryStartReseed(long now) {
+            return now - seededAt.get() >= RESEED_INTERVAL_NANOS && reseeding.compareAndSet(false, true);
+        }
+
+        void seed(long count, long now) {
+
+            rows.set(count);
+            seededAt.set(now);
+            seeded.set(true);
+        }
+
+        void finishReseed() {
+            reseeding.set(false);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.rogeriogregorio.ecommercemanager.benchmarks;
+
+import com.rogeriogregorio.ecommercemanager.dto.PixChargeDto;
+import com.rogeriogregorio.ecommercemanager.dto.responses.OrderResponse;
+import com.rogeriogregorio.ecommercemanager.dto.responses.ProductResponse;
+import com.rogeriogregorio.ecommercemanager.entities.*;
+import com.rogeriogregorio.ecommercemanager.entities.enums.OrderStatus;
+import com.rogeriogregorio.ecommercemanager.entities.enums.UserRole;
+import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CompiledDataMapperImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.DataMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.json.JSONObject;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataMapperBenchmark {
+
+    private static final String PIX_CHARGE_JSON = """
+            {
+              "calendario": { "criacao": "2024-05-10T13:34:51.000Z", "expiracao": 3600 },
+              "txid": "7978c0c97ea847e78e8849634473c1f1",
+              "revisao": 0,
+              "loc": { "id": 789, "location": "pix.example.com/qr/v2/9d36b84fc70b478fb95c12729b90ca25",
+                       "tipoCob": "cob", "criacao": "2024-05-10T13:34:51.000Z" },
+              "location": "pix.example.com/qr/v2/9d36b84fc70b478fb95c12729b90ca25",
+              "status": "ATIVA",
+              "devedor": { "cpf": "12345678909", "nome": "Francisco da Silva" },
+              "valor": { "original": "123.45" },
+              "chave": "71cdf9ba-c695-4e3c-b010-abb521a3f1be",
+              "infoAdicionais": [
+                { "nome": "ID do Pedido", "valor": "1" },
+                { "nome": "Items do Pedido", "valor": "[Intel i5-10400F: unidades = 1]" }
+              ]
+            }
+            """;
+
+    private DataMapper modelMapper;
+    private DataMapper compiledMapper;
+    private Product product;
+    private Order order;
+    private JSONObject pixCharge;
+
+    @Setup
+    public void setUp() {
+
+        modelMapper = new DataMapperImpl(new ModelMapper(), new CatchErrorImpl(new SimpleMeterRegistry()));
+        compiledMapper = new CompiledDataMapperImpl();
+
+        Set<Category> categories = new HashSet<>();
+        categories.add(new Category(1L, "Computers"));
+        categories.add(new Category(2L, "Processors"));
+
+        ProductDiscount productDiscount = new ProductDiscount(1L,
+                "Dia das Mães", BigDecimal.valueOf(0.15),
+                Instant.parse("2024-06-01T00:00:00Z"),
+                Instant.parse("2024-06-07T00:00:00Z"));
+
+        product = Product.newBuilder()
+                .withId(1L)
+                .withName("Intel i5-10400F")
+                .withDescription("Intel Core Processor")
+                .withPrice(BigDecimal.valueOf(579.99))
+                .withImgUrl("https://example.com/i5-10400F.jpg")
+                .withProductDiscount(productDiscount)
+                .withCategories(categories)
+                .withItems(new HashSet<>())
+                .withReviews(new HashSet<>())
+                .build();
+
+        User client = User.newBuilder()
+                .withId(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))
+                .withName("Admin")
+                .withEmail("admin@email.com")
+                .withPhone("11912345678")
+                .withCpf("72482581052")
+                .withRole(UserRole.CLIENT)
+                .build();
+
+        Set<OrderItem> items = new HashSet<>();
+        order = Order.newBuilder()
+                .withId(1L)
+                .withMoment(Instant.parse("2024-06-02T00:00:00Z"))
+                .withOrderStatus(OrderStatus.WAITING_PAYMENT)
+                .withClient(client)
+                .withItems(items)
+                .build();
+
+        items.add(OrderItem.newBuilder()
+                .withOrder(order)
+                .withProduct(product)
+                .withQuantity(2)
+                .withPrice(product.getPrice())
+                .build());
+
+        pixCharge = new JSONObject(PIX_CHARGE_JSON);
+    }
+
+    @Benchmark
+    public ProductResponse productResponseModelMapper() {
+        return modelMapper.map(product, ProductResponse.class);
+    }
+
+    @Benchmark
+    public ProductResponse productResponseCompiled() {
+        return compiledMapper.map(product, ProductResponse.class);
+    }
+
+    @Benchmark
+    public OrderResponse orderResponseModelMapper() {
+        return modelMapper.map(order, OrderResponse.class);
+    }
+
+    @Benchmark
+    public OrderResponse orderResponseCompiled() {
+        return compiledMapper.map(order, OrderResponse.class);
+    }
+
+    @Benchmark
+    public PixChargeDto pixChargeModelMapper() {
+        return modelMapper.fromJson(pixCharge, PixChargeDto.class);
+    }
+
+    @Benchmark
+    public PixChargeDto pixChargeCompiled() {
+        return compiledMapper.fromJson(pixCharge, PixChargeDto.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder()
+                .include(DataMapperBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,163 @@
+package com.rogeriogregorio.ecommercemanager.benchmarks;
+
+import com.rogeriogregorio.ecommercemanager.ECommerceManagerApplication;
+import com.rogeriogregorio.ecommercemanager.entities.*;
+import com.rogeriogregorio.ecommercemanager.entities.enums.MovementType;
+import com.rogeriogregorio.ecommercemanager.entities.enums.OrderStatus;
+import com.rogeriogregorio.ecommercemanager.entities.enums.StockStatus;
+import com.rogeriogregorio.ecommercemanager.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class PersistenceBatchingBenchmark {
+
+    private static final int ORDER_LINES = 50;
+    private static final int STOCK_MOVEMENTS = 100_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private User client;
+    private List<Product> products;
+    private InventoryItem inventoryItem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        context = new SpringApplicationBuilder(ECommerceManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("JWT_SECRET=benchmark", "PASSWORD_SECRET=benchmark",
+                        "EMAIL_USERNAME=benchmark", "EMAIL_PASSWORD=benchmark",
+                        "PIX_CLIENT_ID=benchmark", "EFI_CLIENT_SECRET=benchmark", "EFI_KEY_EVP=benchmark")
+                .run("--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--logging.level.com.rogeriogregorio.ecommercemanager=WARN");
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        client = context.getBean(UserRepository.class).findByEmail("admin@email.com").orElseThrow();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            products = new ArrayList<>(ORDER_LINES);
+
+            for (int i = 0; i < ORDER_LINES; i++) {
+                Product product = Product.newBuilder()
+                        .withName("Benchmark product " + i)
+                        .withDescription("Benchmark product")
+                        .withPrice(BigDecimal.valueOf(99.90))
+                        .withImgUrl("https://example.com/product.jpg")
+                        .withCategories(new HashSet<>())
+                        .withItems(new HashSet<>())
+                        .withReviews(new HashSet<>())
+                        .build();
+
+                entityManager.persist(product);
+                products.add(product);
+            }
+
+            inventoryItem = InventoryItem.newBuilder()
+                    .withProduct(products.get(0))
+                    .withQuantityInStock(STOCK_MOVEMENTS)
+                    .withQuantitySold(0)
+                    .withStockStatus(StockStatus.AVAILABLE)
+                    .build();
+
+            entityManager.persist(inventoryItem);
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedRows() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM StockMovement").executeUpdate();
+            entityManager.createQuery("DELETE FROM OrderItem").executeUpdate();
+            entityManager.createQuery("DELETE FROM Order").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDER_LINES + 1)
+    public void orderWithFiftyLines() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = Order.newBuilder()
+                    .withMoment(Instant.now())
+                    .withOrderStatus(OrderStatus.WAITING_PAYMENT)
+                    .withClient(client)
+                    .withItems(new HashSet<>())
+                    .build();
+
+            entityManager.persist(order);
+
+            for (Product product : products) {
+                entityManager.persist(OrderItem.newBuilder()
+                        .withOrder(order)
+                        .withProduct(product)
+                        .withQuantity(1)
+                        .withPrice(product.getPrice())
+                        .build());
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STOCK_MOVEMENTS)
+    public void stockMovementLoad() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 1; i <= STOCK_MOVEMENTS; i++) {
+                entityManager.persist(StockMovement.newBuilder()
+                        .withMoment(Instant.now())
+                        .withInventoryItem(inventoryItem)
+                        .withMovementType(MovementType.ENTRANCE)
+                        .withQuantityMoved(1)
+                        .build());
+
+                if (i % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder()
+                .include(PersistenceBatchingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
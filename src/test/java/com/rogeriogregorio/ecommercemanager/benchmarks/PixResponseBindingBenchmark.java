@@ -0,0 +1,110 @@
+package com.rogeriogregorio.ecommercemanager.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rogeriogregorio.ecommercemanager.dto.PixListChargeDto;
+import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.JsonBinder;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CompiledDataMapperImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.DataMapperImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.JsonBinderImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the allocation per bound pixListCharges response (see gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PixResponseBindingBenchmark {
+
+    @Param({"1000"})
+    private int charges;
+
+    private DataMapper modelMapper;
+    private DataMapper compiledMapper;
+    private JsonBinder jsonBinder;
+    private JSONObject pixListCharges;
+
+    @Setup
+    public void setUp() {
+
+        CatchErrorImpl catchError = new CatchErrorImpl(new SimpleMeterRegistry());
+        modelMapper = new DataMapperImpl(new ModelMapper(), catchError);
+        compiledMapper = new CompiledDataMapperImpl();
+        jsonBinder = new JsonBinderImpl(new ObjectMapper(), catchError);
+
+        JSONArray cobs = new JSONArray();
+        for (int i = 0; i < charges; i++) {
+            cobs.put(new JSONObject()
+                    .put("calendario", new JSONObject().put("criacao", "2024-05-10T13:34:51.000Z").put("expiracao", 3600))
+                    .put("txid", String.format("7978c0c97ea847e78e884963%08d", i))
+                    .put("revisao", 0)
+                    .put("loc", new JSONObject().put("id", i).put("tipoCob", "cob")
+                            .put("location", "pix.example.com/qr/v2/9d36b84fc70b478fb95c12729b90ca25")
+                            .put("criacao", "2024-05-10T13:34:51.000Z"))
+                    .put("location", "pix.example.com/qr/v2/9d36b84fc70b478fb95c12729b90ca25")
+                    .put("status", "CONCLUIDA")
+                    .put("devedor", new JSONObject().put("cpf", "12345678909").put("nome", "Francisco da Silva"))
+                    .put("valor", new JSONObject().put("original", "123.45"))
+                    .put("chave", "71cdf9ba-c695-4e3c-b010-abb521a3f1be")
+                    .put("infoAdicionais", new JSONArray()
+                            .put(new JSONObject().put("nome", "ID do Pedido").put("valor", String.valueOf(i)))
+                            .put(new JSONObject().put("nome", "Items do Pedido").put("valor", "[Intel i5-10400F: unidades = 1]")))
+                    .put("pix", new JSONArray().put(new JSONObject()
+                            .put("endToEndId", String.format("E1234567820240510133451%010d", i))
+                            .put("txid", String.format("7978c0c97ea847e78e884963%08d", i))
+                            .put("valor", "123.45")
+                            .put("chave", "71cdf9ba-c695-4e3c-b010-abb521a3f1be")
+                            .put("horario", "2024-05-10T13:40:12.000Z"))));
+        }
+
+        pixListCharges = new JSONObject()
+                .put("parametros", new JSONObject()
+                        .put("inicio", "2024-05-01T00:00:00Z")
+                        .put("fim", "2024-05-31T00:00:00Z")
+                        .put("paginacao", new JSONObject()
+                                .put("paginaAtual", 0)
+                                .put("itensPorPagina", charges)
+                                .put("quantidadeDePaginas", 1)
+                                .put("quantidadeTotalDeItens", charges)))
+                .put("cobs", cobs);
+    }
+
+    @Benchmark
+    public PixListChargeDto pixListChargesModelMapper() {
+        return modelMapper.fromJson(pixListCharges, PixListChargeDto.class);
+    }
+
+    @Benchmark
+    public PixListChargeDto pixListChargesCompiled() {
+        return compiledMapper.fromJson(pixListCharges, PixListChargeDto.class);
+    }
+
+    @Benchmark
+    public PixListChargeDto pixListChargesJsonBinder() {
+        return jsonBinder.bind(pixListCharges, PixListChargeDto.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder()
+                .include(PixResponseBindingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,198 @@
+package com.rogeriogregorio.ecommercemanager.benchmarks;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.rogeriogregorio.ecommercemanager.dto.UserAuthDetailsDto;
+import com.rogeriogregorio.ecommercemanager.entities.User;
+import com.rogeriogregorio.ecommercemanager.entities.enums.UserRole;
+import com.rogeriogregorio.ecommercemanager.security.PrincipalCache;
+import com.rogeriogregorio.ecommercemanager.security.SecurityVersionRegistry;
+import com.rogeriogregorio.ecommercemanager.security.TokenService;
+import com.rogeriogregorio.ecommercemanager.security.config.SecurityFilterConfig;
+import com.rogeriogregorio.ecommercemanager.security.impl.TokenServiceImpl;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Authentication filter path with a per-request verifier, a reused verifier, the verified-token cache and token claims.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenValidationBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key";
+    private static final String ISSUER_NAME = "ecommerce-manager";
+
+    private SecurityFilterConfig perRequestVerifierFilter;
+    private SecurityFilterConfig reusedVerifierFilter;
+    private SecurityFilterConfig cachedFilter;
+    private SecurityFilterConfig claimsFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletRequest claimsRequest;
+
+    @Setup
+    public void setUp() {
+
+        CatchError catchError = new CatchErrorImpl(new SimpleMeterRegistry());
+        TokenServiceImpl tokenService = new TokenServiceImpl(null, List.of(), catchError, new NoRevocations());
+        ReflectionTestUtils.setField(tokenService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.invokeMethod(tokenService, "buildVerifier");
+
+        TokenServiceImpl claimsTokenService = new TokenServiceImpl(null, List.of(), catchError, new NoRevocations());
+        ReflectionTestUtils.setField(claimsTokenService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(claimsTokenService, "claimsMode", true);
+        ReflectionTestUtils.invokeMethod(claimsTokenService, "buildVerifier");
+
+        User user = User.newBuilder()
+                .withId(UUID.randomUUID())
+                .withName("Client")
+                .withEmail("client@email.com")
+                .withRole(UserRole.CLIENT)
+                .build();
+        UserAuthDetailsDto principal = new UserAuthDetailsDto(user);
+        PrincipalCache principalCache = new FixedPrincipalCache(principal);
+
+        JWTVerifier reusedVerifier = JWT.require(Algorithm.HMAC256(SECRET_KEY)).withIssuer(ISSUER_NAME).build();
+
+        perRequestVerifierFilter = new SecurityFilterConfig(new ValidatingTokenService(tokenService, token ->
+                JWT.require(Algorithm.HMAC256(SECRET_KEY)).withIssuer(ISSUER_NAME).build().verify(token).getSubject()),
+                principalCache, catchError);
+        reusedVerifierFilter = new SecurityFilterConfig(new ValidatingTokenService(tokenService, token ->
+                reusedVerifier.verify(token).getSubject()), principalCache, catchError);
+        cachedFilter = new SecurityFilterConfig(tokenService, principalCache, catchError);
+        claimsFilter = new SecurityFilterConfig(claimsTokenService, principalCache, catchError);
+        ReflectionTestUtils.setField(claimsFilter, "claimsMode", true);
+
+        request = new MockHttpServletRequest("GET", "/api/v1/products");
+        request.addHeader("Authorization", "Bearer " + tokenService.generateAuthenticationToken(principal));
+        claimsRequest = new MockHttpServletRequest("GET", "/api/v1/products");
+        claimsRequest.addHeader("Authorization", "Bearer " + claimsTokenService.generateAuthenticationToken(principal));
+    }
+
+    @Benchmark
+    public Object perRequestVerifier() throws ServletException, IOException {
+        return filter(perRequestVerifierFilter);
+    }
+
+    @Benchmark
+    public Object reusedVerifier() throws ServletException, IOException {
+        return filter(reusedVerifierFilter);
+    }
+
+    @Benchmark
+    public Object verifiedTokenCache() throws ServletException, IOException {
+        return filter(cachedFilter);
+    }
+
+    @Benchmark
+    public Object tokenClaims() throws ServletException, IOException {
+        return filter(claimsFilter, claimsRequest);
+    }
+
+    private Object filter(SecurityFilterConfig securityFilter) throws ServletException, IOException {
+        return filter(securityFilter, request);
+    }
+
+    private Object filter(SecurityFilterConfig securityFilter, MockHttpServletRequest request)
+            throws ServletException, IOException {
+
+        securityFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    private record FixedPrincipalCache(UserAuthDetailsDto principal) implements PrincipalCache {
+
+        @Override
+        public UserAuthDetailsDto getPrincipal(String email) {
+            return principal;
+        }
+
+        @Override
+        public void invalidate(String email) {
+        }
+    }
+
+    private static final class NoRevocations implements SecurityVersionRegistry {
+
+        @Override
+        public long currentVersion(UUID userId) {
+            return 0;
+        }
+
+        @Override
+        public boolean isRevoked(UUID userId, long securityVersion) {
+            return false;
+        }
+
+        @Override
+        public void bump(UUID userId) {
+        }
+
+        @Override
+        public int refresh() {
+            return 0;
+        }
+    }
+
+    private record ValidatingTokenService(TokenService delegate,
+                                          Function<String, String> validator) implements TokenService {
+
+        @Override
+        public String generateAuthenticationToken(UserAuthDetailsDto userAuthDetailsDto) {
+            return delegate.generateAuthenticationToken(userAuthDetailsDto);
+        }
+
+        @Override
+        public String validateAuthenticationToken(String token) {
+            return validator.apply(token);
+        }
+
+        @Override
+        public Optional<UserAuthDetailsDto> validateAuthenticationClaims(String token) {
+            return delegate.validateAuthenticationClaims(token);
+        }
+
+        @Override
+        public String generateEmailToken(User user) {
+            return delegate.generateEmailToken(user);
+        }
+
+        @Override
+        public User validateEmailToken(String token) {
+            return delegate.validateEmailToken(token);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder()
+                .include(TokenValidationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,349 @@
+package com.rogeriogregorio.ecommercemanager.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for the EfiPay Pix API over HTTPS with a throwaway self-signed certificate.
+ * Implements the endpoints used by the application, injects latency and errors, and pays a share
+ * of the created charges by posting to the application's Pix webhook.
+ */
+public class EfiPaySimulator implements AutoCloseable {
+
+    private static final char[] KEYSTORE_PASSWORD = "efipay-simulator".toCharArray();
+    private static final Pattern QR_CODE_PATH = Pattern.compile("^/v2/loc/(\\d+)/qrcode$");
+    private static final Pattern CHARGE_PATH = Pattern.compile("^/v2/cob/([A-Za-z0-9]{26,35})$");
+    private static final int WEBHOOK_DELIVERY_ATTEMPTS = 3;
+
+    private final Settings settings;
+    private final SSLContext sslContext;
+    private final HttpsServer server;
+    private final ExecutorService requestExecutor;
+    private final ScheduledExecutorService webhookScheduler = Executors.newScheduledThreadPool(2);
+    private final HttpClient webhookClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<String, JSONObject> charges = new ConcurrentHashMap<>();
+    private final Map<Integer, String> txIdsByLocation = new ConcurrentHashMap<>();
+    private final AtomicLong locationIds = new AtomicLong();
+    private final AtomicLong endToEndIds = new AtomicLong();
+    private volatile URI webhookUri;
+    private volatile BiConsumer<String, Long> webhookListener = (txId, sentAtNanos) -> { };
+
+    public EfiPaySimulator(Settings settings) throws Exception {
+
+        this.settings = settings;
+        this.sslContext = selfSignedContext();
+        this.requestExecutor = Executors.newFixedThreadPool(settings.workerThreads());
+        this.server = HttpsServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+        this.server.setExecutor(requestExecutor);
+        this.server.createContext("/", this::handle);
+    }
+
+    public EfiPaySimulator start() {
+
+        server.start();
+        return this;
+    }
+
+    public URI baseUri() {
+        return URI.create("https://localhost:" + server.getAddress().getPort());
+    }
+
+    public SSLContext sslContext() {
+        return sslContext;
+    }
+
+    public void setWebhookUri(URI webhookUri) {
+        this.webhookUri = webhookUri;
+    }
+
+    public void onWebhookSent(BiConsumer<String, Long> webhookListener) {
+        this.webhookListener = webhookListener;
+    }
+
+    public int chargeCount() {
+        return charges.size();
+    }
+
+    @Override
+    public void close() {
+
+        server.stop(0);
+        requestExecutor.shutdownNow();
+        webhookScheduler.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        try (exchange) {
+            sleep(settings.latency().toMillis()
+                    + ThreadLocalRandom.current().nextLong(settings.latencyJitter().toMillis() + 1));
+
+            if (ThreadLocalRandom.current().nextDouble() < settings.errorRate()) {
+                respond(exchange, 500, new JSONObject().put("nome", "erro_interno").put("mensagem", "Simulated failure"));
+                return;
+            }
+
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            Matcher qrCodePath = QR_CODE_PATH.matcher(path);
+            Matcher chargePath = CHARGE_PATH.matcher(path);
+
+            if (method.equals("POST") && path.equals("/v2/cob")) {
+                respond(exchange, 201, createCharge(UUID.randomUUID().toString().replace("-", ""), readBody(exchange)));
+            } else if (method.equals("PUT") && chargePath.matches()) {
+                String txId = chargePath.group(1);
+                respond(exchange, charges.containsKey(txId) ? 400 : 201, charges.containsKey(txId)
+                        ? new JSONObject().put("nome", "txid_duplicado").put("mensagem", "Charge already exists")
+                        : createCharge(txId, readBody(exchange)));
+            } else if (method.equals("GET") && chargePath.matches()) {
+                JSONObject charge = charges.get(chargePath.group(1));
+                respond(exchange, charge == null ? 404 : 200, charge == null ? notFound() : charge);
+            } else if (method.equals("GET") && path.equals("/v2/cob")) {
+                respond(exchange, 200, listCharges(query));
+            } else if (method.equals("GET") && qrCodePath.matches()) {
+                String txId = txIdsByLocation.get(Integer.parseInt(qrCodePath.group(1)));
+                respond(exchange, txId == null ? 404 : 200, txId == null ? notFound() : qrCode(txId));
+            } else if (method.equals("GET") && path.equals("/v2/gn/evp")) {
+                respond(exchange, 200, new JSONObject().put("chaves", new JSONArray().put(UUID.randomUUID().toString())));
+            } else if (method.equals("POST") && path.equals("/v2/gn/evp")) {
+                respond(exchange, 201, new JSONObject().put("chave", UUID.randomUUID().toString()));
+            } else {
+                respond(exchange, 404, notFound());
+            }
+        }
+    }
+
+    private JSONObject createCharge(String txId, JSONObject body) {
+
+        int locationId = (int) locationIds.incrementAndGet();
+        String location = "localhost:" + server.getAddress().getPort() + "/qr/v2/" + txId;
+        String createdAt = Instant.now().toString();
+
+        JSONObject charge = new JSONObject()
+                .put("calendario", new JSONObject()
+                        .put("criacao", createdAt)
+                        .put("expiracao", body.optJSONObject("calendario", new JSONObject()).optInt("expiracao", 3600)))
+                .put("txid", txId)
+                .put("revisao", 0)
+                .put("loc", new JSONObject().put("id", locationId).put("location", location)
+                        .put("tipoCob", "cob").put("criacao", createdAt))
+                .put("location", location)
+                .put("status", "ATIVA")
+                .put("devedor", body.optJSONObject("devedor", new JSONObject()))
+                .put("valor", body.optJSONObject("valor", new JSONObject()))
+                .put("chave", body.optString("chave"))
+                .put("infoAdicionais", body.optJSONArray("infoAdicionais", new JSONArray()));
+
+        charges.put(txId, charge);
+        txIdsByLocation.put(locationId, txId);
+
+        if (ThreadLocalRandom.current().nextDouble() < settings.paymentRate()) {
+            webhookScheduler.schedule(() -> pay(txId, 1), settings.paymentDelay().toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        return charge;
+    }
+
+    private JSONObject listCharges(Map<String, String> query) {
+
+        Instant start = Instant.parse(query.get("inicio"));
+        Instant end = Instant.parse(query.get("fim"));
+        int page = Integer.parseInt(query.getOrDefault("paginacao.paginaAtual", "0"));
+        int pageSize = Integer.parseInt(query.getOrDefault("paginacao.itensPorPagina", "100"));
+
+        List<JSONObject> matching = charges.values().stream()
+                .filter(charge -> {
+                    Instant createdAt = Instant.parse(charge.getJSONObject("calendario").getString("criacao"));
+                    return !createdAt.isBefore(start) && createdAt.isBefore(end);
+                })
+                .sorted(Comparator.comparing(charge -> charge.getJSONObject("calendario").getString("criacao")))
+                .toList();
+
+        int pages = (matching.size() + pageSize - 1) / pageSize;
+        List<JSONObject> pageCharges = matching.subList(Math.min(page * pageSize, matching.size()),
+                Math.min((page + 1) * pageSize, matching.size()));
+
+        return new JSONObject()
+                .put("parametros", new JSONObject()
+                        .put("inicio", query.get("inicio"))
+                        .put("fim", query.get("fim"))
+                        .put("paginacao", new JSONObject()
+                                .put("paginaAtual", page)
+                                .put("itensPorPagina", pageSize)
+                                .put("quantidadeDePaginas", pages)
+                                .put("quantidadeTotalDeItens", matching.size())))
+                .put("cobs", new JSONArray(pageCharges));
+    }
+
+    private JSONObject qrCode(String txId) {
+
+        String location = charges.get(txId).getString("location");
+        String merchantAccount = "0014br.gov.bcb.pix25" + String.format("%02d", location.length()) + location;
+
+        return new JSONObject()
+                .put("qrcode", "000201010212" + "26" + String.format("%02d", merchantAccount.length()) + merchantAccount)
+                .put("imagemQrcode", "data:image/png;base64,")
+                .put("linkVisualizacao", baseUri() + "/cob/pagar/" + txId);
+    }
+
+    private void pay(String txId, int attempt) {
+
+        URI target = webhookUri;
+        JSONObject charge = charges.get(txId);
+
+        if (target == null || charge == null) {
+            return;
+        }
+
+        JSONObject pix = new JSONObject()
+                .put("endToEndId", String.format("E00000000%s%011d", txId.substring(0, 12), endToEndIds.incrementAndGet()))
+                .put("txid", txId)
+                .put("chave", charge.optString("chave"))
+                .put("valor", charge.getJSONObject("valor").optString("original", "0.00"))
+                .put("horario", Instant.now().toString());
+
+        charge.put("status", "CONCLUIDA").put("pix", new JSONArray().put(pix));
+
+        HttpRequest request = HttpRequest.newBuilder(target)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(new JSONObject().put("pix", new JSONArray().put(pix)).toString()))
+                .build();
+
+        webhookListener.accept(txId, System.nanoTime());
+        webhookClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, ex) -> {
+                    boolean delivered = ex == null && response.statusCode() / 100 == 2;
+                    if (!delivered && attempt < WEBHOOK_DELIVERY_ATTEMPTS) {
+                        webhookScheduler.schedule(() -> pay(txId, attempt + 1), 1, TimeUnit.SECONDS);
+                    }
+                });
+    }
+
+    private static JSONObject readBody(HttpExchange exchange) throws IOException {
+
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        return body.isBlank() ? new JSONObject() : new JSONObject(body);
+    }
+
+    private static void respond(HttpExchange exchange, int status, JSONObject body) throws IOException {
+
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static JSONObject notFound() {
+        return new JSONObject().put("nome", "nao_encontrado").put("mensagem", "Resource not found");
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+
+        Map<String, String> query = new HashMap<>();
+
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+
+        return query;
+    }
+
+    private static void sleep(long millis) {
+
+        if (millis <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SSLContext selfSignedContext() throws Exception {
+
+        Path keyStoreFile = Files.createTempFile("efipay-simulator", ".p12");
+        Files.delete(keyStoreFile);
+
+        try {
+            Process keytool = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "keytool").toString(),
+                    "-genkeypair", "-alias", "efipay-simulator", "-keyalg", "EC", "-groupname", "secp256r1",
+                    "-validity", "1", "-dname", "CN=localhost", "-ext", "SAN=dns:localhost,ip:127.0.0.1",
+                    "-storetype", "PKCS12", "-keystore", keyStoreFile.toString(),
+                    "-storepass", new String(KEYSTORE_PASSWORD), "-keypass", new String(KEYSTORE_PASSWORD))
+                    .redirectErrorStream(true)
+                    .start();
+
+            String output = new String(keytool.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            if (keytool.waitFor() != 0) {
+                throw new IllegalStateException("keytool failed: " + output);
+            }
+
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            try (InputStream inputStream = Files.newInputStream(keyStoreFile)) {
+                keyStore.load(inputStream, KEYSTORE_PASSWORD);
+            }
+
+            KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagers.init(keyStore, KEYSTORE_PASSWORD);
+            TrustManagerFactory trustManagers = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagers.init(keyStore);
+
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(keyManagers.getKeyManagers(), trustManagers.getTrustManagers(), null);
+            return context;
+        } finally {
+            Files.deleteIfExists(keyStoreFile);
+        }
+    }
+
+    public record Settings(Duration latency, Duration latencyJitter, double errorRate,
+                           double paymentRate, Duration paymentDelay, int workerThreads) {
+
+        public static Settings defaults() {
+            return new Settings(Duration.ofMillis(80), Duration.ofMillis(40), 0.01, 0.95, Duration.ofMillis(500), 64);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.rogeriogregorio.ecommercemanager.loadtest;
+
+import com.rogeriogregorio.ecommercemanager.ECommerceManagerApplication;
+import com.rogeriogregorio.ecommercemanager.dto.requests.PaymentRequest;
+import com.rogeriogregorio.ecommercemanager.entities.*;
+import com.rogeriogregorio.ecommercemanager.entities.enums.OrderStatus;
+import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentStatus;
+import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentType;
+import com.rogeriogregorio.ecommercemanager.entities.enums.StockStatus;
+import com.rogeriogregorio.ecommercemanager.entities.enums.UserRole;
+import com.rogeriogregorio.ecommercemanager.payment.EfiPayClient;
+import com.rogeriogregorio.ecommercemanager.repositories.PaymentRepository;
+import com.rogeriogregorio.ecommercemanager.services.PaymentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load test of the Pix payment path: checkout, asynchronous charge creation against the
+ * {@link EfiPaySimulator} and webhook settlement, with latency percentiles per stage.
+ *
+ * <p>Arguments: {@code [rate per second] [duration seconds] [PSP latency ms] [PSP error rate] [payment rate]}.
+ */
+public class PaymentLoadHarness {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration SETTLEMENT_POLL_INTERVAL = Duration.ofMillis(20);
+    private static final int SETTLEMENT_POLL_BATCH_SIZE = 500;
+    private static final int CHECKOUT_THREADS = 128;
+
+    private final Map<String, Long> checkoutStartedAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> checkoutCompletedAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> chargeCreatedAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> webhookSentAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> settledAt = new ConcurrentHashMap<>();
+    private final Map<String, String> orderIdByTxId = new ConcurrentHashMap<>();
+    private final Histogram checkoutLatency = new ConcurrentHistogram(3);
+    private final AtomicLong checkoutErrors = new AtomicLong();
+
+    private final ConfigurableApplicationContext context;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final PaymentService paymentService;
+    private final PaymentRepository paymentRepository;
+    private User client;
+    private Product product;
+
+    private PaymentLoadHarness(ConfigurableApplicationContext context) {
+
+        this.context = context;
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        this.paymentService = context.getBean(PaymentService.class);
+        this.paymentRepository = context.getBean(PaymentRepository.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        int rate = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 60);
+        Duration latency = Duration.ofMillis(args.length > 2 ? Long.parseLong(args[2]) : 80);
+        double errorRate = args.length > 3 ? Double.parseDouble(args[3]) : 0.01;
+        double paymentRate = args.length > 4 ? Double.parseDouble(args[4]) : 0.95;
+
+        EfiPaySimulator.Settings settings = new EfiPaySimulator.Settings(latency, latency.dividedBy(2),
+                errorRate, paymentRate, Duration.ofMillis(500), 64);
+
+        try (EfiPaySimulator simulator = new EfiPaySimulator(settings).start()) {
+            SimulatorEfiPayClient efiPayClient = new SimulatorEfiPayClient(simulator);
+
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ECommerceManagerApplication.class)
+                    .initializers(applicationContext -> ((GenericApplicationContext) applicationContext)
+                            .registerBean("efiPaySimulatorRegistrar", SimulatorRegistrar.class,
+                                    () -> new SimulatorRegistrar(efiPayClient)))
+                    .properties("JWT_SECRET=loadtest", "PASSWORD_SECRET=loadtest",
+                            "EMAIL_USERNAME=loadtest", "EMAIL_PASSWORD=loadtest",
+                            "PIX_CLIENT_ID=loadtest", "EFI_CLIENT_SECRET=loadtest", "EFI_KEY_EVP=loadtest")
+                    .run("--server.port=0", "--logging.level.com.rogeriogregorio.ecommercemanager=WARN");
+
+            try {
+                PaymentLoadHarness harness = new PaymentLoadHarness(context);
+
+                efiPayClient.onChargeCreated((orderId, nanos) -> harness.chargeCreatedAt.put(orderId, nanos));
+                simulator.onWebhookSent((txId, nanos) -> harness.webhookSentAt.putIfAbsent(txId, nanos));
+                simulator.setWebhookUri(URI.create("http://localhost:"
+                        + context.getEnvironment().getProperty("local.server.port")
+                        + context.getEnvironment().getProperty("server.servlet.context-path", "")
+                        + "/webhook/pix"));
+
+                harness.seed(rate * duration.toSeconds());
+                harness.run(rate, duration);
+                harness.report(rate, duration, settings, simulator.chargeCount());
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private void seed(long expectedOrders) {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            client = User.newBuilder()
+                    .withName("Load Test Client")
+                    .withEmail("loadtest-" + UUID.randomUUID() + "@email.com")
+                    .withPhone("11912345678")
+                    .withCpf("72482581052")
+                    .withPassword("Password123$")
+                    .withRole(UserRole.CLIENT)
+                    .withEmailEnabled(true)
+                    .build();
+
+            entityManager.persist(client);
+
+            Address address = Address.newBuilder()
+                    .withStreet("Rua Load Test, 100")
+                    .withCity("Sao Paulo")
+                    .withState("SP")
+                    .withCep("01001-000")
+                    .withCountry("Brasil")
+                    .withUser(client)
+                    .build();
+
+            entityManager.persist(address);
+
+            product = Product.newBuilder()
+                    .withName("Load test product")
+                    .withDescription("Load test product")
+                    .withPrice(BigDecimal.valueOf(49.90))
+                    .withImgUrl("https://example.com/product.jpg")
+                    .withCategories(new HashSet<>())
+                    .withItems(new HashSet<>())
+                    .withReviews(new HashSet<>())
+                    .build();
+
+            entityManager.persist(product);
+
+            entityManager.persist(InventoryItem.newBuilder()
+                    .withProduct(product)
+                    .withQuantityInStock((int) Math.min(Integer.MAX_VALUE, expectedOrders * 2 + 1_000))
+                    .withQuantitySold(0)
+                    .withStockStatus(StockStatus.AVAILABLE)
+                    .build());
+        });
+    }
+
+    private void run(int rate, Duration duration) throws InterruptedException {
+
+        ExecutorService checkoutWorkers = Executors.newFixedThreadPool(CHECKOUT_THREADS);
+        ScheduledExecutorService settlementPoller = Executors.newSingleThreadScheduledExecutor();
+        settlementPoller.scheduleWithFixedDelay(this::pollSettlements, SETTLEMENT_POLL_INTERVAL.toMillis(),
+                SETTLEMENT_POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long totalRequests = rate * duration.toSeconds();
+        long start = System.nanoTime();
+
+        for (long i = 0; i < totalRequests; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            checkoutWorkers.execute(() -> checkout(intendedStart));
+        }
+
+        checkoutWorkers.shutdown();
+        checkoutWorkers.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline && settledAt.size() < webhookSentAt.size()) {
+            Thread.sleep(SETTLEMENT_POLL_INTERVAL.toMillis());
+        }
+
+        settlementPoller.shutdownNow();
+    }
+
+    private void checkout(long intendedStart) {
+
+        try {
+            Long orderId = transactionTemplate.execute(status -> {
+                Order order = Order.newBuilder()
+                        .withMoment(Instant.now())
+                        .withOrderStatus(OrderStatus.WAITING_PAYMENT)
+                        .withClient(client)
+                        .withItems(new HashSet<>())
+                        .build();
+
+                entityManager.persist(order);
+                entityManager.persist(OrderItem.newBuilder()
+                        .withOrder(order)
+                        .withProduct(entityManager.getReference(Product.class, product.getId()))
+                        .withQuantity(1)
+                        .withPrice(product.getPrice())
+                        .build());
+
+                return order.getId();
+            });
+
+            checkoutStartedAt.put(String.valueOf(orderId), intendedStart);
+            paymentService.createPaymentProcess(new PaymentRequest(orderId, PaymentType.PIX));
+
+            long completedAt = System.nanoTime();
+            checkoutCompletedAt.put(String.valueOf(orderId), completedAt);
+            checkoutLatency.recordValue(TimeUnit.NANOSECONDS.toMicros(completedAt - intendedStart));
+        } catch (RuntimeException ex) {
+            checkoutErrors.incrementAndGet();
+        }
+    }
+
+    private void pollSettlements() {
+
+        List<String> awaiting = webhookSentAt.keySet().stream()
+                .filter(txId -> !settledAt.containsKey(txId))
+                .limit(SETTLEMENT_POLL_BATCH_SIZE)
+                .toList();
+
+        if (awaiting.isEmpty()) {
+            return;
+        }
+
+        try {
+            long now = System.nanoTime();
+
+            for (Payment payment : paymentRepository.findByTxIdIn(awaiting)) {
+                if (payment.getPaymentStatus() == PaymentStatus.CONCLUDED) {
+                    orderIdByTxId.put(payment.getTxId(), String.valueOf(payment.getOrder().getId()));
+                    settledAt.put(payment.getTxId(), now);
+                }
+            }
+        } catch (RuntimeException ex) {
+            System.err.println("Settlement poll failed: " + ex.getMessage());
+        }
+    }
+
+    private void report(int rate, Duration duration, EfiPaySimulator.Settings settings, int simulatedCharges) {
+
+        Histogram chargeLatency = between(checkoutCompletedAt, chargeCreatedAt);
+        Histogram settlementLatency = between(webhookSentAt, settledAt);
+        Histogram endToEndLatency = new Histogram(3);
+
+        settledAt.forEach((txId, settled) -> {
+            Long started = checkoutStartedAt.get(orderIdByTxId.get(txId));
+            if (started != null) {
+                endToEndLatency.recordValue(TimeUnit.NANOSECONDS.toMicros(settled - started));
+            }
+        });
+
+        System.out.printf("%nPix payment load: %d orders/s for %ds, PSP latency %dms, PSP error rate %.3f, payment rate %.2f%n",
+                rate, duration.toSeconds(), settings.latency().toMillis(), settings.errorRate(), settings.paymentRate());
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %8s %8s%n",
+                "stage", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "count", "missing");
+
+        print("checkout", checkoutLatency, checkoutErrors.get());
+        print("charge", chargeLatency, checkoutCompletedAt.size() - chargeLatency.getTotalCount());
+        print("webhook", settlementLatency, webhookSentAt.size() - settlementLatency.getTotalCount());
+        print("end-to-end", endToEndLatency, 0);
+
+        System.out.printf("Charges created by the simulator: %d, webhooks sent: %d, payments settled: %d%n",
+                simulatedCharges, webhookSentAt.size(), settledAt.size());
+    }
+
+    private static Histogram between(Map<String, Long> from, Map<String, Long> to) {
+
+        Histogram histogram = new Histogram(3);
+
+        to.forEach((key, end) -> {
+            Long begin = from.get(key);
+            if (begin != null && end >= begin) {
+                histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(end - begin));
+            }
+        });
+
+        return histogram;
+    }
+
+    private static void print(String stage, Histogram histogram, long missing) {
+
+        System.out.printf("%-10s %10.1f %10.1f %10.1f %10.1f %10.1f %8d %8d%n", stage,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                histogram.getTotalCount(), missing);
+    }
+
+    static class SimulatorRegistrar implements BeanDefinitionRegistryPostProcessor {
+
+        private final EfiPayClient efiPayClient;
+
+        SimulatorRegistrar(EfiPayClient efiPayClient) {
+            this.efiPayClient = efiPayClient;
+        }
+
+        @Override
+        public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+
+            if (registry.containsBeanDefinition("efiPayClientImpl")) {
+                registry.removeBeanDefinition("efiPayClientImpl");
+            }
+
+            registry.registerBeanDefinition("efiPayClient", BeanDefinitionBuilder
+                    .genericBeanDefinition(EfiPayClient.class, () -> efiPayClient)
+                    .getBeanDefinition());
+        }
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.rogeriogregorio.ecommercemanager.loadtest;
+
+import com.rogeriogregorio.ecommercemanager.payment.EfiPayClient;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * EfiPayClient that sends the SDK endpoint names to an {@link EfiPaySimulator} over HTTPS,
+ * so the application's Pix flow runs unchanged against the simulated PSP.
+ */
+public class SimulatorEfiPayClient implements EfiPayClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private volatile BiConsumer<String, Long> chargeListener = (orderId, createdAtNanos) -> { };
+
+    public SimulatorEfiPayClient(EfiPaySimulator simulator) {
+
+        this.baseUri = simulator.baseUri();
+        this.httpClient = HttpClient.newBuilder()
+                .sslContext(simulator.sslContext())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public void onChargeCreated(BiConsumer<String, Long> chargeListener) {
+        this.chargeListener = chargeListener;
+    }
+
+    public JSONObject call(String endpoint, Map<String, String> params, JSONObject body) throws Exception {
+
+        JSONObject response = switch (endpoint) {
+            case "pixCreateImmediateCharge" -> send("POST", "/v2/cob", Map.of(), body);
+            case "pixCreateCharge" -> send("PUT", "/v2/cob/" + params.get("txid"), Map.of(), body);
+            case "pixDetailCharge" -> send("GET", "/v2/cob/" + params.get("txid"), Map.of(), null);
+            case "pixListCharges" -> send("GET", "/v2/cob", params, null);
+            case "pixGenerateQRCode" -> send("GET", "/v2/loc/" + params.get("id") + "/qrcode", Map.of(), null);
+            case "pixCreateEvp" -> send("POST", "/v2/gn/evp", Map.of(), body);
+            case "pixListEvp" -> send("GET", "/v2/gn/evp", Map.of(), null);
+            default -> throw new IllegalArgumentException("Endpoint not simulated: " + endpoint);
+        };
+
+        if (endpoint.equals("pixCreateImmediateCharge") || endpoint.equals("pixCreateCharge")) {
+            chargeListener.accept(orderId(response), System.nanoTime());
+        }
+
+        return response;
+    }
+
+    public Map<String, Object> call(String endpoint, Map<String, String> params, Map<String, Object> body) throws Exception {
+        return call(endpoint, params, new JSONObject(body)).toMap();
+    }
+
+    private JSONObject send(String method, String path, Map<String, String> params, JSONObject body) throws Exception {
+
+        String query = params.entrySet().stream()
+                .map(param -> URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(param.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(query.isEmpty() ? path : path + "?" + query))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("EfiPay simulator returned " + response.statusCode() + ": " + response.body());
+        }
+
+        return new JSONObject(response.body());
+    }
+
+    private static String orderId(JSONObject charge) {
+
+        JSONArray additionalInfo = charge.optJSONArray("infoAdicionais", new JSONArray());
+
+        for (int i = 0; i < additionalInfo.length(); i++) {
+            JSONObject info = additionalInfo.getJSONObject(i);
+            if ("ID do Pedido".equals(info.optString("nome"))) {
+                return info.optString("valor");
+            }
+        }
+
+        return null;
+    }
+}
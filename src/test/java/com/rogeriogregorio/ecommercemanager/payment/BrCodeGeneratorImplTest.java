@@ -0,0 +1,142 @@
+package com.rogeriogregorio.ecommercemanager.payment;
+
+import com.rogeriogregorio.ecommercemanager.dto.PixChargeDto;
+import com.rogeriogregorio.ecommercemanager.dto.PixQRCodeDto;
+import com.rogeriogregorio.ecommercemanager.exceptions.PaymentException;
+import com.rogeriogregorio.ecommercemanager.payment.impl.BrCodeGeneratorImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BrCodeGeneratorImplTest {
+
+    private static final String LOCATION = "qrcodespix.sejaefi.com.br/v2/41e0badf811a4ce6ad8a80b306821fce";
+
+    private CredentialService credentials;
+    private BrCodeGenerator brCodeGenerator;
+
+    @BeforeEach
+    void setUp() {
+
+        credentials = mock(CredentialService.class);
+        when(credentials.getMerchantName()).thenReturn("Ecommerce Manager");
+        when(credentials.getMerchantCity()).thenReturn("São Paulo");
+
+        brCodeGenerator = new BrCodeGeneratorImpl(credentials);
+    }
+
+    @Test
+    @DisplayName("crc16 - Vetor de verificação do CRC-16/CCITT-FALSE")
+    void crc16_CheckVector_ReturnsExpectedChecksum() {
+        // Act and Assert
+        assertEquals("29B1", BrCodeGeneratorImpl.crc16("123456789"), "Expected the standard check value");
+    }
+
+    @Test
+    @DisplayName("crc16 - Exemplo do manual do BR Code gera o CRC publicado")
+    void crc16_BacenManualExample_ReturnsPublishedChecksum() {
+        // Arrange
+        String payload = "00020126580014br.gov.bcb.pix0136123e4567-e12b-12d1-a456-426655440000"
+                + "5204000053039865802BR5913Fulano de Tal6008BRASILIA62070503***6304";
+
+        // Act and Assert
+        assertEquals("1D3D", BrCodeGeneratorImpl.crc16(payload), "Expected the checksum published by the manual");
+    }
+
+    @Test
+    @DisplayName("buildDynamicPayload - Payload dinâmico segue o layout EMV com a URL da cobrança")
+    void buildDynamicPayload_ChargeLocation_BuildsEmvPayload() {
+        // Act
+        String payload = brCodeGenerator.buildDynamicPayload("https://" + LOCATION);
+        Map<String, String> fields = parseFields(payload);
+
+        // Assert
+        assertEquals("01", fields.get("00"), "Expected the payload format indicator");
+        assertEquals("12", fields.get("01"), "Expected a single use point of initiation");
+        assertEquals(Map.of("00", "br.gov.bcb.pix", "25", LOCATION), parseFields(fields.get("26")),
+                "Expected the Pix GUI and the charge URL without scheme");
+        assertEquals("0000", fields.get("52"), "Expected the merchant category code");
+        assertEquals("986", fields.get("53"), "Expected the BRL currency code");
+        assertEquals("BR", fields.get("58"), "Expected the country code");
+        assertEquals("ECOMMERCE MANAGER", fields.get("59"), "Expected the normalized merchant name");
+        assertEquals("SAO PAULO", fields.get("60"), "Expected the normalized merchant city");
+        assertEquals(Map.of("05", "***"), parseFields(fields.get("62")), "Expected the reference label");
+        assertValidChecksum(payload);
+    }
+
+    @Test
+    @DisplayName("buildDynamicPayload - Nome e cidade são normalizados e truncados nos limites do padrão")
+    void buildDynamicPayload_LongMerchantData_NormalizesAndTruncates() {
+        // Arrange
+        when(credentials.getMerchantName()).thenReturn("Loja das Flores e Plantas Ornamentais");
+        when(credentials.getMerchantCity()).thenReturn("São José dos Campos");
+
+        // Act
+        String payload = brCodeGenerator.buildDynamicPayload(LOCATION);
+        Map<String, String> fields = parseFields(payload);
+
+        // Assert
+        assertEquals("LOJA DAS FLORES E PLANTAS", fields.get("59"), "Expected the merchant name cut at 25 characters");
+        assertEquals("SAO JOSE DOS CA", fields.get("60"), "Expected the merchant city cut at 15 characters");
+        assertValidChecksum(payload);
+    }
+
+    @Test
+    @DisplayName("generatePixQRCode - Usa o copia e cola da cobrança sem consultar o provedor")
+    void generatePixQRCode_ChargeWithCopyAndPaste_UsesIt() {
+        // Arrange
+        PixChargeDto pixCharge = new PixChargeDto();
+        pixCharge.setTxid("7978c0c97ea847e78e8849634473c1f1");
+        pixCharge.setPixCopiaECola("00020101021226830014br.gov.bcb.pix2561" + LOCATION
+                + "5204000053039865802BR5917ECOMMERCE MANAGER6009SAO PAULO62070503***630499CF");
+
+        // Act
+        PixQRCodeDto pixQRCode = brCodeGenerator.generatePixQRCode(pixCharge);
+
+        // Assert
+        assertEquals(pixCharge.getPixCopiaECola(), pixQRCode.getQrcode(), "Expected the PSP payload to be reused");
+        assertNull(pixQRCode.getLinkVisualizacao(), "Expected no PSP visualization link");
+    }
+
+    @Test
+    @DisplayName("generatePixQRCode - Cobrança sem location lança exceção para acionar o fallback remoto")
+    void generatePixQRCode_ChargeWithoutLocation_ThrowsPaymentException() {
+        // Arrange
+        PixChargeDto pixCharge = new PixChargeDto();
+        pixCharge.setTxid("7978c0c97ea847e78e8849634473c1f1");
+
+        // Act and Assert
+        assertThrows(PaymentException.class, () -> brCodeGenerator.generatePixQRCode(pixCharge),
+                "Expected PaymentException to be thrown");
+    }
+
+    private static Map<String, String> parseFields(String payload) {
+
+        Map<String, String> fields = new LinkedHashMap<>();
+
+        for (int index = 0; index < payload.length(); ) {
+            String id = payload.substring(index, index + 2);
+            int length = Integer.parseInt(payload.substring(index + 2, index + 4));
+            fields.put(id, payload.substring(index + 4, index + 4 + length));
+            index += 4 + length;
+        }
+
+        return fields;
+    }
+
+    private static void assertValidChecksum(String payload) {
+
+        String body = payload.substring(0, payload.length() - 4);
+        assertTrue(body.endsWith("6304"), "Expected the CRC field to close the payload");
+        assertEquals(BrCodeGeneratorImpl.crc16(body), payload.substring(payload.length() - 4),
+                "Expected the CRC-16 of the payload up to its own field header");
+        assertEquals(payload.length(), payload.getBytes(StandardCharsets.UTF_8).length, "Expected an ASCII payload");
+    }
+}
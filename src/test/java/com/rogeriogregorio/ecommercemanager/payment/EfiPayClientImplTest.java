@@ -0,0 +1,254 @@
+package com.rogeriogregorio.ecommercemanager.payment;
+
+import br.com.efi.efisdk.EfiPay;
+import com.rogeriogregorio.ecommercemanager.payment.impl.EfiPayClientImpl;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EfiPayClientImplTest {
+
+    private static final String WARM_UP_ENDPOINT = "pixListEvp";
+    private static final String ENDPOINT = "pixCreateImmediateCharge";
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CredentialService credentials;
+    private List<EfiPay> createdClients;
+    private EfiPayClient efiPayClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        meterRegistry = new SimpleMeterRegistry();
+        credentials = mock(CredentialService.class);
+        createdClients = new CopyOnWriteArrayList<>();
+
+        when(credentials.getOptions()).thenReturn(new JSONObject().put("certificate", ""));
+        when(credentials.getClientMaxAge()).thenReturn(3600);
+
+        efiPayClient = new EfiPayClientImpl(credentials, meterRegistry, options -> {
+            EfiPay client = mock(EfiPay.class);
+            when(client.call(anyString(), anyMap(), any(JSONObject.class))).thenReturn(new JSONObject());
+            createdClients.add(client);
+            return client;
+        });
+    }
+
+    @Test
+    @DisplayName("warmUp - Cliente aquecido é reutilizado pela primeira chamada")
+    void warmUp_SuccessfulWarmUp_FirstCallReusesWarmedClient() throws Exception {
+        // Arrange
+        ReflectionTestUtils.invokeMethod(efiPayClient, "warmUp");
+
+        // Act
+        efiPayClient.call(ENDPOINT, new HashMap<>(), new JSONObject());
+
+        // Assert
+        assertEquals(1, createdClients.size(), "Expected the warmed client to be shared");
+        EfiPay warmedClient = createdClients.get(0);
+        verify(warmedClient).call(eq(WARM_UP_ENDPOINT), anyMap(), any(JSONObject.class));
+        verify(warmedClient).call(eq(ENDPOINT), anyMap(), any(JSONObject.class));
+        assertEquals(1, buildCount("initial", "success"), "Expected one successful initial build");
+    }
+
+    @Test
+    @DisplayName("warmUp - Falha no aquecimento faz a primeira chamada criar o cliente")
+    void warmUp_WarmUpFails_FirstCallBuildsClient() throws Exception {
+        // Arrange
+        EfiPayClient failingWarmUpClient = new EfiPayClientImpl(credentials, meterRegistry, options -> {
+            EfiPay client = mock(EfiPay.class);
+            when(client.call(eq(WARM_UP_ENDPOINT), anyMap(), any(JSONObject.class)))
+                    .thenThrow(new IOException("Connection refused"));
+            when(client.call(eq(ENDPOINT), anyMap(), any(JSONObject.class))).thenReturn(new JSONObject());
+            createdClients.add(client);
+            return client;
+        });
+
+        ReflectionTestUtils.invokeMethod(failingWarmUpClient, "warmUp");
+
+        // Act
+        JSONObject response = failingWarmUpClient.call(ENDPOINT, new HashMap<>(), new JSONObject());
+
+        // Assert
+        assertNotNull(response, "Expected the call to succeed with a client built on demand");
+        assertEquals(2, createdClients.size(), "Expected the first call to build a new client");
+        verify(createdClients.get(1), never()).call(eq(WARM_UP_ENDPOINT), anyMap(), any(JSONObject.class));
+        assertEquals(1, buildCount("initial", "error"), "Expected the failed warm-up to be recorded");
+        assertEquals(1, buildCount("initial", "success"), "Expected the on-demand build to be recorded");
+    }
+
+    @Test
+    @DisplayName("refreshIfStale - Cliente com idade máxima atingida é substituído")
+    void refreshIfStale_MaxAgeReached_SwapsClient() throws Exception {
+        // Arrange
+        ReflectionTestUtils.invokeMethod(efiPayClient, "warmUp");
+        when(credentials.getClientMaxAge()).thenReturn(0);
+
+        // Act
+        ReflectionTestUtils.invokeMethod(efiPayClient, "refreshIfStale");
+        efiPayClient.call(ENDPOINT, new HashMap<>(), new JSONObject());
+
+        // Assert
+        assertEquals(2, createdClients.size(), "Expected a new client after the max age");
+        verify(createdClients.get(0), never()).call(eq(ENDPOINT), anyMap(), any(JSONObject.class));
+        verify(createdClients.get(1)).call(eq(ENDPOINT), anyMap(), any(JSONObject.class));
+        assertEquals(1, buildCount("max_age", "success"), "Expected the max age refresh to be recorded");
+    }
+
+    @Test
+    @DisplayName("refreshIfStale - Cliente recente com o mesmo certificado é mantido")
+    void refreshIfStale_ClientFresh_KeepsClient() {
+        // Arrange
+        ReflectionTestUtils.invokeMethod(efiPayClient, "warmUp");
+
+        // Act
+        ReflectionTestUtils.invokeMethod(efiPayClient, "refreshIfStale");
+
+        // Assert
+        assertEquals(1, createdClients.size(), "Expected the fresh client to be kept");
+    }
+
+    @Test
+    @DisplayName("refreshIfStale - Certificado alterado em disco substitui o cliente")
+    void refreshIfStale_CertificateModified_SwapsClient() throws Exception {
+        // Arrange
+        Path certificate = Files.writeString(tempDir.resolve("certificate.p12"), "certificate");
+        Files.setLastModifiedTime(certificate, FileTime.from(Instant.now().minusSeconds(60)));
+        when(credentials.getOptions()).thenReturn(new JSONObject().put("certificate", certificate.toString()));
+
+        ReflectionTestUtils.invokeMethod(efiPayClient, "warmUp");
+        Files.setLastModifiedTime(certificate, FileTime.from(Instant.now()));
+
+        // Act
+        ReflectionTestUtils.invokeMethod(efiPayClient, "refreshIfStale");
+        efiPayClient.call(ENDPOINT, new HashMap<>(), new JSONObject());
+
+        // Assert
+        assertEquals(2, createdClients.size(), "Expected a new client after the certificate rotation");
+        verify(createdClients.get(1)).call(eq(ENDPOINT), anyMap(), any(JSONObject.class));
+        assertEquals(1, buildCount("certificate", "success"), "Expected the certificate refresh to be recorded");
+    }
+
+    @Test
+    @DisplayName("refreshIfStale - Falha na renovação mantém o cliente atual")
+    void refreshIfStale_RefreshFails_KeepsCurrentClient() throws Exception {
+        // Arrange
+        ReflectionTestUtils.invokeMethod(efiPayClient, "warmUp");
+        EfiPay warmedClient = createdClients.get(0);
+        when(credentials.getClientMaxAge()).thenReturn(0);
+        when(credentials.getOptions()).thenThrow(new IllegalStateException("Certificate not found"));
+
+        // Act
+        ReflectionTestUtils.invokeMethod(efiPayClient, "refreshIfStale");
+        efiPayClient.call(ENDPOINT, new HashMap<>(), new JSONObject());
+
+        // Assert
+        verify(warmedClient).call(eq(ENDPOINT), anyMap(), any(JSONObject.class));
+        assertEquals(1, buildCount("max_age", "error"), "Expected the failed refresh to be recorded");
+    }
+
+    @Test
+    @DisplayName("call - Chamada durante o aquecimento aguarda o cliente em vez de criar outro")
+    void call_DuringWarmUp_WaitsForWarmedClient() throws Exception {
+        // Arrange
+        CountDownLatch warmUpStarted = new CountDownLatch(1);
+        CountDownLatch releaseWarmUp = new CountDownLatch(1);
+        EfiPayClient slowWarmUpClient = new EfiPayClientImpl(credentials, meterRegistry, options -> {
+            EfiPay client = mock(EfiPay.class);
+            when(client.call(eq(WARM_UP_ENDPOINT), anyMap(), any(JSONObject.class))).thenAnswer(invocation -> {
+                warmUpStarted.countDown();
+                releaseWarmUp.await();
+                return new JSONObject();
+            });
+            createdClients.add(client);
+            return client;
+        });
+        ReentrantLock buildLock = (ReentrantLock) ReflectionTestUtils.getField(slowWarmUpClient, "buildLock");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> warmUp = executor.submit(() -> ReflectionTestUtils.invokeMethod(slowWarmUpClient, "warmUp"));
+            assertTrue(warmUpStarted.await(5, TimeUnit.SECONDS), "Expected the warm-up to start");
+
+            Future<JSONObject> call = executor.submit(() -> slowWarmUpClient.call(ENDPOINT, new HashMap<>(), new JSONObject()));
+            while (!buildLock.hasQueuedThreads()) {
+                Thread.onSpinWait();
+            }
+
+            // Act
+            releaseWarmUp.countDown();
+            warmUp.get(5, TimeUnit.SECONDS);
+            call.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(1, createdClients.size(), "Expected the waiting call to reuse the warmed client");
+        verify(createdClients.get(0)).call(eq(ENDPOINT), anyMap(), any(JSONObject.class));
+    }
+
+    @Test
+    @DisplayName("call - Chamadas concorrentes sem cliente criam apenas um cliente")
+    void call_ConcurrentFirstCalls_BuildSingleClient() throws Exception {
+        // Arrange
+        int callers = 8;
+        CountDownLatch ready = new CountDownLatch(callers);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<JSONObject>> calls = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < callers; i++) {
+                calls.add(executor.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    return efiPayClient.call(ENDPOINT, new HashMap<>(), new JSONObject());
+                }));
+            }
+            assertTrue(ready.await(5, TimeUnit.SECONDS), "Expected all callers to be ready");
+
+            // Act
+            go.countDown();
+            for (Future<JSONObject> call : calls) {
+                call.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(1, createdClients.size(), "Expected the build lock to allow a single client");
+        verify(createdClients.get(0), times(callers)).call(eq(ENDPOINT), anyMap(), any(JSONObject.class));
+        verify(createdClients.get(0), never()).call(eq(WARM_UP_ENDPOINT), anyMap(), any(JSONObject.class));
+    }
+
+    private long buildCount(String reason, String outcome) {
+
+        return meterRegistry.find("efipay.client.builds").tag("reason", reason).tag("outcome", outcome)
+                .timers().stream().mapToLong(Timer::count).sum();
+    }
+}
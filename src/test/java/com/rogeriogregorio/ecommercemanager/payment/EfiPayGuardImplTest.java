@@ -0,0 +1,150 @@
+package com.rogeriogregorio.ecommercemanager.payment;
+
+import br.com.efi.efisdk.exceptions.EfiPayException;
+import com.rogeriogregorio.ecommercemanager.exceptions.PaymentException;
+import com.rogeriogregorio.ecommercemanager.payment.impl.EfiPayGuardImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EfiPayGuardImplTest {
+
+    private static final String OPERATION = "pixCreateImmediateCharge";
+
+    private SimpleMeterRegistry meterRegistry;
+    private EfiPayGuard efiPayGuard;
+
+    @BeforeEach
+    void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        efiPayGuard = new EfiPayGuardImpl(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("execute - Chamada bem-sucedida retorna a resposta com o circuito fechado")
+    void execute_SuccessfulCall_ReturnsResponseWithCircuitClosed() throws Exception {
+        // Act
+        String response = efiPayGuard.execute(OPERATION, () -> "charge-created");
+
+        // Assert
+        assertEquals("charge-created", response, "Expected the provider response");
+        assertEquals(0.0, meterRegistry.get("efipay.circuit.state").tag("operation", OPERATION).gauge().value(),
+                "Expected the circuit to stay closed");
+    }
+
+    @Test
+    @DisplayName("execute - Falha do provedor propaga a exceção original")
+    void execute_ProviderFailure_PropagatesOriginalException() {
+        // Act and Assert
+        IOException exception = assertThrows(IOException.class,
+                () -> efiPayGuard.execute(OPERATION, () -> { throw new IOException("Connection reset"); }),
+                "Expected the provider exception to be propagated");
+        assertEquals("Connection reset", exception.getMessage(), "Expected the original message");
+    }
+
+    @Test
+    @DisplayName("execute - Falhas consecutivas abrem o circuito e rejeitam sem chamar o provedor")
+    void execute_ConsecutiveFailures_OpensCircuitAndFailsFast() {
+        // Arrange
+        AtomicInteger providerCalls = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IOException.class, () -> efiPayGuard.execute(OPERATION, () -> {
+                providerCalls.incrementAndGet();
+                throw new IOException("Service unavailable");
+            }));
+        }
+
+        // Act and Assert
+        assertThrows(PaymentException.class, () -> efiPayGuard.execute(OPERATION, providerCalls::incrementAndGet),
+                "Expected the open circuit to reject the call");
+        assertThrows(PaymentException.class, () -> efiPayGuard.ensureAvailable(OPERATION),
+                "Expected the open circuit to be reported as unavailable");
+        assertEquals(10, providerCalls.get(), "Expected the provider not to be called while the circuit is open");
+        assertEquals(2.0, meterRegistry.get("efipay.circuit.state").tag("operation", OPERATION).gauge().value(),
+                "Expected the circuit state metric to be open");
+        assertDoesNotThrow(() -> efiPayGuard.ensureAvailable("pixListCharges"),
+                "Expected other operations to keep their own circuit");
+    }
+
+    @Test
+    @DisplayName("execute - Erros de validação 4xx do provedor não abrem o circuito")
+    void execute_ClientErrors_KeepCircuitClosed() {
+        // Arrange
+        EfiPayException validationError = mock(EfiPayException.class);
+        when(validationError.getCode()).thenReturn(400);
+
+        for (int i = 0; i < 20; i++) {
+            assertThrows(EfiPayException.class, () -> efiPayGuard.execute(OPERATION, () -> { throw validationError; }));
+        }
+
+        // Act and Assert
+        assertDoesNotThrow(() -> efiPayGuard.ensureAvailable(OPERATION), "Expected bad requests not to open the circuit");
+        assertEquals(0.0, meterRegistry.get("efipay.circuit.state").tag("operation", OPERATION).gauge().value(),
+                "Expected the circuit to stay closed");
+    }
+
+    @Test
+    @DisplayName("execute - Erros 5xx do provedor contam como falha e abrem o circuito")
+    void execute_ServerErrors_OpenCircuit() {
+        // Arrange
+        EfiPayException serverError = mock(EfiPayException.class);
+        when(serverError.getCode()).thenReturn(503);
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(EfiPayException.class, () -> efiPayGuard.execute(OPERATION, () -> { throw serverError; }));
+        }
+
+        // Act and Assert
+        assertThrows(PaymentException.class, () -> efiPayGuard.ensureAvailable(OPERATION),
+                "Expected server errors to open the circuit");
+    }
+
+    @Test
+    @DisplayName("execute - Chamadas acima do limite de concorrência são rejeitadas imediatamente")
+    void execute_AboveConcurrencyLimit_RejectedImmediately() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch admitted = new CountDownLatch(8);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<String>> blockedCalls = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            blockedCalls.add(callers.submit(() -> efiPayGuard.execute(OPERATION, () -> {
+                admitted.countDown();
+                release.await();
+                return "charge-created";
+            })));
+        }
+
+        try {
+            assertTrue(admitted.await(5, TimeUnit.SECONDS), "Expected the initial limit to be admitted");
+
+            // Act and Assert
+            PaymentException exception = assertThrows(PaymentException.class,
+                    () -> efiPayGuard.execute(OPERATION, () -> "charge-created"),
+                    "Expected the call above the limit to be rejected");
+            assertTrue(exception.getMessage().contains("concurrency limit"), "Expected the limit to be reported");
+            assertEquals(8.0, meterRegistry.get("efipay.bulkhead.in_flight").tag("operation", OPERATION).gauge().value(),
+                    "Expected the admitted calls to be in flight");
+        } finally {
+            release.countDown();
+            for (Future<String> blockedCall : blockedCalls) {
+                assertEquals("charge-created", blockedCall.get(5, TimeUnit.SECONDS), "Expected the admitted calls to finish");
+            }
+            callers.shutdownNow();
+        }
+    }
+}
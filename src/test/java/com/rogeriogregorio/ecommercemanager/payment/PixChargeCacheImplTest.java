@@ -0,0 +1,120 @@
+package com.rogeriogregorio.ecommercemanager.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rogeriogregorio.ecommercemanager.dto.PixListChargeDto;
+import com.rogeriogregorio.ecommercemanager.payment.impl.PixChargeCacheImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PixChargeCacheImplTest {
+
+    private static final String START = "2024-06-01T03:00:00Z";
+    private static final String END = "2024-06-30T03:00:00Z";
+
+    @TempDir
+    private Path directory;
+
+    private PixChargeCache pixChargeCache;
+
+    @BeforeEach
+    void setUp() {
+
+        pixChargeCache = new PixChargeCacheImpl(new ObjectMapper(), new CatchErrorImpl(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(pixChargeCache, "directory", directory);
+        ReflectionTestUtils.setField(pixChargeCache, "timeToLive", Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("writeThrough - Listagem consumida por completo é servida do cache na consulta seguinte")
+    void writeThrough_FullyConsumed_ServesNextReadFromCache() {
+        // Arrange
+        Stream<PixListChargeDto.Cob> charges = Stream.of(charge("txid-1"), charge("txid-2"));
+
+        // Act
+        List<String> listed;
+        try (Stream<PixListChargeDto.Cob> stream = pixChargeCache.writeThrough(START, END, charges)) {
+            listed = stream.map(PixListChargeDto.Cob::getTxid).toList();
+        }
+        Optional<Stream<PixListChargeDto.Cob>> cached = pixChargeCache.read(START, END);
+
+        // Assert
+        assertEquals(List.of("txid-1", "txid-2"), listed, "Expected the charges to pass through");
+        assertTrue(cached.isPresent(), "Expected the listing to be cached");
+        try (Stream<PixListChargeDto.Cob> stream = cached.get()) {
+            assertEquals(listed, stream.map(PixListChargeDto.Cob::getTxid).toList(), "Expected the cached charges");
+        }
+    }
+
+    @Test
+    @DisplayName("writeThrough - Listagem interrompida não é armazenada em cache")
+    void writeThrough_PartiallyConsumed_DoesNotCache() {
+        // Arrange
+        Stream<PixListChargeDto.Cob> charges = Stream.of(charge("txid-1"), charge("txid-2"));
+
+        // Act
+        try (Stream<PixListChargeDto.Cob> stream = pixChargeCache.writeThrough(START, END, charges)) {
+            stream.findFirst();
+        }
+
+        // Assert
+        assertTrue(pixChargeCache.read(START, END).isEmpty(), "Expected no cache for an incomplete listing");
+    }
+
+    @Test
+    @DisplayName("read - Cache expirado não é utilizado")
+    void read_ExpiredEntry_ReturnsEmpty() {
+        // Arrange
+        try (Stream<PixListChargeDto.Cob> stream = pixChargeCache.writeThrough(START, END, Stream.of(charge("txid-1")))) {
+            stream.forEach(charge -> { });
+        }
+        ReflectionTestUtils.setField(pixChargeCache, "timeToLive", Duration.ZERO);
+
+        // Act and Assert
+        assertTrue(pixChargeCache.read(START, END).isEmpty(), "Expected the expired entry to be ignored");
+    }
+
+    @Test
+    @DisplayName("writeThrough - Arquivos de cache expirados são removidos do diretório")
+    void writeThrough_ExpiredFiles_Evicted() throws Exception {
+        // Arrange
+        Path expiredCache = Files.writeString(directory.resolve("2024-05-01T030000Z_2024-05-31T030000Z.ndjson"), "{}");
+        Path abandonedWrite = Files.writeString(directory.resolve("listing.ndjson123.tmp"), "{}");
+        FileTime expiredAt = FileTime.from(Instant.now().minus(Duration.ofHours(2)));
+        Files.setLastModifiedTime(expiredCache, expiredAt);
+        Files.setLastModifiedTime(abandonedWrite, expiredAt);
+
+        // Act
+        try (Stream<PixListChargeDto.Cob> stream = pixChargeCache.writeThrough(START, END, Stream.of(charge("txid-1")))) {
+            stream.forEach(charge -> { });
+        }
+
+        // Assert
+        assertFalse(Files.exists(expiredCache), "Expected the expired listing to be deleted");
+        assertFalse(Files.exists(abandonedWrite), "Expected the abandoned temporary file to be deleted");
+        assertTrue(pixChargeCache.read(START, END).isPresent(), "Expected the fresh listing to be kept");
+    }
+
+    private PixListChargeDto.Cob charge(String txid) {
+
+        PixListChargeDto.Cob charge = new PixListChargeDto.Cob();
+        charge.setTxid(txid);
+        charge.setStatus("CONCLUIDA");
+        return charge;
+    }
+}
@@ -0,0 +1,140 @@
+package com.rogeriogregorio.ecommercemanager.payment;
+
+import com.rogeriogregorio.ecommercemanager.dto.PixListChargeDto;
+import com.rogeriogregorio.ecommercemanager.exceptions.PaymentException;
+import com.rogeriogregorio.ecommercemanager.payment.impl.PixServiceImpl;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
+import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.JsonBinder;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.DateFormatterImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PixServiceImplTest {
+
+    private static final DateTimeFormatter INPUT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private CredentialService credentials;
+    private EfiPayGuard efiPayGuard;
+    private JsonBinder jsonBinder;
+    private PixChargeCache pixChargeCache;
+    private PixService pixService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        credentials = mock(CredentialService.class);
+        efiPayGuard = mock(EfiPayGuard.class);
+        jsonBinder = mock(JsonBinder.class);
+        pixChargeCache = mock(PixChargeCache.class);
+
+        pixService = new PixServiceImpl(credentials, mock(EfiPayClient.class), new DateFormatterImpl(),
+                new CatchErrorImpl(new SimpleMeterRegistry()), mock(DataMapper.class), mock(DataExporter.class),
+                pixChargeCache, jsonBinder, efiPayGuard);
+        ReflectionTestUtils.setField(pixService, "listChargesRetry", RetryTemplate.builder().maxAttempts(1).build());
+
+        when(credentials.getChargeExpiration()).thenReturn(3600);
+        when(efiPayGuard.execute(anyString(), any())).thenReturn(new JSONObject());
+        when(jsonBinder.bind(any(JSONObject.class), eq(PixListChargeDto.class))).thenReturn(page(charge("txid-1")));
+    }
+
+    @Test
+    @DisplayName("streamPixCharges - Data inválida é rejeitada antes de consultar o provedor")
+    void streamPixCharges_InvalidDate_ThrowsIllegalArgumentBeforeCallingProvider() throws Exception {
+        // Act and Assert
+        assertThrows(IllegalArgumentException.class, () -> pixService.streamPixCharges("2024-06-01", "30-06-2024"),
+                "Expected the invalid start date to be rejected");
+        verify(efiPayGuard, never()).execute(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("streamPixCharges - Data inicial posterior à final é rejeitada")
+    void streamPixCharges_StartAfterEnd_ThrowsIllegalArgument() {
+        // Act and Assert
+        assertThrows(IllegalArgumentException.class, () -> pixService.streamPixCharges("30-06-2024", "01-06-2024"),
+                "Expected the inverted range to be rejected");
+    }
+
+    @Test
+    @DisplayName("streamPixCharges - Falha do provedor ocorre ao abrir a listagem, antes do envio da resposta")
+    void streamPixCharges_ProviderFailure_ThrowsBeforeStreaming() throws Exception {
+        // Arrange
+        when(efiPayGuard.execute(anyString(), any())).thenThrow(new PaymentException("PSP unavailable"));
+
+        // Act and Assert
+        assertThrows(PaymentException.class, () -> pixService.streamPixCharges("01-06-2024", "30-06-2024"),
+                "Expected the provider failure to surface when the listing is opened");
+    }
+
+    @Test
+    @DisplayName("streamPixCharges - Cobranças ainda não expiradas não são armazenadas em cache")
+    void streamPixCharges_ChargesNotExpired_BypassesCache() {
+        // Arrange
+        String tomorrow = LocalDate.now().plusDays(1).format(INPUT);
+
+        // Act
+        List<String> listed;
+        try (Stream<PixListChargeDto.Cob> charges = pixService.streamPixCharges("01-06-2024", tomorrow)) {
+            listed = charges.map(PixListChargeDto.Cob::getTxid).toList();
+        }
+
+        // Assert
+        assertEquals(List.of("txid-1"), listed, "Expected the charges from the provider");
+        verify(pixChargeCache, never()).read(anyString(), anyString());
+        verify(pixChargeCache, never()).writeThrough(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("streamPixCharges - Cobranças já expiradas são servidas do cache")
+    void streamPixCharges_ChargesExpired_ServedFromCache() throws Exception {
+        // Arrange
+        when(pixChargeCache.read(anyString(), anyString())).thenReturn(Optional.of(Stream.of(charge("txid-cached"))));
+
+        // Act
+        List<String> listed;
+        try (Stream<PixListChargeDto.Cob> charges = pixService.streamPixCharges("01-06-2024", "30-06-2024")) {
+            listed = charges.map(PixListChargeDto.Cob::getTxid).toList();
+        }
+
+        // Assert
+        assertEquals(List.of("txid-cached"), listed, "Expected the cached charges");
+        verify(efiPayGuard, never()).execute(anyString(), any());
+    }
+
+    private PixListChargeDto page(PixListChargeDto.Cob... charges) {
+
+        PixListChargeDto.Paginacao pagination = new PixListChargeDto.Paginacao();
+        pagination.setQuantidadeDePaginas(1);
+        PixListChargeDto.Parametros parameters = new PixListChargeDto.Parametros();
+        parameters.setPaginacao(pagination);
+
+        PixListChargeDto page = new PixListChargeDto();
+        page.setParametros(parameters);
+        page.setCobs(List.of(charges));
+        return page;
+    }
+
+    private PixListChargeDto.Cob charge(String txid) {
+
+        PixListChargeDto.Cob charge = new PixListChargeDto.Cob();
+        charge.setTxid(txid);
+        charge.setStatus("CONCLUIDA");
+        return charge;
+    }
+}
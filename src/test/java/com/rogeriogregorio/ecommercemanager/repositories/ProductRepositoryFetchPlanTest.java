@@ -0,0 +1,122 @@
+package com.rogeriogregorio.ecommercemanager.repositories;
+
+import com.rogeriogregorio.ecommercemanager.entities.Category;
+import com.rogeriogregorio.ecommercemanager.entities.Product;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.RowCounterImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({RowCounterImpl.class, CatchErrorImpl.class, SimpleMeterRegistry.class})
+class ProductRepositoryFetchPlanTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+
+        Category computers = entityManager.persist(new Category(null, "Computers"));
+        Category processors = entityManager.persist(new Category(null, "Processors"));
+
+        product = entityManager.persist(newProduct("Intel i5-10400F", Set.of(computers, processors)));
+        entityManager.persist(newProduct("Intel i7-10700F", Set.of(processors)));
+        entityManager.persist(newProduct("AMD Ryzen 5 5600X", Set.of(computers)));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findById - Busca por referência não carrega categorias nem avaliações")
+    void findById_ReferenceLookup_DoesNotLoadCollections() {
+        // Act
+        Product actualProduct = productRepository.findById(product.getId()).orElseThrow();
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount(), "Expected a single SQL statement");
+        assertFalse(Hibernate.isInitialized(actualProduct.getCategories()), "Categories should stay lazy");
+        assertFalse(Hibernate.isInitialized(actualProduct.getReviews()), "Reviews should stay lazy");
+    }
+
+    @Test
+    @DisplayName("findWithCategoriesById - Busca com grafo carrega categorias na mesma consulta")
+    void findWithCategoriesById_EntityGraph_LoadsCategoriesInOneStatement() {
+        // Act
+        Product actualProduct = productRepository.findWithCategoriesById(product.getId()).orElseThrow();
+
+        // Assert
+        assertTrue(Hibernate.isInitialized(actualProduct.getCategories()), "Categories should be fetched");
+        assertEquals(2, actualProduct.getCategories().size(), "Expected both categories");
+        assertFalse(Hibernate.isInitialized(actualProduct.getReviews()), "Reviews should stay lazy");
+        assertEquals(1, statistics.getPrepareStatementCount(), "Expected a single SQL statement");
+    }
+
+    @Test
+    @DisplayName("findAll - Página de produtos carrega categorias em lote")
+    void findAll_ProductPage_LoadsCategoriesInOneBatch() {
+        // Act
+        Page<Product> actualPage = productRepository.findAll(PageRequest.of(0, 10));
+        actualPage.forEach(pageProduct -> pageProduct.getCategories().size());
+
+        // Assert
+        assertEquals(3, actualPage.getNumberOfElements(), "Expected all products");
+        assertEquals(2, statistics.getPrepareStatementCount(), "Expected the page query and one category batch");
+    }
+
+    @Test
+    @DisplayName("findByName - Busca por nome carrega categorias em lote")
+    void findByName_ProductPage_LoadsCategoriesInOneBatch() {
+        // Act
+        Page<Product> actualPage = productRepository.findByName("intel", PageRequest.of(0, 10));
+        actualPage.forEach(pageProduct -> pageProduct.getCategories().size());
+
+        // Assert
+        assertEquals(2, actualPage.getNumberOfElements(), "Expected the products matching the name");
+        assertEquals(2, statistics.getPrepareStatementCount(), "Expected the page query and one category batch");
+    }
+
+    private Product newProduct(String name, Set<Category> categories) {
+
+        return Product.newBuilder()
+                .withName(name)
+                .withDescription("Processor " + name)
+                .withPrice(BigDecimal.valueOf(579.99))
+                .withImgUrl("https://example.com/product.jpg")
+                .withCategories(new HashSet<>(categories))
+                .withItems(new HashSet<>())
+                .withReviews(new HashSet<>())
+                .build();
+    }
+}
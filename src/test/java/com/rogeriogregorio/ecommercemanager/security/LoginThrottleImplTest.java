@@ -0,0 +1,131 @@
+package com.rogeriogregorio.ecommercemanager.security;
+
+import com.rogeriogregorio.ecommercemanager.exceptions.TooManyRequestsException;
+import com.rogeriogregorio.ecommercemanager.security.impl.LoginThrottleImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleImplTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottle = new LoginThrottleImpl(meterRegistry);
+        ReflectionTestUtils.setField(loginThrottle, "accountCapacity", 3);
+        ReflectionTestUtils.setField(loginThrottle, "accountRefillPeriod", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(loginThrottle, "addressCapacity", 5);
+        ReflectionTestUtils.setField(loginThrottle, "addressRefillPeriod", Duration.ofMinutes(1));
+        ReflectionTestUtils.invokeMethod(loginThrottle, "start");
+    }
+
+    @Test
+    @DisplayName("acquire - Tentativas acima da capacidade da conta são rejeitadas com Retry-After")
+    void acquire_AccountBurstExceeded_ThrowsTooManyRequests() {
+        // Arrange
+        for (int attempt = 0; attempt < 3; attempt++) {
+            loginThrottle.acquire("client@email.com", "10.0.0." + attempt);
+        }
+
+        // Act
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> loginThrottle.acquire("CLIENT@email.com ", "10.0.0.9"), "Expected the account to be throttled");
+
+        // Assert
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ZERO) > 0, "Expected a positive Retry-After");
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ofMinutes(1)) <= 0, "Expected at most one refill period");
+        assertEquals(1.0, meterRegistry.get("security.login.throttle.rejections").tag("key", "account").counter().count(),
+                "Expected the account rejection to be recorded");
+        assertEquals(1.0, meterRegistry.get("security.login.throttle.hashes.avoided").counter().count(),
+                "Expected the avoided hash to be recorded");
+    }
+
+    @Test
+    @DisplayName("acquire - Endereço que tenta várias contas é limitado pelo próprio balde")
+    void acquire_AddressBurstExceeded_ThrowsTooManyRequests() {
+        // Arrange
+        for (int attempt = 0; attempt < 5; attempt++) {
+            loginThrottle.acquire("user" + attempt + "@email.com", "10.0.0.1");
+        }
+
+        // Act and Assert
+        assertThrows(TooManyRequestsException.class, () -> loginThrottle.acquire("other@email.com", "10.0.0.1"),
+                "Expected the address to be throttled");
+        assertDoesNotThrow(() -> loginThrottle.acquire("other@email.com", "10.0.0.2"),
+                "Expected other addresses to be unaffected");
+        assertEquals(1.0, meterRegistry.get("security.login.throttle.rejections").tag("key", "address").counter().count(),
+                "Expected the address rejection to be recorded");
+    }
+
+    @Test
+    @DisplayName("acquire - Conta bloqueada não consome tokens do endereço")
+    void acquire_AccountThrottled_DoesNotConsumeAddressTokens() {
+        // Arrange
+        for (int attempt = 0; attempt < 3; attempt++) {
+            loginThrottle.acquire("client@email.com", "10.0.0." + attempt);
+        }
+
+        for (int attempt = 0; attempt < 5; attempt++) {
+            assertThrows(TooManyRequestsException.class, () -> loginThrottle.acquire("client@email.com", "10.0.0.9"),
+                    "Expected the account to be throttled");
+        }
+
+        // Act and Assert
+        for (int attempt = 0; attempt < 5; attempt++) {
+            String email = "user" + attempt + "@email.com";
+            assertDoesNotThrow(() -> loginThrottle.acquire(email, "10.0.0.9"),
+                    "Expected the address to keep its full burst");
+        }
+    }
+
+    @Test
+    @DisplayName("recordSuccess - Logins bem-sucedidos não esgotam o balde da conta")
+    void recordSuccess_SuccessfulLogins_DoNotExhaustAccountBucket() {
+        // Arrange
+        for (int attempt = 0; attempt < 3; attempt++) {
+            loginThrottle.acquire("client@email.com", "10.0.0." + attempt);
+            loginThrottle.recordSuccess("client@email.com");
+        }
+
+        // Act and Assert
+        for (int attempt = 0; attempt < 3; attempt++) {
+            String clientAddress = "10.0.1." + attempt;
+            assertDoesNotThrow(() -> loginThrottle.acquire("CLIENT@email.com", clientAddress),
+                    "Expected failed attempts to still have the full account burst");
+        }
+        assertThrows(TooManyRequestsException.class, () -> loginThrottle.acquire("client@email.com", "10.0.1.9"),
+                "Expected failed attempts to be throttled");
+    }
+
+    @Test
+    @DisplayName("recordSuccess - Reembolsos repetidos não ampliam a capacidade da conta")
+    void recordSuccess_RepeatedRefunds_DoNotExceedAccountCapacity() {
+        // Arrange
+        for (int attempt = 0; attempt < 5; attempt++) {
+            loginThrottle.recordSuccess("client@email.com");
+        }
+        loginThrottle.acquire("client@email.com", "10.0.0.1");
+        for (int attempt = 0; attempt < 5; attempt++) {
+            loginThrottle.recordSuccess("client@email.com");
+        }
+
+        // Act and Assert
+        for (int attempt = 0; attempt < 3; attempt++) {
+            String clientAddress = "10.0.1." + attempt;
+            assertDoesNotThrow(() -> loginThrottle.acquire("client@email.com", clientAddress),
+                    "Expected the configured account burst");
+        }
+        assertThrows(TooManyRequestsException.class, () -> loginThrottle.acquire("client@email.com", "10.0.1.9"),
+                "Expected refunds to never exceed the account capacity");
+    }
+}
@@ -0,0 +1,95 @@
+package com.rogeriogregorio.ecommercemanager.security;
+
+import com.rogeriogregorio.ecommercemanager.exceptions.OverloadException;
+import com.rogeriogregorio.ecommercemanager.security.impl.OffloadedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffloadedPasswordEncoderTest {
+
+    private static final String PASSWORD = "Password123$";
+
+    private SimpleMeterRegistry meterRegistry;
+    private OffloadedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(passwordEncoder, "stop");
+    }
+
+    @Test
+    @DisplayName("encode - Hash gerado no executor dedicado é verificado com sucesso")
+    void encode_OffloadedHash_MatchesPassword() {
+        // Arrange
+        passwordEncoder = startEncoder(5, 5, Duration.ofSeconds(5));
+
+        // Act
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        // Assert
+        assertTrue(encodedPassword.startsWith("$2a$05$"), "Expected the configured work factor");
+        assertTrue(passwordEncoder.matches(PASSWORD, encodedPassword), "Expected the password to match");
+        assertFalse(passwordEncoder.matches("Wrong123$", encodedPassword), "Expected a wrong password not to match");
+        assertEquals(3, meterRegistry.get("security.password.hashing").timers().stream()
+                .mapToLong(timer -> timer.count()).sum(), "Expected every operation to run on the executor");
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding - Hash com custo menor que o atual é regerado no login")
+    void upgradeEncoding_LowerWorkFactor_RequestsRehash() {
+        // Arrange
+        passwordEncoder = startEncoder(6, 6, Duration.ofSeconds(5));
+
+        // Act and Assert
+        assertTrue(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode(PASSWORD)),
+                "Expected a weaker hash to be upgraded");
+        assertFalse(passwordEncoder.upgradeEncoding(passwordEncoder.encode(PASSWORD)),
+                "Expected a current hash to be kept");
+    }
+
+    @Test
+    @DisplayName("calibrate - Custo escolhido respeita os limites configurados")
+    void calibrate_TargetLatency_StaysWithinBounds() {
+        // Arrange and Act
+        passwordEncoder = startEncoder(4, 8, Duration.ofSeconds(10));
+
+        // Assert
+        assertEquals(8, passwordEncoder.getStrength(), "Expected the maximum cost under a generous target");
+    }
+
+    @Test
+    @DisplayName("matches - Espera acima do limite descarta a requisição com OverloadException")
+    void matches_ExecutorSaturated_ShedsRequest() {
+        // Arrange
+        passwordEncoder = startEncoder(12, 12, Duration.ofMillis(1));
+        String encodedPassword = new BCryptPasswordEncoder(12).encode(PASSWORD);
+
+        // Act and Assert
+        assertThrows(OverloadException.class, () -> passwordEncoder.matches(PASSWORD, encodedPassword),
+                "Expected the request to be shed");
+        assertEquals(1.0, meterRegistry.get("security.password.hashing.rejections").counter().count(),
+                "Expected the rejection to be recorded");
+    }
+
+    private OffloadedPasswordEncoder startEncoder(int minStrength, int maxStrength, Duration maxWait) {
+
+        meterRegistry = new SimpleMeterRegistry();
+        OffloadedPasswordEncoder encoder = new OffloadedPasswordEncoder(meterRegistry);
+        ReflectionTestUtils.setField(encoder, "minStrength", minStrength);
+        ReflectionTestUtils.setField(encoder, "maxStrength", maxStrength);
+        ReflectionTestUtils.setField(encoder, "targetLatency", Duration.ofMillis(250));
+        ReflectionTestUtils.setField(encoder, "threads", 1);
+        ReflectionTestUtils.setField(encoder, "queueCapacity", 1);
+        ReflectionTestUtils.setField(encoder, "maxWait", maxWait);
+        ReflectionTestUtils.invokeMethod(encoder, "start");
+        return encoder;
+    }
+}
@@ -0,0 +1,103 @@
+package com.rogeriogregorio.ecommercemanager.security;
+
+import com.rogeriogregorio.ecommercemanager.dto.UserAuthDetailsDto;
+import com.rogeriogregorio.ecommercemanager.entities.User;
+import com.rogeriogregorio.ecommercemanager.entities.enums.UserRole;
+import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
+import com.rogeriogregorio.ecommercemanager.repositories.UserRepository;
+import com.rogeriogregorio.ecommercemanager.security.impl.PrincipalCacheImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheImplTest {
+
+    private static final String EMAIL = "client@email.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCacheImpl(userRepository, new CatchErrorImpl(meterRegistry), meterRegistry);
+
+        user = User.newBuilder()
+                .withId(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))
+                .withName("Client")
+                .withEmail(EMAIL)
+                .withPassword("$2a$10$encodedPassword")
+                .withRole(UserRole.CLIENT)
+                .build();
+    }
+
+    @Test
+    @DisplayName("getPrincipal - Requisições seguintes são servidas do cache sem acessar o banco")
+    void getPrincipal_RepeatedRequests_ServedFromCache() {
+        // Arrange
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        // Act
+        UserAuthDetailsDto first = principalCache.getPrincipal(EMAIL);
+        UserAuthDetailsDto second = principalCache.getPrincipal(EMAIL);
+
+        // Assert
+        assertSame(first, second, "Expected the cached principal");
+        assertEquals(EMAIL, second.getUsername(), "Expected the subject of the principal");
+        assertTrue(second.getAuthorities().stream().anyMatch(authority -> authority.getAuthority().equals("ROLE_CLIENT")),
+                "Expected the role of the user");
+        assertNull(second.getPassword(), "Expected the password hash not to be cached");
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "security.principals").tag("result", "hit")
+                .functionCounter().count(), "Expected the cache hit to be recorded");
+    }
+
+    @Test
+    @DisplayName("invalidate - Alteração de papel é refletida na próxima requisição")
+    void invalidate_RoleChanged_ReloadsPrincipal() {
+        // Arrange
+        User promoted = user.toBuilder().withRole(UserRole.MANAGER).build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user), Optional.of(promoted));
+        principalCache.getPrincipal(EMAIL);
+
+        // Act
+        principalCache.invalidate(EMAIL);
+        UserAuthDetailsDto principal = principalCache.getPrincipal(EMAIL);
+
+        // Assert
+        assertTrue(principal.getAuthorities().stream().anyMatch(authority -> authority.getAuthority().equals("ROLE_MANAGER")),
+                "Expected the new role after invalidation");
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("getPrincipal - Usuário inexistente lança exceção e não é armazenado")
+    void getPrincipal_UnknownUser_ThrowsAndIsNotCached() {
+        // Arrange
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        // Act and Assert
+        assertThrows(NotFoundException.class, () -> principalCache.getPrincipal(EMAIL),
+                "Expected NotFoundException to be thrown");
+        assertThrows(NotFoundException.class, () -> principalCache.getPrincipal(EMAIL),
+                "Expected NotFoundException to be thrown");
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+}
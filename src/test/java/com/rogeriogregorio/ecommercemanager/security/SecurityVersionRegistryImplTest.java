@@ -0,0 +1,101 @@
+package com.rogeriogregorio.ecommercemanager.security;
+
+import com.rogeriogregorio.ecommercemanager.entities.UserSecurityVersion;
+import com.rogeriogregorio.ecommercemanager.repositories.UserSecurityVersionRepository;
+import com.rogeriogregorio.ecommercemanager.security.impl.SecurityVersionRegistryImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityVersionRegistryImplTest {
+
+    private static final UUID USER_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+    @Mock
+    private UserSecurityVersionRepository userSecurityVersionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @BeforeEach
+    void setUp() {
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        securityVersionRegistry = new SecurityVersionRegistryImpl(userSecurityVersionRepository,
+                transactionManager, new CatchErrorImpl(meterRegistry), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("bump - Tokens emitidos com a versão anterior passam a ser revogados")
+    void bump_PreviousVersion_IsRevoked() {
+        // Arrange
+        when(userSecurityVersionRepository.incrementVersion(eq(USER_ID), any(Instant.class))).thenReturn(1);
+        when(userSecurityVersionRepository.findVersionByUserId(USER_ID)).thenReturn(Optional.of(3L));
+
+        // Act
+        securityVersionRegistry.bump(USER_ID);
+
+        // Assert
+        verify(userSecurityVersionRepository, times(1)).incrementVersion(eq(USER_ID), any(Instant.class));
+        verify(userSecurityVersionRepository, never()).insertInitialVersion(any(), any());
+        verify(userSecurityVersionRepository, never()).save(any());
+        assertTrue(securityVersionRegistry.isRevoked(USER_ID, 2L), "Expected the previous version to be revoked");
+        assertFalse(securityVersionRegistry.isRevoked(USER_ID, 3L), "Expected the new version to be accepted");
+    }
+
+    @Test
+    @DisplayName("bump - Primeira alteração cria a versão inicial e a incrementa no banco")
+    void bump_FirstBump_InsertsInitialVersionAndIncrements() {
+        // Arrange
+        when(userSecurityVersionRepository.incrementVersion(eq(USER_ID), any(Instant.class))).thenReturn(0, 1);
+        when(userSecurityVersionRepository.findVersionByUserId(USER_ID)).thenReturn(Optional.of(1L));
+
+        // Act
+        securityVersionRegistry.bump(USER_ID);
+
+        // Assert
+        verify(userSecurityVersionRepository, times(1)).insertInitialVersion(eq(USER_ID), any(Instant.class));
+        verify(userSecurityVersionRepository, times(2)).incrementVersion(eq(USER_ID), any(Instant.class));
+        assertTrue(securityVersionRegistry.isRevoked(USER_ID, 0L), "Expected tokens without a version to be revoked");
+        assertFalse(securityVersionRegistry.isRevoked(USER_ID, 1L), "Expected the new version to be accepted");
+    }
+
+    @Test
+    @DisplayName("refresh - Versões alteradas em outra instância são carregadas da tabela")
+    void refresh_VersionsBumpedElsewhere_AreLoaded() {
+        // Arrange
+        UserSecurityVersion bumped = UserSecurityVersion.newBuilder()
+                .withUserId(USER_ID)
+                .withVersion(1L)
+                .withUpdatedAt(Instant.now())
+                .build();
+        when(userSecurityVersionRepository.findUpdatedSince(any(Instant.class))).thenReturn(List.of(bumped));
+
+        // Act
+        int refreshed = securityVersionRegistry.refresh();
+
+        // Assert
+        assertEquals(1, refreshed, "Expected the bumped version to be read");
+        assertTrue(securityVersionRegistry.isRevoked(USER_ID, 0L), "Expected tokens without the bump to be revoked");
+        assertFalse(securityVersionRegistry.isRevoked(UUID.randomUUID(), 0L), "Expected other users to be unaffected");
+    }
+}
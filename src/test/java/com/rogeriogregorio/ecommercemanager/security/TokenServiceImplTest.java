@@ -0,0 +1,107 @@
+package com.rogeriogregorio.ecommercemanager.security;
+
+import com.rogeriogregorio.ecommercemanager.dto.UserAuthDetailsDto;
+import com.rogeriogregorio.ecommercemanager.entities.User;
+import com.rogeriogregorio.ecommercemanager.entities.enums.UserRole;
+import com.rogeriogregorio.ecommercemanager.exceptions.TokenJwtException;
+import com.rogeriogregorio.ecommercemanager.repositories.UserRepository;
+import com.rogeriogregorio.ecommercemanager.security.impl.TokenServiceImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TokenServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    private TokenServiceImpl tokenService;
+    private UserAuthDetailsDto principal;
+
+    @BeforeEach
+    void setUp() {
+
+        tokenService = new TokenServiceImpl(userRepository, List.of(),
+                new CatchErrorImpl(new SimpleMeterRegistry()), securityVersionRegistry);
+        ReflectionTestUtils.setField(tokenService, "secretKey", "test-secret-key");
+        ReflectionTestUtils.setField(tokenService, "claimsMode", true);
+        ReflectionTestUtils.invokeMethod(tokenService, "buildVerifier");
+
+        principal = new UserAuthDetailsDto(User.newBuilder()
+                .withId(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"))
+                .withName("Manager")
+                .withEmail("manager@email.com")
+                .withRole(UserRole.MANAGER)
+                .build());
+
+        when(securityVersionRegistry.currentVersion(principal.getUser().getId())).thenReturn(4L);
+    }
+
+    @Test
+    @DisplayName("validateAuthenticationClaims - Papel e usuário são lidos do token sem acessar o banco")
+    void validateAuthenticationClaims_ClaimsToken_BuildsPrincipalFromToken() {
+        // Arrange
+        String token = tokenService.generateAuthenticationToken(principal);
+
+        // Act
+        Optional<UserAuthDetailsDto> authenticated = tokenService.validateAuthenticationClaims(token);
+
+        // Assert
+        assertTrue(authenticated.isPresent(), "Expected the principal to be built from the claims");
+        assertEquals(principal.getUser().getId(), authenticated.get().getUser().getId(), "Expected the user ID claim");
+        assertEquals("manager@email.com", authenticated.get().getUsername(), "Expected the subject of the token");
+        assertTrue(authenticated.get().getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_MANAGER")), "Expected the role claim");
+        verify(securityVersionRegistry, times(1)).isRevoked(principal.getUser().getId(), 4L);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("validateAuthenticationClaims - Token com versão de segurança revogada é rejeitado")
+    void validateAuthenticationClaims_RevokedVersion_ThrowsException() {
+        // Arrange
+        String token = tokenService.generateAuthenticationToken(principal);
+        tokenService.validateAuthenticationClaims(token);
+        when(securityVersionRegistry.isRevoked(principal.getUser().getId(), 4L)).thenReturn(true);
+
+        // Act and Assert
+        assertThrows(TokenJwtException.class, () -> tokenService.validateAuthenticationClaims(token),
+                "Expected the revoked token to be rejected even when cached");
+    }
+
+    @Test
+    @DisplayName("validateAuthenticationClaims - Token sem claims recorre à busca do usuário")
+    void validateAuthenticationClaims_TokenWithoutClaims_ReturnsEmpty() {
+        // Arrange
+        ReflectionTestUtils.setField(tokenService, "claimsMode", false);
+        String token = tokenService.generateAuthenticationToken(principal);
+        ReflectionTestUtils.setField(tokenService, "claimsMode", true);
+
+        // Act
+        Optional<UserAuthDetailsDto> authenticated = tokenService.validateAuthenticationClaims(token);
+
+        // Assert
+        assertTrue(authenticated.isEmpty(), "Expected no principal from a token without claims");
+        assertEquals("manager@email.com", tokenService.validateAuthenticationToken(token), "Expected the subject");
+    }
+}
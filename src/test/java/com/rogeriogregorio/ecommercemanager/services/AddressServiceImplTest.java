@@ -13,6 +13,7 @@ import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -51,6 +52,9 @@ class AddressServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private RowCounter rowCounter;
+
     @InjectMocks
     private AddressServiceImpl addressService;
 
@@ -90,7 +94,7 @@ class AddressServiceImplTest {
                 "Rua ABC, 123", "São Paulo", "SP", "01234-567", "Brasil", user);
 
         MockitoAnnotations.openMocks(this);
-        addressService = new AddressServiceImpl(addressRepository, userService, catchError, dataMapper);
+        addressService = new AddressServiceImpl(addressRepository, userService, catchError, dataMapper, rowCounter);
     }
 
     @Test
@@ -11,6 +11,7 @@ import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,9 @@ class CategoryServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private RowCounter rowCounter;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -58,7 +62,7 @@ class CategoryServiceImplTest {
         categoryResponse = new CategoryResponse(1L, "Computers");
 
         MockitoAnnotations.openMocks(this);
-        categoryService = new CategoryServiceImpl(categoryRepository, catchError, dataMapper);
+        categoryService = new CategoryServiceImpl(categoryRepository, catchError, dataMapper, rowCounter);
     }
 
     @Test
@@ -11,6 +11,7 @@ import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,6 +47,9 @@ class DiscountCouponServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private RowCounter rowCounter;
+
     @InjectMocks
     private DiscountCouponServiceImpl discountCouponService;
 
@@ -70,7 +74,7 @@ class DiscountCouponServiceImplTest {
                 Instant.parse("2024-07-26T00:00:00Z"));
 
         MockitoAnnotations.openMocks(this);
-        discountCouponService = new DiscountCouponServiceImpl(discountCouponRepository, catchError, dataMapper);
+        discountCouponService = new DiscountCouponServiceImpl(discountCouponRepository, catchError, dataMapper, rowCounter);
     }
 
     @Test
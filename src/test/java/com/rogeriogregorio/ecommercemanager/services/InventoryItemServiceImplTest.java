@@ -6,13 +6,14 @@ import com.rogeriogregorio.ecommercemanager.entities.*;
 import com.rogeriogregorio.ecommercemanager.entities.enums.StockStatus;
 import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
 import com.rogeriogregorio.ecommercemanager.exceptions.RepositoryException;
+import com.rogeriogregorio.ecommercemanager.exceptions.StockException;
 import com.rogeriogregorio.ecommercemanager.repositories.InventoryItemRepository;
-import com.rogeriogregorio.ecommercemanager.repositories.StockMovementRepository;
 import com.rogeriogregorio.ecommercemanager.services.impl.InventoryItemServiceImpl;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,7 +42,7 @@ class InventoryItemServiceImplTest {
     private InventoryItemRepository inventoryItemRepository;
 
     @Mock
-    private StockMovementRepository stockMovementRepository;
+    private StockLedgerService stockLedgerService;
 
     @Mock
     private ProductService productService;
@@ -52,6 +53,12 @@ class InventoryItemServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private RowCounter rowCounter;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
     @InjectMocks
     private InventoryItemServiceImpl inventoryItemService;
 
@@ -96,8 +103,8 @@ class InventoryItemServiceImplTest {
 
         MockitoAnnotations.openMocks(this);
         inventoryItemService = new InventoryItemServiceImpl(
-                inventoryItemRepository, stockMovementRepository,
-                productService, catchError, dataMapper);
+                inventoryItemRepository, stockLedgerService,
+                productService, catchError, dataMapper, rowCounter, stockReservationService);
     }
 
     @Test
@@ -172,7 +179,8 @@ class InventoryItemServiceImplTest {
         verify(inventoryItemRepository, times(1)).save(any(InventoryItem.class));
         verify(dataMapper, times(1)).map(inventoryItem, InventoryItemResponse.class);
         verify(productService, times(1)).getProductIfExists(product.getId());
-        verify(catchError, times(3)).run(any(SafeFunction.class));
+        verify(stockLedgerService, times(1)).recordNow(anyList());
+        verify(catchError, times(2)).run(any(SafeFunction.class));
     }
 
     @Test
@@ -363,4 +371,59 @@ class InventoryItemServiceImplTest {
         verify(catchError, times(1)).run(any(SafeFunction.class));
         verify(catchError, times(1)).run(any(SafeProcedure.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("updateInventoryItemQuantity - Baixa de estoque bem-sucedida em uma única operação em lote")
+    void updateInventoryItemQuantity_SufficientStock_DeductsInSingleBatch() {
+        // Arrange
+        Order order = buildOrder(2);
+        Map<Long, Integer> expectedDeduction = Map.of(product.getId(), 2);
+
+        when(inventoryItemRepository.deductStock(expectedDeduction)).thenReturn(Collections.emptyList());
+        when(catchError.run(any(SafeFunction.class))).thenAnswer(invocation -> inventoryItemRepository.deductStock(expectedDeduction));
+
+        // Act
+        inventoryItemService.updateInventoryItemQuantity(order);
+
+        // Assert
+        verify(inventoryItemRepository, times(1)).deductStock(expectedDeduction);
+        verify(inventoryItemRepository, never()).findByProduct(any());
+        verify(inventoryItemRepository, never()).save(any());
+        verify(catchError, times(1)).run(any(SafeFunction.class));
+    }
+
+    @Test
+    @DisplayName("updateInventoryItemQuantity - Exceção ao tentar baixar estoque insuficiente")
+    void updateInventoryItemQuantity_InsufficientStock_StockExceptionHandling() {
+        // Arrange
+        Order order = buildOrder(11);
+        Map<Long, Integer> expectedDeduction = Map.of(product.getId(), 11);
+
+        when(inventoryItemRepository.deductStock(expectedDeduction)).thenReturn(List.of(product.getId()));
+        when(catchError.run(any(SafeFunction.class))).thenAnswer(invocation -> inventoryItemRepository.deductStock(expectedDeduction));
+
+        // Act and Assert
+        assertThrows(StockException.class, () -> inventoryItemService.updateInventoryItemQuantity(order),
+                "Expected StockException for insufficient stock");
+        verify(inventoryItemRepository, times(1)).deductStock(expectedDeduction);
+        verify(catchError, times(1)).run(any(SafeFunction.class));
+    }
+
+    private Order buildOrder(int quantity) {
+
+        Set<OrderItem> items = new HashSet<>();
+        Order order = Order.newBuilder()
+                .withId(1L)
+                .withItems(items)
+                .build();
+
+        items.add(OrderItem.newBuilder()
+                .withOrder(order)
+                .withProduct(product)
+                .withQuantity(quantity)
+                .withPrice(product.getPrice())
+                .build());
+
+        return order;
+    }
+}
@@ -11,6 +11,7 @@ import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -45,6 +46,9 @@ class NotificationServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private RowCounter rowCounter;
+
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
@@ -67,7 +71,7 @@ class NotificationServiceImplTest {
                 Instant.parse("2024-07-26T00:00:00Z"), "Title", "Message");
 
         MockitoAnnotations.openMocks(this);
-        notificationService = new NotificationServiceImpl(notificationRepository, catchError, dataMapper);
+        notificationService = new NotificationServiceImpl(notificationRepository, catchError, dataMapper, rowCounter);
     }
 
     @Test
@@ -16,6 +16,7 @@ import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -57,6 +58,9 @@ class OrderItemServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private RowCounter rowCounter;
+
     @InjectMocks
     private OrderItemServiceImpl orderItemService;
 
@@ -134,7 +138,7 @@ class OrderItemServiceImplTest {
 
         MockitoAnnotations.openMocks(this);
         orderItemService = new OrderItemServiceImpl(orderItemRepository, inventoryItemService,
-                productService, orderService, catchError, dataMapper);
+                productService, orderService, catchError, dataMapper, rowCounter);
     }
 
     @Test
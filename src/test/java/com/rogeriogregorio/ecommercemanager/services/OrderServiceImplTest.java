@@ -1,5 +1,7 @@
 package com.rogeriogregorio.ecommercemanager.services;
 
+import com.rogeriogregorio.ecommercemanager.dto.CursorPageDto;
+import com.rogeriogregorio.ecommercemanager.dto.SliceDto;
 import com.rogeriogregorio.ecommercemanager.dto.requests.OrderRequest;
 import com.rogeriogregorio.ecommercemanager.dto.responses.OrderResponse;
 import com.rogeriogregorio.ecommercemanager.entities.DiscountCoupon;
@@ -18,7 +20,11 @@ import com.rogeriogregorio.ecommercemanager.services.strategy.validations.OrderS
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.ExportFormat;
+import com.rogeriogregorio.ecommercemanager.utils.KeysetCursor;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,17 +33,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -61,6 +73,12 @@ class OrderServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private DataExporter dataExporter;
+
+    @Mock
+    private RowCounter rowCounter;
+
     @Mock
     private List<OrderStatusStrategy> validators;
 
@@ -116,7 +134,7 @@ class OrderServiceImplTest {
 
         MockitoAnnotations.openMocks(this);
         orderService = new OrderServiceImpl(orderRepository, userService,
-                discountCouponService, validators, catchError, dataMapper);
+                discountCouponService, validators, catchError, dataMapper, dataExporter, rowCounter);
     }
 
     @Test
@@ -159,6 +177,72 @@ class OrderServiceImplTest {
         verify(catchError, times(1)).run(any(SafeFunction.class));
     }
 
+    @Test
+    @DisplayName("findAllOrdersSlice - Busca bem-sucedida retorna fatia com total aproximado sem contagem")
+    void findAllOrdersSlice_SuccessfulSearch_ReturnsSliceWithApproximateTotal() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<Order> orderSlice = new SliceImpl<>(List.of(order), pageable, true);
+
+        when(dataMapper.map(order, OrderResponse.class)).thenReturn(orderResponse);
+        when(orderRepository.findAllBy(pageable)).thenReturn(orderSlice);
+        when(rowCounter.approximateCount(Order.class)).thenReturn(42L);
+        when(catchError.run(any(SafeFunction.class))).thenAnswer(invocation -> orderRepository.findAllBy(pageable));
+
+        // Act
+        SliceDto<OrderResponse> actualSlice = orderService.findAllOrdersSlice(pageable, true);
+
+        // Assert
+        assertEquals(List.of(orderResponse), actualSlice.getContent(), "Expected the orders of the requested slice");
+        assertTrue(actualSlice.isHasNext(), "Expected another slice to be available");
+        assertEquals(42L, actualSlice.getApproximateTotal(), "Expected the approximate total from the row counter");
+        verify(orderRepository, times(1)).findAllBy(pageable);
+        verify(orderRepository, never()).findAll(any(Pageable.class));
+        verify(rowCounter, times(1)).approximateCount(Order.class);
+    }
+
+    @Test
+    @DisplayName("findAllOrdersByCursor - Busca bem-sucedida retorna página com cursor seguinte")
+    void findAllOrdersByCursor_SuccessfulSearch_ReturnsPageWithNextCursor() {
+        // Arrange
+        Order nextOrder = order.toBuilder().build();
+        List<Order> orderList = List.of(order, nextOrder);
+
+        when(dataMapper.map(order, OrderResponse.class)).thenReturn(orderResponse);
+        when(orderRepository.findNextPage(any(Instant.class), eq(Long.MAX_VALUE), any(Limit.class))).thenReturn(orderList);
+        when(catchError.run(any(SafeFunction.class))).thenAnswer(invocation ->
+                orderRepository.findNextPage(Instant.MAX, Long.MAX_VALUE, Limit.of(2)));
+
+        // Act
+        CursorPageDto<OrderResponse> actualPage = orderService.findAllOrdersByCursor(null, 1);
+
+        // Assert
+        assertEquals(List.of(orderResponse), actualPage.getContent(), "Expected only the requested page size");
+        assertEquals(KeysetCursor.encode(order.getMoment(), order.getId()), actualPage.getNextCursor(),
+                "Expected the cursor of the last returned order");
+        verify(orderRepository, times(1)).findNextPage(any(Instant.class), eq(Long.MAX_VALUE), any(Limit.class));
+        verify(catchError, times(1)).run(any(SafeFunction.class));
+    }
+
+    @Test
+    @DisplayName("exportOrders - Exportação bem-sucedida envia fluxo de pedidos ao exportador")
+    void exportOrders_SuccessfulExport_StreamsOrdersToExporter() {
+        // Arrange
+        OutputStream outputStream = new ByteArrayOutputStream();
+        Stream<Order> orderStream = Stream.of(order);
+
+        when(orderRepository.streamAll()).thenReturn(orderStream);
+        when(catchError.run(any(SafeFunction.class))).thenAnswer(invocation -> orderRepository.streamAll());
+
+        // Act
+        orderService.exportOrders(ExportFormat.CSV, outputStream);
+
+        // Assert
+        verify(orderRepository, times(1)).streamAll();
+        verify(catchError, times(1)).run(any(SafeFunction.class));
+        verify(dataExporter, times(1)).export(eq(orderStream), any(), eq(ExportFormat.CSV), eq(outputStream));
+    }
+
     @Test
     @DisplayName("createOrder - Criação bem-sucedida retorna pedido criado")
     void createOrder_SuccessfulCreation_ReturnsOrder() {
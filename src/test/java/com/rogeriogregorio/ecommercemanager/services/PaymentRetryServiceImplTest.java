@@ -0,0 +1,292 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import com.rogeriogregorio.ecommercemanager.entities.Order;
+import com.rogeriogregorio.ecommercemanager.entities.Payment;
+import com.rogeriogregorio.ecommercemanager.entities.PaymentRetry;
+import com.rogeriogregorio.ecommercemanager.entities.enums.OrderStatus;
+import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentStatus;
+import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentType;
+import com.rogeriogregorio.ecommercemanager.exceptions.PaymentException;
+import com.rogeriogregorio.ecommercemanager.exceptions.ProviderUnavailableException;
+import com.rogeriogregorio.ecommercemanager.repositories.PaymentRepository;
+import com.rogeriogregorio.ecommercemanager.repositories.PaymentRetryRepository;
+import com.rogeriogregorio.ecommercemanager.services.impl.PaymentRetryServiceImpl;
+import com.rogeriogregorio.ecommercemanager.services.strategy.payments.PaymentStrategy;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PaymentRetryServiceImplTest {
+
+    @Mock
+    private PaymentRetryRepository paymentRetryRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentStrategy paymentStrategy;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CatchError catchError;
+
+    private PaymentRetryService paymentRetryService;
+    private Order order;
+    private PaymentRetry paymentRetry;
+    private Instant paymentMoment;
+
+    @BeforeEach
+    void setUp() {
+
+        order = Order.newBuilder()
+                .withId(1L)
+                .withMoment(Instant.now())
+                .withOrderStatus(OrderStatus.WAITING_PAYMENT)
+                .withItems(new HashSet<>())
+                .build();
+
+        paymentMoment = Instant.now();
+
+        paymentRetry = PaymentRetry.newBuilder()
+                .withId(10L)
+                .withPaymentId(1L)
+                .withTxId("7978c0c97ea847e78e8849634473c1f1")
+                .withAttempts(0)
+                .withNextAttemptAt(Instant.now())
+                .build();
+
+        MockitoAnnotations.openMocks(this);
+        paymentRetryService = new PaymentRetryServiceImpl(paymentRetryRepository, paymentRepository,
+                List.of(paymentStrategy), stockReservationService, transactionManager, catchError);
+
+        when(catchError.run(any(SafeFunction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, SafeFunction.class).execute());
+        doAnswer(invocation -> {
+            invocation.getArgument(0, SafeProcedure.class).execute();
+            return null;
+        }).when(catchError).run(any(SafeProcedure.class));
+        when(paymentStrategy.getSupportedPaymentMethod()).thenReturn(PaymentType.PIX);
+        when(paymentRetryRepository.findById(paymentRetry.getId())).thenReturn(Optional.of(paymentRetry));
+        when(paymentRepository.findById(order.getId())).thenAnswer(invocation -> Optional.of(pendingPayment()));
+        when(paymentRetryRepository.release(anyLong(), any(Instant.class))).thenReturn(1);
+        when(paymentRetryRepository.reschedule(anyLong(), any(Instant.class), anyInt(), any(Instant.class), any()))
+                .thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("scheduleCharge - Agenda a cobrança com um txid gerado antes da chamada ao provedor")
+    void scheduleCharge_NewPayment_PersistsClientTxId() {
+        // Arrange
+        Payment payment = pendingPayment();
+
+        // Act
+        paymentRetryService.scheduleCharge(payment);
+
+        // Assert
+        ArgumentCaptor<PaymentRetry> captor = ArgumentCaptor.forClass(PaymentRetry.class);
+        verify(paymentRetryRepository, times(1)).save(captor.capture());
+        assertTrue(captor.getValue().getTxId().matches("[a-zA-Z0-9]{26,35}"), "Expected a txid accepted by the PSP");
+        assertEquals(payment.getId(), captor.getValue().getPaymentId(), "Expected the retry to reference the payment");
+    }
+
+    @Test
+    @DisplayName("attemptCharge - Cobrança criada atualiza o pagamento pendente e remove a tentativa")
+    void attemptCharge_ChargeCreated_UpdatesPaymentAndDeletesRetry() {
+        // Arrange
+        Payment charge = Payment.newBuilder()
+                .withMoment(Instant.now())
+                .withOrder(order)
+                .withPaymentType(PaymentType.PIX)
+                .withTxId("b3f1b57e-ec0c-4b23-a6b2-647d2b176d74")
+                .withChargeLink("https://bank.com/paymentqrcode")
+                .build();
+
+        when(paymentStrategy.createPayment(any(Order.class), eq(paymentRetry.getTxId()))).thenReturn(charge);
+
+        // Act
+        paymentRetryService.attemptCharge(paymentRetry.getId());
+
+        // Assert
+        verify(paymentStrategy, times(1)).createPayment(any(Order.class), eq(paymentRetry.getTxId()));
+        ArgumentCaptor<Payment> captor = ArgumentCaptor.forClass(Payment.class);
+        verify(paymentRepository, times(1)).save(captor.capture());
+        assertEquals(PaymentStatus.PROCESSING, captor.getValue().getPaymentStatus(), "Expected the charge to be processing");
+        assertEquals(charge.getTxId(), captor.getValue().getTxId(), "Expected the txId of the charge");
+        assertEquals(charge.getChargeLink(), captor.getValue().getChargeLink(), "Expected the charge link");
+        verify(paymentRetryRepository, times(1)).release(paymentRetry.getId(), paymentRetry.getNextAttemptAt());
+    }
+
+    @Test
+    @DisplayName("attemptCharge - Cobrança concluída após a expiração da reivindicação não altera o pagamento")
+    void attemptCharge_ClaimExpiredBeforeCompletion_LeavesPaymentUntouched() {
+        // Arrange
+        Payment charge = Payment.newBuilder()
+                .withMoment(Instant.now())
+                .withOrder(order)
+                .withPaymentType(PaymentType.PIX)
+                .withTxId(paymentRetry.getTxId())
+                .build();
+
+        when(paymentStrategy.createPayment(any(Order.class), anyString())).thenReturn(charge);
+        when(paymentRetryRepository.release(anyLong(), any(Instant.class))).thenReturn(0);
+
+        // Act
+        paymentRetryService.attemptCharge(paymentRetry.getId());
+
+        // Assert
+        verify(paymentRepository, never()).save(any(Payment.class));
+    }
+
+    @Test
+    @DisplayName("attemptCharge - Nova tentativa reutiliza o mesmo txid da cobrança")
+    void attemptCharge_Retry_ReusesPersistedTxId() {
+        // Arrange
+        paymentRetry.setAttempts(3);
+        when(paymentStrategy.createPayment(any(Order.class), anyString())).thenThrow(new PaymentException("PSP unavailable"));
+
+        // Act
+        paymentRetryService.attemptCharge(paymentRetry.getId());
+        paymentRetryService.attemptCharge(paymentRetry.getId());
+
+        // Assert
+        verify(paymentStrategy, times(2)).createPayment(any(Order.class), eq("7978c0c97ea847e78e8849634473c1f1"));
+    }
+
+    @Test
+    @DisplayName("attemptCharge - Falha no provedor reagenda a tentativa com espera")
+    void attemptCharge_ProviderFailure_ReschedulesWithBackoff() {
+        // Arrange
+        Instant before = Instant.now();
+        when(paymentStrategy.createPayment(any(Order.class), anyString())).thenThrow(new PaymentException("PSP unavailable"));
+
+        // Act
+        paymentRetryService.attemptCharge(paymentRetry.getId());
+
+        // Assert
+        ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+        verify(paymentRetryRepository, times(1)).reschedule(eq(paymentRetry.getId()), eq(paymentRetry.getNextAttemptAt()),
+                eq(1), nextAttemptAt.capture(), eq("PSP unavailable"));
+        assertTrue(nextAttemptAt.getValue().isAfter(before), "Expected the next attempt in the future");
+        verify(paymentRetryRepository, never()).save(any(PaymentRetry.class));
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verify(stockReservationService, never()).releaseReservation(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("attemptCharge - Muitas falhas dentro do prazo da cobrança continuam reagendando")
+    void attemptCharge_FailuresWithinRetryBudget_KeepsRescheduling() {
+        // Arrange
+        paymentRetry.setAttempts(20);
+        when(paymentStrategy.createPayment(any(Order.class), anyString())).thenThrow(new PaymentException("PSP unavailable"));
+
+        // Act
+        paymentRetryService.attemptCharge(paymentRetry.getId());
+
+        // Assert
+        ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+        verify(paymentRetryRepository, times(1)).reschedule(eq(paymentRetry.getId()), eq(paymentRetry.getNextAttemptAt()),
+                eq(21), nextAttemptAt.capture(), eq("PSP unavailable"));
+        assertFalse(nextAttemptAt.getValue().isAfter(paymentMoment.plus(Duration.ofHours(1))),
+                "Expected the next attempt within the charge expiry");
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verify(stockReservationService, never()).releaseReservation(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("attemptCharge - Rejeição pelo circuito aberto não conta como tentativa")
+    void attemptCharge_ProviderRejection_DoesNotCountAttempt() {
+        // Arrange
+        paymentRetry.setAttempts(2);
+        PaymentException rejection = new PaymentException("Error while executing method createPixCharge",
+                new ProviderUnavailableException("Pix provider unavailable, circuit open for pixCreateCharge"));
+        when(paymentStrategy.createPayment(any(Order.class), anyString())).thenThrow(rejection);
+
+        // Act
+        paymentRetryService.attemptCharge(paymentRetry.getId());
+
+        // Assert
+        verify(paymentRetryRepository, times(1)).reschedule(eq(paymentRetry.getId()), eq(paymentRetry.getNextAttemptAt()),
+                eq(2), any(Instant.class), anyString());
+        verify(paymentRepository, never()).save(any(Payment.class));
+    }
+
+    @Test
+    @DisplayName("attemptCharge - Falha após o prazo da cobrança cancela o pagamento e libera a reserva")
+    void attemptCharge_RetryBudgetExhausted_CancelsPaymentAndReleasesReservation() {
+        // Arrange
+        paymentRetry.setAttempts(3);
+        paymentMoment = Instant.now().minus(Duration.ofHours(2));
+        when(paymentStrategy.createPayment(any(Order.class), anyString())).thenThrow(new PaymentException("PSP unavailable"));
+
+        // Act
+        paymentRetryService.attemptCharge(paymentRetry.getId());
+
+        // Assert
+        ArgumentCaptor<Payment> captor = ArgumentCaptor.forClass(Payment.class);
+        verify(paymentRepository, times(1)).save(captor.capture());
+        assertEquals(PaymentStatus.CANCELED, captor.getValue().getPaymentStatus(), "Expected the payment to be canceled");
+        verify(paymentRetryRepository, times(1)).release(paymentRetry.getId(), paymentRetry.getNextAttemptAt());
+        verify(stockReservationService, times(1)).releaseReservation(order);
+    }
+
+    @Test
+    @DisplayName("attemptCharge - Falha após a expiração da reivindicação não reagenda nem cancela")
+    void attemptCharge_ClaimExpiredBeforeFailure_LeavesRetryToCurrentHolder() {
+        // Arrange
+        paymentRetry.setAttempts(3);
+        paymentMoment = Instant.now().minus(Duration.ofHours(2));
+        when(paymentStrategy.createPayment(any(Order.class), anyString())).thenThrow(new PaymentException("PSP unavailable"));
+        when(paymentRetryRepository.release(anyLong(), any(Instant.class))).thenReturn(0);
+
+        // Act
+        paymentRetryService.attemptCharge(paymentRetry.getId());
+
+        // Assert
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verify(stockReservationService, never()).releaseReservation(any(Order.class));
+    }
+
+    private Payment pendingPayment() {
+
+        return Payment.newBuilder()
+                .withId(order.getId())
+                .withMoment(paymentMoment)
+                .withOrder(order)
+                .withPaymentType(PaymentType.PIX)
+                .withPaymentStatus(PaymentStatus.PENDING)
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentStatus;
 import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentType;
 import com.rogeriogregorio.ecommercemanager.entities.enums.UserRole;
 import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
+import com.rogeriogregorio.ecommercemanager.exceptions.PaymentException;
 import com.rogeriogregorio.ecommercemanager.exceptions.RepositoryException;
 import com.rogeriogregorio.ecommercemanager.mail.MailService;
 import com.rogeriogregorio.ecommercemanager.repositories.PaymentRepository;
@@ -18,7 +19,9 @@ import com.rogeriogregorio.ecommercemanager.services.strategy.validations.OrderS
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -66,6 +69,15 @@ class PaymentServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private DataExporter dataExporter;
+
+    @Mock
+    private RowCounter rowCounter;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
     @Mock
     private List<OrderStrategy> validators;
 
@@ -80,6 +92,9 @@ class PaymentServiceImplTest {
     @Mock
     private PaymentStrategy paymentStrategy;
 
+    @Mock
+    private PaymentRetryService paymentRetryService;
+
     @BeforeEach
     void setUp() {
 
@@ -151,14 +166,15 @@ class PaymentServiceImplTest {
         paymentResponse = new PaymentResponse(1L, Instant.now(), order, "b3f1b57e-ec0c-4b23-a6b2-647d2b176d74",
                 PaymentType.PIX, "https://bank.com/paymentqrcode", PaymentStatus.PROCESSING);
 
+        MockitoAnnotations.openMocks(this);
         when(paymentStrategy.getSupportedPaymentMethod()).thenReturn(PaymentType.PIX);
-        when(paymentStrategy.createPayment(any(Order.class))).thenReturn(payment);
+        when(paymentStrategy.createPayment(any(Order.class), anyString())).thenReturn(payment);
         List<PaymentStrategy> paymentMethods = new ArrayList<>();
         paymentMethods.add(paymentStrategy);
 
-        MockitoAnnotations.openMocks(this);
         paymentService = new PaymentServiceImpl(paymentRepository, inventoryItemService, stockMovementService,
-                mailService, orderService, validators, paymentMethods, catchError, dataMapper);
+                mailService, orderService, validators, paymentMethods, catchError, dataMapper, dataExporter,
+                rowCounter, stockReservationService, paymentRetryService);
     }
 
     @Test
@@ -219,6 +235,9 @@ class PaymentServiceImplTest {
         assertNotNull(actualResponse, "Payment should not be null");
         assertEquals(expectedResponse, actualResponse, "Expected and actual responses should be equal");
         verify(orderService, times(1)).getOrderIfExists(paymentRequest.getOrderId());
+        verify(stockReservationService, times(1)).reserveStock(order);
+        verify(paymentStrategy, never()).createPayment(any(Order.class), anyString());
+        verify(paymentRetryService, times(1)).scheduleCharge(payment);
         verify(paymentRepository, times(1)).save(payment);
         verify(dataMapper, times(1)).map(payment, PaymentResponse.class);
         verify(catchError, times(1)).run(any(SafeFunction.class));
@@ -240,6 +259,22 @@ class PaymentServiceImplTest {
         verify(catchError, times(1)).run(any(SafeFunction.class));
     }
 
+    @Test
+    @DisplayName("createPayment - Provedor indisponível falha rápido sem reservar estoque")
+    void createPayment_ProviderUnavailable_FailsFastWithoutReservingStock() {
+        // Arrange
+        doThrow(new PaymentException("Pix provider unavailable, circuit open for pixCreateImmediateCharge"))
+                .when(paymentStrategy).ensureAvailable();
+
+        // Act and Assert
+        assertThrows(PaymentException.class, () -> paymentService.createPaymentProcess(paymentRequest),
+                "Expected PaymentException to be thrown");
+        verify(orderService, never()).getOrderIfExists(anyLong());
+        verify(stockReservationService, never()).reserveStock(any(Order.class));
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verify(paymentRetryService, never()).scheduleCharge(any(Payment.class));
+    }
+
     @Test
     @DisplayName("findPaymentById - Busca bem-sucedida retorna pagamento")
     void findCategoryById_SuccessfulSearch_ReturnsPayment() {
@@ -276,6 +311,44 @@ class PaymentServiceImplTest {
         verify(catchError, times(1)).run(any(SafeFunction.class));
     }
 
+    @Test
+    @DisplayName("applyPaidPixCharges - TxIds buscados em uma consulta concluem apenas o pagamento conhecido")
+    void applyPaidPixCharges_KnownAndUnknownTxIds_ConcludesOnlyKnownPayment() {
+        // Arrange
+        String unknownTxId = "0f6a3c1e-0000-4000-8000-000000000000";
+        when(paymentRepository.findByTxIdIn(List.of(payment.getTxId(), unknownTxId))).thenReturn(List.of(payment));
+        when(paymentRepository.updatePaymentStatusByTxId(payment.getTxId(), PaymentStatus.CONCLUDED.getCode())).thenReturn(1);
+        when(catchError.run(any(SafeFunction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, SafeFunction.class).execute());
+
+        // Act
+        Set<String> unknownTxIds = paymentService.applyPaidPixCharges(List.of(payment.getTxId(), unknownTxId));
+
+        // Assert
+        assertEquals(Set.of(unknownTxId), unknownTxIds, "Expected only the unknown txId to be returned");
+        assertEquals(PaymentStatus.CONCLUDED, payment.getPaymentStatus(), "Expected the payment to be concluded");
+        assertEquals(OrderStatus.PAID, payment.getOrder().getOrderStatus(), "Expected the order to be paid");
+        verify(paymentRepository, times(1)).findByTxIdIn(List.of(payment.getTxId(), unknownTxId));
+        verify(stockReservationService, times(1)).confirmReservation(payment.getOrder());
+    }
+
+    @Test
+    @DisplayName("applyPaidPixCharges - Pagamento concluído por outro caminho não baixa o estoque novamente")
+    void applyPaidPixCharges_ConcludedConcurrently_SkipsStockConfirmation() {
+        // Arrange
+        when(paymentRepository.findByTxIdIn(List.of(payment.getTxId()))).thenReturn(List.of(payment));
+        when(paymentRepository.updatePaymentStatusByTxId(payment.getTxId(), PaymentStatus.CONCLUDED.getCode())).thenReturn(0);
+        when(catchError.run(any(SafeFunction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, SafeFunction.class).execute());
+
+        // Act
+        paymentService.applyPaidPixCharges(List.of(payment.getTxId()));
+
+        // Assert
+        verify(paymentRepository, times(1)).updatePaymentStatusByTxId(payment.getTxId(), PaymentStatus.CONCLUDED.getCode());
+        verify(stockReservationService, never()).confirmReservation(any(Order.class));
+    }
+
     @Test
     @DisplayName("deletePayment - Exclusão bem-sucedida do pedido")
     void deletePayment_DeletesPaymentSuccessfully() {
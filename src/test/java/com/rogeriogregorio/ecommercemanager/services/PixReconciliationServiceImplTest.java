@@ -0,0 +1,220 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import com.rogeriogregorio.ecommercemanager.dto.PixListChargeDto;
+import com.rogeriogregorio.ecommercemanager.entities.enums.PaymentStatus;
+import com.rogeriogregorio.ecommercemanager.exceptions.StockException;
+import com.rogeriogregorio.ecommercemanager.payment.PixService;
+import com.rogeriogregorio.ecommercemanager.repositories.PaymentRepository;
+import com.rogeriogregorio.ecommercemanager.services.impl.PixReconciliationServiceImpl;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PixReconciliationServiceImplTest {
+
+    @Mock
+    private PixService pixService;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private CatchError catchError;
+
+    private PixReconciliationService pixReconciliationService;
+    private SimpleMeterRegistry meterRegistry;
+    private Instant start;
+
+    @BeforeEach
+    void setUp() {
+
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        pixReconciliationService = new PixReconciliationServiceImpl(pixService, paymentRepository,
+                paymentService, catchError, meterRegistry);
+        ReflectionTestUtils.setField(pixReconciliationService, "chunkSize", Duration.ofHours(1));
+        ReflectionTestUtils.setField(pixReconciliationService, "parallelism", 2);
+        ReflectionTestUtils.setField(pixReconciliationService, "webhookGrace", Duration.ofMinutes(2));
+        start = Instant.parse("2024-01-01T00:00:00Z");
+
+        when(catchError.run(any(SafeFunction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, SafeFunction.class).execute());
+        when(pixService.streamPixCharges(any(Instant.class), any(Instant.class)))
+                .thenAnswer(invocation -> Stream.empty());
+    }
+
+    @Test
+    @DisplayName("reconcile - Janela é dividida em blocos consultados separadamente")
+    void reconcile_LookbackWindow_SplitIntoChunks() {
+        // Act
+        pixReconciliationService.reconcile(start, start.plus(Duration.ofMinutes(150)));
+
+        // Assert
+        verify(pixService, times(1)).streamPixCharges(start, start.plus(Duration.ofHours(1)));
+        verify(pixService, times(1)).streamPixCharges(start.plus(Duration.ofHours(1)), start.plus(Duration.ofHours(2)));
+        verify(pixService, times(1)).streamPixCharges(start.plus(Duration.ofHours(2)), start.plus(Duration.ofMinutes(150)));
+        verify(pixService, times(3)).streamPixCharges(any(Instant.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("reconcile - Cobrança paga sem webhook é aplicada ao pagamento")
+    void reconcile_PaidChargeWithoutWebhook_AppliesPayment() {
+        // Arrange
+        when(pixService.streamPixCharges(any(Instant.class), any(Instant.class)))
+                .thenAnswer(invocation -> Stream.of(
+                        charge("txid-paid", "CONCLUIDA", "2024-01-01T00:10:00.000Z"),
+                        charge("txid-applied", "CONCLUIDA", "2024-01-01T00:20:00.000Z"),
+                        charge("txid-open", "ATIVA", null)));
+        when(paymentRepository.findTxIdsByPaymentStatusNot(anyCollection(), eq(PaymentStatus.CONCLUDED.getCode())))
+                .thenReturn(List.of("txid-paid"));
+
+        // Act
+        int applied = pixReconciliationService.reconcile(start, start.plus(Duration.ofHours(1)));
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> lookupCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(paymentRepository, times(1)).findTxIdsByPaymentStatusNot(lookupCaptor.capture(), anyInt());
+        assertEquals(Set.of("txid-paid", "txid-applied"), Set.copyOf(lookupCaptor.getValue()),
+                "Expected only concluded charges to be looked up");
+        verify(paymentService, times(1)).applyPaidPixCharges(List.of("txid-paid"));
+        assertEquals(1, applied, "Expected the missed payment to be applied");
+        assertEquals(1.0, meterRegistry.get("pix.reconciliation.charges.applied").counter().count(),
+                "Expected the applied charge to be counted");
+        assertEquals(3.0, meterRegistry.get("pix.reconciliation.charges.scanned").counter().count(),
+                "Expected every charge read to be counted");
+        assertEquals(1, meterRegistry.get("pix.reconciliation.lag").timer().count(),
+                "Expected the detection lag to be recorded");
+    }
+
+    @Test
+    @DisplayName("reconcile - Pagamentos já concluídos não são aplicados novamente")
+    void reconcile_PaymentsAlreadyConcluded_NothingApplied() {
+        // Arrange
+        when(pixService.streamPixCharges(any(Instant.class), any(Instant.class)))
+                .thenAnswer(invocation -> Stream.of(charge("txid-applied", "CONCLUIDA", "2024-01-01T00:20:00.000Z")));
+        when(paymentRepository.findTxIdsByPaymentStatusNot(anyCollection(), anyInt())).thenReturn(List.of());
+
+        // Act
+        int applied = pixReconciliationService.reconcile(start, start.plus(Duration.ofHours(1)));
+
+        // Assert
+        assertEquals(0, applied, "Expected no payment to be applied");
+        verify(paymentService, never()).applyPaidPixCharges(anyCollection());
+    }
+
+    @Test
+    @DisplayName("reconcile - Cobrança paga dentro da janela de tolerância fica para o webhook")
+    void reconcile_ChargePaidWithinGrace_LeftToWebhook() {
+        // Arrange
+        Instant now = Instant.now();
+        when(pixService.streamPixCharges(any(Instant.class), any(Instant.class)))
+                .thenAnswer(invocation -> Stream.of(
+                        charge("txid-recent", "CONCLUIDA", now.minusSeconds(30).toString()),
+                        charge("txid-settled", "CONCLUIDA", now.minus(Duration.ofMinutes(10)).toString())));
+        when(paymentRepository.findTxIdsByPaymentStatusNot(anyCollection(), anyInt())).thenReturn(List.of("txid-settled"));
+
+        // Act
+        pixReconciliationService.reconcile(now.minus(Duration.ofHours(1)), now);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> lookupCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(paymentRepository, times(1)).findTxIdsByPaymentStatusNot(lookupCaptor.capture(), anyInt());
+        assertEquals(Set.of("txid-settled"), Set.copyOf(lookupCaptor.getValue()),
+                "Expected the recently paid charge to be skipped");
+        verify(paymentService, times(1)).applyPaidPixCharges(List.of("txid-settled"));
+    }
+
+    @Test
+    @DisplayName("reconcile - Falha em um pagamento do lote não impede a aplicação dos demais")
+    void reconcile_PaymentFailsInBatch_OtherPaymentsApplied() {
+        // Arrange
+        when(pixService.streamPixCharges(any(Instant.class), any(Instant.class)))
+                .thenAnswer(invocation -> Stream.of(
+                        charge("txid-paid", "CONCLUIDA", "2024-01-01T00:10:00.000Z"),
+                        charge("txid-out-of-stock", "CONCLUIDA", "2024-01-01T00:20:00.000Z")));
+        when(paymentRepository.findTxIdsByPaymentStatusNot(anyCollection(), anyInt()))
+                .thenReturn(List.of("txid-paid", "txid-out-of-stock"));
+        when(paymentService.applyPaidPixCharges(anyCollection())).thenAnswer(invocation -> {
+            if (invocation.getArgument(0, Collection.class).contains("txid-out-of-stock")) {
+                throw new StockException("Insufficient stock");
+            }
+            return Set.of();
+        });
+
+        // Act
+        int applied = pixReconciliationService.reconcile(start, start.plus(Duration.ofHours(1)));
+
+        // Assert
+        verify(paymentService, times(1)).applyPaidPixCharges(List.of("txid-paid"));
+        verify(paymentService, times(1)).applyPaidPixCharges(List.of("txid-out-of-stock"));
+        assertEquals(1, applied, "Expected the healthy payment to be applied");
+        assertEquals(1.0, meterRegistry.get("pix.reconciliation.charges.applied").counter().count(),
+                "Expected only the applied charge to be counted");
+        assertEquals(1.0, meterRegistry.get("pix.reconciliation.charges.failed").counter().count(),
+                "Expected the failed charge to be counted");
+    }
+
+    @Test
+    @DisplayName("reconcile - Falha em um bloco não interrompe os demais")
+    void reconcile_ChunkFailure_OtherChunksStillReconciled() {
+        // Arrange
+        when(pixService.streamPixCharges(eq(start), any(Instant.class)))
+                .thenThrow(new IllegalStateException("PSP unavailable"));
+        when(pixService.streamPixCharges(eq(start.plus(Duration.ofHours(1))), any(Instant.class)))
+                .thenAnswer(invocation -> Stream.of(charge("txid-paid", "CONCLUIDA", "2024-01-01T01:10:00.000Z")));
+        when(paymentRepository.findTxIdsByPaymentStatusNot(anyCollection(), anyInt())).thenReturn(List.of("txid-paid"));
+
+        // Act
+        int applied = pixReconciliationService.reconcile(start, start.plus(Duration.ofHours(2)));
+
+        // Assert
+        assertEquals(1, applied, "Expected the healthy chunk to be reconciled");
+        assertEquals(1.0, meterRegistry.get("pix.reconciliation.chunks.failed").counter().count(),
+                "Expected the failed chunk to be counted");
+    }
+
+    private PixListChargeDto.Cob charge(String txId, String status, String paidAt) {
+
+        PixListChargeDto.Cob charge = new PixListChargeDto.Cob();
+        charge.setTxid(txId);
+        charge.setStatus(status);
+
+        if (paidAt != null) {
+            PixListChargeDto.Pix pix = new PixListChargeDto.Pix();
+            pix.setTxid(txId);
+            pix.setHorario(paidAt);
+            charge.setPix(List.of(pix));
+        }
+
+        return charge;
+    }
+}
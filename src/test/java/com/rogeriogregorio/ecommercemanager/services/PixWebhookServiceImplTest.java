@@ -0,0 +1,237 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rogeriogregorio.ecommercemanager.dto.PixWebhookDto;
+import com.rogeriogregorio.ecommercemanager.entities.PixWebhookEvent;
+import com.rogeriogregorio.ecommercemanager.repositories.PixWebhookEventRepository;
+import com.rogeriogregorio.ecommercemanager.services.impl.PixWebhookServiceImpl;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PixWebhookServiceImplTest {
+
+    @Mock
+    private PixWebhookEventRepository pixWebhookEventRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CatchError catchError;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PixWebhookService pixWebhookService;
+
+    @BeforeEach
+    void setUp() {
+
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        pixWebhookService = new PixWebhookServiceImpl(pixWebhookEventRepository, paymentService,
+                new ObjectMapper(), transactionManager, catchError, meterRegistry);
+
+        when(catchError.run(any(SafeFunction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, SafeFunction.class).execute());
+        doAnswer(invocation -> {
+            invocation.getArgument(0, SafeProcedure.class).execute();
+            return null;
+        }).when(catchError).run(any(SafeProcedure.class));
+    }
+
+    @Test
+    @DisplayName("enqueue - Entregas repetidas e duplicadas no payload não são enfileiradas novamente")
+    void enqueue_RedeliveredEntries_SkipsKnownAndDuplicatedEntries() {
+        // Arrange
+        PixWebhookDto pixWebhook = new PixWebhookDto();
+        pixWebhook.setPix(List.of(
+                pix("E00000000202401011200000000000001", "txid-1"),
+                pix("E00000000202401011200000000000001", "txid-1"),
+                pix("E00000000202401011200000000000002", "txid-2")));
+
+        when(pixWebhookEventRepository.findExistingDedupeKeys(anyCollection()))
+                .thenReturn(List.of("E00000000202401011200000000000001"));
+
+        // Act
+        int enqueued = pixWebhookService.enqueue(pixWebhook);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PixWebhookEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pixWebhookEventRepository, times(1)).findExistingDedupeKeys(anyCollection());
+        verify(pixWebhookEventRepository, times(1)).saveAll(captor.capture());
+        assertEquals(1, enqueued, "Expected only the new entry to be enqueued");
+        assertEquals(1, captor.getValue().size(), "Expected a single event to be saved");
+        assertEquals("txid-2", captor.getValue().get(0).getTxId(), "Expected the txId of the new entry");
+        assertNotNull(captor.getValue().get(0).getPayload(), "Expected the raw payload to be stored");
+        assertNotNull(captor.getValue().get(0).getNextAttemptAt(), "Expected the event to be due immediately");
+        verify(paymentService, never()).applyPaidPixCharges(anyCollection());
+    }
+
+    @Test
+    @DisplayName("enqueue - TxId ainda não indexado neste nó é persistido para consulta no banco")
+    void enqueue_TxIdNotIndexedLocally_StillPersisted() {
+        // Arrange
+        PixWebhookDto pixWebhook = new PixWebhookDto();
+        pixWebhook.setPix(List.of(pix("E00000000202401011200000000000003", "txid-other-node")));
+
+        when(pixWebhookEventRepository.findExistingDedupeKeys(anyCollection())).thenReturn(List.of());
+
+        // Act
+        int enqueued = pixWebhookService.enqueue(pixWebhook);
+
+        // Assert
+        assertEquals(1, enqueued, "Expected the entry to be enqueued");
+        verify(pixWebhookEventRepository, times(1)).saveAll(anyList());
+        verify(paymentService, never()).applyPaidPixCharges(anyCollection());
+    }
+
+    @Test
+    @DisplayName("processPendingEvents - Eventos pendentes são aplicados em lote com uma única consulta")
+    void processPendingEvents_PendingEvents_AppliesBatchInOneCall() {
+        // Arrange
+        List<PixWebhookEvent> pendingEvents = new ArrayList<>(List.of(event(1L, "txid-1"), event(2L, "txid-2")));
+
+        when(pixWebhookEventRepository.findDueIds(eq(0), anyInt(), any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(pixWebhookEventRepository.claim(anyCollection(), anyString(), any(Instant.class), any(Instant.class)))
+                .thenReturn(2);
+        when(pixWebhookEventRepository.findClaimed(anyString())).thenReturn(pendingEvents);
+        when(paymentService.applyPaidPixCharges(anyCollection())).thenReturn(Set.of("txid-2"));
+
+        // Act
+        int processed = pixWebhookService.processPendingEvents(0);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> txIdCaptor = ArgumentCaptor.forClass(Collection.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PixWebhookEvent>> eventCaptor = ArgumentCaptor.forClass(List.class);
+        verify(paymentService, times(1)).applyPaidPixCharges(txIdCaptor.capture());
+        verify(pixWebhookEventRepository, times(1)).saveAll(eventCaptor.capture());
+        assertEquals(2, processed, "Expected both events to be processed");
+        assertEquals(Set.of("txid-1", "txid-2"), Set.copyOf(txIdCaptor.getValue()), "Expected all txIds in one call");
+        assertTrue(eventCaptor.getValue().stream().allMatch(event -> event.getProcessedAt() != null), "Expected the events to be marked processed");
+        assertNull(eventCaptor.getValue().get(0).getLastError(), "Expected no error for the known txId");
+        assertNotNull(eventCaptor.getValue().get(1).getLastError(), "Expected an error for the unknown txId");
+    }
+
+    @Test
+    @DisplayName("processPendingEvents - Eventos reivindicados por outro nó não são processados")
+    void processPendingEvents_ClaimedByAnotherNode_SkipsEvents() {
+        // Arrange
+        when(pixWebhookEventRepository.findDueIds(eq(0), anyInt(), any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(pixWebhookEventRepository.claim(anyCollection(), anyString(), any(Instant.class), any(Instant.class)))
+                .thenReturn(0);
+
+        // Act
+        int processed = pixWebhookService.processPendingEvents(0);
+
+        // Assert
+        assertEquals(0, processed, "Expected no events to be processed");
+        verify(pixWebhookEventRepository, never()).findClaimed(anyString());
+        verify(paymentService, never()).applyPaidPixCharges(anyCollection());
+    }
+
+    @Test
+    @DisplayName("processPendingEvents - Falha reagenda o evento com backoff e libera a reivindicação")
+    void processPendingEvents_ApplyFails_ReschedulesWithBackoff() {
+        // Arrange
+        PixWebhookEvent pendingEvent = event(1L, "txid-1").toBuilder().withClaimToken("claim").build();
+
+        when(pixWebhookEventRepository.findDueIds(eq(0), anyInt(), any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(1L));
+        when(pixWebhookEventRepository.claim(anyCollection(), anyString(), any(Instant.class), any(Instant.class)))
+                .thenReturn(1);
+        when(pixWebhookEventRepository.findClaimed(anyString())).thenReturn(List.of(pendingEvent));
+        when(paymentService.applyPaidPixCharges(anyCollection())).thenThrow(new IllegalStateException("Database unavailable"));
+
+        // Act
+        Instant before = Instant.now();
+        int processed = pixWebhookService.processPendingEvents(0);
+
+        // Assert
+        ArgumentCaptor<PixWebhookEvent> captor = ArgumentCaptor.forClass(PixWebhookEvent.class);
+        verify(pixWebhookEventRepository, times(1)).save(captor.capture());
+        assertEquals(0, processed, "Expected no events to be processed");
+        assertEquals(1, captor.getValue().getAttempts(), "Expected the attempt to be counted");
+        assertTrue(captor.getValue().getNextAttemptAt().isAfter(before), "Expected the retry to be delayed");
+        assertNull(captor.getValue().getClaimToken(), "Expected the claim to be released");
+        assertNull(captor.getValue().getProcessedAt(), "Expected the event to stay pending");
+        assertEquals(0.0, meterRegistry.counter("pix.webhook.events.abandoned").count(), "Expected no abandoned events");
+    }
+
+    @Test
+    @DisplayName("processPendingEvents - Evento que esgota as tentativas é contabilizado como abandonado")
+    void processPendingEvents_LastAttemptFails_CountsAbandonedEvent() {
+        // Arrange
+        PixWebhookEvent pendingEvent = event(1L, "txid-1").toBuilder().withAttempts(4).build();
+
+        when(pixWebhookEventRepository.findDueIds(eq(0), anyInt(), any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(1L));
+        when(pixWebhookEventRepository.claim(anyCollection(), anyString(), any(Instant.class), any(Instant.class)))
+                .thenReturn(1);
+        when(pixWebhookEventRepository.findClaimed(anyString())).thenReturn(List.of(pendingEvent));
+        when(paymentService.applyPaidPixCharges(anyCollection())).thenThrow(new IllegalStateException("Database unavailable"));
+
+        // Act
+        pixWebhookService.processPendingEvents(0);
+
+        // Assert
+        ArgumentCaptor<PixWebhookEvent> captor = ArgumentCaptor.forClass(PixWebhookEvent.class);
+        verify(pixWebhookEventRepository, times(1)).save(captor.capture());
+        assertEquals(5, captor.getValue().getAttempts(), "Expected the last attempt to be counted");
+        assertEquals(1.0, meterRegistry.counter("pix.webhook.events.abandoned").count(), "Expected the abandoned event to be counted");
+    }
+
+    private PixWebhookDto.Pix pix(String endToEndId, String txid) {
+
+        PixWebhookDto.Pix pix = new PixWebhookDto.Pix();
+        pix.setEndToEndId(endToEndId);
+        pix.setTxid(txid);
+        pix.setValor("100.00");
+        return pix;
+    }
+
+    private PixWebhookEvent event(Long id, String txId) {
+
+        return PixWebhookEvent.newBuilder()
+                .withId(id)
+                .withDedupeKey("txid:" + txId)
+                .withTxId(txId)
+                .withWorkerPartition(0)
+                .withReceivedAt(Instant.now())
+                .withAttempts(0)
+                .withNextAttemptAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rogeriogregorio.ecommercemanager.config.ModelMapperConfig;
+import com.rogeriogregorio.ecommercemanager.dto.responses.InventoryItemResponse;
+import com.rogeriogregorio.ecommercemanager.dto.responses.OrderResponse;
+import com.rogeriogregorio.ecommercemanager.entities.*;
+import com.rogeriogregorio.ecommercemanager.entities.enums.OrderStatus;
+import com.rogeriogregorio.ecommercemanager.entities.enums.StockStatus;
+import com.rogeriogregorio.ecommercemanager.entities.enums.UserRole;
+import com.rogeriogregorio.ecommercemanager.services.impl.InventoryItemServiceImpl;
+import com.rogeriogregorio.ecommercemanager.services.impl.OrderServiceImpl;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CompiledDataMapperImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.DataMapperImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.RowCounterImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({InventoryItemServiceImpl.class, OrderServiceImpl.class, DataMapperImpl.class, CompiledDataMapperImpl.class,
+        ModelMapperConfig.class, RowCounterImpl.class, CatchErrorImpl.class, SimpleMeterRegistry.class})
+class ProductCategoriesSerializationTest {
+
+    @Autowired
+    private InventoryItemService inventoryItemService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private StockLedgerService stockLedgerService;
+
+    @MockBean
+    private ProductService productService;
+
+    @MockBean
+    private StockReservationService stockReservationService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private DiscountCouponService discountCouponService;
+
+    @MockBean
+    private DataExporter dataExporter;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new Hibernate6Module())
+            .registerModule(new JavaTimeModule());
+
+    private InventoryItem inventoryItem;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+
+        Category computers = entityManager.persist(new Category(null, "Computers"));
+        Category processors = entityManager.persist(new Category(null, "Processors"));
+
+        Product product = entityManager.persist(Product.newBuilder()
+                .withName("Intel i5-10400F")
+                .withDescription("Processor Intel i5-10400F")
+                .withPrice(BigDecimal.valueOf(579.99))
+                .withImgUrl("https://example.com/product.jpg")
+                .withCategories(new HashSet<>(Set.of(computers, processors)))
+                .withItems(new HashSet<>())
+                .withReviews(new HashSet<>())
+                .build());
+
+        inventoryItem = entityManager.persist(InventoryItem.newBuilder()
+                .withProduct(product)
+                .withQuantityInStock(10)
+                .withQuantitySold(0)
+                .withStockStatus(StockStatus.AVAILABLE)
+                .build());
+
+        User user = entityManager.persist(User.newBuilder()
+                .withName("Admin User")
+                .withEmail("admin@email.com")
+                .withPhone("11912345678")
+                .withCpf("72482581052")
+                .withPassword("Password123$")
+                .withRole(UserRole.ADMIN)
+                .build());
+
+        order = entityManager.persist(Order.newBuilder()
+                .withClient(user)
+                .withMoment(Instant.now())
+                .withOrderStatus(OrderStatus.WAITING_PAYMENT)
+                .withItems(new HashSet<>())
+                .build());
+
+        entityManager.persist(OrderItem.newBuilder()
+                .withOrder(order)
+                .withProduct(product)
+                .withQuantity(1)
+                .withPrice(product.getPrice())
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("findOrderById - Produto dos itens serializado com categorias e avaliações")
+    void findOrderById_ProductOfItem_SerializesCategoriesAndReviews() throws Exception {
+        // Act
+        OrderResponse actualResponse = orderService.findOrderById(order.getId());
+        JsonNode actualProduct = objectMapper.valueToTree(actualResponse).path("items").get(0).path("product");
+
+        // Assert
+        assertEquals(2, actualProduct.path("categories").size(), "Expected both categories in the JSON");
+        assertTrue(actualProduct.path("reviews").isArray(), "Expected the reviews array in the JSON");
+    }
+
+    @Test
+    @DisplayName("findInventoryItemById - Produto do estoque serializado com categorias e avaliações")
+    void findInventoryItemById_Product_SerializesCategoriesAndReviews() throws Exception {
+        // Act
+        InventoryItemResponse actualResponse = inventoryItemService.findInventoryItemById(inventoryItem.getId());
+        JsonNode actualProduct = objectMapper.valueToTree(actualResponse).path("product");
+
+        // Assert
+        assertEquals(2, actualProduct.path("categories").size(), "Expected both categories in the JSON");
+        assertTrue(actualProduct.path("reviews").isArray(), "Expected the reviews array in the JSON");
+    }
+}
@@ -11,6 +11,7 @@ import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,6 +47,9 @@ class ProductDiscountServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private RowCounter rowCounter;
+
     @InjectMocks
     private ProductDiscountServiceImpl productDiscountService;
 
@@ -72,7 +76,7 @@ class ProductDiscountServiceImplTest {
                 Instant.parse("2024-07-26T00:00:00Z"));
 
         MockitoAnnotations.openMocks(this);
-        productDiscountService = new ProductDiscountServiceImpl(productDiscountRepository, catchError, dataMapper);
+        productDiscountService = new ProductDiscountServiceImpl(productDiscountRepository, catchError, dataMapper, rowCounter);
     }
 
     @Test
@@ -16,6 +16,7 @@ import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -55,6 +56,9 @@ class ProductReviewServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private RowCounter rowCounter;
+
     @InjectMocks
     private ProductReviewServiceImpl productReviewService;
 
@@ -132,7 +136,7 @@ class ProductReviewServiceImplTest {
         productReviewResponse = new ProductReviewResponse(product, user, 5, "Very good", Instant.now());
 
         MockitoAnnotations.openMocks(this);
-        productReviewService = new ProductReviewServiceImpl(productReviewRepository, productService, userService, catchError, dataMapper);
+        productReviewService = new ProductReviewServiceImpl(productReviewRepository, productService, userService, catchError, dataMapper, rowCounter);
     }
 
     @Test
@@ -0,0 +1,113 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import com.rogeriogregorio.ecommercemanager.config.ModelMapperConfig;
+import com.rogeriogregorio.ecommercemanager.dto.responses.ProductResponse;
+import com.rogeriogregorio.ecommercemanager.entities.Category;
+import com.rogeriogregorio.ecommercemanager.entities.Product;
+import com.rogeriogregorio.ecommercemanager.services.impl.ProductServiceImpl;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CompiledDataMapperImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.DataMapperImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.RowCounterImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ProductServiceImpl.class, DataMapperImpl.class, CompiledDataMapperImpl.class, ModelMapperConfig.class,
+        RowCounterImpl.class, CatchErrorImpl.class, SimpleMeterRegistry.class})
+class ProductServiceFetchPlanTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private CategoryService categoryService;
+
+    @MockBean
+    private ProductDiscountService productDiscountService;
+
+    @MockBean
+    private DataExporter dataExporter;
+
+    private Statistics statistics;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+
+        Category computers = entityManager.persist(new Category(null, "Computers"));
+        Category processors = entityManager.persist(new Category(null, "Processors"));
+
+        product = entityManager.persist(newProduct("Intel i5-10400F", Set.of(computers, processors)));
+        entityManager.persist(newProduct("Intel i7-10700F", Set.of(processors)));
+        entityManager.persist(newProduct("AMD Ryzen 5 5600X", Set.of(computers)));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findProductById - Produto mapeado com categorias em uma única consulta")
+    void findProductById_ConfiguredMapper_LoadsProductInOneStatement() {
+        // Act
+        ProductResponse actualResponse = productService.findProductById(product.getId());
+
+        // Assert
+        assertEquals(2, actualResponse.getCategories().size(), "Expected both categories in the response");
+        assertEquals(1, statistics.getPrepareStatementCount(), "Expected a single SQL statement");
+    }
+
+    @Test
+    @DisplayName("findAllProducts - Página mapeada sem consultas por produto")
+    void findAllProducts_ConfiguredMapper_DoesNotQueryPerProduct() {
+        // Act
+        Page<ProductResponse> actualPage = productService.findAllProducts(PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(3, actualPage.getNumberOfElements(), "Expected all products");
+        assertTrue(actualPage.stream().allMatch(response -> !response.getCategories().isEmpty()),
+                "Expected the categories of every product in the response");
+        assertEquals(2, statistics.getPrepareStatementCount(), "Expected the page query and one category batch");
+    }
+
+    private Product newProduct(String name, Set<Category> categories) {
+
+        return Product.newBuilder()
+                .withName(name)
+                .withDescription("Processor " + name)
+                .withPrice(BigDecimal.valueOf(579.99))
+                .withImgUrl("https://example.com/product.jpg")
+                .withCategories(new HashSet<>(categories))
+                .withItems(new HashSet<>())
+                .withReviews(new HashSet<>())
+                .build();
+    }
+}
@@ -12,7 +12,9 @@ import com.rogeriogregorio.ecommercemanager.services.impl.ProductServiceImpl;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -51,6 +53,12 @@ class ProductServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private DataExporter dataExporter;
+
+    @Mock
+    private RowCounter rowCounter;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -91,7 +99,7 @@ class ProductServiceImplTest {
 
         MockitoAnnotations.openMocks(this);
         productService = new ProductServiceImpl(productRepository, categoryService,
-                productDiscountService, catchError, dataMapper);
+                productDiscountService, catchError, dataMapper, dataExporter, rowCounter);
     }
 
     @Test
@@ -180,8 +188,8 @@ class ProductServiceImplTest {
         ProductResponse expectedResponse = productResponse;
 
         when(dataMapper.map(product, ProductResponse.class)).thenReturn(expectedResponse);
-        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
-        when(catchError.run(any(SafeFunction.class))).thenAnswer(invocation -> productRepository.findById(product.getId()));
+        when(productRepository.findWithCategoriesById(product.getId())).thenReturn(Optional.of(product));
+        when(catchError.run(any(SafeFunction.class))).thenAnswer(invocation -> productRepository.findWithCategoriesById(product.getId()));
 
         // Act
         ProductResponse actualResponse = productService.findProductById(product.getId());
@@ -191,7 +199,7 @@ class ProductServiceImplTest {
         assertEquals(expectedResponse.getId(), actualResponse.getId(), "IDs should match");
         assertEquals(expectedResponse, actualResponse, "Expected and actual responses should be equal");
         verify(dataMapper, times(1)).map(product, ProductResponse.class);
-        verify(productRepository, times(1)).findById(product.getId());
+        verify(productRepository, times(1)).findWithCategoriesById(product.getId());
         verify(catchError, times(1)).run(any(SafeFunction.class));
     }
 
@@ -199,13 +207,13 @@ class ProductServiceImplTest {
     @DisplayName("findProductById - Exceção ao tentar buscar produto inexistente")
     void findProductById_NotFoundExceptionHandling() {
         // Arrange
-        when(productRepository.findById(product.getId())).thenReturn(Optional.empty());
-        when(catchError.run(any(SafeFunction.class))).thenAnswer(invocation -> productRepository.findById(product.getId()));
+        when(productRepository.findWithCategoriesById(product.getId())).thenReturn(Optional.empty());
+        when(catchError.run(any(SafeFunction.class))).thenAnswer(invocation -> productRepository.findWithCategoriesById(product.getId()));
 
         // Act and Assert
         assertThrows(NotFoundException.class, () -> productService.findProductById(product.getId()),
                 "Expected NotFoundException to be thrown");
-        verify(productRepository, times(1)).findById(product.getId());
+        verify(productRepository, times(1)).findWithCategoriesById(product.getId());
         verify(catchError, times(1)).run(any(SafeFunction.class));
     }
 
@@ -213,13 +221,13 @@ class ProductServiceImplTest {
     @DisplayName("findProductById - Exceção no repositório ao tentar buscar produto inexistente")
     void findProductById_RepositoryExceptionHandling() {
         // Arrange
-        when(productRepository.findById(product.getId())).thenThrow(RepositoryException.class);
-        when(catchError.run(any(SafeFunction.class))).thenAnswer(invocation -> productRepository.findById(product.getId()));
+        when(productRepository.findWithCategoriesById(product.getId())).thenThrow(RepositoryException.class);
+        when(catchError.run(any(SafeFunction.class))).thenAnswer(invocation -> productRepository.findWithCategoriesById(product.getId()));
 
         // Act and Assert
         assertThrows(RepositoryException.class, () -> productService.findProductById(product.getId()),
                 "Expected RepositoryException to be thrown");
-        verify(productRepository, times(1)).findById(product.getId());
+        verify(productRepository, times(1)).findWithCategoriesById(product.getId());
         verify(catchError, times(1)).run(any(SafeFunction.class));
     }
 
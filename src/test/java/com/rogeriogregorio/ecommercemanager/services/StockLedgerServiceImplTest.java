@@ -0,0 +1,236 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import com.rogeriogregorio.ecommercemanager.dto.responses.StockLedgerMismatchResponse;
+import com.rogeriogregorio.ecommercemanager.entities.InventoryItem;
+import com.rogeriogregorio.ecommercemanager.entities.Order;
+import com.rogeriogregorio.ecommercemanager.entities.OrderItem;
+import com.rogeriogregorio.ecommercemanager.entities.Product;
+import com.rogeriogregorio.ecommercemanager.entities.StockMovement;
+import com.rogeriogregorio.ecommercemanager.entities.enums.MovementType;
+import com.rogeriogregorio.ecommercemanager.entities.enums.OrderStatus;
+import com.rogeriogregorio.ecommercemanager.entities.enums.StockStatus;
+import com.rogeriogregorio.ecommercemanager.repositories.InventoryItemRepository;
+import com.rogeriogregorio.ecommercemanager.repositories.OrderRepository;
+import com.rogeriogregorio.ecommercemanager.repositories.StockMovementRepository;
+import com.rogeriogregorio.ecommercemanager.services.impl.StockLedgerServiceImpl;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StockLedgerServiceImplTest {
+
+    @Mock
+    private StockMovementRepository stockMovementRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CatchError catchError;
+
+    private StockLedgerService stockLedgerService;
+    private InventoryItem inventoryItem;
+
+    @BeforeEach
+    void setUp() {
+
+        Product product = Product.newBuilder()
+                .withId(1L)
+                .withName("Intel i5-10400F")
+                .withDescription("Intel Core Processor")
+                .withPrice(BigDecimal.valueOf(579.99))
+                .withImgUrl("https://example.com/i5-10400F.jpg")
+                .build();
+
+        inventoryItem = InventoryItem.newBuilder()
+                .withId(1L)
+                .withProduct(product)
+                .withQuantityInStock(8)
+                .withQuantitySold(2)
+                .withStockStatus(StockStatus.AVAILABLE)
+                .build();
+
+        MockitoAnnotations.openMocks(this);
+        stockLedgerService = new StockLedgerServiceImpl(stockMovementRepository, orderRepository,
+                inventoryItemRepository, transactionManager, catchError);
+
+        when(catchError.run(any(SafeFunction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, SafeFunction.class).execute());
+        when(stockMovementRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(inventoryItemRepository.findWithoutStockMovements()).thenReturn(List.of());
+        when(orderRepository.findPaidOrdersWithoutStockMovements(anyCollection(), any(Instant.class), any(Instant.class))).thenReturn(List.of());
+        when(stockMovementRepository.findBalanceMismatches(anyInt())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(stockLedgerService, "stop");
+    }
+
+    @Test
+    @DisplayName("record - Movimentações registradas são gravadas em lote pela thread de escrita")
+    void record_QueuedMovements_WrittenInOneBatch() {
+        // Arrange
+        List<StockMovement> stockMovementList = List.of(buildMovement(MovementType.EXIT, 1), buildMovement(MovementType.EXIT, 2));
+        ReflectionTestUtils.invokeMethod(stockLedgerService, "start");
+
+        // Act
+        stockLedgerService.record(stockMovementList);
+
+        // Assert
+        verify(stockMovementRepository, timeout(1000).times(1)).saveAll(stockMovementList);
+    }
+
+    @Test
+    @DisplayName("record - Lote que falha na gravação é repetido até ser gravado")
+    void record_BatchWriteFails_RetriesBatch() {
+        // Arrange
+        List<StockMovement> stockMovementList = List.of(buildMovement(MovementType.EXIT, 1), buildMovement(MovementType.EXIT, 2));
+        ReflectionTestUtils.invokeMethod(stockLedgerService, "start");
+        clearInvocations(stockMovementRepository);
+        doThrow(new IllegalStateException("Database unavailable"))
+                .doAnswer(invocation -> invocation.getArgument(0))
+                .when(stockMovementRepository).saveAll(anyList());
+
+        // Act
+        stockLedgerService.record(stockMovementList);
+
+        // Assert
+        ArgumentCaptor<List<StockMovement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockMovementRepository, timeout(2000).times(2)).saveAll(captor.capture());
+        List<StockMovement> retriedMovements = captor.getAllValues().get(1);
+        assertEquals(2, retriedMovements.size(), "Expected the whole batch to be retried");
+        assertNull(retriedMovements.get(0).getId(), "Expected the retried movements to be written as new rows");
+    }
+
+    @Test
+    @DisplayName("rebuildMissingStockMovements - Pedidos pagos sem movimentação geram saídas e itens sem movimentação geram entradas")
+    void rebuildMissingStockMovements_MissingRows_RebuildsEntrancesAndExits() {
+        // Arrange
+        Order order = Order.newBuilder()
+                .withId(7L)
+                .withMoment(Instant.now())
+                .withOrderStatus(OrderStatus.PAID)
+                .withItems(new HashSet<>())
+                .build();
+        order.getItems().add(OrderItem.newBuilder()
+                .withOrder(order)
+                .withProduct(inventoryItem.getProduct())
+                .withQuantity(2)
+                .withPrice(inventoryItem.getProduct().getPrice())
+                .build());
+
+        when(inventoryItemRepository.findWithoutStockMovements()).thenReturn(List.of(inventoryItem));
+        when(orderRepository.findPaidOrdersWithoutStockMovements(anyCollection(), any(Instant.class), any(Instant.class))).thenReturn(List.of(order));
+        when(inventoryItemRepository.findByProductIdIn(anyCollection())).thenReturn(List.of(inventoryItem));
+
+        // Act
+        int rebuilt = stockLedgerService.rebuildMissingStockMovements();
+
+        // Assert
+        ArgumentCaptor<List<StockMovement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockMovementRepository, times(1)).saveAll(captor.capture());
+        List<StockMovement> savedMovements = captor.getValue();
+
+        assertEquals(2, rebuilt, "Expected one entrance and one exit");
+        assertEquals(MovementType.ENTRANCE, savedMovements.get(0).getMovementType(), "Expected the entrance first");
+        assertEquals(10, savedMovements.get(0).getQuantityMoved(), "Expected stock plus sold quantity");
+        assertEquals(MovementType.EXIT, savedMovements.get(1).getMovementType(), "Expected the order exit");
+        assertEquals(2, savedMovements.get(1).getQuantityMoved(), "Expected the ordered quantity");
+        assertEquals(order.getId(), savedMovements.get(1).getOrderId(), "Expected the exit to reference the order");
+    }
+
+    @Test
+    @DisplayName("rebuildMissingStockMovements - Saídas legadas sem pedido limitam a janela de recuperação")
+    void rebuildMissingStockMovements_LegacyExits_RecoversOnlyAfterLatestUnlinkedExit() {
+        // Arrange
+        Instant latestUnlinkedExit = Instant.now().minus(Duration.ofHours(2));
+        when(stockMovementRepository.findLatestUnlinkedExitMoment(MovementType.EXIT.getCode())).thenReturn(latestUnlinkedExit);
+
+        // Act
+        stockLedgerService.rebuildMissingStockMovements();
+
+        // Assert
+        ArgumentCaptor<Instant> sinceCaptor = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> untilCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(orderRepository).findPaidOrdersWithoutStockMovements(anyCollection(), sinceCaptor.capture(), untilCaptor.capture());
+
+        assertEquals(latestUnlinkedExit, sinceCaptor.getValue(), "Expected orders covered by legacy exits to be skipped");
+        assertTrue(untilCaptor.getValue().isBefore(Instant.now().minus(Duration.ofMinutes(4))),
+                "Expected recently paid orders to be left to the writer queues");
+    }
+
+    @Test
+    @DisplayName("rebuildMissingStockMovements - Saldo do razão diferente do estoque não gera movimentação")
+    void rebuildMissingStockMovements_BalanceMismatch_WritesNoAdjustment() {
+        // Arrange
+        List<Object[]> mismatches = List.<Object[]>of(new Object[]{inventoryItem, 11L});
+        when(stockMovementRepository.findBalanceMismatches(MovementType.ENTRANCE.getCode())).thenReturn(mismatches);
+
+        // Act
+        int rebuilt = stockLedgerService.rebuildMissingStockMovements();
+
+        // Assert
+        assertEquals(0, rebuilt, "Expected no adjustment to be written");
+        verify(stockMovementRepository, never()).findBalanceMismatches(anyInt());
+    }
+
+    @Test
+    @DisplayName("findBalanceMismatches - Saldo do razão diferente do estoque é apenas reportado")
+    void findBalanceMismatches_BalanceMismatch_ReportsDifference() {
+        // Arrange
+        List<Object[]> mismatches = List.<Object[]>of(new Object[]{inventoryItem, 11L});
+        when(stockMovementRepository.findBalanceMismatches(MovementType.ENTRANCE.getCode())).thenReturn(mismatches);
+
+        // Act
+        List<StockLedgerMismatchResponse> actualMismatches = stockLedgerService.findBalanceMismatches();
+
+        // Assert
+        assertEquals(1, actualMismatches.size(), "Expected the mismatch to be reported");
+        assertEquals(inventoryItem.getId(), actualMismatches.get(0).getInventoryItemId(), "Expected the inventory item");
+        assertEquals(-3L, actualMismatches.get(0).getDifference(), "Expected the ledger surplus");
+        verify(stockMovementRepository, never()).saveAll(anyList());
+    }
+
+    private StockMovement buildMovement(MovementType movementType, int quantity) {
+
+        return StockMovement.newBuilder()
+                .withMoment(Instant.now())
+                .withInventoryItem(inventoryItem)
+                .withMovementType(movementType)
+                .withQuantityMoved(quantity)
+                .build();
+    }
+}
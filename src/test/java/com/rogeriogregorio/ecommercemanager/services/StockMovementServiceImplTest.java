@@ -12,11 +12,14 @@ import com.rogeriogregorio.ecommercemanager.services.impl.StockMovementServiceIm
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
+import com.rogeriogregorio.ecommercemanager.utils.DataExporter;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -29,6 +32,7 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -52,6 +56,15 @@ class StockMovementServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private DataExporter dataExporter;
+
+    @Mock
+    private RowCounter rowCounter;
+
+    @Mock
+    private StockLedgerService stockLedgerService;
+
     @InjectMocks
     private StockMovementServiceImpl stockMovementService;
 
@@ -102,7 +115,7 @@ class StockMovementServiceImplTest {
         stockMovementResponse = new StockMovementResponse(1L, Instant.now(), inventoryItem, MovementType.ENTRANCE, 10);
 
         MockitoAnnotations.openMocks(this);
-        stockMovementService = new StockMovementServiceImpl(stockMovementRepository, inventoryItemService, catchError, dataMapper);
+        stockMovementService = new StockMovementServiceImpl(stockMovementRepository, inventoryItemService, catchError, dataMapper, dataExporter, rowCounter, stockLedgerService);
     }
 
     @Test
@@ -353,4 +366,35 @@ class StockMovementServiceImplTest {
         verify(catchError, times(1)).run(any(SafeFunction.class));
         verify(catchError, times(1)).run(any(SafeProcedure.class));
     }
+
+    @Test
+    @DisplayName("updateStockMovementExit - Saídas do pedido são enviadas ao registro assíncrono do estoque")
+    void updateStockMovementExit_PaidOrder_RecordsExitsInLedger() {
+        // Arrange
+        Order order = Order.newBuilder()
+                .withId(1L)
+                .withMoment(Instant.now())
+                .withItems(new HashSet<>())
+                .build();
+        order.getItems().add(OrderItem.newBuilder()
+                .withOrder(order)
+                .withProduct(inventoryItem.getProduct())
+                .withQuantity(2)
+                .withPrice(inventoryItem.getProduct().getPrice())
+                .build());
+
+        when(inventoryItemService.findInventoryItemByProduct(inventoryItem.getProduct())).thenReturn(inventoryItem);
+
+        // Act
+        stockMovementService.updateStockMovementExit(order);
+
+        // Assert
+        ArgumentCaptor<List<StockMovement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockLedgerService, times(1)).record(captor.capture());
+        StockMovement exit = captor.getValue().get(0);
+        assertEquals(MovementType.EXIT, exit.getMovementType(), "Expected an exit movement");
+        assertEquals(2, exit.getQuantityMoved(), "Expected the ordered quantity");
+        assertEquals(order.getId(), exit.getOrderId(), "Expected the movement to reference the order");
+        verify(stockMovementRepository, never()).saveAll(anyList());
+    }
 }
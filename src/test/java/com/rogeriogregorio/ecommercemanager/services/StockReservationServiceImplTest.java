@@ -0,0 +1,163 @@
+package com.rogeriogregorio.ecommercemanager.services;
+
+import com.rogeriogregorio.ecommercemanager.entities.InventoryItem;
+import com.rogeriogregorio.ecommercemanager.entities.Order;
+import com.rogeriogregorio.ecommercemanager.entities.OrderItem;
+import com.rogeriogregorio.ecommercemanager.entities.Product;
+import com.rogeriogregorio.ecommercemanager.entities.enums.StockStatus;
+import com.rogeriogregorio.ecommercemanager.exceptions.StockException;
+import com.rogeriogregorio.ecommercemanager.payment.CredentialService;
+import com.rogeriogregorio.ecommercemanager.repositories.InventoryItemRepository;
+import com.rogeriogregorio.ecommercemanager.repositories.StockReservationRepository;
+import com.rogeriogregorio.ecommercemanager.services.impl.StockReservationServiceImpl;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError;
+import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StockReservationServiceImplTest {
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Mock
+    private CredentialService credentials;
+
+    @Mock
+    private CatchError catchError;
+
+    private StockReservationService stockReservationService;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+
+        product = Product.newBuilder()
+                .withId(1L)
+                .withName("Intel i5-10400F")
+                .withDescription("Intel Core Processor")
+                .withPrice(BigDecimal.valueOf(579.99))
+                .withImgUrl("https://example.com/i5-10400F.jpg")
+                .build();
+
+        InventoryItem inventoryItem = InventoryItem.newBuilder()
+                .withId(1L)
+                .withProduct(product)
+                .withQuantityInStock(10)
+                .withQuantitySold(0)
+                .withStockStatus(StockStatus.AVAILABLE)
+                .build();
+
+        MockitoAnnotations.openMocks(this);
+        stockReservationService = new StockReservationServiceImpl(
+                stockReservationRepository, inventoryItemRepository, credentials, catchError);
+
+        when(credentials.getChargeExpiration()).thenReturn(3600);
+        when(inventoryItemRepository.findByProductIdIn(anyCollection())).thenReturn(List.of(inventoryItem));
+        when(catchError.run(any(SafeFunction.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, SafeFunction.class).execute());
+    }
+
+    @Test
+    @DisplayName("reserveStock - Reserva bem-sucedida bloqueia a quantidade para outros pedidos")
+    void reserveStock_SufficientStock_HoldsQuantityForOtherOrders() {
+        // Arrange
+        Order order = buildOrder(1L, 4);
+        Order otherOrder = buildOrder(2L, 1);
+
+        // Act
+        stockReservationService.reserveStock(order);
+
+        // Assert
+        assertEquals(4, stockReservationService.getQuantityReservedByOthers(product, otherOrder),
+                "Expected the hold to be visible to other orders");
+        assertEquals(0, stockReservationService.getQuantityReservedByOthers(product, order),
+                "Expected the order not to compete with its own hold");
+        verify(stockReservationRepository, times(1)).deleteByOrderId(1L);
+        verify(stockReservationRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("reserveStock - Exceção ao tentar reservar quantidade já reservada por outro pedido")
+    void reserveStock_StockHeldByOtherOrder_StockExceptionHandling() {
+        // Arrange
+        stockReservationService.reserveStock(buildOrder(1L, 8));
+        Order order = buildOrder(2L, 3);
+
+        // Act and Assert
+        assertThrows(StockException.class, () -> stockReservationService.reserveStock(order),
+                "Expected StockException to be thrown");
+        assertEquals(8, stockReservationService.getQuantityReservedByOthers(product, order),
+                "Expected only the first hold to remain");
+    }
+
+    @Test
+    @DisplayName("reserveStock - Nova reserva do mesmo pedido substitui a anterior")
+    void reserveStock_SameOrder_ReplacesPreviousHold() {
+        // Arrange
+        stockReservationService.reserveStock(buildOrder(1L, 8));
+
+        // Act
+        stockReservationService.reserveStock(buildOrder(1L, 10));
+
+        // Assert
+        assertEquals(10, stockReservationService.getQuantityReservedByOthers(product, buildOrder(2L, 1)),
+                "Expected the new hold to replace the previous one");
+    }
+
+    @Test
+    @DisplayName("confirmReservation - Confirmação libera a reserva do pedido")
+    void confirmReservation_ReservedOrder_ReleasesHold() {
+        // Arrange
+        Order order = buildOrder(1L, 4);
+        stockReservationService.reserveStock(order);
+
+        // Act
+        stockReservationService.confirmReservation(order);
+
+        // Assert
+        assertEquals(0, stockReservationService.getQuantityReservedByOthers(product, buildOrder(2L, 1)),
+                "Expected the hold to be released");
+        verify(stockReservationRepository, times(2)).deleteByOrderId(1L);
+    }
+
+    private Order buildOrder(Long id, int quantity) {
+
+        Set<OrderItem> items = new HashSet<>();
+        Order order = Order.newBuilder()
+                .withId(id)
+                .withItems(items)
+                .build();
+
+        items.add(OrderItem.newBuilder()
+                .withOrder(order)
+                .withProduct(product)
+                .withQuantity(quantity)
+                .withPrice(product.getPrice())
+                .build());
+
+        return order;
+    }
+}
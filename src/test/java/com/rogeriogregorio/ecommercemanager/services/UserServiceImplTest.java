@@ -9,12 +9,15 @@ import com.rogeriogregorio.ecommercemanager.exceptions.NotFoundException;
 import com.rogeriogregorio.ecommercemanager.exceptions.RepositoryException;
 import com.rogeriogregorio.ecommercemanager.mail.MailService;
 import com.rogeriogregorio.ecommercemanager.repositories.UserRepository;
+import com.rogeriogregorio.ecommercemanager.security.PrincipalCache;
+import com.rogeriogregorio.ecommercemanager.security.SecurityVersionRegistry;
 import com.rogeriogregorio.ecommercemanager.services.impl.UserServiceImpl;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeFunction;
 import com.rogeriogregorio.ecommercemanager.utils.CatchError.SafeProcedure;
 import com.rogeriogregorio.ecommercemanager.utils.DataMapper;
 import com.rogeriogregorio.ecommercemanager.utils.PasswordHelper;
+import com.rogeriogregorio.ecommercemanager.utils.RowCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -55,6 +58,15 @@ class UserServiceImplTest {
     @Mock
     private DataMapper dataMapper;
 
+    @Mock
+    private RowCounter rowCounter;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private SecurityVersionRegistry securityVersionRegistry;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -94,7 +106,8 @@ class UserServiceImplTest {
                 "72482581052", address, UserRole.ADMIN);
 
         MockitoAnnotations.openMocks(this);
-        userService = new UserServiceImpl(userRepository, mailService, passwordHelper, catchError, dataMapper);
+        userService = new UserServiceImpl(userRepository, mailService, passwordHelper, catchError, dataMapper,
+                rowCounter, principalCache, securityVersionRegistry);
     }
 
     @Test
@@ -262,6 +275,8 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).save(user);
         verify(dataMapper, times(1)).map(eq(user), eq(UserResponse.class));
         verify(catchError, times(2)).run(any(SafeFunction.class));
+        verify(principalCache, atLeastOnce()).invalidate(user.getEmail());
+        verify(securityVersionRegistry, times(1)).bump(user.getId());
     }
 
     @Test
@@ -321,6 +336,8 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).delete(user);
         verify(catchError, times(1)).run(any(SafeFunction.class));
         verify(catchError, times(1)).run(any(SafeProcedure.class));
+        verify(principalCache, times(1)).invalidate(user.getEmail());
+        verify(securityVersionRegistry, times(1)).bump(user.getId());
     }
 
     @Test
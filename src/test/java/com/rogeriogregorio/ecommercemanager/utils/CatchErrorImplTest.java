@@ -0,0 +1,156 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import com.rogeriogregorio.ecommercemanager.exceptions.OverloadException;
+import com.rogeriogregorio.ecommercemanager.exceptions.RepositoryException;
+import com.rogeriogregorio.ecommercemanager.exceptions.TooManyRequestsException;
+import com.rogeriogregorio.ecommercemanager.exceptions.UnexpectedException;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatchErrorImplTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CatchError catchError;
+
+    @BeforeEach
+    void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        catchError = new CatchErrorImpl(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("run - Sobrecarga é relançada sem tradução e preserva o Retry-After")
+    void run_OverloadException_RethrownWithRetryAfter() {
+        // Arrange
+        OverloadException overload = new OverloadException("Password hashing is at capacity", Duration.ofSeconds(7));
+
+        // Act
+        OverloadException thrown = assertThrows(OverloadException.class,
+                () -> catchError.run(() -> { throw overload; }), "Expected OverloadException to be thrown");
+
+        // Assert
+        assertSame(overload, thrown, "Expected the original exception to be rethrown");
+        assertEquals(Duration.ofSeconds(7), thrown.getRetryAfter(), "Expected the Retry-After to be preserved");
+    }
+
+    @Test
+    @DisplayName("run - Limite de tentativas é relançado sem tradução e preserva o Retry-After")
+    void run_TooManyRequestsException_RethrownWithRetryAfter() {
+        // Arrange
+        TooManyRequestsException throttled = new TooManyRequestsException("Too many login attempts", Duration.ofSeconds(42));
+
+        // Act
+        TooManyRequestsException thrown = assertThrows(TooManyRequestsException.class,
+                () -> catchError.run(() -> { throw throttled; }), "Expected TooManyRequestsException to be thrown");
+
+        // Assert
+        assertSame(throttled, thrown, "Expected the original exception to be rethrown");
+        assertEquals(Duration.ofSeconds(42), thrown.getRetryAfter(), "Expected the Retry-After to be preserved");
+    }
+
+    @Test
+    @DisplayName("run - Exceção de acesso a dados é traduzida para RepositoryException")
+    void run_DataAccessException_TranslatedToRepositoryException() {
+        // Arrange
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("Unique index violated");
+
+        // Act
+        RepositoryException thrown = assertThrows(RepositoryException.class,
+                () -> catchError.run(() -> { throw violation; }), "Expected RepositoryException to be thrown");
+
+        // Assert
+        assertSame(violation, thrown.getCause(), "Expected the original exception as the cause");
+        assertTrue(thrown.getMessage().contains("Unique index violated"), "Expected the original message to be kept");
+    }
+
+    @Test
+    @DisplayName("run - Exceção sem mapeamento é traduzida para UnexpectedException")
+    void run_UnmappedException_TranslatedToUnexpectedException() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("Unexpected state");
+
+        // Act
+        UnexpectedException thrown = assertThrows(UnexpectedException.class,
+                () -> catchError.run(() -> { throw failure; }), "Expected UnexpectedException to be thrown");
+
+        // Assert
+        assertSame(failure, thrown.getCause(), "Expected the original exception as the cause");
+    }
+
+    @Test
+    @DisplayName("run - Contador é registrado com o tipo da exceção original como tag")
+    void run_Exceptions_CountedByOriginalExceptionType() {
+        // Act
+        runFailing(new IllegalStateException("First failure"));
+        runFailing(new IllegalStateException("Second failure"));
+        assertThrows(OverloadException.class,
+                () -> catchError.run(() -> { throw new OverloadException("At capacity", Duration.ofSeconds(1)); }));
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("catch_error.exceptions")
+                .tag("exception", IllegalStateException.class.getName())
+                .counter().count(), "Expected both translated exceptions to be counted");
+        assertEquals(1.0, meterRegistry.get("catch_error.exceptions")
+                .tag("exception", OverloadException.class.getName())
+                .counter().count(), "Expected the passthrough exception to be counted");
+    }
+
+    @Test
+    @DisplayName("run - Erros repetidos na mesma janela têm o log suprimido")
+    void run_RepeatedErrorWithinWindow_LogSuppressed() {
+        // Act
+        runFailing(new IllegalStateException("Database unavailable"));
+        runFailing(new IllegalStateException("Database unavailable"));
+        runFailing(new IllegalStateException("Database unavailable"));
+
+        // Assert
+        Object logWindow = singleLogWindow();
+        assertEquals(2L, ((AtomicLong) ReflectionTestUtils.getField(logWindow, "suppressed")).get(),
+                "Expected the repeated errors to be suppressed");
+    }
+
+    @Test
+    @DisplayName("run - Erro após o fim da janela volta a ser registrado e zera os suprimidos")
+    void run_ErrorAfterWindow_LogReopened() {
+        // Arrange
+        runFailing(new IllegalStateException("Database unavailable"));
+        runFailing(new IllegalStateException("Database unavailable"));
+
+        Object logWindow = singleLogWindow();
+        AtomicLong openedAt = (AtomicLong) ReflectionTestUtils.getField(logWindow, "openedAt");
+        openedAt.addAndGet(-TimeUnit.SECONDS.toNanos(10));
+
+        // Act
+        runFailing(new IllegalStateException("Database unavailable"));
+
+        // Assert
+        assertEquals(0L, ((AtomicLong) ReflectionTestUtils.getField(logWindow, "suppressed")).get(),
+                "Expected the suppressed count to be reported and reset");
+    }
+
+    private void runFailing(Exception failure) {
+
+        assertThrows(UnexpectedException.class, () -> catchError.run(() -> { throw failure; }));
+    }
+
+    private Object singleLogWindow() {
+
+        Map<?, ?> logWindows = (Map<?, ?>) ReflectionTestUtils.getField(catchError, "logWindows");
+        assertNotNull(logWindows, "Expected the log windows to be tracked");
+        assertEquals(1, logWindows.size(), "Expected a single window for the same error and caller");
+        return logWindows.values().iterator().next();
+    }
+}
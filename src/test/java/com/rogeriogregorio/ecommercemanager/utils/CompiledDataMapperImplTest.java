@@ -0,0 +1,123 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import com.rogeriogregorio.ecommercemanager.dto.PixChargeDto;
+import com.rogeriogregorio.ecommercemanager.dto.requests.ProductRequest;
+import com.rogeriogregorio.ecommercemanager.dto.responses.ProductResponse;
+import com.rogeriogregorio.ecommercemanager.entities.Category;
+import com.rogeriogregorio.ecommercemanager.entities.Product;
+import com.rogeriogregorio.ecommercemanager.exceptions.DataMapperException;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CompiledDataMapperImpl;
+import org.hibernate.collection.spi.PersistentSet;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledDataMapperImplTest {
+
+    private DataMapper dataMapper;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+
+        dataMapper = new CompiledDataMapperImpl();
+
+        Set<Category> categories = new HashSet<>();
+        categories.add(new Category(1L, "Computers"));
+
+        product = Product.newBuilder()
+                .withId(1L)
+                .withName("Intel i5-10400F")
+                .withDescription("Intel Core Processor")
+                .withPrice(BigDecimal.valueOf(579.99))
+                .withImgUrl("https://example.com/i5-10400F.jpg")
+                .withCategories(categories)
+                .withItems(new HashSet<>())
+                .withReviews(new HashSet<>())
+                .build();
+    }
+
+    @Test
+    @DisplayName("map - Mapeamento de entidade para resposta copia propriedades e coleções")
+    void map_EntityToResponse_CopiesPropertiesAndCollections() {
+        // Act
+        ProductResponse actualResponse = dataMapper.map(product, ProductResponse.class);
+
+        // Assert
+        assertEquals(product.getId(), actualResponse.getId(), "IDs should match");
+        assertEquals(product.getName(), actualResponse.getName(), "Names should match");
+        assertEquals(product.getPrice(), actualResponse.getPrice(), "Prices should match");
+        assertEquals(product.getCategories(), actualResponse.getCategories(), "Categories should match");
+        assertNotSame(product.getCategories(), actualResponse.getCategories(), "Collections should be copied");
+    }
+
+    @Test
+    @DisplayName("map - Coleção lazy não inicializada é ignorada em vez de carregada")
+    void map_UninitializedLazyCollection_IsSkipped() {
+        // Arrange
+        product.setCategories(new PersistentSet<>());
+
+        // Act
+        ProductResponse actualResponse = dataMapper.map(product, ProductResponse.class);
+
+        // Assert
+        assertEquals(product.getName(), actualResponse.getName(), "Names should match");
+        assertTrue(actualResponse.getCategories().isEmpty(), "The uninitialized collection should not be copied");
+    }
+
+    @Test
+    @DisplayName("map - Mapeamento de requisição para entidade existente preserva propriedades ausentes")
+    void map_RequestToExistingEntity_KeepsUnmatchedProperties() {
+        // Arrange
+        ProductRequest productRequest = new ProductRequest("Intel i7-10700F",
+                "Intel Core Processor", BigDecimal.valueOf(899.99),
+                "https://example.com/i7-10700F.jpg", null, List.of(1L));
+
+        // Act
+        Product actualProduct = dataMapper.map(productRequest, product);
+
+        // Assert
+        assertSame(product, actualProduct, "The target instance should be returned");
+        assertEquals(1L, actualProduct.getId(), "The ID should be preserved");
+        assertEquals("Intel i7-10700F", actualProduct.getName(), "The name should be updated");
+        assertEquals(BigDecimal.valueOf(899.99), actualProduct.getPrice(), "The price should be updated");
+    }
+
+    @Test
+    @DisplayName("fromJson - Mapeamento de JSON aninhado para DTO de cobrança Pix")
+    void fromJson_NestedJson_ReturnsPixCharge() {
+        // Arrange
+        JSONObject json = new JSONObject()
+                .put("txid", "7978c0c97ea847e78e8849634473c1f1")
+                .put("revisao", 0)
+                .put("loc", new JSONObject().put("id", 789).put("location", "pix.example.com/qr/v2/9d36"))
+                .put("valor", new JSONObject().put("original", "123.45"))
+                .put("infoAdicionais", List.of(new JSONObject().put("nome", "ID do Pedido").put("valor", "1")));
+
+        // Act
+        PixChargeDto actualCharge = dataMapper.fromJson(json, PixChargeDto.class);
+
+        // Assert
+        assertEquals("7978c0c97ea847e78e8849634473c1f1", actualCharge.getTxid(), "TxIds should match");
+        assertEquals(789, actualCharge.getLoc().getId(), "Loc IDs should match");
+        assertEquals("123.45", actualCharge.getValor().getOriginal(), "Values should match");
+        assertEquals(1, actualCharge.getInfoAdicionais().size(), "Expected one additional info");
+        assertEquals("ID do Pedido", actualCharge.getInfoAdicionais().get(0).getNome(), "Names should match");
+    }
+
+    @Test
+    @DisplayName("map - Exceção ao tentar mapear origem nula")
+    void map_NullSource_DataMapperExceptionHandling() {
+        // Act and Assert
+        assertThrows(DataMapperException.class, () -> dataMapper.map(null, ProductResponse.class),
+                "Expected DataMapperException to be thrown");
+    }
+}
@@ -0,0 +1,69 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rogeriogregorio.ecommercemanager.entities.Category;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.DataExporterImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class DataExporterImplTest {
+
+    private EntityManager entityManager;
+    private DataExporter dataExporter;
+
+    @BeforeEach
+    void setUp() {
+
+        entityManager = mock(EntityManager.class);
+        dataExporter = new DataExporterImpl(new ObjectMapper(), entityManager,
+                new CatchErrorImpl(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("export - Exportação NDJSON escreve um objeto por linha e desanexa as entidades")
+    void export_Ndjson_WritesOneObjectPerLineAndDetachesEntities() {
+        // Arrange
+        Category computers = new Category(1L, "Computers");
+        Category processors = new Category(2L, "Processors");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        when(entityManager.contains(any())).thenReturn(true);
+
+        // Act
+        dataExporter.export(Stream.of(computers, processors), Function.identity(), ExportFormat.NDJSON, outputStream);
+
+        // Assert
+        assertEquals("{\"id\":1,\"name\":\"Computers\"}\n{\"id\":2,\"name\":\"Processors\"}\n",
+                outputStream.toString(StandardCharsets.UTF_8), "Expected one JSON object per line");
+        verify(entityManager, times(1)).detach(computers);
+        verify(entityManager, times(1)).detach(processors);
+    }
+
+    @Test
+    @DisplayName("export - Exportação CSV escreve cabeçalho e escapa valores")
+    void export_Csv_WritesHeaderAndEscapesValues() {
+        // Arrange
+        Category category = new Category(1L, "Computers, \"Gaming\"");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        dataExporter.export(Stream.of(category), Function.identity(), ExportFormat.CSV, outputStream);
+
+        // Assert
+        assertEquals("id,name\r\n1,\"Computers, \"\"Gaming\"\"\"\r\n",
+                outputStream.toString(StandardCharsets.UTF_8), "Expected a header row and an escaped data row");
+        verify(entityManager, never()).detach(any());
+    }
+}
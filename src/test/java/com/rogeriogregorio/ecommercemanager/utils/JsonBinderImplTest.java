@@ -0,0 +1,76 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rogeriogregorio.ecommercemanager.dto.PixChargeDto;
+import com.rogeriogregorio.ecommercemanager.dto.PixListChargeDto;
+import com.rogeriogregorio.ecommercemanager.utils.impl.CatchErrorImpl;
+import com.rogeriogregorio.ecommercemanager.utils.impl.JsonBinderImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JsonBinderImplTest {
+
+    private JsonBinder jsonBinder;
+
+    @BeforeEach
+    void setUp() {
+        jsonBinder = new JsonBinderImpl(new ObjectMapper(), new CatchErrorImpl(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("bind - Resposta de cobrança é convertida com objetos aninhados e campos desconhecidos ignorados")
+    void bind_PixChargeResponse_BindsNestedObjectsAndIgnoresUnknownFields() {
+        // Arrange
+        JSONObject response = new JSONObject("""
+                {
+                  "calendario": { "criacao": "2024-05-10T13:34:51.000Z", "expiracao": 3600 },
+                  "txid": "7978c0c97ea847e78e8849634473c1f1",
+                  "revisao": 0,
+                  "loc": { "id": 789, "location": "pix.example.com/qr/v2/9d36b84fc70b478fb95c12729b90ca25", "tipoCob": "cob" },
+                  "status": "ATIVA",
+                  "devedor": { "cpf": "12345678909", "nome": "Francisco da Silva" },
+                  "valor": { "original": "123.45", "modalidadeAlteracao": 0 },
+                  "infoAdicionais": [ { "nome": "ID do Pedido", "valor": "1" } ]
+                }
+                """);
+
+        // Act
+        PixChargeDto pixCharge = jsonBinder.bind(response, PixChargeDto.class);
+
+        // Assert
+        assertEquals("7978c0c97ea847e78e8849634473c1f1", pixCharge.getTxid(), "Expected the txid");
+        assertEquals(789, pixCharge.getLoc().getId(), "Expected the location id");
+        assertEquals(3600, pixCharge.getCalendario().getExpiracao(), "Expected the expiration");
+        assertEquals("123.45", pixCharge.getValor().getOriginal(), "Expected the amount");
+        assertEquals("ID do Pedido", pixCharge.getInfoAdicionais().get(0).getNome(), "Expected the additional info");
+    }
+
+    @Test
+    @DisplayName("bind - Buffers reutilizados não vazam dados entre respostas")
+    void bind_ConsecutiveResponses_DoNotShareBufferContent() {
+        // Arrange
+        JSONArray cobs = new JSONArray();
+        for (int i = 0; i < 500; i++) {
+            cobs.put(new JSONObject().put("txid", "txid-" + i).put("status", "CONCLUIDA"));
+        }
+        JSONObject large = new JSONObject().put("cobs", cobs)
+                .put("parametros", new JSONObject().put("paginacao", new JSONObject().put("quantidadeDePaginas", 1)));
+        JSONObject small = new JSONObject().put("cobs", new JSONArray().put(new JSONObject().put("txid", "only")));
+
+        // Act
+        PixListChargeDto first = jsonBinder.bind(large, PixListChargeDto.class);
+        PixListChargeDto second = jsonBinder.bind(small, PixListChargeDto.class);
+
+        // Assert
+        assertEquals(500, first.getCobs().size(), "Expected every charge of the first response");
+        assertEquals(1, first.getParametros().getPaginacao().getQuantidadeDePaginas(), "Expected the pagination");
+        assertEquals(1, second.getCobs().size(), "Expected only the charge of the second response");
+        assertEquals("only", second.getCobs().get(0).getTxid(), "Expected the txid of the second response");
+    }
+}
@@ -0,0 +1,57 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("newestFirst - Cursor codificado com data e ID é decodificado sem perdas")
+    void newestFirst_EncodedCursor_RoundTripsMomentAndId() {
+        // Arrange
+        Instant moment = Instant.parse("2024-06-02T10:15:30.123456789Z");
+        String cursor = KeysetCursor.encode(moment, 42L);
+
+        // Act
+        KeysetCursor keyset = KeysetCursor.newestFirst(cursor);
+
+        // Assert
+        assertEquals(moment, keyset.getMoment(), "Moments should match");
+        assertEquals(42L, keyset.getId(), "IDs should match");
+    }
+
+    @Test
+    @DisplayName("byId - Cursor ausente inicia antes do primeiro ID")
+    void byId_MissingCursor_StartsBeforeFirstId() {
+        // Act
+        KeysetCursor keyset = KeysetCursor.byId(null);
+
+        // Assert
+        assertNull(keyset.getMoment(), "ID-only cursors should not carry a moment");
+        assertEquals(0L, keyset.getId(), "The first page should start after ID 0");
+    }
+
+    @Test
+    @DisplayName("byId - Exceção ao decodificar cursor inválido")
+    void byId_InvalidCursor_IllegalArgumentExceptionHandling() {
+        // Act and Assert
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.byId("not-a-cursor"),
+                "Expected IllegalArgumentException to be thrown");
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursor.byId(KeysetCursor.encode(Instant.now(), 1L)),
+                "Expected IllegalArgumentException for a cursor of another ordering");
+    }
+
+    @Test
+    @DisplayName("pageSize - Tamanho de página é limitado ao máximo permitido")
+    void pageSize_OutOfRangeSize_ReturnsBoundedSize() {
+        // Act and Assert
+        assertEquals(20, KeysetCursor.pageSize(0), "Expected the default page size");
+        assertEquals(100, KeysetCursor.pageSize(10_000), "Expected the maximum page size");
+        assertEquals(15, KeysetCursor.pageSize(15), "Expected the requested page size");
+    }
+}
@@ -0,0 +1,60 @@
+package com.rogeriogregorio.ecommercemanager.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelTest {
+
+    @Test
+    @DisplayName("advance - Retorna apenas as chaves cujo prazo venceu")
+    void advance_DeadlinesReached_ReturnsOnlyExpiredKeys() {
+        // Arrange
+        TimerWheel<Long> timerWheel = new TimerWheel<>(Duration.ofSeconds(1), 8, 0);
+        timerWheel.schedule(1L, 1_500);
+        timerWheel.schedule(2L, 3_000);
+
+        // Act
+        List<Long> firstExpired = timerWheel.advance(2_000);
+        List<Long> secondExpired = timerWheel.advance(3_000);
+
+        // Assert
+        assertEquals(List.of(1L), firstExpired, "Expected only the first key to expire");
+        assertEquals(List.of(2L), secondExpired, "Expected the second key to expire on its deadline");
+    }
+
+    @Test
+    @DisplayName("advance - Prazos além de uma volta da roda aguardam as voltas seguintes")
+    void advance_DeadlineBeyondOneRevolution_WaitsForLaterRevolution() {
+        // Arrange
+        TimerWheel<Long> timerWheel = new TimerWheel<>(Duration.ofSeconds(1), 4, 0);
+        timerWheel.schedule(1L, 9_000);
+
+        // Act
+        List<Long> earlyExpired = timerWheel.advance(5_000);
+        List<Long> lateExpired = timerWheel.advance(9_000);
+
+        // Assert
+        assertTrue(earlyExpired.isEmpty(), "Expected no key before its deadline");
+        assertEquals(List.of(1L), lateExpired, "Expected the key after its deadline");
+    }
+
+    @Test
+    @DisplayName("schedule - Prazo no passado expira no próximo avanço")
+    void schedule_PastDeadline_ExpiresOnNextAdvance() {
+        // Arrange
+        TimerWheel<Long> timerWheel = new TimerWheel<>(Duration.ofSeconds(1), 8, 10_000);
+        timerWheel.schedule(1L, 1_000);
+
+        // Act
+        List<Long> expired = timerWheel.advance(10_000);
+
+        // Assert
+        assertEquals(List.of(1L), expired, "Expected the overdue key to expire");
+    }
+}